@@ -423,6 +423,11 @@ local fields = {
     filesystem_ext_tag_length = ProtoField.int16("zilla.filesystem_ext.tag_length", "Length", base.DEC),
     filesystem_ext_tag = ProtoField.string("zilla.filesystem_ext.tag", "Tag", base.NONE),
     filesystem_ext_timeout = ProtoField.int64("zilla.filesystem_ext.timeout", "Timeout", base.DEC),
+    filesystem_ext_modified_since = ProtoField.int64("zilla.filesystem_ext.modified_since", "Modified Since", base.DEC),
+    filesystem_ext_range_offset = ProtoField.int64("zilla.filesystem_ext.range_offset", "Range Offset", base.DEC),
+    filesystem_ext_range_length = ProtoField.int64("zilla.filesystem_ext.range_length", "Range Length", base.DEC),
+    filesystem_ext_range_tag_length = ProtoField.int16("zilla.filesystem_ext.range_tag_length", "Length", base.DEC),
+    filesystem_ext_range_tag = ProtoField.string("zilla.filesystem_ext.range_tag", "Range Tag", base.NONE),
 
     -- mqtt extension
     mqtt_ext_kind = ProtoField.uint8("zilla.mqtt_ext.kind", "Kind", base.DEC, mqtt_ext_kinds),
@@ -1590,6 +1595,26 @@ function handle_filesystem_extension(buffer, offset, ext_subtree)
     local timeout_length = 8
     local slice_timeout = buffer(timeout_offset, timeout_length)
     ext_subtree:add_le(fields.filesystem_ext_timeout, slice_timeout)
+    -- modified_since
+    local modified_since_offset = timeout_offset + timeout_length
+    local modified_since_length = 8
+    local slice_modified_since = buffer(modified_since_offset, modified_since_length)
+    ext_subtree:add_le(fields.filesystem_ext_modified_since, slice_modified_since)
+    -- range_offset
+    local range_offset_offset = modified_since_offset + modified_since_length
+    local range_offset_length = 8
+    local slice_range_offset = buffer(range_offset_offset, range_offset_length)
+    ext_subtree:add_le(fields.filesystem_ext_range_offset, slice_range_offset)
+    -- range_length
+    local range_length_offset = range_offset_offset + range_offset_length
+    local range_length_length = 8
+    local slice_range_length = buffer(range_length_offset, range_length_length)
+    ext_subtree:add_le(fields.filesystem_ext_range_length, slice_range_length)
+    -- range_tag
+    local range_tag_offset = range_length_offset + range_length_length
+    local range_tag_length, slice_range_tag_length, slice_range_tag_text = dissect_length_value(buffer, range_tag_offset, 2)
+    add_string_as_subtree(buffer(range_tag_offset, range_tag_length), ext_subtree, "Range Tag: %s", slice_range_tag_length,
+        slice_range_tag_text, fields.filesystem_ext_range_tag_length, fields.filesystem_ext_range_tag)
 end
 
 function handle_mqtt_extension(buffer, offset, ext_subtree, frame_type_id)
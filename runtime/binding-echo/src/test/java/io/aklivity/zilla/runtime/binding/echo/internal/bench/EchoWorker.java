@@ -351,6 +351,13 @@ public class EchoWorker implements EngineContext
         return null;
     }
 
+    @Override
+    public MessageReader supplyEventReader(
+        long timestamp)
+    {
+        return null;
+    }
+
     @Override
     public Clock clock()
     {
@@ -34,6 +34,7 @@ final class FileSystemBindingContext implements BindingContext
 {
     private final Map<KindConfig, FileSystemStreamFactory> factories;
     private final Signaler signaler;
+    private final FileSystemCache cache;
     private FileSystemWatcher watcher;
     private ExecutorService executor;
     private int bindings = 0;
@@ -45,7 +46,8 @@ final class FileSystemBindingContext implements BindingContext
         Map<KindConfig, FileSystemStreamFactory> factories = new EnumMap<>(KindConfig.class);
         this.factories = factories;
         this.signaler = context.signaler();
-        factories.put(SERVER, new FileSystemServerFactory(config, context, this::supplyWatcher));
+        this.cache = new FileSystemCache(config.cacheCapacity(), config.cacheSnapshotSize());
+        factories.put(SERVER, new FileSystemServerFactory(config, context, cache, this::supplyWatcher));
     }
 
     @Override
@@ -58,7 +60,7 @@ final class FileSystemBindingContext implements BindingContext
         {
             if (bindings++ == 0)
             {
-                this.watcher = new FileSystemWatcher(signaler);
+                this.watcher = new FileSystemWatcher(signaler, cache);
                 this.executor = Executors.newFixedThreadPool(1);
                 executor.submit(watcher);
             }
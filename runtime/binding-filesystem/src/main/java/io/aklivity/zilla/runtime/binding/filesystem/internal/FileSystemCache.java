@@ -0,0 +1,309 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.agrona.LangUtil.rethrowUnchecked;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class FileSystemCache
+{
+    private static final DirectBuffer EMPTY_CONTENT = new UnsafeBuffer(new byte[0]);
+    private static final int DIGEST_CHUNK_SIZE = 64 * 1024;
+
+    private final long capacity;
+    private final int snapshotSize;
+    private final Map<Path, CachedFile> cachedFiles;
+    private final ThreadLocal<MessageDigest> md5;
+
+    private long size;
+
+    public FileSystemCache(
+        long capacity,
+        int snapshotSize)
+    {
+        this.capacity = capacity;
+        this.snapshotSize = snapshotSize;
+        this.cachedFiles = new LinkedHashMap<>(16, 0.75f, true);
+        this.md5 = ThreadLocal.withInitial(() -> initMessageDigest("MD5"));
+    }
+
+    public CachedFile supply(
+        Path path,
+        LinkOption[] symlinks)
+    {
+        CachedFile cachedFile = null;
+
+        try
+        {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, symlinks);
+
+            if (!attributes.isRegularFile())
+            {
+                invalidate(path);
+            }
+            else
+            {
+                cachedFile = lookup(path);
+
+                if (cachedFile == null || !cachedFile.matches(attributes, symlinks))
+                {
+                    cachedFile = newCachedFile(path, symlinks, attributes);
+                    cache(path, cachedFile);
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            invalidate(path);
+            cachedFile = null;
+        }
+
+        return cachedFile;
+    }
+
+    public synchronized void invalidate(
+        Path path)
+    {
+        final CachedFile cachedFile = cachedFiles.remove(path);
+        if (cachedFile != null)
+        {
+            size -= cachedFile.weight();
+        }
+    }
+
+    public synchronized long size()
+    {
+        return size;
+    }
+
+    private synchronized CachedFile lookup(
+        Path path)
+    {
+        return cachedFiles.get(path);
+    }
+
+    private synchronized void cache(
+        Path path,
+        CachedFile cachedFile)
+    {
+        final CachedFile oldCachedFile = cachedFiles.put(path, cachedFile);
+        if (oldCachedFile != null)
+        {
+            size -= oldCachedFile.weight();
+        }
+        size += cachedFile.weight();
+        evict();
+    }
+
+    private void evict()
+    {
+        for (Iterator<CachedFile> i = cachedFiles.values().iterator(); size > capacity && i.hasNext(); )
+        {
+            final CachedFile cachedFile = i.next();
+            i.remove();
+            size -= cachedFile.weight();
+        }
+    }
+
+    private CachedFile newCachedFile(
+        Path path,
+        LinkOption[] symlinks,
+        BasicFileAttributes attributes) throws IOException
+    {
+        final Set<OpenOption> options = new HashSet<>(Arrays.asList(symlinks));
+        options.add(READ);
+
+        try (FileChannel channel = FileChannel.open(path, options))
+        {
+            final long length = channel.size();
+            final MessageDigest md5 = this.md5.get();
+
+            DirectBuffer content = EMPTY_CONTENT;
+            md5.reset();
+
+            if (length > capacity || length > Integer.MAX_VALUE)
+            {
+                // too large to retain, remember tag only and stream content from the file
+                digest(path, channel, length, md5);
+                content = null;
+            }
+            else if (length > 0L && length <= snapshotSize)
+            {
+                content = snapshot(path, channel, (int) length);
+                md5.update(content.byteArray());
+            }
+            else if (length > 0L)
+            {
+                final MappedByteBuffer mapped = channel.map(READ_ONLY, 0L, length);
+                try
+                {
+                    md5.update(mapped.duplicate());
+                }
+                catch (InternalError ex)
+                {
+                    throw new IOException(String.format("%s truncated while mapped", path), ex);
+                }
+                content = new UnsafeBuffer(mapped);
+            }
+
+            final String tag = BitUtil.toHex(md5.digest());
+
+            return new CachedFile(symlinks, attributes.lastModifiedTime(), length, tag, content,
+                content != null && length <= snapshotSize);
+        }
+    }
+
+    private static void digest(
+        Path path,
+        FileChannel channel,
+        long length,
+        MessageDigest md5) throws IOException
+    {
+        final ByteBuffer chunk = ByteBuffer.allocate(DIGEST_CHUNK_SIZE);
+
+        for (long position = 0L; position < length; )
+        {
+            chunk.clear();
+            final int read = channel.read(chunk, position);
+            if (read == -1)
+            {
+                throw new IOException(String.format("%s truncated while reading", path));
+            }
+            chunk.flip();
+            md5.update(chunk);
+            position += read;
+        }
+    }
+
+    private static DirectBuffer snapshot(
+        Path path,
+        FileChannel channel,
+        int length) throws IOException
+    {
+        final ByteBuffer snapshot = ByteBuffer.allocate(length);
+
+        while (snapshot.hasRemaining())
+        {
+            if (channel.read(snapshot, snapshot.position()) == -1)
+            {
+                throw new IOException(String.format("%s truncated while reading", path));
+            }
+        }
+
+        return new UnsafeBuffer(snapshot.array());
+    }
+
+    private static MessageDigest initMessageDigest(
+        String algorithm)
+    {
+        MessageDigest messageDigest = null;
+        try
+        {
+            messageDigest = MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            rethrowUnchecked(ex);
+        }
+        return messageDigest;
+    }
+
+    public static final class CachedFile
+    {
+        public final long size;
+        public final String tag;
+        public final DirectBuffer content;
+
+        private final LinkOption[] symlinks;
+        private final FileTime modifiedTime;
+        private final boolean snapshot;
+
+        private CachedFile(
+            LinkOption[] symlinks,
+            FileTime modifiedTime,
+            long size,
+            String tag,
+            DirectBuffer content,
+            boolean snapshot)
+        {
+            this.symlinks = symlinks;
+            this.modifiedTime = modifiedTime;
+            this.size = size;
+            this.tag = tag;
+            this.content = content;
+            this.snapshot = snapshot;
+        }
+
+        public boolean readable(
+            Path path,
+            long limit)
+        {
+            boolean readable = snapshot;
+
+            if (!readable)
+            {
+                try
+                {
+                    // reading mapped content beyond a truncated file faults asynchronously
+                    readable = Files.readAttributes(path, BasicFileAttributes.class, symlinks).size() >= limit;
+                }
+                catch (IOException ex)
+                {
+                    readable = false;
+                }
+            }
+
+            return readable;
+        }
+
+        private long weight()
+        {
+            return content != null ? content.capacity() : 0L;
+        }
+
+        private boolean matches(
+            BasicFileAttributes attributes,
+            LinkOption[] symlinks)
+        {
+            return this.symlinks.length == symlinks.length &&
+                size == attributes.size() &&
+                modifiedTime.equals(attributes.lastModifiedTime());
+        }
+    }
+}
@@ -26,12 +26,16 @@ public class FileSystemConfiguration extends Configuration
     private static final ConfigurationDef FILE_SYSTEM_CONFIG;
 
     public static final PropertyDef<URI> FILE_SYSTEM_SERVER_ROOT;
+    public static final LongPropertyDef FILE_SYSTEM_CACHE_CAPACITY;
+    public static final IntPropertyDef FILE_SYSTEM_CACHE_SNAPSHOT_SIZE;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef(String.format("zilla.binding.%s", NAME));
         FILE_SYSTEM_SERVER_ROOT = config.property(URI.class, "server.root",
             FileSystemConfiguration::decodeServerRoot, new File(".").toURI());
+        FILE_SYSTEM_CACHE_CAPACITY = config.property("cache.capacity", 64L * 1024L * 1024L);
+        FILE_SYSTEM_CACHE_SNAPSHOT_SIZE = config.property("cache.snapshot.size", 64 * 1024);
 
         FILE_SYSTEM_CONFIG = config;
     }
@@ -47,6 +51,16 @@ public class FileSystemConfiguration extends Configuration
         return FILE_SYSTEM_SERVER_ROOT.get(this);
     }
 
+    public long cacheCapacity()
+    {
+        return FILE_SYSTEM_CACHE_CAPACITY.getAsLong(this);
+    }
+
+    public int cacheSnapshotSize()
+    {
+        return FILE_SYSTEM_CACHE_SNAPSHOT_SIZE.getAsInt(this);
+    }
+
     private static URI decodeServerRoot(
         String location)
     {
@@ -46,13 +46,15 @@ public class FileSystemWatcher implements Callable<Void>
     private final Map<WatchKey, Set<WatchedFile>> watchedFiles;
     private final WatchService watchService;
     private final Signaler signaler;
-
+    private final FileSystemCache cache;
 
     public FileSystemWatcher(
-        Signaler signaler)
+        Signaler signaler,
+        FileSystemCache cache)
     {
         this.watchedFiles = new HashMap<>();
         this.signaler = signaler;
+        this.cache = cache;
         this.watchService = createWatchService();
     }
 
@@ -69,6 +71,7 @@ public class FileSystemWatcher implements Callable<Void>
                 {
                     for (WatchedFile changedFile : changedFiles)
                     {
+                        cache.invalidate(changedFile.resolvedPath);
                         String oldTag = changedFile.getOriginalHash();
                         String newTag = changedFile.calculateHash();
                         if (!oldTag.equals(newTag))
@@ -18,11 +18,11 @@ import static io.aklivity.zilla.runtime.binding.filesystem.config.FileSystemSymb
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.time.Instant.now;
-import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
@@ -30,13 +30,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
-import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -44,6 +41,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.filesystem.config.FileSystemOptionsConfig;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemBinding;
+import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemCache;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemConfiguration;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.FileSystemWatcher;
 import io.aklivity.zilla.runtime.binding.filesystem.internal.config.FileSystemBindingConfig;
@@ -101,11 +99,12 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer extBuffer;
     private final MutableDirectBuffer readBuffer;
+    private final ByteBuffer readByteBuffer;
     private final LongFunction<BudgetDebitor> supplyDebitor;
     private final LongUnaryOperator supplyReplyId;
     private final int fileSystemTypeId;
     private final URI serverRoot;
-    private final MessageDigest md5;
+    private final FileSystemCache cache;
     private final Signaler signaler;
     private final Supplier<FileSystemWatcher> supplyWatcher;
 
@@ -114,6 +113,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
     public FileSystemServerFactory(
         FileSystemConfiguration config,
         EngineContext context,
+        FileSystemCache cache,
         Supplier<FileSystemWatcher> supplyWatcher)
     {
         this.bufferPool = context.bufferPool();
@@ -121,12 +121,13 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         this.writeBuffer = context.writeBuffer();
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.readBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
+        this.readByteBuffer = ByteBuffer.wrap(readBuffer.byteArray());
         this.supplyDebitor = context::supplyDebitor;
         this.supplyReplyId = context::supplyReplyId;
         this.fileSystemTypeId = context.supplyTypeId(FileSystemBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
         this.signaler = context.signaler();
-        this.md5 = initMessageDigest("MD5");
+        this.cache = cache;
         this.supplyWatcher = supplyWatcher;
     }
 
@@ -179,6 +180,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             final Path path = fileSystem.getPath(resolvedPath);
             final String tag = beginEx.tag().asString();
+            final long modifiedSince = beginEx.modifiedSince();
+            final long rangeOffset = beginEx.rangeOffset();
+            final long rangeLength = beginEx.rangeLength();
+            final String rangeTag = beginEx.rangeTag().asString();
             try
             {
                 if (Files.exists(Paths.get(resolvedPath), symlinks))
@@ -194,7 +199,11 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                         relativePath,
                         resolvedPath,
                         capabilities,
-                        tag)::onAppMessage;
+                        tag,
+                        modifiedSince,
+                        rangeOffset,
+                        rangeLength,
+                        rangeTag)::onAppMessage;
                 }
             }
             catch (IOException ex)
@@ -206,21 +215,6 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         return newStream;
     }
 
-    private static MessageDigest initMessageDigest(
-        String algorithm)
-    {
-        MessageDigest messageDigest = null;
-        try
-        {
-            messageDigest = MessageDigest.getInstance(algorithm);
-        }
-        catch (NoSuchAlgorithmException ex)
-        {
-            rethrowUnchecked(ex);
-        }
-        return messageDigest;
-    }
-
     private String probeContentTypeOrDefault(
         Path path) throws IOException
     {
@@ -240,8 +234,14 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private final Path resolvedPath;
         private final int capabilities;
         private final String tag;
+        private final long modifiedSince;
+        private final long rangeOffset;
+        private final long rangeLength;
+        private final String rangeTag;
         private final LinkOption[] symlinks;
         private FileSystemWatcher.WatchedFile watchedFile;
+        private FileSystemCache.CachedFile cachedFile;
+        private FileChannel channel;
         private BasicFileAttributes attributes;
         private long initialSeq;
         private long initialAck;
@@ -255,6 +255,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
         private int replyPad;
         private long replyBud;
         private long replyBytes;
+        private long replyLimit;
         private BudgetDebitor replyDeb;
         private long replyDebIndex = NO_DEBITOR_INDEX;
 
@@ -270,7 +271,11 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             String relativePath,
             String resolvedPath,
             int capabilities,
-            String tag)
+            String tag,
+            long modifiedSince,
+            long rangeOffset,
+            long rangeLength,
+            String rangeTag)
         {
             this.app = app;
             this.originId = originId;
@@ -283,6 +288,10 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             this.resolvedPath = Paths.get(resolvedPath);
             this.capabilities = capabilities;
             this.tag = tag;
+            this.modifiedSince = modifiedSince;
+            this.rangeOffset = rangeOffset;
+            this.rangeLength = rangeLength;
+            this.rangeTag = rangeTag;
         }
 
         private void onAppMessage(
@@ -344,8 +353,14 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             state = FileSystemState.openingInitial(state);
 
             doAppWindow(traceId);
-            String currentTag = calculateTag();
-            if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
+            cachedFile = supplyCachedFile();
+            String currentTag = cachedFile != null ? cachedFile.tag : null;
+            if ((tag == null || tag.isEmpty()) && isNotModifiedSince(modifiedSince))
+            {
+                doAppBegin(traceId, currentTag, 0);
+                doAppEnd(traceId);
+            }
+            else if (tag == null || tag.isEmpty() || !tag.equals(currentTag))
             {
                 doAppBegin(traceId, currentTag);
                 flushAppData(traceId);
@@ -361,6 +376,14 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             }
         }
 
+        private boolean isNotModifiedSince(
+            long modifiedSince)
+        {
+            final BasicFileAttributes attributes = modifiedSince != 0L ? getAttributes() : null;
+            return attributes != null &&
+                attributes.lastModifiedTime().toMillis() / 1000L <= modifiedSince / 1000L;
+        }
+
         private BasicFileAttributes getAttributes()
         {
             BasicFileAttributes attributes = null;
@@ -378,47 +401,13 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
         private String calculateTag()
         {
-            String newTag = null;
-            try
-            {
-                InputStream input = getInputStream();
-                if (input != null)
-                {
-                    final byte[] readArray = readBuffer.byteArray();
-                    int bytesRead = input.read(readArray, 0, readArray.length);
-                    newTag = calculateHash(readArray, 0, Math.max(bytesRead, 0));
-                }
-            }
-            catch (IOException ex)
-            {
-                // reject
-            }
-            return newTag;
-        }
-
-        private InputStream getInputStream()
-        {
-            InputStream input = null;
-            try
-            {
-                input = canReadPayload(capabilities) ? Files.newInputStream(resolvedPath, symlinks) : null;
-            }
-            catch (IOException ex)
-            {
-                // reject
-            }
-            return input;
+            final FileSystemCache.CachedFile cachedFile = supplyCachedFile();
+            return cachedFile != null ? cachedFile.tag : null;
         }
 
-        private String calculateHash(
-            byte[] input,
-            int offset,
-            int length)
+        private FileSystemCache.CachedFile supplyCachedFile()
         {
-            md5.reset();
-            md5.update(input, offset, length);
-            byte[] hash = md5.digest();
-            return BitUtil.toHex(hash);
+            return canReadPayload(capabilities) ? cache.supply(resolvedPath, symlinks) : null;
         }
 
         private void onAppEnd(
@@ -506,6 +495,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
 
             state = FileSystemState.closeReply(state);
 
+            closeChannel();
             doAppReset(traceId);
         }
 
@@ -528,6 +518,14 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             fileSystemWatcher.unregister(watchedFile);
         }
 
+        private void onAppTruncated(
+            long traceId)
+        {
+            cache.invalidate(resolvedPath);
+            cachedFile = null;
+            doAppAbort(traceId);
+        }
+
         private void doAppBegin(
             long traceId,
             String tag)
@@ -543,10 +541,28 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             state = FileSystemState.openingReply(state);
             attributes = getAttributes();
             long size = 0L;
-            if (attributes != null)
+            if (cachedFile != null)
+            {
+                size = cachedFile.size;
+            }
+            else if (attributes != null)
             {
                 size = attributes.size();
             }
+
+            replyBytes = 0L;
+            replyLimit = size;
+            long replyLength = -1L;
+
+            if (rangeLength != -1L && canReadPayload(capabilities) &&
+                (rangeTag == null || rangeTag.isEmpty() || rangeTag.equals(tag)))
+            {
+                final long rangeStart = rangeOffset < 0L ? Math.max(size + rangeOffset, 0L) : Math.min(rangeOffset, size);
+                replyBytes = rangeStart;
+                replyLimit = rangeLength < size - rangeStart ? rangeStart + rangeLength : size;
+                replyLength = replyLimit - rangeStart;
+            }
+
             Flyweight extension = beginExRW
                 .wrap(extBuffer, 0, extBuffer.capacity())
                 .typeId(fileSystemTypeId)
@@ -555,6 +571,8 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
                 .type(type)
                 .payloadSize(size)
                 .tag(tag)
+                .rangeOffset(replyLength != -1L ? replyBytes : 0L)
+                .rangeLength(replyLength)
                 .build();
             doBegin(app, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, 0L, 0L, extension);
         }
@@ -580,6 +598,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             if (FileSystemState.replyOpening(state) && !FileSystemState.replyClosed(state))
             {
                 state = FileSystemState.closeReply(state);
+                closeChannel();
                 doEnd(app, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, 0L, EMPTY_EXTENSION);
             }
         }
@@ -590,6 +609,7 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             if (FileSystemState.replyOpening(state) && !FileSystemState.replyClosed(state))
             {
                 state = FileSystemState.closeReply(state);
+                closeChannel();
                 doAbort(app, originId, routedId, replyId, replySeq, replyAck,
                         replyMax, traceId, 0L, EMPTY_EXTENSION);
             }
@@ -622,58 +642,110 @@ public final class FileSystemServerFactory implements FileSystemStreamFactory
             final int replyWin = replyMax - replyNoAck - replyPad;
             if (!FileSystemState.replyOpening(state))
             {
-                String newTag = calculateTag();
-                doAppBegin(traceId, newTag);
+                cachedFile = supplyCachedFile();
+                doAppBegin(traceId, cachedFile != null ? cachedFile.tag : null);
             }
             if (replyWin > 0)
             {
-                InputStream input = getInputStream();
-                try
+                final long available = cachedFile != null ? replyLimit - replyBytes : 0L;
+
+                if (available > 0L)
                 {
-                    int available = input != null ? input.available() : 0;
+                    int reserved = (int) Math.min(replyWin, available + replyPad);
+                    int length = Math.max(reserved - replyPad, 0);
+
+                    if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                    {
+                        final int minimum = Math.min(bufferPool.slotCapacity(), reserved); // TODO: fragmentation
+                        reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
+                        length = Math.max(reserved - replyPad, 0);
+                    }
 
-                    if (available > 0)
+                    if (length > 0)
                     {
-                        int reserved = Math.min(replyWin, available + replyPad);
-                        int length = Math.max(reserved - replyPad, 0);
+                        final OctetsFW payload = cachedFile.content != null
+                            ? wrapPayload(Math.min(writeBuffer.capacity(), length))
+                            : readPayload(Math.min(readBuffer.capacity(), length));
 
-                        if (length > 0 && replyDebIndex != NO_DEBITOR_INDEX && replyDeb != null)
+                        if (payload == null)
                         {
-                            final int minimum = Math.min(bufferPool.slotCapacity(), reserved); // TODO: fragmentation
-                            reserved = replyDeb.claim(traceId, replyDebIndex, replyId, minimum, reserved, 0);
-                            length = Math.max(reserved - replyPad, 0);
+                            onAppTruncated(traceId);
+                            return;
                         }
 
-                        if (length > 0)
+                        try
                         {
-                            final byte[] readArray = readBuffer.byteArray();
-                            int bytesRead = input.read(readArray, 0, Math.min(readArray.length, length));
-                            if (bytesRead != -1)
-                            {
-                                OctetsFW payload = payloadRO.wrap(readBuffer, 0, bytesRead);
-
-                                doAppData(traceId, reserved, payload);
-
-                                replyBytes += bytesRead;
-
-                                if (replyBytes == attributes.size())
-                                {
-                                    input.close();
-                                    input = null;
-                                }
-                            }
+                            doAppData(traceId, reserved, payload);
+                        }
+                        catch (InternalError ex)
+                        {
+                            onAppTruncated(traceId);
+                            return;
                         }
-                    }
 
-                    if (available <= 0 || input == null)
-                    {
-                        doAppEnd(traceId);
+                        replyBytes += payload.sizeof();
                     }
                 }
+
+                if (available <= 0L || replyBytes == replyLimit)
+                {
+                    doAppEnd(traceId);
+                }
+            }
+        }
+
+        private OctetsFW wrapPayload(
+            int length)
+        {
+            final int offset = (int) replyBytes;
+            final int limit = offset + length;
+
+            return cachedFile.readable(resolvedPath, limit)
+                ? payloadRO.wrap(cachedFile.content, offset, limit)
+                : null;
+        }
+
+        private OctetsFW readPayload(
+            int length)
+        {
+            OctetsFW payload = null;
+
+            try
+            {
+                if (channel == null)
+                {
+                    channel = FileChannel.open(resolvedPath, symlinks);
+                }
+
+                readByteBuffer.clear().limit(length);
+                final int bytesRead = channel.read(readByteBuffer, replyBytes);
+
+                if (bytesRead > 0)
+                {
+                    payload = payloadRO.wrap(readBuffer, 0, bytesRead);
+                }
+            }
+            catch (IOException ex)
+            {
+                // reject
+            }
+
+            return payload;
+        }
+
+        private void closeChannel()
+        {
+            if (channel != null)
+            {
+                try
+                {
+                    channel.close();
+                }
                 catch (IOException ex)
                 {
-                    doAppAbort(traceId);
+                    // ignore
                 }
+                channel = null;
             }
         }
     }
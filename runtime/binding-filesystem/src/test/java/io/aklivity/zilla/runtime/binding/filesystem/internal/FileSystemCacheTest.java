@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.filesystem.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileSystemCacheTest
+{
+    private static final LinkOption[] LINK_OPTIONS_NONE = new LinkOption[0];
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldSupplyMappedContentAndTag() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.write(path, "<html>Hello World</html>".getBytes(UTF_8));
+
+        FileSystemCache cache = new FileSystemCache(1024L, 0);
+        FileSystemCache.CachedFile cachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertEquals(24L, cachedFile.size);
+        assertEquals("<html>Hello World</html>", cachedFile.content.getStringWithoutLengthUtf8(0, 24));
+        assertEquals("b4b78ca9b259fec9cf95b766242e820b", cachedFile.tag);
+        assertSame(cachedFile, cache.supply(path, LINK_OPTIONS_NONE));
+        assertEquals(24L, cache.size());
+    }
+
+    @Test
+    public void shouldSupplyNewContentWhenInvalidated() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.write(path, "<html>Hello World</html>".getBytes(UTF_8));
+
+        FileSystemCache cache = new FileSystemCache(1024L, 0);
+        FileSystemCache.CachedFile cachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        Files.write(path, "<html>Hello Cache</html>".getBytes(UTF_8));
+        cache.invalidate(path);
+
+        FileSystemCache.CachedFile newCachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertNotSame(cachedFile, newCachedFile);
+        assertEquals("<html>Hello Cache</html>", newCachedFile.content.getStringWithoutLengthUtf8(0, 24));
+        assertEquals(24L, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() throws Exception
+    {
+        Path path1 = folder.newFile("index1.html").toPath();
+        Path path2 = folder.newFile("index2.html").toPath();
+        Path path3 = folder.newFile("index3.html").toPath();
+        Files.write(path1, new byte[16]);
+        Files.write(path2, new byte[16]);
+        Files.write(path3, new byte[16]);
+
+        FileSystemCache cache = new FileSystemCache(32L, 0);
+        FileSystemCache.CachedFile cachedFile1 = cache.supply(path1, LINK_OPTIONS_NONE);
+        FileSystemCache.CachedFile cachedFile2 = cache.supply(path2, LINK_OPTIONS_NONE);
+
+        assertSame(cachedFile1, cache.supply(path1, LINK_OPTIONS_NONE));
+
+        cache.supply(path3, LINK_OPTIONS_NONE);
+
+        assertEquals(32L, cache.size());
+        assertSame(cachedFile1, cache.supply(path1, LINK_OPTIONS_NONE));
+        assertNotSame(cachedFile2, cache.supply(path2, LINK_OPTIONS_NONE));
+    }
+
+    @Test
+    public void shouldSupplyTagOnlyWhenExceedsCapacity() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.write(path, "<html>Hello World</html>".getBytes(UTF_8));
+
+        FileSystemCache cache = new FileSystemCache(16L, 0);
+        FileSystemCache.CachedFile cachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertEquals(24L, cachedFile.size);
+        assertNull(cachedFile.content);
+        assertEquals("b4b78ca9b259fec9cf95b766242e820b", cachedFile.tag);
+        assertSame(cachedFile, cache.supply(path, LINK_OPTIONS_NONE));
+        assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void shouldNotSupplyMissingFile()
+    {
+        FileSystemCache cache = new FileSystemCache(1024L, 0);
+
+        assertNull(cache.supply(folder.getRoot().toPath().resolve("missing.html"), LINK_OPTIONS_NONE));
+        assertNull(cache.supply(folder.getRoot().toPath(), LINK_OPTIONS_NONE));
+    }
+
+    @Test
+    public void shouldSupplySnapshotContentWhenTruncatedDuringRead() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.write(path, "<html>Hello World</html>".getBytes(UTF_8));
+
+        FileSystemCache cache = new FileSystemCache(1024L, 1024);
+        FileSystemCache.CachedFile cachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertEquals("<html>", cachedFile.content.getStringWithoutLengthUtf8(0, 6));
+
+        truncate(path);
+
+        assertTrue(cachedFile.readable(path, 24L));
+        assertEquals("Hello World</html>", cachedFile.content.getStringWithoutLengthUtf8(6, 18));
+    }
+
+    @Test
+    public void shouldNotReadMappedContentWhenTruncatedDuringRead() throws Exception
+    {
+        Path path = folder.newFile("index.html").toPath();
+        Files.write(path, new byte[8192]);
+
+        FileSystemCache cache = new FileSystemCache(16384L, 1024);
+        FileSystemCache.CachedFile cachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertTrue(cachedFile.readable(path, 4096L));
+        cachedFile.content.getBytes(0, new byte[4096]);
+
+        truncate(path);
+
+        assertFalse(cachedFile.readable(path, 8192L));
+
+        FileSystemCache.CachedFile newCachedFile = cache.supply(path, LINK_OPTIONS_NONE);
+
+        assertNotSame(cachedFile, newCachedFile);
+        assertEquals(0L, newCachedFile.size);
+        assertEquals(0L, cache.size());
+    }
+
+    private static void truncate(
+        Path path) throws Exception
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE))
+        {
+            channel.truncate(0L);
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.kaazing.k3po.junit.rules.K3poRule;
 
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class FileSystemServerIT
 {
@@ -92,6 +93,48 @@ public class FileSystemServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/read.file.payload.range/client",
+    })
+    public void shouldReadFilePayloadRange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/read.file.payload.range.unsatisfiable/client",
+    })
+    public void shouldReadFilePayloadRangeUnsatisfiable() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = "zilla.binding.filesystem.cache.capacity", value = "0")
+    @Specification({
+        "${app}/read.file.payload/client",
+    })
+    public void shouldReadFilePayloadUncached() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = "zilla.binding.filesystem.cache.capacity", value = "0")
+    @Specification({
+        "${app}/read.file.payload.range/client",
+    })
+    public void shouldReadFilePayloadRangeUncached() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Ignore
     @Test
     @Configuration("server.yaml")
@@ -213,6 +256,16 @@ public class FileSystemServerIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Specification({
+        "${app}/read.file.payload.not.modified.since/client"
+    })
+    public void shouldReadFilePayloadNotModifiedSince() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
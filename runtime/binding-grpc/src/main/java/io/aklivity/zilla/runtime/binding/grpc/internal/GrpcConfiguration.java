@@ -18,12 +18,19 @@ import io.aklivity.zilla.runtime.engine.Configuration;
 
 public class GrpcConfiguration extends Configuration
 {
+    public static final IntPropertyDef GRPC_COMPRESSION_THRESHOLD;
+    public static final PropertyDef<String> GRPC_CLIENT_ENCODING;
+    public static final LongPropertyDef GRPC_CATALOG_REFRESH_MILLIS;
+
     private static final ConfigurationDef GRPC_CONFIG;
 
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.binding.grpc");
+        GRPC_COMPRESSION_THRESHOLD = config.property("compression.threshold", 1024);
+        GRPC_CLIENT_ENCODING = config.property("client.encoding", "identity");
+        GRPC_CATALOG_REFRESH_MILLIS = config.property("catalog.refresh.millis", 10 * 1000L);
         GRPC_CONFIG = config;
     }
 
@@ -33,4 +40,18 @@ public class GrpcConfiguration extends Configuration
         super(GRPC_CONFIG, config);
     }
 
+    public int compressionThreshold()
+    {
+        return GRPC_COMPRESSION_THRESHOLD.getAsInt(this);
+    }
+
+    public String clientEncoding()
+    {
+        return GRPC_CLIENT_ENCODING.get(this);
+    }
+
+    public long catalogRefreshMillis()
+    {
+        return GRPC_CATALOG_REFRESH_MILLIS.getAsLong(this);
+    }
 }
@@ -17,31 +17,34 @@ package io.aklivity.zilla.runtime.binding.grpc.internal.config;
 import static io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.GrpcType.BASE64;
 import static io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.GrpcType.TEXT;
 import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.binding.grpc.config.GrpcMethodConfig;
 import io.aklivity.zilla.runtime.binding.grpc.config.GrpcOptionsConfig;
 import io.aklivity.zilla.runtime.binding.grpc.config.GrpcProtobufConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcServiceConfig;
 import io.aklivity.zilla.runtime.binding.grpc.internal.types.Array32FW;
 import io.aklivity.zilla.runtime.binding.grpc.internal.types.HttpHeaderFW;
 import io.aklivity.zilla.runtime.binding.grpc.internal.types.String16FW;
@@ -58,7 +61,6 @@ import io.aklivity.zilla.runtime.engine.config.SchemaConfig;
 public final class GrpcBindingConfig
 {
     private static final Pattern METHOD_PATTERN = Pattern.compile("/(?<ServiceName>.*?)/(?<Method>.*)");
-    private static final String SERVICE_NAME = "ServiceName";
     private static final String METHOD = "Method";
     private static final byte[] HEADER_GRPC_PREFIX = new byte[5];
     private static final byte[] HEADER_BIN_SUFFIX = new byte[4];
@@ -74,6 +76,11 @@ public final class GrpcBindingConfig
     private final GrpcProtobufParser parser;
     private final HttpGrpcHeaderHelper helper;
     private final Set<GrpcCatalogSchema> catalogs;
+    private final Map<DirectBuffer, GrpcMethodDispatch> methods;
+    private final MutableDirectBuffer pathBuffer;
+    private final DirectBuffer pathRO;
+
+    private int maxPathLength;
 
     public GrpcBindingConfig(
         BindingConfig binding,
@@ -97,6 +104,11 @@ public final class GrpcBindingConfig
             }
         }
         this.catalogs = catalogs;
+        this.methods = new HashMap<>();
+        this.pathBuffer = new ExpandableArrayBuffer();
+        this.pathRO = new UnsafeBuffer(0L, 0);
+        catalogs.forEach(GrpcCatalogSchema::refresh);
+        rebuildMethods();
     }
 
     public GrpcRouteConfig resolve(
@@ -105,10 +117,25 @@ public final class GrpcBindingConfig
         CharSequence method,
         Array32FW<GrpcMetadataFW> metadataHeaders)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization) && r.matches(service, method, metadataHeaders))
-            .findFirst()
-            .orElse(null);
+        GrpcRouteConfig resolved = null;
+
+        final GrpcMethodDispatch dispatch = service != null && method != null
+            ? resolveMethod(service, method)
+            : null;
+
+        if (dispatch != null)
+        {
+            resolved = dispatch.routes(routes).resolve(authorization, metadataHeaders);
+        }
+        else
+        {
+            resolved = routes.stream()
+                .filter(r -> r.authorized(authorization) && r.matches(service, method, metadataHeaders))
+                .findFirst()
+                .orElse(null);
+        }
+
+        return resolved;
     }
 
     public GrpcMethodResult resolveMethod(
@@ -120,67 +147,190 @@ public final class GrpcBindingConfig
         final CharSequence serviceNameHeader = helper.serviceName;
 
         GrpcMethodResult methodResolver = null;
+        GrpcMethodDispatch method = null;
 
-        final Matcher matcher = METHOD_PATTERN.matcher(path);
-
-        if (matcher.matches())
+        if (serviceNameHeader != null && path != null)
         {
-            final CharSequence serviceName = serviceNameHeader != null ? serviceNameHeader : matcher.group(SERVICE_NAME);
-            final String methodName = matcher.group(METHOD);
+            final Matcher matcher = METHOD_PATTERN.matcher(path);
 
-            GrpcMethodConfig method = resolveMethod(catalogs, serviceName, methodName);
-
-            if (method == null && options != null)
+            if (matcher.matches())
             {
-                method = resolveMethod(options.protobufs, serviceName, methodName);
+                final byte[] servicePath = String.format("/%s/%s", serviceNameHeader, matcher.group(METHOD)).getBytes(US_ASCII);
+                pathRO.wrap(servicePath);
+                method = resolveMethod(pathRO);
             }
+        }
+        else if (helper.pathBytes != null)
+        {
+            method = resolveMethod(helper.pathBytes);
+        }
 
-            if (method != null)
-            {
-                methodResolver = new GrpcMethodResult(
-                    serviceName,
-                    methodName,
-                    helper.grpcTimeout,
-                    helper.contentType,
-                    helper.scheme,
-                    helper.authority,
-                    helper.te,
-                    helper.metadata
-                );
-            }
+        if (method != null)
+        {
+            methodResolver = new GrpcMethodResult(
+                method.service,
+                method.method,
+                helper.grpcTimeout,
+                helper.contentType,
+                helper.scheme,
+                helper.authority,
+                helper.te,
+                helper.grpcEncoding,
+                helper.grpcAcceptEncoding,
+                helper.metadata
+            );
         }
 
         return methodResolver;
     }
 
-    private GrpcMethodConfig resolveMethod(
-        Set<GrpcCatalogSchema> catalogs,
-        CharSequence serviceName,
-        String methodName)
+    public void refreshCatalogs()
+    {
+        boolean changed = false;
+
+        for (GrpcCatalogSchema catalog : catalogs)
+        {
+            changed |= catalog.refresh();
+        }
+
+        if (changed)
+        {
+            rebuildMethods();
+        }
+    }
+
+    private GrpcMethodDispatch resolveMethod(
+        CharSequence service,
+        CharSequence method)
+    {
+        GrpcMethodDispatch dispatch = null;
+
+        if (service.length() + method.length() + 2 <= maxPathLength)
+        {
+            int limit = 0;
+            pathBuffer.putByte(limit++, (byte) '/');
+            limit += pathBuffer.putStringWithoutLengthAscii(limit, service);
+            pathBuffer.putByte(limit++, (byte) '/');
+            limit += pathBuffer.putStringWithoutLengthAscii(limit, method);
+            pathRO.wrap(pathBuffer, 0, limit);
+            dispatch = methods.get(pathRO);
+        }
+
+        return dispatch;
+    }
+
+    private GrpcMethodDispatch resolveMethod(
+        DirectBuffer path)
+    {
+        return methods.get(path);
+    }
+
+    private void rebuildMethods()
+    {
+        methods.clear();
+        maxPathLength = 0;
+
+        for (GrpcCatalogSchema catalog : catalogs)
+        {
+            addMethods(catalog.protobuf);
+        }
+
+        if (options != null)
+        {
+            for (GrpcProtobufConfig protobuf : options.protobufs)
+            {
+                addMethods(protobuf);
+            }
+        }
+    }
+
+    private void addMethods(
+        GrpcProtobufConfig protobuf)
     {
-        return resolveMethod(catalogs.stream().map(GrpcCatalogSchema::resolveProtobuf), serviceName, methodName);
+        if (protobuf != null)
+        {
+            for (GrpcServiceConfig service : protobuf.services)
+            {
+                for (GrpcMethodConfig method : service.methods)
+                {
+                    final GrpcMethodDispatch dispatch = new GrpcMethodDispatch(service.service, method.method);
+                    methods.putIfAbsent(dispatch.path, dispatch);
+                    maxPathLength = Math.max(maxPathLength, dispatch.path.capacity());
+                }
+            }
+        }
     }
 
-    private GrpcMethodConfig resolveMethod(
-        List<GrpcProtobufConfig> protobufs,
-        CharSequence serviceName,
-        String methodName)
+    private static final class GrpcMethodDispatch
     {
-        return resolveMethod(protobufs.stream(), serviceName, methodName);
+        private final String service;
+        private final String method;
+        private final DirectBuffer path;
+
+        private GrpcRouteDispatch routes;
+
+        private GrpcMethodDispatch(
+            String service,
+            String method)
+        {
+            this.service = service;
+            this.method = method;
+            this.path = new UnsafeBuffer(String.format("/%s/%s", service, method).getBytes(US_ASCII));
+        }
+
+        private GrpcRouteDispatch routes(
+            List<GrpcRouteConfig> routes)
+        {
+            if (this.routes == null)
+            {
+                this.routes = new GrpcRouteDispatch(routes, service, method);
+            }
+
+            return this.routes;
+        }
     }
 
-    private GrpcMethodConfig resolveMethod(
-        Stream<GrpcProtobufConfig> protobufs,
-        CharSequence serviceName,
-        String methodName)
+    private static final class GrpcRouteDispatch
     {
-        return protobufs
-            .map(p -> p.services.stream().filter(s -> s.service.equals(serviceName)).findFirst().orElse(null))
-            .filter(Objects::nonNull)
-            .map(s -> s.methods.stream().filter(m -> m.method.equals(methodName)).findFirst().orElse(null))
-            .filter(Objects::nonNull)
-            .findFirst()
-            .orElse(null);
+        private final List<GrpcRouteConfig> routes;
+        private final List<List<GrpcConditionMatcher>> conditions;
+
+        private GrpcRouteDispatch(
+            List<GrpcRouteConfig> routes,
+            CharSequence service,
+            CharSequence method)
+        {
+            this.routes = new ArrayList<>();
+            this.conditions = new ArrayList<>();
+
+            for (GrpcRouteConfig route : routes)
+            {
+                final List<GrpcConditionMatcher> matches = route.conditions(service, method);
+                if (matches != null)
+                {
+                    this.routes.add(route);
+                    this.conditions.add(matches);
+                }
+            }
+        }
+
+        private GrpcRouteConfig resolve(
+            long authorization,
+            Array32FW<GrpcMetadataFW> metadataHeaders)
+        {
+            GrpcRouteConfig resolved = null;
+
+            for (int index = 0; resolved == null && index < routes.size(); index++)
+            {
+                final GrpcRouteConfig route = routes.get(index);
+                if (route.authorized(authorization) && route.matches(conditions.get(index), metadataHeaders))
+                {
+                    resolved = route;
+                }
+            }
+
+            return resolved;
+        }
     }
 
     private static final class HttpGrpcHeaderHelper
@@ -193,6 +343,8 @@ public final class GrpcBindingConfig
         private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
         private static final String8FW HEADER_NAME_TE = new String8FW("te");
         private static final String8FW HEADER_NAME_GRPC_TIMEOUT = new String8FW("grpc-timeout");
+        private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
+        private static final String8FW HEADER_NAME_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
 
         private final Array32FW.Builder<GrpcMetadataFW.Builder, GrpcMetadataFW> grpcMetadataRW =
             new Array32FW.Builder<>(new GrpcMetadataFW.Builder(), new GrpcMetadataFW());
@@ -217,18 +369,24 @@ public final class GrpcBindingConfig
             visitors.put(HEADER_NAME_AUTHORITY, this::visitAuthority);
             visitors.put(HEADER_NAME_TE, this::visitTe);
             visitors.put(HEADER_NAME_CONTENT_TYPE, this::visitContentType);
+            visitors.put(HEADER_NAME_GRPC_ENCODING, this::visitGrpcEncoding);
+            visitors.put(HEADER_NAME_GRPC_ACCEPT_ENCODING, this::visitGrpcAcceptEncoding);
             this.visitors = visitors;
         }
         private final AsciiSequenceView pathRO = new AsciiSequenceView();
+        private final UnsafeBuffer pathBytesRO = new UnsafeBuffer(0L, 0);
         private final AsciiSequenceView serviceNameRO = new AsciiSequenceView();
         private final AsciiSequenceView grpcTimeoutRO = new AsciiSequenceView();
         private final String16FW contentTypeRO = new String16FW();
         private final String16FW schemeRO = new String16FW();
         private final String16FW authorityRO = new String16FW();
         private final String16FW teRO = new String16FW();
+        private final String16FW grpcEncodingRO = new String16FW();
+        private final String16FW grpcAcceptEncodingRO = new String16FW();
 
         public Array32FW<GrpcMetadataFW> metadata;
         public CharSequence path;
+        public DirectBuffer pathBytes;
         public CharSequence serviceName;
         private CharSequence grpcTimeoutText;
         public long grpcTimeout;
@@ -236,6 +394,8 @@ public final class GrpcBindingConfig
         public String16FW scheme;
         public String16FW authority;
         public String16FW te;
+        public String16FW grpcEncoding;
+        public String16FW grpcAcceptEncoding;
 
         HttpGrpcHeaderHelper(
             MutableDirectBuffer metadataBuffer)
@@ -248,10 +408,13 @@ public final class GrpcBindingConfig
         {
             serviceName = null;
             path = null;
+            pathBytes = null;
             grpcTimeoutText = null;
             scheme = null;
             authority = null;
             te = null;
+            grpcEncoding = null;
+            grpcAcceptEncoding = null;
             contentType = null;
             metadata = null;
             grpcMetadataRW.wrap(metadataBuffer, 0, metadataBuffer.capacity());
@@ -280,6 +443,8 @@ public final class GrpcBindingConfig
                 authority != null &&
                 te != null &&
                 contentType != null &&
+                grpcEncoding != null &&
+                grpcAcceptEncoding != null &&
                 grpcTimeoutText != null;
         }
 
@@ -299,6 +464,8 @@ public final class GrpcBindingConfig
             final int offset = value.offset() + value.fieldSizeLength();
             final int length = value.sizeof() - value.fieldSizeLength();
             path = pathRO.wrap(buffer, offset, length);
+            pathBytesRO.wrap(buffer, offset, length);
+            pathBytes = pathBytesRO;
         }
 
         private void visitGrpcTimeout(
@@ -329,6 +496,18 @@ public final class GrpcBindingConfig
             te = teRO.wrap(value.buffer(), value.offset(), value.limit());
         }
 
+        private void visitGrpcEncoding(
+            String16FW value)
+        {
+            grpcEncoding = grpcEncodingRO.wrap(value.buffer(), value.offset(), value.limit());
+        }
+
+        private void visitGrpcAcceptEncoding(
+            String16FW value)
+        {
+            grpcAcceptEncoding = grpcAcceptEncodingRO.wrap(value.buffer(), value.offset(), value.limit());
+        }
+
         private void visitContentType(
             String16FW value)
         {
@@ -420,18 +599,19 @@ public final class GrpcBindingConfig
             this.version = version;
         }
 
-        private GrpcProtobufConfig resolveProtobuf()
+        private boolean refresh()
         {
             final int newSchemaId = handler.resolve(subject, version);
+            final boolean changed = schemaId != newSchemaId;
 
-            if (schemaId != newSchemaId)
+            if (changed)
             {
                 schemaId = newSchemaId;
                 String schema = handler.resolve(schemaId);
                 protobuf = parser.parse(null, schema);
             }
 
-            return protobuf;
+            return changed;
         }
     }
 }
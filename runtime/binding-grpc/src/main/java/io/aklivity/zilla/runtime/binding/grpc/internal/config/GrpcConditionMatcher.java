@@ -44,6 +44,19 @@ public final class GrpcConditionMatcher
         CharSequence service,
         CharSequence method,
         Array32FW<GrpcMetadataFW> metadataHeaders)
+    {
+        return matchesMetadata(metadataHeaders) && matchesMethod(service, method);
+    }
+
+    public boolean matchesMethod(
+        CharSequence service,
+        CharSequence method)
+    {
+        return matchMethod(String.format("%s/%s", service, method));
+    }
+
+    public boolean matchesMetadata(
+        Array32FW<GrpcMetadataFW> metadataHeaders)
     {
         boolean match = true;
 
@@ -62,7 +75,7 @@ public final class GrpcConditionMatcher
             }
         }
 
-        return match && matchMethod(String.format("%s/%s", service, method));
+        return match;
     }
 
     private boolean matchMethod(
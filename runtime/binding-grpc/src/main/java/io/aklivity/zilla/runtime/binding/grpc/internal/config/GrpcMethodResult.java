@@ -27,6 +27,8 @@ public class GrpcMethodResult
     public final String16FW scheme;
     public final String16FW authority;
     public final String16FW te;
+    public final String16FW grpcEncoding;
+    public final String16FW grpcAcceptEncoding;
     public final Array32FW<GrpcMetadataFW> metadata;
 
     public GrpcMethodResult(
@@ -37,6 +39,8 @@ public class GrpcMethodResult
         String16FW scheme,
         String16FW authority,
         String16FW te,
+        String16FW grpcEncoding,
+        String16FW grpcAcceptEncoding,
         Array32FW<GrpcMetadataFW> metadata)
     {
         this.service = service;
@@ -46,6 +50,8 @@ public class GrpcMethodResult
         this.authority = authority;
         this.contentType = contentType;
         this.te = te;
+        this.grpcEncoding = grpcEncoding;
+        this.grpcAcceptEncoding = grpcAcceptEncoding;
         this.metadata = metadata;
     }
 }
@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.binding.grpc.internal.config;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.LongPredicate;
 
@@ -55,4 +56,46 @@ public final class GrpcRouteConfig
     {
         return when.isEmpty() || method != null && when.stream().anyMatch(m -> m.matches(service, method, metadataHeaders));
     }
+
+    List<GrpcConditionMatcher> conditions(
+        CharSequence service,
+        CharSequence method)
+    {
+        List<GrpcConditionMatcher> conditions = null;
+
+        if (when.isEmpty())
+        {
+            conditions = when;
+        }
+        else
+        {
+            for (GrpcConditionMatcher condition : when)
+            {
+                if (condition.matchesMethod(service, method))
+                {
+                    if (conditions == null)
+                    {
+                        conditions = new ArrayList<>();
+                    }
+                    conditions.add(condition);
+                }
+            }
+        }
+
+        return conditions;
+    }
+
+    boolean matches(
+        List<GrpcConditionMatcher> conditions,
+        Array32FW<GrpcMetadataFW> metadataHeaders)
+    {
+        boolean matches = when.isEmpty();
+
+        for (int index = 0; !matches && index < conditions.size(); index++)
+        {
+            matches = conditions.get(index).matchesMetadata(metadataHeaders);
+        }
+
+        return matches;
+    }
 }
@@ -14,11 +14,16 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
 
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
+import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
+import static java.lang.System.currentTimeMillis;
+
 import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -51,15 +56,19 @@ import io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.WindowFW;
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.binding.BindingHandler;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
+import io.aklivity.zilla.runtime.engine.buffer.BufferPool;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.concurrent.Signaler;
 import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 
 public class GrpcClientFactory implements GrpcStreamFactory
 {
     private static final int GRPC_MESSAGE_PADDING = 5;
+    private static final int GRPC_MESSAGE_FLAG_COMPRESSED = 0x01;
     private static final int DATA_FLAG_INIT = 0x02;
     private static final int DATA_FLAG_CONT = 0x00;
     private static final int DATA_FLAG_FIN = 0x01;
+    private static final int CATALOG_REFRESH_SIGNAL = 1;
     private final MutableInteger headerOffsetRW = new MutableInteger();
     private static final String HTTP_TYPE_NAME = "http";
     private static final String8FW HTTP_HEADER_METHOD = new String8FW(":method");
@@ -69,12 +78,15 @@ public class GrpcClientFactory implements GrpcStreamFactory
     private static final String8FW HTTP_HEADER_CONTENT_TYPE = new String8FW("content-type");
     private static final String8FW HTTP_HEADER_TE = new String8FW("te");
     private static final String8FW HTTP_HEADER_GRPC_STATUS = new String8FW("grpc-status");
+    private static final String8FW HTTP_HEADER_GRPC_ENCODING = new String8FW("grpc-encoding");
+    private static final String8FW HTTP_HEADER_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
 
     private static final String16FW HTTP_HEADER_VALUE_METHOD_POST = new String16FW("POST");
     private static final String16FW HTTP_HEADER_VALUE_STATUS_200 = new String16FW("200");
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC = new String16FW("application/grpc");
     private static final String16FW HEADER_VALUE_GRPC_OK = new String16FW("0");
     private static final String16FW HEADER_VALUE_TRAILERS = new String16FW("trailers");
+    private static final String16FW HEADER_VALUE_GRPC_ACCEPT_ENCODING = new String16FW("gzip,deflate");
     private static final String16FW HEADER_VALUE_GRPC_ABORTED = new String16FW("10");
     private static final String16FW HEADER_VALUE_GRPC_INTERNAL_ERROR = new String16FW("13");
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(new UnsafeBuffer(0L, 0), 0, 0);
@@ -115,6 +127,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
     private final MutableDirectBuffer writeBuffer;
     private final MutableDirectBuffer metadataBuffer;
     private final MutableDirectBuffer extBuffer;
+    private final BufferPool bufferPool;
     private final BindingHandler streamFactory;
     private final LongFunction<CatalogHandler> supplyCatalog;
     private final LongUnaryOperator supplyInitialId;
@@ -123,7 +136,13 @@ public class GrpcClientFactory implements GrpcStreamFactory
     private final int grpcTypeId;
 
     private final Long2ObjectHashMap<GrpcBindingConfig> bindings;
+    private final Signaler signaler;
+    private final Long2LongHashMap catalogRefreshIds;
+    private final long catalogRefreshMillis;
     private final HttpGrpcResponseHeaderHelper helper;
+    private final GrpcCompressor compressor;
+    private final GrpcEncoding requestEncoding;
+    private final int compressionThreshold;
 
     public GrpcClientFactory(
         GrpcConfiguration config,
@@ -132,6 +151,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
         this.writeBuffer = context.writeBuffer();
         this.metadataBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
         this.extBuffer = new UnsafeBuffer(new byte[writeBuffer.capacity()]);
+        this.bufferPool = context.bufferPool();
         this.streamFactory = context.streamFactory();
         this.supplyCatalog = context::supplyCatalog;
         this.supplyInitialId = context::supplyInitialId;
@@ -139,7 +159,15 @@ public class GrpcClientFactory implements GrpcStreamFactory
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
         this.grpcTypeId = context.supplyTypeId(GrpcBinding.NAME);
         this.bindings = new Long2ObjectHashMap<>();
+        this.signaler = context.signaler();
+        this.catalogRefreshIds = new Long2LongHashMap(NO_CANCEL_ID);
+        this.catalogRefreshMillis = config.catalogRefreshMillis();
         this.helper = new HttpGrpcResponseHeaderHelper();
+        this.compressor = new GrpcCompressor(Math.min(bufferPool.slotCapacity(),
+            writeBuffer.capacity() - DataFW.FIELD_OFFSET_PAYLOAD - GRPC_MESSAGE_PADDING));
+        final GrpcEncoding clientEncoding = GrpcEncoding.of(config.clientEncoding());
+        this.requestEncoding = clientEncoding != null ? clientEncoding : GrpcEncoding.IDENTITY;
+        this.compressionThreshold = config.compressionThreshold();
 
         this.grpcAbortedStatusRO = grpcAbortExRW.wrap(new UnsafeBuffer(new byte[32]), 0, 32)
                 .typeId(grpcTypeId)
@@ -165,6 +193,11 @@ public class GrpcClientFactory implements GrpcStreamFactory
     {
         GrpcBindingConfig grpcBinding = new GrpcBindingConfig(binding, metadataBuffer, supplyCatalog);
         bindings.put(binding.id, grpcBinding);
+
+        if (!binding.catalogs.isEmpty())
+        {
+            doCatalogRefresh(binding.id);
+        }
     }
 
     @Override
@@ -172,6 +205,31 @@ public class GrpcClientFactory implements GrpcStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        final long refreshId = catalogRefreshIds.remove(bindingId);
+        if (refreshId != NO_CANCEL_ID)
+        {
+            signaler.cancel(refreshId);
+        }
+    }
+
+    private void doCatalogRefresh(
+        long bindingId)
+    {
+        final long refreshAt = currentTimeMillis() + catalogRefreshMillis;
+        final long refreshId = signaler.signalAt(refreshAt, CATALOG_REFRESH_SIGNAL, s -> onCatalogRefresh(bindingId));
+        catalogRefreshIds.put(bindingId, refreshId);
+    }
+
+    private void onCatalogRefresh(
+        long bindingId)
+    {
+        final GrpcBindingConfig binding = bindings.get(bindingId);
+        if (binding != null)
+        {
+            binding.refreshCatalogs();
+            doCatalogRefresh(bindingId);
+        }
     }
 
     @Override
@@ -261,6 +319,11 @@ public class GrpcClientFactory implements GrpcStreamFactory
             this.method = method;
         }
 
+        private int replyWindow()
+        {
+            return replyMax - (int)(replySeq - replyAck);
+        }
+
         private void onAppMessage(
             int msgTypeId,
             DirectBuffer buffer,
@@ -592,6 +655,17 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
         private int state;
         private int messageDeferred;
+        private GrpcEncoding responseEncoding;
+        private String endStatus;
+
+        private int encodeSlot = NO_SLOT;
+        private int encodeSlotOffset;
+        private int encodeSlotReserved;
+
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private int decodeSlotReserved;
+        private long replyDelta;
 
         private HttpClient(
             long originId,
@@ -642,25 +716,118 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
             if ((flags & DATA_FLAG_INIT) != 0x00)
             {
-                GrpcMessageFW message = grpcMessageRW
-                    .wrap(encodeBuffer, encodeOffset, encodeLimit)
-                    .flag(0)
-                    .length(payloadSize + deferred)
-                    .build();
-                encodeProgress = message.limit();
+                final int messageLength = payloadSize + deferred;
+
+                if (requestEncoding != GrpcEncoding.IDENTITY &&
+                    messageLength >= compressionThreshold &&
+                    messageLength <= compressor.capacity())
+                {
+                    encodeSlot = bufferPool.acquire(initialId);
+                }
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    GrpcMessageFW message = grpcMessageRW
+                        .wrap(encodeBuffer, encodeOffset, encodeLimit)
+                        .flag(0)
+                        .length(messageLength)
+                        .build();
+                    encodeProgress = message.limit();
+                }
+            }
+
+            if (encodeSlot != NO_SLOT)
+            {
+                doNetDataEncode(traceId, authorization, budgetId, reserved, flags, payload);
             }
+            else
+            {
+                encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
+                encodeProgress += payloadSize;
 
-            encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
-            encodeProgress += payloadSize;
+                doNetData(traceId, authorization, budgetId, reserved, flags,
+                    encodeBuffer, encodeOffset, encodeProgress - encodeOffset);
+            }
+        }
 
+        private void doNetData(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
             doData(network, originId, routedId, initialId, initialSeq, initialAck, initialMax, traceId, authorization,
-                budgetId, flags, reserved, encodeBuffer, encodeOffset, encodeProgress - encodeOffset, EMPTY_OCTETS);
+                budgetId, flags, reserved, buffer, offset, length, EMPTY_OCTETS);
 
             initialSeq += reserved;
 
             assert initialSeq <= initialAck + initialMax;
         }
 
+        private void doNetDataEncode(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            OctetsFW payload)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(encodeSlot);
+            final int payloadSize = payload.sizeof();
+
+            if (encodeSlotOffset + payloadSize > compressor.capacity())
+            {
+                cleanupEncodeSlot();
+                doNetAbort(traceId, authorization);
+                delegate.doAppReset(traceId, authorization);
+            }
+            else
+            {
+                slot.putBytes(encodeSlotOffset, payload.buffer(), payload.offset(), payloadSize);
+                encodeSlotOffset += payloadSize;
+                encodeSlotReserved += reserved;
+
+                if ((flags & DATA_FLAG_FIN) != 0x00)
+                {
+                    final MutableDirectBuffer encodeBuffer = writeBuffer;
+                    final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
+                    final int encodeLimit = encodeBuffer.capacity();
+                    final int compressedLength = compressor.compress(requestEncoding, slot, 0, encodeSlotOffset);
+                    final boolean compressed = compressedLength != -1;
+                    final DirectBuffer messageBuffer = compressed ? compressor.buffer() : slot;
+                    final int messageLength = compressed ? compressedLength : encodeSlotOffset;
+
+                    GrpcMessageFW message = grpcMessageRW
+                        .wrap(encodeBuffer, encodeOffset, encodeLimit)
+                        .flag(compressed ? GRPC_MESSAGE_FLAG_COMPRESSED : 0)
+                        .length(messageLength)
+                        .build();
+                    encodeBuffer.putBytes(message.limit(), messageBuffer, 0, messageLength);
+
+                    final int encodeReserved = encodeSlotReserved;
+                    cleanupEncodeSlot();
+
+                    doNetData(traceId, authorization, budgetId, encodeReserved, DATA_FLAG_INIT | DATA_FLAG_FIN,
+                        encodeBuffer, encodeOffset, message.sizeof() + messageLength);
+                }
+            }
+        }
+
+        private void cleanupEncodeSlot()
+        {
+            if (encodeSlot != NO_SLOT)
+            {
+                bufferPool.release(encodeSlot);
+                encodeSlot = NO_SLOT;
+                encodeSlotOffset = 0;
+                encodeSlotReserved = 0;
+            }
+        }
+
         private void doNetEnd(
             long traceId,
             long authorization)
@@ -681,6 +848,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
             if (!GrpcState.initialClosed(state))
             {
                 state = GrpcState.closeInitial(state);
+                cleanupEncodeSlot();
 
                 doAbort(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
                     traceId, authorization, EMPTY_OCTETS);
@@ -695,7 +863,12 @@ public class GrpcClientFactory implements GrpcStreamFactory
             long replyAck,
             int replyMax)
         {
-            this.replyAck = replyAck;
+            if (decodeSlot != NO_SLOT)
+            {
+                decodeNet(traceId, authorization, budgetId);
+            }
+
+            this.replyAck = Math.max(this.replyAck, replyAck - replyDelta);
             this.replyMax = replyMax;
 
             state = GrpcState.openReply(state);
@@ -713,6 +886,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
             if (!GrpcState.replyClosed(state))
             {
                 state = GrpcState.closeReply(state);
+                cleanupDecodeSlot();
 
                 doReset(network, originId, routedId, replyId, replySeq, replyAck, replyMax,
                     traceId, authorization, EMPTY_OCTETS);
@@ -773,6 +947,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
                 helper.visit(httpBeginEx);
                 status = helper.status;
                 grpcStatus = helper.grpcStatus;
+                responseEncoding = GrpcEncoding.of(helper.grpcEncoding);
             }
 
             assert acknowledge <= sequence;
@@ -817,24 +992,33 @@ public class GrpcClientFactory implements GrpcStreamFactory
             final int limit = payload.limit();
             final int size = payload.sizeof();
 
-            if (messageDeferred == 0)
+            final boolean streaming = decodeSlot == NO_SLOT && reserved <= delegate.replyWindow();
+
+            if (streaming && messageDeferred == 0)
             {
                 final GrpcMessageFW grpcMessage = grpcMessageRO.wrap(buffer, offset, limit);
-                final int messageLength = grpcMessage.length();
-                final int payloadSize = size - GRPC_MESSAGE_PADDING;
-                messageDeferred = messageLength - payloadSize;
+                if ((grpcMessage.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) != 0)
+                {
+                    onNetDataDecode(traceId, authorization, budgetId, reserved, buffer, offset, size);
+                }
+                else
+                {
+                    final int messageLength = grpcMessage.length();
+                    final int payloadSize = size - GRPC_MESSAGE_PADDING;
+                    messageDeferred = messageLength - payloadSize;
 
-                Flyweight dataEx = messageDeferred > 0 ?
-                    grpcDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
-                        .typeId(grpcTypeId)
-                        .deferred(messageDeferred)
-                        .build() : EMPTY_OCTETS;
+                    Flyweight dataEx = messageDeferred > 0 ?
+                        grpcDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                            .typeId(grpcTypeId)
+                            .deferred(messageDeferred)
+                            .build() : EMPTY_OCTETS;
 
-                int flags = messageDeferred > 0 ? DATA_FLAG_INIT : DATA_FLAG_INIT | DATA_FLAG_FIN;
-                delegate.doAppData(traceId, authorization, budgetId, reserved, flags,
-                    buffer, offset + GRPC_MESSAGE_PADDING, payloadSize, dataEx);
+                    int flags = messageDeferred > 0 ? DATA_FLAG_INIT : DATA_FLAG_INIT | DATA_FLAG_FIN;
+                    delegate.doAppData(traceId, authorization, budgetId, reserved, flags,
+                        buffer, offset + GRPC_MESSAGE_PADDING, payloadSize, dataEx);
+                }
             }
-            else
+            else if (streaming)
             {
                 messageDeferred -= size;
                 assert messageDeferred >= 0;
@@ -844,6 +1028,201 @@ public class GrpcClientFactory implements GrpcStreamFactory
                 delegate.doAppData(traceId, authorization, budgetId, reserved, flags,
                     buffer, offset, size, EMPTY_OCTETS);
             }
+            else
+            {
+                onNetDataDecode(traceId, authorization, budgetId, reserved, buffer, offset, size);
+            }
+        }
+
+        private void onNetDataDecode(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            if (decodeSlot == NO_SLOT)
+            {
+                decodeSlot = bufferPool.acquire(replyId);
+            }
+
+            if (decodeSlot == NO_SLOT || decodeSlotOffset + length > bufferPool.slotCapacity())
+            {
+                onNetDecodeError(traceId, authorization);
+            }
+            else
+            {
+                final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                slot.putBytes(decodeSlotOffset, buffer, offset, length);
+                decodeSlotOffset += length;
+                decodeSlotReserved += reserved;
+
+                decodeNet(traceId, authorization, budgetId);
+
+                if (decodeSlot == NO_SLOT && !GrpcState.replyClosing(state))
+                {
+                    doNetWindow(traceId, authorization, budgetId, delegate.replyPad, delegate.replyAck, delegate.replyMax);
+                }
+            }
+        }
+
+        private void decodeNet(
+            long traceId,
+            long authorization,
+            long budgetId)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+            final int limit = decodeSlotOffset;
+
+            int progress = 0;
+            int previous;
+
+            do
+            {
+                previous = progress;
+                progress = decodeNetMessage(traceId, authorization, budgetId, slot, progress, limit);
+            }
+            while (progress > previous && progress < limit);
+
+            if (progress == -1)
+            {
+                onNetDecodeError(traceId, authorization);
+            }
+            else if (progress == limit)
+            {
+                replyDelta -= decodeSlotReserved;
+                cleanupDecodeSlot();
+
+                if (endStatus != null)
+                {
+                    onNetEndStatus(traceId, authorization, new String16FW(endStatus));
+                }
+            }
+            else if (progress > 0)
+            {
+                slot.putBytes(0, slot, progress, limit - progress);
+                decodeSlotOffset = limit - progress;
+            }
+        }
+
+        private int decodeNetMessage(
+            long traceId,
+            long authorization,
+            long budgetId,
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            final int padding = delegate.replyPad;
+            final int window = delegate.replyWindow() - padding;
+
+            int progress = offset;
+
+            if (messageDeferred > 0)
+            {
+                final int length = Math.min(Math.min(messageDeferred, limit - offset), window);
+                if (length > 0)
+                {
+                    messageDeferred -= length;
+                    final int flags = messageDeferred > 0 ? DATA_FLAG_CONT : DATA_FLAG_FIN;
+                    doAppDataDecoded(traceId, authorization, budgetId, length + padding, flags,
+                        buffer, offset, length, EMPTY_OCTETS);
+                    progress += length;
+                }
+            }
+            else
+            {
+                final GrpcMessageFW grpcMessage = grpcMessageRO.tryWrap(buffer, offset, limit);
+                if (grpcMessage != null)
+                {
+                    final int messageLength = grpcMessage.length();
+                    final int payloadOffset = grpcMessage.limit();
+                    final int payloadLimit = Math.min(payloadOffset + messageLength, limit);
+
+                    if ((grpcMessage.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) == 0)
+                    {
+                        final int length = Math.min(payloadLimit - payloadOffset, window);
+                        if (length > 0 || messageLength == 0 && window >= 0)
+                        {
+                            messageDeferred = messageLength - length;
+
+                            Flyweight dataEx = messageDeferred > 0 ?
+                                grpcDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                                    .typeId(grpcTypeId)
+                                    .deferred(messageDeferred)
+                                    .build() : EMPTY_OCTETS;
+
+                            final int flags = messageDeferred > 0 ? DATA_FLAG_INIT : DATA_FLAG_INIT | DATA_FLAG_FIN;
+                            doAppDataDecoded(traceId, authorization, budgetId, length + padding, flags,
+                                buffer, payloadOffset, length, dataEx);
+                            progress = payloadOffset + length;
+                        }
+                    }
+                    else if (GRPC_MESSAGE_PADDING + messageLength >
+                        Math.min(bufferPool.slotCapacity(), delegate.replyMax))
+                    {
+                        progress = -1;
+                    }
+                    else if (payloadLimit - payloadOffset == messageLength)
+                    {
+                        final int decodedLength = responseEncoding != null
+                            ? compressor.decompress(responseEncoding, buffer, payloadOffset, messageLength)
+                            : -1;
+
+                        if (decodedLength == -1 || decodedLength + padding > delegate.replyMax)
+                        {
+                            progress = -1;
+                        }
+                        else if (decodedLength <= window)
+                        {
+                            doAppDataDecoded(traceId, authorization, budgetId, decodedLength + padding,
+                                DATA_FLAG_INIT | DATA_FLAG_FIN, compressor.buffer(), 0, decodedLength, EMPTY_OCTETS);
+                            progress = payloadLimit;
+                        }
+                    }
+                }
+            }
+
+            return progress;
+        }
+
+        private void doAppDataDecoded(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            DirectBuffer buffer,
+            int offset,
+            int length,
+            Flyweight extension)
+        {
+            delegate.doAppData(traceId, authorization, budgetId, reserved, flags, buffer, offset, length, extension);
+            replyDelta += reserved;
+        }
+
+        private void onNetDecodeError(
+            long traceId,
+            long authorization)
+        {
+            cleanupDecodeSlot();
+            doNetReset(traceId, authorization);
+            doNetAbort(traceId, authorization);
+            delegate.doAppAbortDeferring(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
+            delegate.doAppReset(traceId, authorization);
+        }
+
+        private void cleanupDecodeSlot()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                bufferPool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+                decodeSlotReserved = 0;
+            }
         }
 
         private void onNetEnd(
@@ -866,15 +1245,30 @@ public class GrpcClientFactory implements GrpcStreamFactory
             final HttpEndExFW endEx = end.extension().get(endExRO::tryWrap);
             final Array32FW<HttpHeaderFW> trailers = endEx != null ? endEx.trailers() : TRAILERS_EMPTY;
             final HttpHeaderFW grpcStatus = trailers.matchFirst(t -> t.name().equals(HTTP_HEADER_GRPC_STATUS));
+            final String16FW status = grpcStatus != null ? grpcStatus.value() : HEADER_VALUE_GRPC_INTERNAL_ERROR;
+
+            if (decodeSlot != NO_SLOT)
+            {
+                endStatus = status.asString();
+            }
+            else
+            {
+                onNetEndStatus(traceId, authorization, status);
+            }
+        }
 
-            if (grpcStatus != null && HEADER_VALUE_GRPC_OK.equals(grpcStatus.value()))
+        private void onNetEndStatus(
+            long traceId,
+            long authorization,
+            String16FW status)
+        {
+            if (HEADER_VALUE_GRPC_OK.equals(status))
             {
                 delegate.doAppEnd(traceId, authorization);
             }
             else
             {
-                delegate.doAppAbortDeferring(traceId, authorization,
-                        grpcStatus != null ? grpcStatus.value() : HEADER_VALUE_GRPC_INTERNAL_ERROR);
+                delegate.doAppAbortDeferring(traceId, authorization, status);
             }
         }
 
@@ -895,6 +1289,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
             state = GrpcState.closeReply(state);
 
+            cleanupDecodeSlot();
             delegate.doAppAbort(traceId, authorization, grpcAbortedStatusRO);
         }
 
@@ -906,6 +1301,7 @@ public class GrpcClientFactory implements GrpcStreamFactory
 
             state = GrpcState.closeInitial(state);
 
+            cleanupEncodeSlot();
             delegate.doAppReset(traceId, authorization);
         }
 
@@ -974,6 +1370,15 @@ public class GrpcClientFactory implements GrpcStreamFactory
                 hs.item(h -> h
                     .name(HTTP_HEADER_TE)
                     .value(HEADER_VALUE_TRAILERS));
+                if (requestEncoding != GrpcEncoding.IDENTITY)
+                {
+                    hs.item(h -> h
+                        .name(HTTP_HEADER_GRPC_ENCODING)
+                        .value(requestEncoding.value));
+                }
+                hs.item(h -> h
+                    .name(HTTP_HEADER_GRPC_ACCEPT_ENCODING)
+                    .value(HEADER_VALUE_GRPC_ACCEPT_ENCODING));
 
 
                 headerOffsetRW.value = 0;
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class GrpcCompressor
+{
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, false);
+    private final Deflater gzipDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final Inflater inflater = new Inflater(false);
+    private final Inflater gzipInflater = new Inflater(true);
+    private final CRC32 checksum = new CRC32();
+
+    private final byte[] input;
+    private final byte[] output;
+    private final UnsafeBuffer inputRO;
+    private final UnsafeBuffer outputRO;
+
+    public GrpcCompressor(
+        int capacity)
+    {
+        this.input = new byte[capacity];
+        this.output = new byte[capacity];
+        this.inputRO = new UnsafeBuffer(input);
+        this.outputRO = new UnsafeBuffer(output);
+    }
+
+    public int capacity()
+    {
+        return output.length;
+    }
+
+    public DirectBuffer buffer()
+    {
+        return outputRO;
+    }
+
+    public int compress(
+        GrpcEncoding encoding,
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int size = -1;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(offset, input, 0, length);
+
+            switch (encoding)
+            {
+            case GZIP:
+                size = compressGzip(length);
+                break;
+            case DEFLATE:
+                size = deflate(deflater, length, 0, length);
+                break;
+            default:
+                break;
+            }
+        }
+
+        return size;
+    }
+
+    public int decompress(
+        GrpcEncoding encoding,
+        DirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        int size = -1;
+
+        if (length <= input.length)
+        {
+            buffer.getBytes(offset, input, 0, length);
+
+            switch (encoding)
+            {
+            case GZIP:
+                size = decompressGzip(length);
+                break;
+            case DEFLATE:
+                size = inflate(inflater, 0, length);
+                break;
+            default:
+                break;
+            }
+        }
+
+        return size;
+    }
+
+    private int compressGzip(
+        int length)
+    {
+        final int limit = Math.min(length, output.length) - GZIP_TRAILER_SIZE;
+
+        int size = -1;
+
+        if (limit > GZIP_HEADER_SIZE)
+        {
+            System.arraycopy(GZIP_HEADER, 0, output, 0, GZIP_HEADER_SIZE);
+
+            final int deflated = deflate(gzipDeflater, length, GZIP_HEADER_SIZE, limit);
+            if (deflated != -1)
+            {
+                checksum.reset();
+                checksum.update(input, 0, length);
+
+                final int trailerAt = GZIP_HEADER_SIZE + deflated;
+                outputRO.putInt(trailerAt, (int) checksum.getValue(), LITTLE_ENDIAN);
+                outputRO.putInt(trailerAt + Integer.BYTES, length, LITTLE_ENDIAN);
+                size = trailerAt + GZIP_TRAILER_SIZE;
+            }
+        }
+
+        return size;
+    }
+
+    private int decompressGzip(
+        int length)
+    {
+        int size = -1;
+
+        if (length >= GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE &&
+            (inputRO.getShort(0, LITTLE_ENDIAN) & 0xffff) == GZIP_MAGIC &&
+            input[2] == Deflater.DEFLATED)
+        {
+            final int flags = input[3];
+
+            int progress = GZIP_HEADER_SIZE;
+
+            if ((flags & GZIP_FLAG_EXTRA) != 0)
+            {
+                progress += Short.BYTES + (inputRO.getShort(progress, LITTLE_ENDIAN) & 0xffff);
+            }
+
+            if ((flags & GZIP_FLAG_NAME) != 0)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_COMMENT) != 0)
+            {
+                progress = skipZeroTerminated(progress, length);
+            }
+
+            if ((flags & GZIP_FLAG_HCRC) != 0)
+            {
+                progress += Short.BYTES;
+            }
+
+            if (progress < length)
+            {
+                final int inflated = inflate(gzipInflater, progress, length - progress);
+                final int trailerAt = length - gzipInflater.getRemaining();
+
+                if (inflated != -1 && trailerAt + GZIP_TRAILER_SIZE <= length)
+                {
+                    checksum.reset();
+                    checksum.update(output, 0, inflated);
+
+                    if (inputRO.getInt(trailerAt, LITTLE_ENDIAN) == (int) checksum.getValue() &&
+                        inputRO.getInt(trailerAt + Integer.BYTES, LITTLE_ENDIAN) == inflated)
+                    {
+                        size = inflated;
+                    }
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private int skipZeroTerminated(
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+        while (progress < limit && input[progress] != 0)
+        {
+            progress++;
+        }
+        return progress + 1;
+    }
+
+    private int deflate(
+        Deflater encoder,
+        int length,
+        int offset,
+        int limit)
+    {
+        encoder.reset();
+        encoder.setInput(input, 0, length);
+        encoder.finish();
+
+        final int size = encoder.deflate(output, offset, limit - offset);
+
+        return encoder.finished() ? size : -1;
+    }
+
+    private int inflate(
+        Inflater decoder,
+        int offset,
+        int length)
+    {
+        decoder.reset();
+        decoder.setInput(input, offset, length);
+
+        int size = -1;
+
+        try
+        {
+            final int inflated = decoder.inflate(output, 0, output.length);
+            if (decoder.finished())
+            {
+                size = inflated;
+            }
+        }
+        catch (DataFormatException ex)
+        {
+            size = -1;
+        }
+
+        return size;
+    }
+}
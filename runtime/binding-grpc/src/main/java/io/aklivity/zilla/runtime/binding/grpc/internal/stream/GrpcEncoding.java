@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.String16FW;
+
+public enum GrpcEncoding
+{
+    IDENTITY("identity"),
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    public final String16FW value;
+
+    private final String text;
+
+    GrpcEncoding(
+        String text)
+    {
+        this.text = text;
+        this.value = new String16FW(text);
+    }
+
+    public static GrpcEncoding of(
+        String value)
+    {
+        GrpcEncoding encoding = null;
+
+        if (value == null)
+        {
+            encoding = IDENTITY;
+        }
+        else
+        {
+            final String token = value.trim();
+            for (GrpcEncoding candidate : values())
+            {
+                if (candidate.text.equalsIgnoreCase(token))
+                {
+                    encoding = candidate;
+                    break;
+                }
+            }
+        }
+
+        return encoding;
+    }
+
+    public static GrpcEncoding of(
+        String16FW value)
+    {
+        return of(value != null ? value.asString() : null);
+    }
+
+    public static GrpcEncoding negotiate(
+        String16FW acceptEncoding)
+    {
+        GrpcEncoding encoding = IDENTITY;
+
+        if (acceptEncoding != null)
+        {
+            for (String token : acceptEncoding.asString().split(","))
+            {
+                final GrpcEncoding candidate = of(token);
+                if (candidate != null && candidate != IDENTITY)
+                {
+                    encoding = candidate;
+                    break;
+                }
+            }
+        }
+
+        return encoding;
+    }
+}
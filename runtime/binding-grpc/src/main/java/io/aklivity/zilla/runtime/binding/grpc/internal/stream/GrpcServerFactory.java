@@ -16,9 +16,11 @@ package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
 
 import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcServerFactory.ContentType.GRPC;
 import static io.aklivity.zilla.runtime.binding.grpc.internal.stream.GrpcServerFactory.ContentType.GRPC_WEB_PROTO;
+import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static io.aklivity.zilla.runtime.engine.concurrent.Signaler.NO_CANCEL_ID;
 import static java.lang.Character.toLowerCase;
 import static java.lang.Character.toUpperCase;
+import static java.lang.System.currentTimeMillis;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.time.Instant.now;
 
@@ -29,6 +31,7 @@ import java.util.function.LongUnaryOperator;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -70,10 +73,12 @@ import io.aklivity.zilla.runtime.engine.config.BindingConfig;
 public final class GrpcServerFactory implements GrpcStreamFactory
 {
     private static final int GRPC_MESSAGE_PADDING = 5;
+    private static final int GRPC_MESSAGE_FLAG_COMPRESSED = 0x01;
     private static final int DATA_FLAG_INIT = 0x02;
     private static final int DATA_FLAG_CONT = 0x00;
     private static final int DATA_FLAG_FIN = 0x01;
     private static final int EXPIRING_SIGNAL = 1;
+    private static final int CATALOG_REFRESH_SIGNAL = 2;
     private static final String HTTP_TYPE_NAME = "http";
     private static final byte HYPHEN_BYTE = '-';
     private static final byte COMMA_BYTE = ',';
@@ -83,6 +88,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(new UnsafeBuffer(new byte[0]), 0, 0);
     private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
     private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
+    private static final String8FW HEADER_NAME_GRPC_ACCEPT_ENCODING = new String8FW("grpc-accept-encoding");
     private static final String8FW HEADER_NAME_GRPC_STATUS = new String8FW("grpc-status");
     private static final String8FW HEADER_NAME_METHOD = new String8FW(":method");
     private static final String8FW HEADER_NAME_STATUS = new String8FW(":status");
@@ -90,7 +96,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC_PROTO = new String16FW("application/grpc+proto");
     private static final String16FW HEADER_VALUE_CONTENT_TYPE_GRPC_WEB_PROTO = new String16FW("application/grpc-web+proto");
     private static final String16FW HEADER_VALUE_TRAILERS = new String16FW("trailers");
-    private static final String16FW HEADER_VALUE_GRPC_ENCODING = new String16FW("identity");
+    private static final String16FW HEADER_VALUE_GRPC_ACCEPT_ENCODING = new String16FW("gzip,deflate");
     private static final String16FW HEADER_VALUE_METHOD_POST = new String16FW("POST");
     private static final String16FW HEADER_VALUE_STATUS_200 = new String16FW("200");
     private static final String16FW HEADER_VALUE_STATUS_405 = new String16FW("405");
@@ -135,12 +141,16 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     private final MutableDirectBuffer metadataBuffer;
     private final BufferPool bufferPool;
     private final Signaler signaler;
+    private final Long2LongHashMap catalogRefreshIds;
+    private final long catalogRefreshMillis;
     private final BindingHandler streamFactory;
     private final LongFunction<CatalogHandler> supplyCatalog;
     private final LongUnaryOperator supplyInitialId;
     private final LongUnaryOperator supplyReplyId;
     private final LongSupplier supplyTraceId;
     private final Long2ObjectHashMap<GrpcBindingConfig> bindings;
+    private final GrpcCompressor compressor;
+    private final int compressionThreshold;
     private final int grpcTypeId;
     private final int httpTypeId;
 
@@ -243,6 +253,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         this.supplyReplyId = context::supplyReplyId;
         this.supplyTraceId = context::supplyTraceId;
         this.bindings = new Long2ObjectHashMap<>();
+        this.catalogRefreshIds = new Long2LongHashMap(NO_CANCEL_ID);
+        this.catalogRefreshMillis = config.catalogRefreshMillis();
+        this.compressor = new GrpcCompressor(Math.min(bufferPool.slotCapacity(),
+            writeBuffer.capacity() - DataFW.FIELD_OFFSET_PAYLOAD - GRPC_MESSAGE_PADDING));
+        this.compressionThreshold = config.compressionThreshold();
         this.grpcTypeId = context.supplyTypeId(GrpcBinding.NAME);
         this.httpTypeId = context.supplyTypeId(HTTP_TYPE_NAME);
     }
@@ -265,6 +280,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
     {
         GrpcBindingConfig grpcBinding = new GrpcBindingConfig(binding, metadataBuffer, supplyCatalog);
         bindings.put(binding.id, grpcBinding);
+
+        if (!binding.catalogs.isEmpty())
+        {
+            doCatalogRefresh(binding.id);
+        }
     }
 
     @Override
@@ -272,6 +292,31 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         long bindingId)
     {
         bindings.remove(bindingId);
+
+        final long refreshId = catalogRefreshIds.remove(bindingId);
+        if (refreshId != NO_CANCEL_ID)
+        {
+            signaler.cancel(refreshId);
+        }
+    }
+
+    private void doCatalogRefresh(
+        long bindingId)
+    {
+        final long refreshAt = currentTimeMillis() + catalogRefreshMillis;
+        final long refreshId = signaler.signalAt(refreshAt, CATALOG_REFRESH_SIGNAL, s -> onCatalogRefresh(bindingId));
+        catalogRefreshIds.put(bindingId, refreshId);
+    }
+
+    private void onCatalogRefresh(
+        long bindingId)
+    {
+        final GrpcBindingConfig binding = bindings.get(bindingId);
+        if (binding != null)
+        {
+            binding.refreshCatalogs();
+            doCatalogRefresh(bindingId);
+        }
     }
 
     @Override
@@ -387,6 +432,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private final GrpcStream delegate;
         private final ContentType contentType;
         private final GrpcMethodResult method;
+        private final GrpcEncoding requestEncoding;
+        private final GrpcEncoding responseEncoding;
         private final long originId;
         private final long routedId;
         private final long initialId;
@@ -405,6 +452,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private int messageDeferred;
         private long expiringId = NO_CANCEL_ID;
 
+        private int decodeSlot = NO_SLOT;
+        private int decodeSlotOffset;
+        private int decodeSlotReserved;
+        private long initialDelta;
+
         private GrpcServer(
             MessageConsumer network,
             long originId,
@@ -424,6 +476,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             this.affinity = affinity;
             this.contentType = contentType;
             this.method = method;
+            this.requestEncoding = GrpcEncoding.of(method.grpcEncoding);
+            this.responseEncoding = GrpcEncoding.negotiate(method.grpcAcceptEncoding);
 
             this.delegate = new GrpcStream(routedId, resolveId, this);
         }
@@ -526,10 +580,20 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             final int limit = payload.limit();
             final int size = payload.sizeof();
 
-            if (messageDeferred == 0)
+            final boolean streaming = decodeSlot == NO_SLOT && reserved <= delegate.initialWindow();
+
+            if (streaming && messageDeferred == 0)
             {
                 final GrpcMessageFW grpcMessage = grpcMessageRO.tryWrap(buffer, offset, limit);
-                if (grpcMessage != null)
+                if (grpcMessage == null)
+                {
+                    doNetReset(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
+                }
+                else if ((grpcMessage.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) != 0)
+                {
+                    onNetDataDecode(traceId, authorization, budgetId, reserved, buffer, offset, size);
+                }
+                else
                 {
                     final int messageLength = grpcMessage.length();
                     final int payloadSize = size - GRPC_MESSAGE_PADDING;
@@ -545,12 +609,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
                     delegate.doAppData(traceId, authorization, budgetId, reserved, flags,
                         buffer, offset + GRPC_MESSAGE_PADDING, payloadSize, dataEx);
                 }
-                else
-                {
-                    doNetReset(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
-                }
             }
-            else
+            else if (streaming)
             {
                 messageDeferred -= size;
                 assert messageDeferred >= 0;
@@ -560,6 +620,204 @@ public final class GrpcServerFactory implements GrpcStreamFactory
                 delegate.doAppData(traceId, authorization, budgetId, reserved, flags,
                     buffer, offset, size, EMPTY_OCTETS);
             }
+            else
+            {
+                onNetDataDecode(traceId, authorization, budgetId, reserved, buffer, offset, size);
+            }
+        }
+
+        private void onNetDataDecode(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            if (decodeSlot == NO_SLOT)
+            {
+                decodeSlot = bufferPool.acquire(initialId);
+            }
+
+            if (decodeSlot == NO_SLOT || decodeSlotOffset + length > bufferPool.slotCapacity())
+            {
+                onNetDecodeError(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
+            }
+            else
+            {
+                final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+                slot.putBytes(decodeSlotOffset, buffer, offset, length);
+                decodeSlotOffset += length;
+                decodeSlotReserved += reserved;
+
+                decodeNet(traceId, authorization, budgetId);
+
+                if (decodeSlot == NO_SLOT && !GrpcState.initialClosing(state))
+                {
+                    doNetWindow(authorization, traceId, budgetId, delegate.grpcInitialPad, delegate.grpcInitialCap);
+                }
+            }
+        }
+
+        private void decodeNet(
+            long traceId,
+            long authorization,
+            long budgetId)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(decodeSlot);
+            final int limit = decodeSlotOffset;
+
+            int progress = 0;
+            int previous;
+
+            do
+            {
+                previous = progress;
+                progress = decodeNetMessage(traceId, authorization, budgetId, slot, progress, limit);
+            }
+            while (progress > previous && progress < limit);
+
+            if (progress == -1)
+            {
+                final String16FW status = requestEncoding == null
+                    ? HEADER_VALUE_GRPC_UNIMPLEMENTED
+                    : HEADER_VALUE_GRPC_INTERNAL_ERROR;
+                onNetDecodeError(traceId, authorization, status);
+            }
+            else if (progress == limit)
+            {
+                initialDelta -= decodeSlotReserved;
+                cleanupDecodeSlot();
+
+                if (GrpcState.initialClosing(state))
+                {
+                    state = GrpcState.closeInitial(state);
+                    delegate.doAppEnd(traceId, authorization);
+                }
+            }
+            else if (progress > 0)
+            {
+                slot.putBytes(0, slot, progress, limit - progress);
+                decodeSlotOffset = limit - progress;
+            }
+        }
+
+        private int decodeNetMessage(
+            long traceId,
+            long authorization,
+            long budgetId,
+            DirectBuffer buffer,
+            int offset,
+            int limit)
+        {
+            final int padding = delegate.grpcInitialPad;
+            final int window = delegate.initialWindow() - padding;
+
+            int progress = offset;
+
+            if (messageDeferred > 0)
+            {
+                final int length = Math.min(Math.min(messageDeferred, limit - offset), window);
+                if (length > 0)
+                {
+                    messageDeferred -= length;
+                    final int flags = messageDeferred > 0 ? DATA_FLAG_CONT : DATA_FLAG_FIN;
+                    doAppDataDecoded(traceId, authorization, budgetId, length + padding, flags,
+                        buffer, offset, length, EMPTY_OCTETS);
+                    progress += length;
+                }
+            }
+            else
+            {
+                final GrpcMessageFW grpcMessage = grpcMessageRO.tryWrap(buffer, offset, limit);
+                if (grpcMessage != null)
+                {
+                    final int messageLength = grpcMessage.length();
+                    final int payloadOffset = grpcMessage.limit();
+                    final int payloadLimit = Math.min(payloadOffset + messageLength, limit);
+
+                    if ((grpcMessage.flag() & GRPC_MESSAGE_FLAG_COMPRESSED) == 0)
+                    {
+                        final int length = Math.min(payloadLimit - payloadOffset, window);
+                        if (length > 0 || messageLength == 0 && window >= 0)
+                        {
+                            messageDeferred = messageLength - length;
+
+                            Flyweight dataEx = messageDeferred > 0 ?
+                                grpcDataExRW.wrap(extBuffer, 0, extBuffer.capacity())
+                                    .typeId(grpcTypeId)
+                                    .deferred(messageDeferred)
+                                    .build() : EMPTY_OCTETS;
+
+                            final int flags = messageDeferred > 0 ? DATA_FLAG_INIT : DATA_FLAG_INIT | DATA_FLAG_FIN;
+                            doAppDataDecoded(traceId, authorization, budgetId, length + padding, flags,
+                                buffer, payloadOffset, length, dataEx);
+                            progress = payloadOffset + length;
+                        }
+                    }
+                    else if (GRPC_MESSAGE_PADDING + messageLength >
+                        Math.min(bufferPool.slotCapacity(), delegate.grpcInitialMax))
+                    {
+                        progress = -1;
+                    }
+                    else if (payloadLimit - payloadOffset == messageLength)
+                    {
+                        final int decodedLength = requestEncoding != null
+                            ? compressor.decompress(requestEncoding, buffer, payloadOffset, messageLength)
+                            : -1;
+
+                        if (decodedLength == -1 || decodedLength + padding > delegate.grpcInitialMax)
+                        {
+                            progress = -1;
+                        }
+                        else if (decodedLength <= window)
+                        {
+                            doAppDataDecoded(traceId, authorization, budgetId, decodedLength + padding,
+                                DATA_FLAG_INIT | DATA_FLAG_FIN, compressor.buffer(), 0, decodedLength, EMPTY_OCTETS);
+                            progress = payloadLimit;
+                        }
+                    }
+                }
+            }
+
+            return progress;
+        }
+
+        private void doAppDataDecoded(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            DirectBuffer buffer,
+            int offset,
+            int length,
+            Flyweight extension)
+        {
+            delegate.doAppData(traceId, authorization, budgetId, reserved, flags, buffer, offset, length, extension);
+            initialDelta += reserved;
+        }
+
+        private void onNetDecodeError(
+            long traceId,
+            long authorization,
+            String16FW status)
+        {
+            cleanupDecodeSlot();
+            doNetReset(traceId, authorization, status);
+            delegate.cleanup(traceId, authorization);
+        }
+
+        private void cleanupDecodeSlot()
+        {
+            if (decodeSlot != NO_SLOT)
+            {
+                bufferPool.release(decodeSlot);
+                decodeSlot = NO_SLOT;
+                decodeSlotOffset = 0;
+                decodeSlotReserved = 0;
+            }
         }
 
         private void onNetEnd(
@@ -574,11 +832,18 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             assert sequence >= initialSeq;
 
             initialSeq = sequence;
-            state = GrpcState.closeInitial(state);
 
             assert initialAck <= initialSeq;
 
-            delegate.doAppEnd(traceId, authorization);
+            if (decodeSlot != NO_SLOT)
+            {
+                state = GrpcState.closingInitial(state);
+            }
+            else
+            {
+                state = GrpcState.closeInitial(state);
+                delegate.doAppEnd(traceId, authorization);
+            }
         }
 
         private void onNetAbort(
@@ -597,6 +862,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             assert initialAck <= initialSeq;
 
+            cleanupDecodeSlot();
             delegate.doAppAbort(traceId, authorization);
         }
 
@@ -682,7 +948,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             doBegin(network, originId, routedId, replyId, replySeq, replyAck, replyMax, traceId, authorization,
                 affinity, hs -> hs.item(h -> h.name(HEADER_NAME_STATUS).value(HEADER_VALUE_STATUS_200))
                     .item(h -> h.name(HEADER_NAME_CONTENT_TYPE).value(method.contentType))
-                    .item(h -> h.name(HEADER_NAME_GRPC_ENCODING).value(HEADER_VALUE_GRPC_ENCODING)));
+                    .item(h -> h.name(HEADER_NAME_GRPC_ENCODING).value(responseEncoding.value))
+                    .item(h -> h.name(HEADER_NAME_GRPC_ACCEPT_ENCODING).value(HEADER_VALUE_GRPC_ACCEPT_ENCODING)));
 
             state = GrpcState.openingReply(state);
         }
@@ -752,7 +1019,12 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             int padding,
             int capabilities)
         {
-            initialAck = delegate.grpcInitialAck;
+            if (decodeSlot != NO_SLOT)
+            {
+                decodeNet(traceId, authorization, budgetId);
+            }
+
+            initialAck = Math.max(initialAck, delegate.grpcInitialAck - initialDelta);
             initialMax = delegate.grpcInitialMax;
 
             doWindow(network, originId, routedId, initialId, initialSeq, initialAck, initialMax,
@@ -871,11 +1143,17 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         private long grpcInitialSeq;
         private long grpcInitialAck;
         private int grpcInitialMax;
+        private int grpcInitialPad;
+        private int grpcInitialCap;
 
         private long grpcReplySeq;
         private long grpcReplyAck;
         private int grpcReplyMax;
 
+        private int encodeSlot = NO_SLOT;
+        private int encodeSlotOffset;
+        private int encodeSlotReserved;
+
         private GrpcStream(
             long originId,
             long routedId,
@@ -888,6 +1166,11 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             this.replyId = supplyReplyId.applyAsLong(this.initialId);
         }
 
+        private int initialWindow()
+        {
+            return grpcInitialMax - (int)(grpcInitialSeq - grpcInitialAck);
+        }
+
         private void doAppBegin(
             long traceId,
             long authorization,
@@ -1038,6 +1321,8 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             grpcInitialAck = acknowledge;
             grpcInitialMax = maximum;
+            grpcInitialPad = padding;
+            grpcInitialCap = capabilities;
 
             delegate.doNetWindow(authorization, traceId, budgetId, padding, capabilities);
         }
@@ -1096,19 +1381,98 @@ public final class GrpcServerFactory implements GrpcStreamFactory
             {
                 final GrpcDataExFW grpcDataEx = extension.get(grpcDataExRO::tryWrap);
                 final int deferred = grpcDataEx != null ? grpcDataEx.deferred() : 0;
-                GrpcMessageFW message = grpcMessageRW
-                    .wrap(encodeBuffer, encodeOffset, encodeLimit)
-                    .flag(0)
-                    .length(payloadSize + deferred)
-                    .build();
-                encodeProgress = message.limit();
+                final int messageLength = payloadSize + deferred;
+
+                if (delegate.responseEncoding != GrpcEncoding.IDENTITY &&
+                    messageLength >= compressionThreshold &&
+                    messageLength <= compressor.capacity())
+                {
+                    encodeSlot = bufferPool.acquire(replyId);
+                }
+
+                if (encodeSlot == NO_SLOT)
+                {
+                    GrpcMessageFW message = grpcMessageRW
+                        .wrap(encodeBuffer, encodeOffset, encodeLimit)
+                        .flag(0)
+                        .length(messageLength)
+                        .build();
+                    encodeProgress = message.limit();
+                }
+            }
+
+            if (encodeSlot != NO_SLOT)
+            {
+                onAppDataEncode(traceId, authorization, budgetId, reserved, flags, payload);
+            }
+            else
+            {
+                encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
+                encodeProgress += payloadSize;
+
+                delegate.doNetData(traceId, authorization, budgetId, reserved, flags, encodeBuffer, encodeOffset,
+                    encodeProgress - encodeOffset);
             }
+        }
 
-            encodeBuffer.putBytes(encodeProgress, payload.buffer(), payload.offset(), payloadSize);
-            encodeProgress += payloadSize;
+        private void onAppDataEncode(
+            long traceId,
+            long authorization,
+            long budgetId,
+            int reserved,
+            int flags,
+            OctetsFW payload)
+        {
+            final MutableDirectBuffer slot = bufferPool.buffer(encodeSlot);
+            final int payloadSize = payload.sizeof();
 
-            delegate.doNetData(traceId, authorization, budgetId, reserved, flags, encodeBuffer, encodeOffset,
-                encodeProgress - encodeOffset);
+            if (encodeSlotOffset + payloadSize > compressor.capacity())
+            {
+                cleanupEncodeSlot();
+                delegate.doNetAbort(traceId, authorization, HEADER_VALUE_GRPC_INTERNAL_ERROR);
+                doAppReset(traceId, authorization);
+            }
+            else
+            {
+                slot.putBytes(encodeSlotOffset, payload.buffer(), payload.offset(), payloadSize);
+                encodeSlotOffset += payloadSize;
+                encodeSlotReserved += reserved;
+
+                if ((flags & DATA_FLAG_FIN) != 0x00)
+                {
+                    final MutableDirectBuffer encodeBuffer = writeBuffer;
+                    final int encodeOffset = DataFW.FIELD_OFFSET_PAYLOAD;
+                    final int encodeLimit = encodeBuffer.capacity();
+                    final int compressedLength = compressor.compress(delegate.responseEncoding, slot, 0, encodeSlotOffset);
+                    final boolean compressed = compressedLength != -1;
+                    final DirectBuffer messageBuffer = compressed ? compressor.buffer() : slot;
+                    final int messageLength = compressed ? compressedLength : encodeSlotOffset;
+
+                    GrpcMessageFW message = grpcMessageRW
+                        .wrap(encodeBuffer, encodeOffset, encodeLimit)
+                        .flag(compressed ? GRPC_MESSAGE_FLAG_COMPRESSED : 0)
+                        .length(messageLength)
+                        .build();
+                    encodeBuffer.putBytes(message.limit(), messageBuffer, 0, messageLength);
+
+                    final int encodeReserved = encodeSlotReserved;
+                    cleanupEncodeSlot();
+
+                    delegate.doNetData(traceId, authorization, budgetId, encodeReserved, DATA_FLAG_INIT | DATA_FLAG_FIN,
+                        encodeBuffer, encodeOffset, message.sizeof() + messageLength);
+                }
+            }
+        }
+
+        private void cleanupEncodeSlot()
+        {
+            if (encodeSlot != NO_SLOT)
+            {
+                bufferPool.release(encodeSlot);
+                encodeSlot = NO_SLOT;
+                encodeSlotOffset = 0;
+                encodeSlotReserved = 0;
+            }
         }
 
         private void onAppEnd(
@@ -1148,6 +1512,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
 
             assert grpcReplyAck <= grpcReplySeq;
 
+            cleanupEncodeSlot();
             delegate.doNetAbort(traceId, authorization, status);
         }
 
@@ -1158,6 +1523,7 @@ public final class GrpcServerFactory implements GrpcStreamFactory
         {
             if (!GrpcState.replyClosed(state))
             {
+                cleanupEncodeSlot();
                 doReset(application, originId, routedId, replyId, grpcReplySeq, grpcReplyAck, grpcReplyMax,
                     traceId, authorization, EMPTY_OCTETS);
             }
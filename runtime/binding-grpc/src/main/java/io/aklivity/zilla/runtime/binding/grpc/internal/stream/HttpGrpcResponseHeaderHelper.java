@@ -31,6 +31,7 @@ public final class HttpGrpcResponseHeaderHelper
     private static final String8FW HTTP_HEADER_STATUS = new String8FW(":status");
     private static final String8FW HTTP_HEADER_GRPC_STATUS = new String8FW("grpc-status");
     private static final String8FW HEADER_NAME_CONTENT_TYPE = new String8FW("content-type");
+    private static final String8FW HEADER_NAME_GRPC_ENCODING = new String8FW("grpc-encoding");
 
     private final Map<String8FW, Consumer<String16FW>> visitors;
     {
@@ -38,21 +39,25 @@ public final class HttpGrpcResponseHeaderHelper
         visitors.put(HTTP_HEADER_STATUS, this::visitStatus);
         visitors.put(HTTP_HEADER_GRPC_STATUS, this::visitGrpcStatus);
         visitors.put(HEADER_NAME_CONTENT_TYPE, this::visitContentType);
+        visitors.put(HEADER_NAME_GRPC_ENCODING, this::visitGrpcEncoding);
         this.visitors = visitors;
     }
     private final AsciiSequenceView contentTypeRO = new AsciiSequenceView();
     private final String16FW statusRO = new String16FW();
     private final String16FW grpcStatusRO = new String16FW();
+    private final String16FW grpcEncodingRO = new String16FW();
 
     public CharSequence contentType;
     public String16FW status;
     public String16FW grpcStatus;
+    public String16FW grpcEncoding;
 
     public void visit(
         HttpBeginExFW beginEx)
     {
         status = null;
         grpcStatus = null;
+        grpcEncoding = null;
         contentType = null;
 
         if (beginEx != null)
@@ -73,6 +78,7 @@ public final class HttpGrpcResponseHeaderHelper
 
         return status != null &&
             grpcStatus != null &&
+            grpcEncoding != null &&
             contentType != null;
     }
 
@@ -96,4 +102,10 @@ public final class HttpGrpcResponseHeaderHelper
     {
         grpcStatus = grpcStatusRO.wrap(value.buffer(), value.offset(), value.limit());
     }
+
+    private void visitGrpcEncoding(
+        String16FW value)
+    {
+        grpcEncoding = grpcEncodingRO.wrap(value.buffer(), value.offset(), value.limit());
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal;
+
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfiguration.GRPC_CATALOG_REFRESH_MILLIS;
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfiguration.GRPC_CLIENT_ENCODING;
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfiguration.GRPC_COMPRESSION_THRESHOLD;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class GrpcConfigurationTest
+{
+    // needed by test annotations
+    public static final String GRPC_COMPRESSION_THRESHOLD_NAME = "zilla.binding.grpc.compression.threshold";
+    public static final String GRPC_CLIENT_ENCODING_NAME = "zilla.binding.grpc.client.encoding";
+    public static final String GRPC_CATALOG_REFRESH_MILLIS_NAME = "zilla.binding.grpc.catalog.refresh.millis";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        assertEquals(GRPC_COMPRESSION_THRESHOLD.name(), GRPC_COMPRESSION_THRESHOLD_NAME);
+        assertEquals(GRPC_CLIENT_ENCODING.name(), GRPC_CLIENT_ENCODING_NAME);
+        assertEquals(GRPC_CATALOG_REFRESH_MILLIS.name(), GRPC_CATALOG_REFRESH_MILLIS_NAME);
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.config;
+
+import static io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.GrpcType.TEXT;
+import static io.aklivity.zilla.runtime.engine.config.KindConfig.SERVER;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcConditionConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcMetadataValueConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcMethodConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcOptionsConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcProtobufConfig;
+import io.aklivity.zilla.runtime.binding.grpc.config.GrpcServiceConfig;
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.String16FW;
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.String8FW;
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.GrpcMetadataFW;
+import io.aklivity.zilla.runtime.binding.grpc.internal.types.stream.HttpBeginExFW;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
+import io.aklivity.zilla.runtime.engine.config.BindingConfig;
+import io.aklivity.zilla.runtime.engine.config.BindingConfigBuilder;
+import io.aklivity.zilla.runtime.engine.config.CatalogedConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+
+public class GrpcBindingConfigTest
+{
+    private static final String ECHO_SCHEMA_V1 =
+        "syntax = \"proto3\";\n" +
+        "package example;\n" +
+        "service EchoService\n" +
+        "{\n" +
+        "  rpc EchoUnary(EchoMessage) returns (EchoMessage);\n" +
+        "  rpc EchoStream(stream EchoMessage) returns (stream EchoMessage);\n" +
+        "}\n" +
+        "message EchoMessage\n" +
+        "{\n" +
+        "  string message = 1;\n" +
+        "}\n";
+
+    private static final String ECHO_SCHEMA_V2 =
+        "syntax = \"proto3\";\n" +
+        "package example;\n" +
+        "service EchoService\n" +
+        "{\n" +
+        "  rpc EchoUnary(EchoMessage) returns (EchoMessage);\n" +
+        "  rpc EchoServerStream(EchoMessage) returns (stream EchoMessage);\n" +
+        "}\n" +
+        "message EchoMessage\n" +
+        "{\n" +
+        "  string message = 1;\n" +
+        "}\n";
+
+    private final MutableDirectBuffer metadataBuffer = new UnsafeBuffer(new byte[1024]);
+    private final MutableDirectBuffer extensionBuffer = new UnsafeBuffer(new byte[1024]);
+
+    @Test
+    public void shouldResolveMethodOnPathHit()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary"))).build(),
+            metadataBuffer, id -> null);
+
+        GrpcMethodResult method = binding.resolveMethod(beginEx("/example.EchoService/EchoUnary", null));
+
+        assertNotNull(method);
+        assertEquals("example.EchoService", method.service.toString());
+        assertEquals("EchoUnary", method.method.toString());
+    }
+
+    @Test
+    public void shouldNotResolveMethodOnPathMiss()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary"))).build(),
+            metadataBuffer, id -> null);
+
+        assertNull(binding.resolveMethod(beginEx("/example.EchoService/EchoStream", null)));
+        assertNull(binding.resolveMethod(beginEx("/example.OtherService/EchoUnary", null)));
+        assertNull(binding.resolveMethod(beginEx("/example.EchoService/EchoUnary/extra", null)));
+    }
+
+    @Test
+    public void shouldResolveMethodWithServiceNameOverride()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary"))).build(),
+            metadataBuffer, id -> null);
+
+        GrpcMethodResult method = binding.resolveMethod(beginEx("/example.Alias/EchoUnary", "example.EchoService"));
+
+        assertNotNull(method);
+        assertEquals("example.EchoService", method.service.toString());
+        assertEquals("EchoUnary", method.method.toString());
+
+        assertNull(binding.resolveMethod(beginEx("/example.EchoService/EchoUnary", "example.OtherService")));
+    }
+
+    @Test
+    public void shouldRebuildMethodsWhenCatalogSchemaIdChanges()
+    {
+        CatalogHandler handler = mock(CatalogHandler.class);
+        when(handler.resolve("echo", "latest")).thenReturn(1, 1, 2);
+        when(handler.resolve(1)).thenReturn(ECHO_SCHEMA_V1);
+        when(handler.resolve(2)).thenReturn(ECHO_SCHEMA_V2);
+
+        GrpcBindingConfig binding = new GrpcBindingConfig(catalogBinding(), metadataBuffer, id -> handler);
+
+        assertNotNull(binding.resolveMethod(beginEx("/example.EchoService/EchoStream", null)));
+
+        binding.refreshCatalogs();
+
+        assertNotNull(binding.resolveMethod(beginEx("/example.EchoService/EchoStream", null)));
+        verify(handler, times(1)).resolve(1);
+
+        binding.refreshCatalogs();
+
+        assertNull(binding.resolveMethod(beginEx("/example.EchoService/EchoStream", null)));
+        assertNotNull(binding.resolveMethod(beginEx("/example.EchoService/EchoServerStream", null)));
+        assertNotNull(binding.resolveMethod(beginEx("/example.EchoService/EchoUnary", null)));
+    }
+
+    @Test
+    public void shouldNotResolveCatalogPerLookup()
+    {
+        CatalogHandler handler = mock(CatalogHandler.class);
+        when(handler.resolve("echo", "latest")).thenReturn(1);
+        when(handler.resolve(1)).thenReturn(ECHO_SCHEMA_V1);
+
+        GrpcBindingConfig binding = new GrpcBindingConfig(catalogBinding(), metadataBuffer, id -> handler);
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertNotNull(binding.resolveMethod(beginEx("/example.EchoService/EchoUnary", null)));
+            assertNull(binding.resolve(0L, "example.EchoService", "EchoUnary", metadata(Map.of())));
+        }
+
+        verify(handler, times(1)).resolve("echo", "latest");
+        verify(handler, times(1)).resolve(1);
+    }
+
+    @Test
+    public void shouldResolveRoutesInOrder()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary", "EchoStream")))
+                .route(route(0, "example.EchoService/EchoUnary", null))
+                .route(route(1, "example.EchoService/*", null))
+                .route(route(2, "example.EchoService/EchoStream", null))
+                .build(),
+            metadataBuffer, id -> null);
+
+        assertEquals(0L, binding.resolve(0L, "example.EchoService", "EchoUnary", metadata(Map.of())).id);
+        assertEquals(1L, binding.resolve(0L, "example.EchoService", "EchoStream", metadata(Map.of())).id);
+        assertNull(binding.resolve(0L, "example.OtherService", "EchoUnary", metadata(Map.of())));
+    }
+
+    @Test
+    public void shouldResolveRoutesWithMetadata()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary")))
+                .route(route(0, "example.EchoService/EchoUnary", Map.of("custom", "test")))
+                .route(route(1, "example.EchoService/*", null))
+                .build(),
+            metadataBuffer, id -> null);
+
+        assertEquals(0L, binding.resolve(0L, "example.EchoService", "EchoUnary",
+            metadata(Map.of("custom", "test"))).id);
+        assertEquals(1L, binding.resolve(0L, "example.EchoService", "EchoUnary",
+            metadata(Map.of("custom", "other"))).id);
+    }
+
+    @Test
+    public void shouldResolveRoutesForUnknownMethod()
+    {
+        GrpcBindingConfig binding = new GrpcBindingConfig(
+            binding(List.of(protobuf("example.EchoService", "EchoUnary")))
+                .route(route(0, "example.OtherService/*", null))
+                .build(),
+            metadataBuffer, id -> null);
+
+        assertEquals(0L, binding.resolve(0L, "example.OtherService", "OtherUnary", metadata(Map.of())).id);
+        assertNull(binding.resolve(0L, "example.EchoService", "EchoUnary", metadata(Map.of())));
+    }
+
+    private static BindingConfigBuilder<BindingConfig> binding(
+        List<GrpcProtobufConfig> protobufs)
+    {
+        BindingConfigBuilder<BindingConfig> binding = BindingConfig.builder()
+            .namespace("test")
+            .name("grpc0")
+            .type("grpc")
+            .kind(SERVER);
+
+        if (protobufs != null)
+        {
+            binding.options(new GrpcOptionsConfig(protobufs));
+        }
+
+        return binding;
+    }
+
+    private static BindingConfig catalogBinding()
+    {
+        return binding(null)
+            .catalog(CatalogedConfig.builder()
+                .name("catalog0")
+                .schema()
+                    .subject("echo")
+                    .version("latest")
+                    .build()
+                .build())
+            .build();
+    }
+
+    private static GrpcProtobufConfig protobuf(
+        String service,
+        String... methods)
+    {
+        Set<GrpcMethodConfig> configs = new HashSet<>();
+        for (String method : methods)
+        {
+            configs.add(new GrpcMethodConfig(method));
+        }
+
+        return new GrpcProtobufConfig("echo.proto", Set.of(new GrpcServiceConfig(service, configs)));
+    }
+
+    private static RouteConfig route(
+        int order,
+        String method,
+        Map<String, String> metadata)
+    {
+        Map<String8FW, GrpcMetadataValueConfig> matches = null;
+
+        if (metadata != null)
+        {
+            matches = new HashMap<>();
+            for (Map.Entry<String, String> entry : metadata.entrySet())
+            {
+                matches.put(new String8FW(entry.getKey()),
+                    new GrpcMetadataValueConfig(new String16FW(entry.getValue()), new String16FW(entry.getValue())));
+            }
+        }
+
+        RouteConfig route = RouteConfig.builder()
+            .order(order)
+            .exit("exit%d".formatted(order))
+            .when(new GrpcConditionConfig(method, matches))
+            .build();
+        route.id = order;
+        route.authorized = a -> true;
+
+        return route;
+    }
+
+    private HttpBeginExFW beginEx(
+        String path,
+        String serviceName)
+    {
+        return new HttpBeginExFW.Builder()
+            .wrap(extensionBuffer, 0, extensionBuffer.capacity())
+            .typeId(0)
+            .headers(hs ->
+            {
+                hs.item(h -> h.name(":method").value("POST"));
+                hs.item(h -> h.name(":path").value(path));
+                hs.item(h -> h.name("content-type").value("application/grpc"));
+                if (serviceName != null)
+                {
+                    hs.item(h -> h.name("service-name").value(serviceName));
+                }
+            })
+            .build();
+    }
+
+    private static Array32FW<GrpcMetadataFW> metadata(
+        Map<String, String> metadata)
+    {
+        Array32FW.Builder<GrpcMetadataFW.Builder, GrpcMetadataFW> builder =
+            new Array32FW.Builder<>(new GrpcMetadataFW.Builder(), new GrpcMetadataFW())
+                .wrap(new UnsafeBuffer(new byte[256]), 0, 256);
+
+        for (Map.Entry<String, String> entry : metadata.entrySet())
+        {
+            final DirectBuffer name = new String8FW(entry.getKey()).value();
+            final DirectBuffer value = new String16FW(entry.getValue()).value();
+            builder.item(m -> m.type(t -> t.set(TEXT))
+                .nameLen(name.capacity())
+                .name(name, 0, name.capacity())
+                .valueLen(value.capacity())
+                .value(value, 0, value.capacity()));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.binding.grpc.internal.stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class GrpcCompressorTest
+{
+    private static final String MESSAGE = "Hello World Hello World Hello World Hello World Hello World Hello World";
+
+    private final GrpcCompressor compressor = new GrpcCompressor(1024);
+
+    @Test
+    public void shouldCompressAndDecompressGzip()
+    {
+        shouldCompressAndDecompress(GrpcEncoding.GZIP);
+    }
+
+    @Test
+    public void shouldCompressAndDecompressDeflate()
+    {
+        shouldCompressAndDecompress(GrpcEncoding.DEFLATE);
+    }
+
+    @Test
+    public void shouldDecompressGzipWithFileName() throws Exception
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream output = new GZIPOutputStream(bytes))
+        {
+            output.write(MESSAGE.getBytes(UTF_8));
+        }
+
+        final byte[] gzip = bytes.toByteArray();
+        gzip[3] = 0x08;
+        final byte[] named = new byte[gzip.length + 5];
+        System.arraycopy(gzip, 0, named, 0, 10);
+        System.arraycopy("name\0".getBytes(UTF_8), 0, named, 10, 5);
+        System.arraycopy(gzip, 10, named, 15, gzip.length - 10);
+
+        final int length = compressor.decompress(GrpcEncoding.GZIP, new UnsafeBuffer(named), 0, named.length);
+
+        assertEquals(MESSAGE, compressor.buffer().getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldNotCompressIncompressibleMessage()
+    {
+        final DirectBuffer message = new UnsafeBuffer("Hello".getBytes(UTF_8));
+
+        assertEquals(-1, compressor.compress(GrpcEncoding.GZIP, message, 0, message.capacity()));
+        assertEquals(-1, compressor.compress(GrpcEncoding.DEFLATE, message, 0, message.capacity()));
+        assertEquals(-1, compressor.compress(GrpcEncoding.IDENTITY, message, 0, message.capacity()));
+    }
+
+    @Test
+    public void shouldRejectCorruptMessage()
+    {
+        final DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+
+        assertEquals(-1, compressor.decompress(GrpcEncoding.GZIP, message, 0, message.capacity()));
+        assertEquals(-1, compressor.decompress(GrpcEncoding.DEFLATE, message, 0, message.capacity()));
+        assertEquals(-1, compressor.decompress(GrpcEncoding.IDENTITY, message, 0, message.capacity()));
+    }
+
+    @Test
+    public void shouldRejectDecompressedOverflow()
+    {
+        final GrpcCompressor small = new GrpcCompressor(32);
+        final DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+        final int length = compressor.compress(GrpcEncoding.DEFLATE, message, 0, message.capacity());
+
+        assertEquals(-1, small.decompress(GrpcEncoding.DEFLATE, compressor.buffer(), 0, length));
+    }
+
+    @Test
+    public void shouldNegotiateEncoding()
+    {
+        assertEquals(GrpcEncoding.IDENTITY, GrpcEncoding.negotiate(null));
+        assertEquals(GrpcEncoding.GZIP, GrpcEncoding.of("gzip"));
+        assertEquals(GrpcEncoding.IDENTITY, GrpcEncoding.of((String) null));
+        assertEquals(null, GrpcEncoding.of("snappy"));
+        assertEquals(GrpcEncoding.DEFLATE, GrpcEncoding.negotiate(GrpcEncoding.DEFLATE.value));
+    }
+
+    private void shouldCompressAndDecompress(
+        GrpcEncoding encoding)
+    {
+        final DirectBuffer message = new UnsafeBuffer(MESSAGE.getBytes(UTF_8));
+
+        final int compressed = compressor.compress(encoding, message, 0, message.capacity());
+        assertTrue(compressed > 0 && compressed < message.capacity());
+
+        final byte[] copy = new byte[compressed];
+        compressor.buffer().getBytes(0, copy);
+
+        final int decompressed = compressor.decompress(encoding, new UnsafeBuffer(copy), 0, compressed);
+        assertEquals(MESSAGE, compressor.buffer().getStringWithoutLengthUtf8(0, decompressed));
+    }
+}
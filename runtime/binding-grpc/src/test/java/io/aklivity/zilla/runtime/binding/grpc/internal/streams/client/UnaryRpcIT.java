@@ -14,6 +14,8 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.internal.streams.client;
 
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfigurationTest.GRPC_CLIENT_ENCODING_NAME;
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfigurationTest.GRPC_COMPRESSION_THRESHOLD_NAME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
@@ -27,6 +29,7 @@ import org.kaazing.k3po.junit.rules.K3poRule;
 
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class UnaryRpcIT
 {
@@ -57,6 +60,19 @@ public class UnaryRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("client.when.yaml")
+    @Configure(name = GRPC_COMPRESSION_THRESHOLD_NAME, value = "16")
+    @Configure(name = GRPC_CLIENT_ENCODING_NAME, value = "gzip")
+    @Specification({
+        "${app}/compressed.message.exchange/client",
+        "${net}/compressed.message.exchange/server"
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("client.when.yaml")
     @Specification({
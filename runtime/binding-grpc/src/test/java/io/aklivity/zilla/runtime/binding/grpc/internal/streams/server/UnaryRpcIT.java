@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.binding.grpc.internal.streams.server;
 
+import static io.aklivity.zilla.runtime.binding.grpc.internal.GrpcConfigurationTest.GRPC_COMPRESSION_THRESHOLD_NAME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
@@ -27,6 +28,7 @@ import org.kaazing.k3po.junit.rules.K3poRule;
 
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class UnaryRpcIT
 {
@@ -90,6 +92,18 @@ public class UnaryRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.when.yaml")
+    @Configure(name = GRPC_COMPRESSION_THRESHOLD_NAME, value = "16")
+    @Specification({
+        "${net}/compressed.message.exchange/client",
+        "${app}/compressed.message.exchange/server"
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.when.yaml")
     @Specification({
@@ -16,7 +16,10 @@ package io.aklivity.zilla.runtime.binding.http.filesystem.internal.config;
 
 import static io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.FileSystemCapabilities.READ_EXTENSION;
 import static io.aklivity.zilla.runtime.binding.http.filesystem.internal.types.FileSystemCapabilities.READ_PAYLOAD;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.MatchResult;
@@ -35,16 +38,22 @@ public final class HttpFileSystemWithResolver
 
     private static final Pattern PARAMS_PATTERN = Pattern.compile("\\$\\{params\\.([a-zA-Z_]+)\\}");
     private static final Pattern PREFER_WAIT_PATTERN = Pattern.compile("wait=(\\d+)");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
     private static final String8FW HEADER_METHOD_NAME = new String8FW(":method");
     private static final String8FW HEADER_IF_NONE_MATCH_NAME = new String8FW("if-none-match");
     private static final String8FW HEADER_PREFER_NAME = new String8FW("prefer");
+    private static final String8FW HEADER_RANGE_NAME = new String8FW("range");
+    private static final String8FW HEADER_IF_RANGE_NAME = new String8FW("if-range");
+    private static final String8FW HEADER_IF_MODIFIED_SINCE_NAME = new String8FW("if-modified-since");
     private static final String16FW HEADER_METHOD_VALUE_GET = new String16FW("GET");
     private static final String16FW HEADER_METHOD_VALUE_HEAD = new String16FW("HEAD");
 
     private final String16FW etagRO = new String16FW();
+    private final String16FW rangeTagRO = new String16FW();
     private final HttpFileSystemWithConfig with;
     private final Matcher paramsMatcher;
     private final Matcher preferWaitMatcher;
+    private final Matcher rangeMatcher;
 
     private Function<MatchResult, String> replacer = r -> null;
 
@@ -54,6 +63,7 @@ public final class HttpFileSystemWithResolver
         this.with = with;
         this.paramsMatcher = PARAMS_PATTERN.matcher("");
         this.preferWaitMatcher = PREFER_WAIT_PATTERN.matcher("");
+        this.rangeMatcher = RANGE_PATTERN.matcher("");
     }
 
     public void onConditionMatched(
@@ -104,6 +114,59 @@ public final class HttpFileSystemWithResolver
                 wait = Integer.parseInt(waitMatcher.group(1));
             }
         }
-        return new HttpFileSystemWithResult(path, capabilities, etag, TimeUnit.SECONDS.toMillis(wait));
+        long modifiedSince = 0L;
+        HttpHeaderFW ifModifiedSince = httpBeginEx.headers().matchFirst(h -> HEADER_IF_MODIFIED_SINCE_NAME.equals(h.name()));
+        if (ifModifiedSince != null && ifNotMatched == null && capabilities == HEADER_METHOD_MASK_GET)
+        {
+            try
+            {
+                modifiedSince = ZonedDateTime.parse(ifModifiedSince.value().asString(), RFC_1123_DATE_TIME)
+                    .toInstant()
+                    .toEpochMilli();
+            }
+            catch (DateTimeParseException ex)
+            {
+                // ignore
+            }
+        }
+        long rangeOffset = 0L;
+        long rangeLength = -1L;
+        String16FW rangeTag = new String16FW("");
+        HttpHeaderFW range = httpBeginEx.headers().matchFirst(h -> HEADER_RANGE_NAME.equals(h.name()));
+        if (range != null && capabilities == HEADER_METHOD_MASK_GET)
+        {
+            Matcher byteRangeMatcher = rangeMatcher.reset(range.value().asString());
+            if (byteRangeMatcher.matches())
+            {
+                String first = byteRangeMatcher.group(1);
+                String last = byteRangeMatcher.group(2);
+                if (!first.isEmpty())
+                {
+                    rangeOffset = Long.parseLong(first);
+                    rangeLength = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last) - rangeOffset + 1L;
+                }
+                else if (!last.isEmpty())
+                {
+                    // zero-length suffix is unsatisfiable, so start past the end of any file
+                    final long suffixLength = Long.parseLong(last);
+                    rangeOffset = suffixLength != 0L ? -suffixLength : Long.MAX_VALUE;
+                    rangeLength = Long.MAX_VALUE;
+                }
+
+                if (rangeLength <= 0L)
+                {
+                    rangeOffset = 0L;
+                    rangeLength = -1L;
+                }
+            }
+            HttpHeaderFW ifRange = httpBeginEx.headers().matchFirst(h -> HEADER_IF_RANGE_NAME.equals(h.name()));
+            if (ifRange != null)
+            {
+                String16FW value = ifRange.value();
+                rangeTag = rangeTagRO.wrap(value.buffer(), value.offset(), value.limit());
+            }
+        }
+        return new HttpFileSystemWithResult(path, capabilities, etag, TimeUnit.SECONDS.toMillis(wait),
+            modifiedSince, rangeOffset, rangeLength, rangeTag);
     }
 }
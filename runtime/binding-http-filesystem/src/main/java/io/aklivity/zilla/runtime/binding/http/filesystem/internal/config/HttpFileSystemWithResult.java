@@ -22,17 +22,29 @@ public class HttpFileSystemWithResult
     private final int capabilities;
     private final String16FW tag;
     private final long timeout;
+    private final long modifiedSince;
+    private final long rangeOffset;
+    private final long rangeLength;
+    private final String16FW rangeTag;
 
     HttpFileSystemWithResult(
         String16FW path,
         int capabilities,
         String16FW tag,
-        long timeout)
+        long timeout,
+        long modifiedSince,
+        long rangeOffset,
+        long rangeLength,
+        String16FW rangeTag)
     {
         this.path = path;
         this.capabilities = capabilities;
         this.tag = tag;
         this.timeout = timeout;
+        this.modifiedSince = modifiedSince;
+        this.rangeOffset = rangeOffset;
+        this.rangeLength = rangeLength;
+        this.rangeTag = rangeTag;
     }
 
     public String16FW path()
@@ -55,4 +67,24 @@ public class HttpFileSystemWithResult
         return timeout;
     }
 
+    public long modifiedSince()
+    {
+        return modifiedSince;
+    }
+
+    public long rangeOffset()
+    {
+        return rangeOffset;
+    }
+
+    public long rangeLength()
+    {
+        return rangeLength;
+    }
+
+    public String16FW rangeTag()
+    {
+        return rangeTag;
+    }
+
 }
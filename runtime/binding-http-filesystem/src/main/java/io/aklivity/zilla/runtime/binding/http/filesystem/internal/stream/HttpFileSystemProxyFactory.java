@@ -54,10 +54,13 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
 
     private static final String8FW HEADER_STATUS_NAME = new String8FW(":status");
     private static final String16FW HEADER_STATUS_VALUE_200 = new String16FW("200");
+    private static final String16FW HEADER_STATUS_VALUE_206 = new String16FW("206");
     private static final String16FW HEADER_STATUS_VALUE_304 = new String16FW("304");
+    private static final String16FW HEADER_STATUS_VALUE_416 = new String16FW("416");
     private static final String8FW HEADER_ETAG_NAME = new String8FW("etag");
     private static final String8FW HEADER_CONTENT_TYPE_NAME = new String8FW("content-type");
     private static final String8FW HEADER_CONTENT_LENGTH_NAME = new String8FW("content-length");
+    private static final String8FW HEADER_CONTENT_RANGE_NAME = new String8FW("content-range");
     private static final int READ_PAYLOAD_MASK = 1 << FileSystemCapabilities.READ_PAYLOAD.ordinal();
 
     private static final Predicate<HttpHeaderFW> HEADER_METHOD_GET_OR_HEAD;
@@ -637,7 +640,9 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
             final ExtensionFW dataEx = extension.get(extensionRO::tryWrap);
             final FileSystemBeginExFW fsBeginEx =
                     dataEx != null && dataEx.typeId() == fsTypeId ? extension.get(fsBeginExRO::tryWrap) : null;
-            final String length = fsBeginEx != null ? Long.toString(fsBeginEx.payloadSize()) : null;
+            final long rangeLength = fsBeginEx != null ? fsBeginEx.rangeLength() : -1L;
+            final long payloadSize = fsBeginEx != null ? fsBeginEx.payloadSize() : 0L;
+            final String length = fsBeginEx != null ? Long.toString(rangeLength != -1L ? rangeLength : payloadSize) : null;
             final String16FW type = fsBeginEx != null ? fsBeginEx.type() : null;
             final String16FW tag = fsBeginEx != null ? fsBeginEx.tag() : null;
             Flyweight httpBeginEx = emptyExRO;
@@ -649,6 +654,14 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
                         .headersItem(h -> h.name(HEADER_STATUS_NAME).value(getStatus(fsBeginEx)))
                         .headersItem(h -> h.name(HEADER_CONTENT_TYPE_NAME).value(type))
                         .headersItem(h -> h.name(HEADER_CONTENT_LENGTH_NAME).value(length));
+                if (rangeLength != -1L)
+                {
+                    final long rangeOffset = fsBeginEx.rangeOffset();
+                    final String range = rangeLength != 0L
+                        ? String.format("bytes %d-%d/%d", rangeOffset, rangeOffset + rangeLength - 1L, payloadSize)
+                        : String.format("bytes */%d", payloadSize);
+                    httpBeginExBuilder.headersItem(h -> h.name(HEADER_CONTENT_RANGE_NAME).value(range));
+                }
                 if (tag.length() != -1 && tag.asString() != null)
                 {
                     httpBeginExBuilder.headersItem(h -> h.name(HEADER_ETAG_NAME).value(tag));
@@ -662,6 +675,10 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
         private String16FW getStatus(
             FileSystemBeginExFW fsBeginEx)
         {
+            if (fsBeginEx.rangeLength() != -1L)
+            {
+                return fsBeginEx.rangeLength() != 0L ? HEADER_STATUS_VALUE_206 : HEADER_STATUS_VALUE_416;
+            }
             if (fsBeginEx.tag().length() == -1)
             {
                 return HEADER_STATUS_VALUE_200;
@@ -993,6 +1010,10 @@ public final class HttpFileSystemProxyFactory implements HttpFileSystemStreamFac
                 .path(resolved.path())
                 .tag(resolved.tag())
                 .timeout(resolved.timeout())
+                .modifiedSince(resolved.modifiedSince())
+                .rangeOffset(resolved.rangeOffset())
+                .rangeLength(resolved.rangeLength())
+                .rangeTag(resolved.rangeTag())
                 .build();
 
         final BeginFW begin = beginRW.wrap(writeBuffer, 0, writeBuffer.capacity())
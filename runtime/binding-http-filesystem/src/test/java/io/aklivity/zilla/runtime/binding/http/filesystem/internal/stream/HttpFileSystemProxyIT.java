@@ -58,6 +58,26 @@ public class HttpFileSystemProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.range/client",
+        "${filesystem}/client.read.file.range/server"})
+    public void shouldReceiveClientReadFileRange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.range.unsatisfiable/client",
+        "${filesystem}/client.read.file.range.unsatisfiable/server"})
+    public void shouldReceiveClientReadFileRangeUnsatisfiable() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.with.path.yaml")
     @Specification({
@@ -78,6 +98,16 @@ public class HttpFileSystemProxyIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("proxy.with.path.yaml")
+    @Specification({
+        "${http}/client.read.file.not.modified.since/client",
+        "${filesystem}/client.read.file.not.modified.since/server"})
+    public void shouldReceiveClientReadFileNotModifiedSince() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("proxy.with.path.yaml")
     @Specification({
@@ -70,6 +70,8 @@ public final class HttpBindingConfig
     public final Function<Function<String, String>, String> credentials;
     public final List<HttpRequestType> requests;
 
+    private final HttpRouteMatcher routeMatcher;
+
     public HttpBindingConfig(
         BindingConfig binding,
         Function<ModelConfig, ValidatorHandler> supplyValidator)
@@ -79,6 +81,7 @@ public final class HttpBindingConfig
         this.kind = binding.kind;
         this.options = HttpOptionsConfig.class.cast(binding.options);
         this.routes = binding.routes.stream().map(HttpRouteConfig::new).collect(toList());
+        this.routeMatcher = new HttpRouteMatcher(routes);
         this.resolveId = binding.resolveId;
         this.credentials = options != null && options.authorization != null ?
                 asAccessor(options.authorization.credentials) : DEFAULT_CREDENTIALS;
@@ -89,10 +92,7 @@ public final class HttpBindingConfig
         long authorization,
         Function<String, String> headerByName)
     {
-        return routes.stream()
-            .filter(r -> r.authorized(authorization) && r.matches(headerByName))
-            .findFirst()
-            .orElse(null);
+        return routeMatcher.resolve(authorization, headerByName);
     }
 
     public SortedSet<HttpVersion>  versions()
@@ -18,14 +18,12 @@ package io.aklivity.zilla.runtime.binding.http.internal.config;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
 
 public final class HttpConditionMatcher
 {
-    private final Map<String, Matcher> headersMatch;
+    private final Map<String, HttpWildcardMatcher> headersMatch;
 
     public HttpConditionMatcher(
         HttpConditionConfig condition)
@@ -40,37 +38,29 @@ public final class HttpConditionMatcher
 
         if (headersMatch != null)
         {
-            for (Map.Entry<String, Matcher> entry : headersMatch.entrySet())
+            for (Map.Entry<String, HttpWildcardMatcher> entry : headersMatch.entrySet())
             {
                 String name = entry.getKey();
-                Matcher matcher = entry.getValue();
+                HttpWildcardMatcher matcher = entry.getValue();
                 String value = headerByName.apply(name);
-                match &= value != null && matcher.reset(value).matches();
+                match &= value != null && matcher.matches(value);
             }
         }
 
         return match;
     }
 
-    private static Map<String, Matcher> asMatcherMap(
-        Map<String, String> patterns)
+    HttpWildcardMatcher header(
+        String name)
     {
-        Map<String, Matcher> matchers = new LinkedHashMap<>();
-        patterns.forEach((k, v) -> matchers.put(k, asMatcher(k, v)));
-        return matchers;
+        return headersMatch != null ? headersMatch.get(name) : null;
     }
 
-    private static Matcher asMatcher(
-        String header,
-        String wildcard)
+    private static Map<String, HttpWildcardMatcher> asMatcherMap(
+        Map<String, String> patterns)
     {
-        String pattern = wildcard.replace(".", "\\.").replace("*", ".*");
-
-        if (":path".equals(header) && !pattern.endsWith(".*"))
-        {
-            pattern = pattern + "(\\?.*)?";
-        }
-
-        return Pattern.compile(pattern).matcher("");
+        Map<String, HttpWildcardMatcher> matchers = new LinkedHashMap<>();
+        patterns.forEach((k, v) -> matchers.put(k, new HttpWildcardMatcher(k, v)));
+        return matchers;
     }
 }
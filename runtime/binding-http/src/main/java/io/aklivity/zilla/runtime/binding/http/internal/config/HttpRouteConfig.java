@@ -18,7 +18,6 @@ package io.aklivity.zilla.runtime.binding.http.internal.config;
 import static java.util.stream.Collectors.toList;
 
 import java.util.List;
-import java.util.function.Function;
 import java.util.function.LongPredicate;
 
 import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
@@ -48,9 +47,8 @@ public final class HttpRouteConfig
         return authorized.test(authorization);
     }
 
-    boolean matches(
-        Function<String, String> headerByName)
+    List<HttpConditionMatcher> when()
     {
-        return when.isEmpty() || when.stream().anyMatch(m -> m.matches(headerByName));
+        return when;
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+
+public final class HttpRouteMatcher
+{
+    private static final String HEADER_METHOD = ":method";
+    private static final String HEADER_PATH = ":path";
+
+    private final PathNode paths;
+    private final MethodDispatch unpathed;
+
+    public HttpRouteMatcher(
+        List<HttpRouteConfig> routes)
+    {
+        this.paths = new PathNode();
+        this.unpathed = new MethodDispatch();
+
+        for (int order = 0; order < routes.size(); order++)
+        {
+            final HttpRouteConfig route = routes.get(order);
+            final List<HttpConditionMatcher> when = route.when();
+
+            if (when.isEmpty())
+            {
+                unpathed.add(null, new Candidate(order, route, null));
+            }
+            else
+            {
+                for (HttpConditionMatcher condition : when)
+                {
+                    final HttpWildcardMatcher path = condition.header(HEADER_PATH);
+                    final HttpWildcardMatcher method = condition.header(HEADER_METHOD);
+                    final MethodDispatch dispatch = path != null ? paths.supply(path.prefix()).dispatch() : unpathed;
+                    final String methodName = method != null && method.literal() ? method.prefix() : null;
+
+                    dispatch.add(methodName, new Candidate(order, route, condition));
+                }
+            }
+        }
+    }
+
+    public HttpRouteConfig resolve(
+        long authorization,
+        Function<String, String> headerByName)
+    {
+        final String method = headerByName.apply(HEADER_METHOD);
+        final String path = headerByName.apply(HEADER_PATH);
+
+        Candidate match = unpathed.resolve(null, authorization, method, headerByName);
+
+        if (path != null)
+        {
+            PathNode node = paths;
+            for (int index = 0; node != null; index++)
+            {
+                if (node.dispatch != null)
+                {
+                    match = node.dispatch.resolve(match, authorization, method, headerByName);
+                }
+
+                node = index < path.length() ? node.children.get(path.charAt(index)) : null;
+            }
+        }
+
+        return match != null ? match.route : null;
+    }
+
+    private static final class PathNode
+    {
+        private final Int2ObjectHashMap<PathNode> children = new Int2ObjectHashMap<>();
+
+        private MethodDispatch dispatch;
+
+        PathNode supply(
+            String prefix)
+        {
+            PathNode node = this;
+            for (int index = 0; index < prefix.length(); index++)
+            {
+                node = node.children.computeIfAbsent(prefix.charAt(index), c -> new PathNode());
+            }
+            return node;
+        }
+
+        MethodDispatch dispatch()
+        {
+            if (dispatch == null)
+            {
+                dispatch = new MethodDispatch();
+            }
+            return dispatch;
+        }
+    }
+
+    private static final class MethodDispatch
+    {
+        private final Map<String, List<Candidate>> byMethod = new Object2ObjectHashMap<>();
+        private final List<Candidate> anyMethod = new ArrayList<>();
+
+        void add(
+            String method,
+            Candidate candidate)
+        {
+            final List<Candidate> candidates = method != null
+                ? byMethod.computeIfAbsent(method, m -> new ArrayList<>())
+                : anyMethod;
+            candidates.add(candidate);
+        }
+
+        Candidate resolve(
+            Candidate match,
+            long authorization,
+            String method,
+            Function<String, String> headerByName)
+        {
+            if (method != null)
+            {
+                final List<Candidate> candidates = byMethod.get(method);
+                if (candidates != null)
+                {
+                    match = resolve(candidates, match, authorization, headerByName);
+                }
+            }
+
+            return resolve(anyMethod, match, authorization, headerByName);
+        }
+
+        private static Candidate resolve(
+            List<Candidate> candidates,
+            Candidate match,
+            long authorization,
+            Function<String, String> headerByName)
+        {
+            for (int i = 0; i < candidates.size(); i++)
+            {
+                final Candidate candidate = candidates.get(i);
+
+                if (match != null && candidate.order >= match.order)
+                {
+                    break;
+                }
+
+                if (candidate.matches(authorization, headerByName))
+                {
+                    match = candidate;
+                    break;
+                }
+            }
+
+            return match;
+        }
+    }
+
+    private static final class Candidate
+    {
+        private final int order;
+        private final HttpRouteConfig route;
+        private final HttpConditionMatcher condition;
+
+        Candidate(
+            int order,
+            HttpRouteConfig route,
+            HttpConditionMatcher condition)
+        {
+            this.order = order;
+            this.route = route;
+            this.condition = condition;
+        }
+
+        boolean matches(
+            long authorization,
+            Function<String, String> headerByName)
+        {
+            return route.authorized(authorization) &&
+                (condition == null || condition.matches(headerByName));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+public final class HttpWildcardMatcher
+{
+    private static final String HEADER_PATH = ":path";
+    private static final String WILDCARD = "*";
+    private static final char QUERY = '?';
+
+    private final String[] parts;
+    private final boolean query;
+
+    public HttpWildcardMatcher(
+        String header,
+        String wildcard)
+    {
+        this.parts = wildcard.split("\\*", -1);
+        this.query = HEADER_PATH.equals(header) && !wildcard.endsWith(WILDCARD);
+    }
+
+    public String prefix()
+    {
+        return parts[0];
+    }
+
+    public boolean literal()
+    {
+        return parts.length == 1;
+    }
+
+    public boolean matches(
+        String value)
+    {
+        boolean match = matches(value, value.length());
+
+        if (!match && query)
+        {
+            for (int index = value.indexOf(QUERY); !match && index != -1; index = value.indexOf(QUERY, index + 1))
+            {
+                match = matches(value, index);
+            }
+        }
+
+        return match;
+    }
+
+    private boolean matches(
+        String value,
+        int limit)
+    {
+        final String first = parts[0];
+        final String last = parts[parts.length - 1];
+
+        boolean match;
+
+        if (parts.length == 1)
+        {
+            match = limit == first.length() && value.startsWith(first);
+        }
+        else
+        {
+            int from = first.length();
+            int to = limit - last.length();
+
+            match = from <= to &&
+                value.startsWith(first) &&
+                value.startsWith(last, to);
+
+            for (int i = 1; match && i < parts.length - 1; i++)
+            {
+                final String part = parts[i];
+                final int index = value.indexOf(part, from);
+                match = index != -1 && index + part.length() <= to;
+                from = index + part.length();
+            }
+        }
+
+        return match;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.http.internal.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfig;
+import io.aklivity.zilla.runtime.binding.http.config.HttpConditionConfigBuilder;
+import io.aklivity.zilla.runtime.engine.config.RouteConfig;
+import io.aklivity.zilla.runtime.engine.config.RouteConfigBuilder;
+
+public class HttpRouteMatcherTest
+{
+    @Test
+    public void shouldResolveFirstMatchingRouteInOrder()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/api/*")),
+            route(1, Map.of(":path", "/api/items"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/api/items").id);
+    }
+
+    @Test
+    public void shouldResolveLongerPrefixDeclaredFirst()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/api/items/*")),
+            route(1, Map.of(":path", "/api/*"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/api/items/1").id);
+        assertEquals(1L, resolve(matcher, "GET", "/api/orders/1").id);
+    }
+
+    @Test
+    public void shouldResolvePathIgnoringQueryString()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/items"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/items").id);
+        assertEquals(0L, resolve(matcher, "GET", "/items?id=1").id);
+        assertNull(resolve(matcher, "GET", "/items/1"));
+        assertNull(resolve(matcher, "GET", "/item"));
+    }
+
+    @Test
+    public void shouldResolvePathWithInnerWildcard()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/items/*/detail"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/items/1/detail").id);
+        assertEquals(0L, resolve(matcher, "GET", "/items/1/2/detail?full").id);
+        assertNull(resolve(matcher, "GET", "/items/detail"));
+        assertNull(resolve(matcher, "GET", "/items/1/details"));
+    }
+
+    @Test
+    public void shouldResolvePathWithLiteralDot()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/index.html"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/index.html").id);
+        assertNull(resolve(matcher, "GET", "/indexahtml"));
+    }
+
+    @Test
+    public void shouldResolvePathWithLiteralRegexMetacharacters()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/items/[0-9]+")),
+            route(1, Map.of(":path", "/a|b/(c)?/$*"))));
+
+        assertEquals(0L, resolve(matcher, "GET", "/items/[0-9]+").id);
+        assertNull(resolve(matcher, "GET", "/items/42"));
+        assertEquals(1L, resolve(matcher, "GET", "/a|b/(c)?/$/x").id);
+        assertNull(resolve(matcher, "GET", "/a/c/x"));
+        assertNull(resolve(matcher, "GET", "/b//x"));
+    }
+
+    @Test
+    public void shouldResolveByMethod()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":method", "POST", ":path", "/items")),
+            route(1, Map.of(":method", "G*", ":path", "/items")),
+            route(2, Map.of(":path", "/items"))));
+
+        assertEquals(0L, resolve(matcher, "POST", "/items").id);
+        assertEquals(1L, resolve(matcher, "GET", "/items").id);
+        assertEquals(2L, resolve(matcher, "DELETE", "/items").id);
+    }
+
+    @Test
+    public void shouldResolveByOtherHeaders()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":authority", "*.example.com:443")),
+            route(1, Map.of())));
+
+        assertEquals(0L, matcher.resolve(0L, Map.of(":authority", "api.example.com:443")::get).id);
+        assertEquals(1L, matcher.resolve(0L, Map.of(":authority", "example.net:443")::get).id);
+    }
+
+    @Test
+    public void shouldResolveAnyOfConditions()
+    {
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            route(0, Map.of(":path", "/a")),
+            route(1, Map.of(":path", "/b"), Map.of(":path", "/c")),
+            route(2, Map.of(":path", "/c"))));
+
+        assertEquals(1L, resolve(matcher, "GET", "/b").id);
+        assertEquals(1L, resolve(matcher, "GET", "/c").id);
+    }
+
+    @Test
+    public void shouldResolveAuthorizedRouteOnly()
+    {
+        HttpRouteConfig unauthorized = route(0, Map.of(":path", "/items"));
+        RouteConfig config = RouteConfig.builder().exit("exit1").build();
+        config.id = 1L;
+        config.authorized = a -> a == 1L;
+
+        HttpRouteMatcher matcher = new HttpRouteMatcher(List.of(
+            new HttpRouteConfig(config),
+            unauthorized));
+
+        assertEquals(1L, matcher.resolve(1L, Map.of(":method", "GET", ":path", "/items")::get).id);
+        assertEquals(0L, matcher.resolve(2L, Map.of(":method", "GET", ":path", "/items")::get).id);
+    }
+
+    private static HttpRouteConfig resolve(
+        HttpRouteMatcher matcher,
+        String method,
+        String path)
+    {
+        return matcher.resolve(0L, Map.of(":method", method, ":path", path)::get);
+    }
+
+    @SafeVarargs
+    private static HttpRouteConfig route(
+        long id,
+        Map<String, String>... conditions)
+    {
+        RouteConfigBuilder<RouteConfig> builder = RouteConfig.builder().exit("exit" + id);
+        for (Map<String, String> headers : conditions)
+        {
+            HttpConditionConfigBuilder<HttpConditionConfig> condition = HttpConditionConfig.builder();
+            headers.forEach(condition::header);
+            builder.when(condition.build());
+        }
+        RouteConfig config = builder.build();
+        config.id = id;
+        config.authorized = a -> true;
+        return new HttpRouteConfig(config);
+    }
+}
@@ -31,6 +31,7 @@ public final class KafkaOptionsConfig extends OptionsConfig
     public final List<KafkaTopicConfig> topics;
     public final List<KafkaServerConfig> servers;
     public final KafkaSaslConfig sasl;
+    public final KafkaCompressionConfig compression;
 
     public static KafkaOptionsConfigBuilder<KafkaOptionsConfig> builder()
     {
@@ -47,7 +48,8 @@ public final class KafkaOptionsConfig extends OptionsConfig
         List<String> bootstrap,
         List<KafkaTopicConfig> topics,
         List<KafkaServerConfig> servers,
-        KafkaSaslConfig sasl)
+        KafkaSaslConfig sasl,
+        KafkaCompressionConfig compression)
     {
         super(topics != null && !topics.isEmpty()
             ? topics.stream()
@@ -59,5 +61,6 @@ public final class KafkaOptionsConfig extends OptionsConfig
         this.topics = topics;
         this.servers = servers;
         this.sasl = sasl;
+        this.compression = compression;
     }
 }
@@ -29,6 +29,7 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
     private List<KafkaTopicConfig> topics;
     private List<KafkaServerConfig> servers;
     private KafkaSaslConfig sasl;
+    private KafkaCompressionConfig compression;
 
     KafkaOptionsConfigBuilder(
         Function<OptionsConfig, T> mapper)
@@ -93,9 +94,16 @@ public final class KafkaOptionsConfigBuilder<T> extends ConfigBuilder<T, KafkaOp
         return sasl.apply(this::sasl);
     }
 
+    public KafkaOptionsConfigBuilder<T> compression(
+        KafkaCompressionConfig compression)
+    {
+        this.compression = compression;
+        return this;
+    }
+
     @Override
     public T build()
     {
-        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, sasl));
+        return mapper.apply(new KafkaOptionsConfig(bootstrap, topics, servers, sasl, compression));
     }
 }
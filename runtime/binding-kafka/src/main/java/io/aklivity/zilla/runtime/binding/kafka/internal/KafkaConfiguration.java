@@ -65,6 +65,7 @@ public class KafkaConfiguration extends Configuration
     public static final LongPropertyDef KAFKA_CACHE_SEGMENT_MILLIS;
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_BYTES;
     public static final IntPropertyDef KAFKA_CACHE_SEGMENT_INDEX_BYTES;
+    public static final IntPropertyDef KAFKA_CACHE_SEGMENT_BLOOM_BITS;
     public static final BooleanPropertyDef KAFKA_CACHE_SERVER_BOOTSTRAP;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_RECONNECT_DELAY;
     public static final IntPropertyDef KAFKA_CACHE_CLIENT_CLEANUP_DELAY;
@@ -128,6 +129,7 @@ public class KafkaConfiguration extends Configuration
         KAFKA_CACHE_SEGMENT_MILLIS = config.property("cache.segment.ms", 604800000L);
         KAFKA_CACHE_SEGMENT_BYTES = config.property("cache.segment.bytes", 0x40000000);
         KAFKA_CACHE_SEGMENT_INDEX_BYTES = config.property("cache.segment.index.bytes", 0xA00000);
+        KAFKA_CACHE_SEGMENT_BLOOM_BITS = config.property("cache.segment.bloom.bits", 10);
         KAFKA_CACHE_CLIENT_TRAILERS_SIZE_MAX = config.property("cache.client.trailers.size.max", 256);
         KAFKA_CLIENT_CONNECTION_POOL = config.property("client.connection.pool", true);
         KAFKA_VERBOSE = config.property("verbose", KafkaConfiguration::supplyVerbose);
@@ -270,6 +272,11 @@ public class KafkaConfiguration extends Configuration
         return KAFKA_CACHE_SEGMENT_INDEX_BYTES.getAsInt(this);
     }
 
+    public int cacheSegmentBloomBits()
+    {
+        return KAFKA_CACHE_SEGMENT_BLOOM_BITS.getAsInt(this);
+    }
+
     public boolean cacheServerBootstrap()
     {
         return KAFKA_CACHE_SERVER_BOOTSTRAP.getAsBoolean(this);
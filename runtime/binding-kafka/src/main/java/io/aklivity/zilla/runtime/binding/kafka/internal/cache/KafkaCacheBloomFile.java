@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexKey;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.LangUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public abstract class KafkaCacheBloomFile extends KafkaCacheFile
+{
+    private static final int FIELD_OFFSET_HASHES = 0;
+    private static final int FIELD_OFFSET_BITS = Long.BYTES;
+
+    private static final int HASHES_MIN = 1;
+    private static final int HASHES_MAX = 16;
+
+    private final int hashes;
+    private final long bits;
+
+    protected KafkaCacheBloomFile(
+        Path location)
+    {
+        super(location);
+        this.hashes = readInt(FIELD_OFFSET_HASHES);
+        this.bits = (long) (capacity() - FIELD_OFFSET_BITS) << 3;
+    }
+
+    public boolean mightContain(
+        int key)
+    {
+        final int hash1 = key;
+        final int hash2 = mix(key) | 1;
+
+        boolean contains = true;
+        for (int i = 0; contains && i < hashes; i++)
+        {
+            final long bit = Integer.toUnsignedLong(hash1 + i * hash2) % bits;
+            final long word = readLong(FIELD_OFFSET_BITS + (int) (bit >>> 6) * Long.BYTES);
+            contains = (word & (1L << bit)) != 0L;
+        }
+
+        return contains;
+    }
+
+    protected static void writeBloom(
+        Path workingFile,
+        Path bloomFile,
+        DirectBuffer index,
+        int indexLimit,
+        int bitsPerEntry)
+    {
+        assert bitsPerEntry > 0;
+
+        final int entries = indexLimit >> 3;
+        final long bits = Math.max(Long.SIZE, (long) entries * bitsPerEntry + Long.SIZE - 1) & ~(Long.SIZE - 1);
+        final int hashes = Math.max(HASHES_MIN, Math.min(HASHES_MAX, (int) Math.round(bitsPerEntry * Math.log(2))));
+        final int capacity = FIELD_OFFSET_BITS + (int) (bits >>> 3);
+
+        try
+        {
+            try (FileChannel channel = FileChannel.open(workingFile, CREATE, TRUNCATE_EXISTING, READ, WRITE))
+            {
+                final MappedByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, capacity);
+                final MutableDirectBuffer buffer = new UnsafeBuffer(mapped);
+
+                buffer.setMemory(0, capacity, (byte) 0);
+                buffer.putInt(FIELD_OFFSET_HASHES, hashes);
+
+                for (int entry = 0; entry < entries; entry++)
+                {
+                    final int key = indexKey(index.getLong(entry << 3));
+                    final int hash1 = key;
+                    final int hash2 = mix(key) | 1;
+
+                    for (int i = 0; i < hashes; i++)
+                    {
+                        final long bit = Integer.toUnsignedLong(hash1 + i * hash2) % bits;
+                        final int wordAt = FIELD_OFFSET_BITS + (int) (bit >>> 6) * Long.BYTES;
+                        buffer.putLong(wordAt, buffer.getLong(wordAt) | (1L << bit));
+                    }
+                }
+
+                IoUtil.unmap(mapped);
+            }
+
+            Files.move(workingFile, bloomFile, REPLACE_EXISTING);
+        }
+        catch (IOException ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    private static int mix(
+        int key)
+    {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -67,6 +67,7 @@ public final class KafkaCacheCursorFactory
 
     private final MutableDirectBuffer writeBuffer;
     private final CRC32C checksum;
+    private final KafkaCacheHeaderSequenceIndex headerSequences;
 
     public static final int POSITION_UNSET = -1;
     public static final int INDEX_UNSET = -1;
@@ -76,6 +77,7 @@ public final class KafkaCacheCursorFactory
     {
         this.writeBuffer = new UnsafeBuffer(ByteBuffer.allocate(writeCapacity));
         this.checksum = new CRC32C();
+        this.headerSequences = new KafkaCacheHeaderSequenceIndex();
     }
 
     public KafkaCacheCursor newCursor(
@@ -393,6 +395,8 @@ public final class KafkaCacheCursorFactory
                 segmentNode = null;
                 segment = null;
             }
+
+            condition.close();
         }
 
         @Override
@@ -417,6 +421,10 @@ public final class KafkaCacheCursorFactory
         public abstract long test(
             KafkaCacheEntryFW cacheEntry);
 
+        public void close()
+        {
+        }
+
         private static final class None extends KafkaFilterCondition
         {
             private KafkaCacheIndexFile indexFile;
@@ -503,7 +511,13 @@ public final class KafkaCacheCursorFactory
             {
                 int positionNext = NEXT_SEGMENT_VALUE;
 
-                if (segment != null)
+                final KafkaCacheBloomFile hashBloomFile = segment != null ? segment.hashBloomFile() : null;
+
+                if (hashBloomFile != null && !hashBloomFile.mightContain(hash))
+                {
+                    this.hashFile = null;
+                }
+                else if (segment != null)
                 {
                     final KafkaCacheIndexFile hashFile = segment.hashFile();
                     assert hashFile != null;
@@ -655,6 +669,12 @@ public final class KafkaCacheCursorFactory
                     (cacheEntry.offset() < positionSkip || nested.test(cacheEntry) == 0L)) ? mask : 0L;
             }
 
+            @Override
+            public void close()
+            {
+                nested.close();
+            }
+
             @Override
             public String toString()
             {
@@ -670,12 +690,15 @@ public final class KafkaCacheCursorFactory
             private final KafkaValueMatchFW valueMatchRO;
             private final KafkaHeaderFW headersItemRO;
 
+            private KafkaCacheHeaderSequenceIndex.Sequence sequence;
+
             private HeaderSequence(
                 long mask,
                 CRC32C checksum,
                 KafkaValueMatchFW valueMatch,
                 KafkaHeaderFW headersItem,
-                KafkaHeadersFW headers)
+                KafkaHeadersFW headers,
+                KafkaCacheHeaderSequenceIndex index)
             {
                 final DirectBuffer headersCopyBuf = copyBuffer(headers.buffer(), headers.offset(), headers.sizeof());
                 final KafkaHeadersFW headersCopy = new KafkaHeadersFW().wrap(headersCopyBuf, 0, headersCopyBuf.capacity());
@@ -719,6 +742,7 @@ public final class KafkaCacheCursorFactory
                 this.and = new And(mask, conditions);
                 this.valueMatchRO = valueMatch;
                 this.headersItemRO = headersItem;
+                this.sequence = index.supply(name, matches);
             }
 
             @Override
@@ -741,6 +765,24 @@ public final class KafkaCacheCursorFactory
             @Override
             public long test(
                 KafkaCacheEntryFW cacheEntry)
+            {
+                return sequence != null
+                    ? sequence.matches(cacheEntry.headers()) ? and.mask : 0L
+                    : testHeaders(cacheEntry);
+            }
+
+            @Override
+            public void close()
+            {
+                if (sequence != null)
+                {
+                    sequence.close();
+                    sequence = null;
+                }
+            }
+
+            private long testHeaders(
+                KafkaCacheEntryFW cacheEntry)
             {
                 final Array32FW<KafkaHeaderFW> headers = cacheEntry.headers();
                 final DirectBuffer headersItems = headers.items();
@@ -963,6 +1005,12 @@ public final class KafkaCacheCursorFactory
                 return accept;
             }
 
+            @Override
+            public void close()
+            {
+                conditions.forEach(KafkaFilterCondition::close);
+            }
+
             @Override
             public String toString()
             {
@@ -1036,6 +1084,12 @@ public final class KafkaCacheCursorFactory
                 return nextPositionMin;
             }
 
+            @Override
+            public void close()
+            {
+                conditions.forEach(KafkaFilterCondition::close);
+            }
+
             @Override
             public String toString()
             {
@@ -1243,7 +1297,7 @@ public final class KafkaCacheCursorFactory
         long mask,
         KafkaHeadersFW headers)
     {
-        return new KafkaFilterCondition.HeaderSequence(mask, checksum, valueMatchRO, headerRO, headers);
+        return new KafkaFilterCondition.HeaderSequence(mask, checksum, valueMatchRO, headerRO, headers, headerSequences);
     }
 
     private static KafkaKeyFW initNullKeyRO()
@@ -47,6 +47,8 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String EXT_HSCAN = ".hscan";
     private static final String EXT_HSCAN_WORK = ".hscan.work";
     private static final String EXT_HINDEX = ".hindex";
+    private static final String EXT_HBLOOM = ".hbloom";
+    private static final String EXT_HBLOOM_WORK = ".hbloom.work";
     private static final String EXT_NSCAN = ".nscan";
     private static final String EXT_NSCAN_WORK = ".nscan.work";
     private static final String EXT_NINDEX = ".nindex";
@@ -61,6 +63,7 @@ public class KafkaCacheFile implements AutoCloseable
     private static final String FORMAT_INDEX_FILE = String.format(FORMAT_FILE, EXT_INDEX);
     private static final String FORMAT_HSCAN_FILE = String.format(FORMAT_FILE, EXT_HSCAN);
     private static final String FORMAT_HINDEX_FILE = String.format(FORMAT_FILE, EXT_HINDEX);
+    private static final String FORMAT_HBLOOM_FILE = String.format(FORMAT_FILE, EXT_HBLOOM);
     private static final String FORMAT_NSCAN_FILE = String.format(FORMAT_FILE, EXT_NSCAN);
     private static final String FORMAT_NINDEX_FILE = String.format(FORMAT_FILE, EXT_NINDEX);
     private static final String FORMAT_KSCAN_FILE = String.format(FORMAT_FILE, EXT_KSCAN);
@@ -463,14 +466,18 @@ public class KafkaCacheFile implements AutoCloseable
 
     public static final class HashScan extends KafkaCacheIndexFile.SortedByValue
     {
+        private final int bloomBits;
+
         public HashScan(
             Path location,
             long baseOffset,
             int capacity,
+            int bloomBits,
             MutableDirectBuffer appendBuf,
             IntFunction<long[]> sortSpaceRef)
         {
             super(location.resolve(String.format(FORMAT_HSCAN_FILE, baseOffset)), capacity, appendBuf, sortSpaceRef);
+            this.bloomBits = bloomBits;
         }
 
         @Override
@@ -482,6 +489,17 @@ public class KafkaCacheFile implements AutoCloseable
             final String filename = hscan.getFileName().toString();
             final Path hscanWork = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HSCAN_WORK));
             final Path hindex = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HINDEX));
+            final Path hbloomWork = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HBLOOM_WORK));
+            final Path hbloom = hscan.resolveSibling(filename.replace(EXT_HSCAN, EXT_HBLOOM));
+
+            if (bloomBits > 0)
+            {
+                KafkaCacheBloomFile.writeBloom(hbloomWork, hbloom, buffer(), capacity(), bloomBits);
+            }
+            else
+            {
+                IoUtil.delete(hbloom.toFile(), true);
+            }
 
             sortByKey(hscanWork, hindex);
         }
@@ -497,6 +515,23 @@ public class KafkaCacheFile implements AutoCloseable
         }
     }
 
+    public static final class HashBloom extends KafkaCacheBloomFile
+    {
+        public HashBloom(
+            Path location,
+            long baseOffset)
+        {
+            super(location.resolve(String.format(FORMAT_HBLOOM_FILE, baseOffset)));
+        }
+
+        public static boolean exists(
+            Path location,
+            long baseOffset)
+        {
+            return Files.exists(location.resolve(String.format(FORMAT_HBLOOM_FILE, baseOffset)));
+        }
+    }
+
     public static final class KeysScan extends KafkaCacheIndexFile.SortedByValue
     {
         public KeysScan(
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaSkip.SKIP_MANY;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaValueMatchFW.KIND_SKIP;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaValueMatchFW.KIND_VALUE;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.ArrayFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaValueMatchFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+
+public final class KafkaCacheHeaderSequenceIndex
+{
+    private final Map<DirectBuffer, Sequences> sequencesByName;
+    private final KafkaValueMatchFW valueMatchRO;
+    private final KafkaHeaderFW headerRO;
+    private final UnsafeBuffer nameRO;
+    private final UnsafeBuffer valueRO;
+
+    public KafkaCacheHeaderSequenceIndex()
+    {
+        this.sequencesByName = new Object2ObjectHashMap<>();
+        this.valueMatchRO = new KafkaValueMatchFW();
+        this.headerRO = new KafkaHeaderFW();
+        this.nameRO = new UnsafeBuffer(0, 0);
+        this.valueRO = new UnsafeBuffer(0, 0);
+    }
+
+    public Sequence supply(
+        OctetsFW name,
+        Array32FW<KafkaValueMatchFW> matches)
+    {
+        Sequence sequence = null;
+
+        if (indexable(matches))
+        {
+            nameRO.wrap(name.buffer(), name.offset(), name.sizeof());
+            Sequences sequences = sequencesByName.get(nameRO);
+            if (sequences == null)
+            {
+                final DirectBuffer nameCopy = copyOf(name.buffer(), name.offset(), name.sizeof());
+                sequences = new Sequences(nameCopy);
+                sequencesByName.put(nameCopy, sequences);
+            }
+            sequence = sequences.register(matches);
+        }
+
+        return sequence;
+    }
+
+    int size()
+    {
+        return sequencesByName.size();
+    }
+
+    private boolean indexable(
+        Array32FW<KafkaValueMatchFW> matches)
+    {
+        final DirectBuffer items = matches.items();
+        final int limit = items.capacity();
+
+        boolean indexable = true;
+        for (int offset = 0; indexable && offset < limit; )
+        {
+            final KafkaValueMatchFW match = valueMatchRO.wrap(items, offset, limit);
+            offset = match.limit();
+
+            switch (match.kind())
+            {
+            case KIND_VALUE:
+                indexable = match.value().value() != null;
+                break;
+            case KIND_SKIP:
+                indexable = match.skip().get() != SKIP_MANY || offset == limit;
+                break;
+            default:
+                indexable = false;
+                break;
+            }
+        }
+
+        return indexable;
+    }
+
+    private static DirectBuffer copyOf(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        final UnsafeBuffer copy = new UnsafeBuffer(ByteBuffer.allocate(length));
+        copy.putBytes(0, buffer, index, length);
+        return copy;
+    }
+
+    public final class Sequence
+    {
+        private final Sequences sequences;
+        private final Node node;
+        private final int id;
+        private final boolean skipMany;
+
+        private Sequence(
+            Sequences sequences,
+            Node node,
+            int id,
+            boolean skipMany)
+        {
+            this.sequences = sequences;
+            this.node = node;
+            this.id = id;
+            this.skipMany = skipMany;
+        }
+
+        public boolean matches(
+            ArrayFW<KafkaHeaderFW> headers)
+        {
+            return sequences.matches(headers, id);
+        }
+
+        public void close()
+        {
+            sequences.unregister(this);
+        }
+    }
+
+    private final class Sequences
+    {
+        private final DirectBuffer name;
+        private final Node root;
+        private final IntArrayList freeIds;
+        private final BitSet matched;
+
+        private List<Node> active;
+        private List<Node> pending;
+
+        private int nextId;
+        private boolean modified;
+        private DirectBuffer evaluatedBuffer;
+        private int evaluatedOffset;
+        private int evaluatedLimit;
+
+        private Sequences(
+            DirectBuffer name)
+        {
+            this.name = name;
+            this.root = new Node(null, null);
+            this.freeIds = new IntArrayList();
+            this.matched = new BitSet();
+            this.active = new ArrayList<>();
+            this.pending = new ArrayList<>();
+        }
+
+        private Sequence register(
+            Array32FW<KafkaValueMatchFW> matches)
+        {
+            final DirectBuffer items = matches.items();
+            final int limit = items.capacity();
+
+            Node node = root;
+            node.references++;
+
+            boolean skipMany = false;
+            for (int offset = 0; offset < limit; )
+            {
+                final KafkaValueMatchFW match = valueMatchRO.wrap(items, offset, limit);
+                offset = match.limit();
+
+                if (match.kind() == KIND_VALUE)
+                {
+                    final OctetsFW value = match.value().value();
+                    valueRO.wrap(value.buffer(), value.offset(), value.sizeof());
+                    Node child = node.values.get(valueRO);
+                    if (child == null)
+                    {
+                        final DirectBuffer key = copyOf(value.buffer(), value.offset(), value.sizeof());
+                        child = new Node(node, key);
+                        node.values.put(key, child);
+                    }
+                    node = child;
+                    node.references++;
+                }
+                else if (match.skip().get() == SKIP_MANY)
+                {
+                    skipMany = true;
+                }
+                else
+                {
+                    if (node.skip == null)
+                    {
+                        node.skip = new Node(node, null);
+                    }
+                    node = node.skip;
+                    node.references++;
+                }
+            }
+
+            final int id = freeIds.isEmpty() ? nextId++ : freeIds.removeAt(freeIds.size() - 1);
+            (skipMany ? node.skipMany : node.terminal).addInt(id);
+            modified = true;
+
+            return new Sequence(this, node, id, skipMany);
+        }
+
+        private void unregister(
+            Sequence sequence)
+        {
+            final Node node = sequence.node;
+            final int id = sequence.id;
+
+            (sequence.skipMany ? node.skipMany : node.terminal).removeInt(id);
+            freeIds.addInt(id);
+            modified = true;
+
+            for (Node current = node; current != null; current = current.parent)
+            {
+                current.references--;
+
+                if (current.references == 0 && current.parent != null)
+                {
+                    if (current.key != null)
+                    {
+                        current.parent.values.remove(current.key);
+                    }
+                    else
+                    {
+                        current.parent.skip = null;
+                    }
+                }
+            }
+
+            if (root.references == 0)
+            {
+                sequencesByName.remove(name);
+            }
+        }
+
+        private boolean matches(
+            ArrayFW<KafkaHeaderFW> headers,
+            int id)
+        {
+            if (modified ||
+                headers.buffer() != evaluatedBuffer ||
+                headers.offset() != evaluatedOffset ||
+                headers.limit() != evaluatedLimit)
+            {
+                evaluate(headers);
+
+                modified = false;
+                evaluatedBuffer = headers.buffer();
+                evaluatedOffset = headers.offset();
+                evaluatedLimit = headers.limit();
+            }
+
+            return matched.get(id);
+        }
+
+        private void evaluate(
+            ArrayFW<KafkaHeaderFW> headers)
+        {
+            final DirectBuffer items = headers.items();
+            final int limit = items.capacity();
+
+            matched.clear();
+            active.clear();
+            active.add(root);
+
+            for (int offset = 0; !active.isEmpty() && offset < limit; )
+            {
+                final KafkaHeaderFW header = headerRO.wrap(items, offset, limit);
+                offset = header.limit();
+
+                final OctetsFW headerName = header.name();
+                nameRO.wrap(headerName.buffer(), headerName.offset(), headerName.sizeof());
+
+                if (name.equals(nameRO))
+                {
+                    final OctetsFW value = header.value();
+                    if (value != null)
+                    {
+                        valueRO.wrap(value.buffer(), value.offset(), value.sizeof());
+                    }
+
+                    pending.clear();
+                    for (int i = 0; i < active.size(); i++)
+                    {
+                        final Node node = active.get(i);
+                        node.skipMany.forEachInt(matched::set);
+
+                        final Node child = value != null ? node.values.get(valueRO) : null;
+                        if (child != null)
+                        {
+                            pending.add(child);
+                        }
+
+                        if (node.skip != null)
+                        {
+                            pending.add(node.skip);
+                        }
+                    }
+
+                    final List<Node> swap = active;
+                    active = pending;
+                    pending = swap;
+                }
+            }
+
+            for (int i = 0; i < active.size(); i++)
+            {
+                active.get(i).terminal.forEachInt(matched::set);
+            }
+        }
+    }
+
+    private static final class Node
+    {
+        private final Node parent;
+        private final DirectBuffer key;
+        private final Map<DirectBuffer, Node> values;
+        private final IntArrayList terminal;
+        private final IntArrayList skipMany;
+
+        private Node skip;
+        private int references;
+
+        private Node(
+            Node parent,
+            DirectBuffer key)
+        {
+            this.parent = parent;
+            this.key = key;
+            this.values = new Object2ObjectHashMap<>();
+            this.terminal = new IntArrayList();
+            this.skipMany = new IntArrayList();
+        }
+    }
+}
@@ -39,6 +39,7 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
     private final KafkaCacheFile deltaFile;
     private final KafkaCacheIndexFile indexFile;
     private final KafkaCacheIndexFile hashFile;
+    private final KafkaCacheBloomFile hashBloomFile;
     private final KafkaCacheIndexFile keysFile;
     private final KafkaCacheIndexFile nullsFile;
 
@@ -82,7 +83,9 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.convertedFile = new KafkaCacheFile.Converted(location, baseOffset, config.segmentBytes, appendBuf);
         this.deltaFile = new KafkaCacheFile.Delta(location, baseOffset, config.segmentBytes, appendBuf);
         this.indexFile = new KafkaCacheFile.Index(location, baseOffset, config.segmentIndexBytes, appendBuf);
-        this.hashFile = new KafkaCacheFile.HashScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
+        this.hashFile = new KafkaCacheFile.HashScan(location, baseOffset, config.segmentIndexBytes, config.segmentBloomBits,
+                appendBuf, sortSpaceRef);
+        this.hashBloomFile = null;
         this.keysFile = new KafkaCacheFile.KeysScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
         this.nullsFile = new KafkaCacheFile.NullsScan(location, baseOffset, config.segmentIndexBytes, appendBuf, sortSpaceRef);
     }
@@ -105,6 +108,9 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         this.deltaFile = new KafkaCacheFile.Delta(location, baseOffset);
         this.indexFile = new KafkaCacheFile.Index(location, baseOffset);
         this.hashFile = new KafkaCacheFile.HashIndex(location, baseOffset);
+        this.hashBloomFile = KafkaCacheFile.HashBloom.exists(location, baseOffset)
+                ? new KafkaCacheFile.HashBloom(location, baseOffset)
+                : null;
         this.keysFile = new KafkaCacheFile.KeysIndex(location, baseOffset);
         this.nullsFile = new KafkaCacheFile.NullsIndex(location, baseOffset);
     }
@@ -176,6 +182,11 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         return hashFile;
     }
 
+    public KafkaCacheBloomFile hashBloomFile()
+    {
+        return hashBloomFile;
+    }
+
     public KafkaCacheIndexFile nullsFile()
     {
         return nullsFile;
@@ -214,6 +225,11 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         convertedFile.delete();
         deltaFile.delete();
         keysFile.delete();
+
+        if (hashBloomFile != null)
+        {
+            hashBloomFile.delete();
+        }
     }
 
     public long cleanableAt()
@@ -271,5 +287,10 @@ public final class KafkaCacheSegment extends KafkaCacheObject<KafkaCacheSegment>
         convertedFile.close();
         deltaFile.close();
         keysFile.close();
+
+        if (hashBloomFile != null)
+        {
+            hashBloomFile.close();
+        }
     }
 }
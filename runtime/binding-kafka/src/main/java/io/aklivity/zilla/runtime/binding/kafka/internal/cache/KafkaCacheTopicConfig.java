@@ -49,6 +49,7 @@ public final class KafkaCacheTopicConfig
     public volatile int maxMessageBytes;
     public volatile int segmentBytes;
     public volatile int segmentIndexBytes;
+    public volatile int segmentBloomBits;
     public volatile long segmentMillis;
     public volatile long retentionBytes;
     public volatile long retentionMillis;
@@ -84,6 +85,7 @@ public final class KafkaCacheTopicConfig
         this.maxMessageBytes = config.cacheMaxMessageBytes();
         this.segmentBytes = config.cacheSegmentBytes();
         this.segmentIndexBytes = config.cacheSegmentIndexBytes();
+        this.segmentBloomBits = config.cacheSegmentBloomBits();
         this.segmentMillis = config.cacheSegmentMillis();
         this.retentionBytes = config.cacheRetentionBytes();
         this.retentionMillis = config.cacheRetentionMillis();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+public enum KafkaCompressionCodec
+{
+    NONE
+    {
+        @Override
+        public KafkaCompressor newCompressor()
+        {
+            return null;
+        }
+
+        @Override
+        public KafkaDecompressor newDecompressor()
+        {
+            return null;
+        }
+    },
+    GZIP
+    {
+        @Override
+        public KafkaCompressor newCompressor()
+        {
+            return new KafkaGzipCompressor();
+        }
+
+        @Override
+        public KafkaDecompressor newDecompressor()
+        {
+            return new KafkaGzipDecompressor();
+        }
+    },
+    SNAPPY
+    {
+        @Override
+        public KafkaCompressor newCompressor()
+        {
+            return new KafkaSnappyCompressor();
+        }
+
+        @Override
+        public KafkaDecompressor newDecompressor()
+        {
+            return new KafkaSnappyDecompressor();
+        }
+    },
+    LZ4
+    {
+        @Override
+        public KafkaCompressor newCompressor()
+        {
+            return new KafkaLz4Compressor();
+        }
+
+        @Override
+        public KafkaDecompressor newDecompressor()
+        {
+            return new KafkaLz4Decompressor();
+        }
+    },
+    ZSTD
+    {
+        @Override
+        public KafkaCompressor newCompressor()
+        {
+            return new KafkaZstdCompressor();
+        }
+
+        @Override
+        public KafkaDecompressor newDecompressor()
+        {
+            return new KafkaZstdDecompressor();
+        }
+    };
+
+    private static final KafkaCompressionCodec[] VALUES = values();
+
+    private static final int ATTRIBUTES_CODEC_MASK = 0x07;
+
+    public int value()
+    {
+        return ordinal();
+    }
+
+    public abstract KafkaCompressor newCompressor();
+
+    public abstract KafkaDecompressor newDecompressor();
+
+    public static KafkaCompressionCodec valueOf(
+        int attributes)
+    {
+        final int value = attributes & ATTRIBUTES_CODEC_MASK;
+        return value < VALUES.length ? VALUES[value] : null;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public abstract class KafkaDecompressor
+{
+    public static final int MALFORMED = -1;
+
+    protected int consumed;
+
+    private int remaining;
+
+    public final void reset(
+        int length)
+    {
+        this.remaining = length;
+        this.consumed = 0;
+        reset();
+    }
+
+    public final int consumed()
+    {
+        return consumed;
+    }
+
+    public final int remaining()
+    {
+        return remaining;
+    }
+
+    public final boolean finished()
+    {
+        return remaining == 0 && !pending();
+    }
+
+    public final int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        final int inputLimit = Math.min(limit, offset + remaining);
+        final boolean fin = inputLimit - offset == remaining;
+
+        consumed = 0;
+
+        final int produced = decompress(input, offset, inputLimit, fin, output, outputOffset, outputLimit);
+
+        if (produced != MALFORMED)
+        {
+            assert consumed <= remaining;
+            remaining -= consumed;
+        }
+
+        return produced;
+    }
+
+    protected abstract void reset();
+
+    protected abstract boolean pending();
+
+    protected abstract int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        boolean fin,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit);
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaGzipCompressor extends KafkaCompressor
+{
+    private static final short GZIP_MAGIC = (short) 0x8b1f;
+    private static final byte GZIP_METHOD_DEFLATE = 8;
+    private static final byte GZIP_OS_UNKNOWN = (byte) 0xff;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    private final CRC32 crc32 = new CRC32();
+
+    private byte[] inputArray = new byte[0];
+    private byte[] outputArray = new byte[0];
+
+    @Override
+    public int compress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        final int inputLength = limit - offset;
+        final int outputLength = outputLimit - outputOffset - GZIP_HEADER_SIZE - GZIP_TRAILER_SIZE;
+
+        int progress = OVERFLOW;
+
+        if (outputLength > 0)
+        {
+            if (inputArray.length < inputLength)
+            {
+                inputArray = new byte[inputLength];
+            }
+            input.getBytes(offset, inputArray, 0, inputLength);
+
+            if (outputArray.length < outputLength)
+            {
+                outputArray = new byte[outputLength];
+            }
+
+            deflater.reset();
+            deflater.setInput(inputArray, 0, inputLength);
+            deflater.finish();
+
+            final int deflated = deflater.deflate(outputArray, 0, outputLength);
+
+            if (deflater.finished())
+            {
+                crc32.reset();
+                crc32.update(inputArray, 0, inputLength);
+
+                progress = outputOffset;
+
+                output.putShort(progress, GZIP_MAGIC, LITTLE_ENDIAN);
+                output.putByte(progress + 2, GZIP_METHOD_DEFLATE);
+                output.putByte(progress + 3, (byte) 0);
+                output.putInt(progress + 4, 0, LITTLE_ENDIAN);
+                output.putByte(progress + 8, (byte) 0);
+                output.putByte(progress + 9, GZIP_OS_UNKNOWN);
+                progress += GZIP_HEADER_SIZE;
+
+                output.putBytes(progress, outputArray, 0, deflated);
+                progress += deflated;
+
+                output.putInt(progress, (int) crc32.getValue(), LITTLE_ENDIAN);
+                output.putInt(progress + Integer.BYTES, inputLength, LITTLE_ENDIAN);
+                progress += GZIP_TRAILER_SIZE;
+
+                progress -= outputOffset;
+            }
+        }
+
+        return progress;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+public final class KafkaGzipDecompressor extends KafkaDecompressor
+{
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int GZIP_METHOD_DEFLATE = 8;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final int GZIP_FLAG_HCRC = 0x02;
+    private static final int GZIP_FLAG_EXTRA = 0x04;
+    private static final int GZIP_FLAG_NAME = 0x08;
+    private static final int GZIP_FLAG_COMMENT = 0x10;
+
+    private static final int STATE_HEADER = 0;
+    private static final int STATE_INFLATE = 1;
+    private static final int STATE_TRAILER = 2;
+
+    private final Inflater inflater = new Inflater(true);
+
+    private byte[] inputArray = new byte[0];
+    private byte[] outputArray = new byte[0];
+    private int state;
+
+    @Override
+    protected void reset()
+    {
+        inflater.reset();
+        state = STATE_HEADER;
+    }
+
+    @Override
+    protected boolean pending()
+    {
+        return state != STATE_HEADER;
+    }
+
+    @Override
+    protected int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        boolean fin,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = offset;
+        int outputProgress = outputOffset;
+
+        try
+        {
+            decompress:
+            while (outputProgress < outputLimit)
+            {
+                switch (state)
+                {
+                case STATE_HEADER:
+                    final int headerSize = decodeHeader(input, progress, limit);
+                    if (headerSize == MALFORMED)
+                    {
+                        return MALFORMED;
+                    }
+
+                    if (headerSize == 0)
+                    {
+                        break decompress;
+                    }
+
+                    progress += headerSize;
+                    inflater.reset();
+                    state = STATE_INFLATE;
+                    break;
+                case STATE_INFLATE:
+                    final int inputLength = limit - progress;
+                    if (inputArray.length < inputLength)
+                    {
+                        inputArray = new byte[inputLength];
+                    }
+                    input.getBytes(progress, inputArray, 0, inputLength);
+                    inflater.setInput(inputArray, 0, inputLength);
+
+                    final int outputLength = outputLimit - outputProgress;
+                    if (outputArray.length < outputLength)
+                    {
+                        outputArray = new byte[outputLength];
+                    }
+
+                    final int inflated = inflater.inflate(outputArray, 0, outputLength);
+                    output.putBytes(outputProgress, outputArray, 0, inflated);
+                    outputProgress += inflated;
+                    progress += inputLength - inflater.getRemaining();
+
+                    if (inflater.finished())
+                    {
+                        state = STATE_TRAILER;
+                    }
+                    else if (inflater.needsDictionary())
+                    {
+                        return MALFORMED;
+                    }
+                    else if (inflated == 0)
+                    {
+                        break decompress;
+                    }
+                    break;
+                case STATE_TRAILER:
+                    if (limit - progress < GZIP_TRAILER_SIZE)
+                    {
+                        break decompress;
+                    }
+
+                    progress += GZIP_TRAILER_SIZE;
+                    state = STATE_HEADER;
+                    break;
+                }
+            }
+        }
+        catch (DataFormatException ex)
+        {
+            return MALFORMED;
+        }
+
+        consumed = progress - offset;
+
+        return outputProgress - outputOffset;
+    }
+
+    private static int decodeHeader(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset + GZIP_HEADER_SIZE;
+
+        decode:
+        if (progress <= limit)
+        {
+            if ((buffer.getShort(offset, LITTLE_ENDIAN) & 0xffff) != GZIP_MAGIC ||
+                buffer.getByte(offset + 2) != GZIP_METHOD_DEFLATE)
+            {
+                progress = offset + MALFORMED;
+                break decode;
+            }
+
+            final int flags = buffer.getByte(offset + 3) & 0xff;
+
+            if ((flags & GZIP_FLAG_EXTRA) != 0)
+            {
+                if (progress + Short.BYTES > limit)
+                {
+                    progress = offset;
+                    break decode;
+                }
+
+                progress += Short.BYTES + (buffer.getShort(progress, LITTLE_ENDIAN) & 0xffff);
+            }
+
+            if ((flags & GZIP_FLAG_NAME) != 0)
+            {
+                progress = skipZeroTerminated(buffer, progress, limit);
+            }
+
+            if ((flags & GZIP_FLAG_COMMENT) != 0)
+            {
+                progress = skipZeroTerminated(buffer, progress, limit);
+            }
+
+            if ((flags & GZIP_FLAG_HCRC) != 0)
+            {
+                progress += Short.BYTES;
+            }
+
+            if (progress > limit)
+            {
+                progress = offset;
+            }
+        }
+        else
+        {
+            progress = offset;
+        }
+
+        return progress - offset;
+    }
+
+    private static int skipZeroTerminated(
+        DirectBuffer buffer,
+        int offset,
+        int limit)
+    {
+        int progress = offset;
+        while (progress < limit && buffer.getByte(progress) != 0)
+        {
+            progress++;
+        }
+        return progress < limit ? progress + 1 : limit + 1;
+    }
+}
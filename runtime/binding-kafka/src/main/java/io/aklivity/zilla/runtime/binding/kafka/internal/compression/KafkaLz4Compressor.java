@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.airlift.compress.lz4.Lz4RawCompressor;
+
+public final class KafkaLz4Compressor extends KafkaCompressor
+{
+    private static final int LZ4_FRAME_MAGIC = 0x184d2204;
+    private static final byte LZ4_FRAME_FLAGS = 0x60;               // version 01, independent blocks
+    private static final byte LZ4_FRAME_BLOCK_DESCRIPTOR = 0x40;    // 64KB max block size
+    private static final byte LZ4_FRAME_HEADER_CHECKSUM = (byte) 0x82;
+    private static final int LZ4_FRAME_HEADER_SIZE = Integer.BYTES + 3;
+    private static final int LZ4_BLOCK_SIZE = 64 * 1024;
+    private static final int LZ4_BLOCK_UNCOMPRESSED = 0x80000000;
+    private static final int LZ4_END_MARK = 0;
+
+    private final int[] table = new int[Lz4RawCompressor.MAX_TABLE_SIZE];
+
+    @Override
+    public int compress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = OVERFLOW;
+
+        encode:
+        if (outputLimit - outputOffset >= LZ4_FRAME_HEADER_SIZE + Integer.BYTES)
+        {
+            int outputProgress = outputOffset;
+
+            output.putInt(outputProgress, LZ4_FRAME_MAGIC, LITTLE_ENDIAN);
+            outputProgress += Integer.BYTES;
+            output.putByte(outputProgress++, LZ4_FRAME_FLAGS);
+            output.putByte(outputProgress++, LZ4_FRAME_BLOCK_DESCRIPTOR);
+            output.putByte(outputProgress++, LZ4_FRAME_HEADER_CHECKSUM);
+
+            for (int blockOffset = offset; blockOffset < limit; blockOffset += LZ4_BLOCK_SIZE)
+            {
+                final int blockLimit = Math.min(blockOffset + LZ4_BLOCK_SIZE, limit);
+                final int blockSize = blockLimit - blockOffset;
+                final int blockOutputOffset = outputProgress + Integer.BYTES;
+                final int blockOutputLimit = blockOutputOffset + Lz4RawCompressor.maxCompressedLength(blockSize);
+
+                if (blockOutputLimit + Integer.BYTES > outputLimit)
+                {
+                    break encode;
+                }
+
+                final int blockLength = Lz4RawCompressor.compress(
+                    input.byteArray(), input.addressOffset() + blockOffset, blockSize,
+                    output.byteArray(), output.addressOffset() + blockOutputOffset, output.addressOffset() + blockOutputLimit,
+                    table);
+
+                if (blockLength < blockSize)
+                {
+                    output.putInt(outputProgress, blockLength, LITTLE_ENDIAN);
+                    outputProgress = blockOutputOffset + blockLength;
+                }
+                else
+                {
+                    output.putInt(outputProgress, blockSize | LZ4_BLOCK_UNCOMPRESSED, LITTLE_ENDIAN);
+                    output.putBytes(blockOutputOffset, input, blockOffset, blockSize);
+                    outputProgress = blockOutputOffset + blockSize;
+                }
+            }
+
+            output.putInt(outputProgress, LZ4_END_MARK, LITTLE_ENDIAN);
+            outputProgress += Integer.BYTES;
+
+            progress = outputProgress - outputOffset;
+        }
+
+        return progress;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.airlift.compress.lz4.Lz4RawDecompressor;
+
+public final class KafkaLz4Decompressor extends KafkaDecompressor
+{
+    private static final int LZ4_FRAME_MAGIC = 0x184d2204;
+    private static final int LZ4_FRAME_VERSION = 0x40;
+    private static final int LZ4_FRAME_VERSION_MASK = 0xc0;
+
+    private static final int LZ4_FLAG_BLOCK_CHECKSUM = 0x10;
+    private static final int LZ4_FLAG_CONTENT_SIZE = 0x08;
+    private static final int LZ4_FLAG_CONTENT_CHECKSUM = 0x04;
+    private static final int LZ4_FLAG_DICTIONARY_ID = 0x01;
+
+    private static final int LZ4_BLOCK_UNCOMPRESSED = 0x80000000;
+    private static final int LZ4_BLOCK_SIZE_MASK = 0x7fffffff;
+    private static final int LZ4_CHECKSUM_SIZE = Integer.BYTES;
+
+    private static final int STATE_FRAME_MAGIC = 0;
+    private static final int STATE_FRAME_DESCRIPTOR = 1;
+    private static final int STATE_BLOCK_SIZE = 2;
+    private static final int STATE_BLOCK = 3;
+    private static final int STATE_BLOCK_UNCOMPRESSED = 4;
+    private static final int STATE_BLOCK_CHECKSUM = 5;
+    private static final int STATE_CONTENT_CHECKSUM = 6;
+
+    private final MutableDirectBuffer block = new UnsafeBuffer(new byte[0]);
+
+    private int state;
+    private int flags;
+    private int blockMaxSize;
+    private int blockLength;
+    private int blockOffset;
+    private int blockLimit;
+
+    @Override
+    protected void reset()
+    {
+        state = STATE_FRAME_MAGIC;
+        flags = 0;
+        blockLength = 0;
+        blockOffset = 0;
+        blockLimit = 0;
+    }
+
+    @Override
+    protected boolean pending()
+    {
+        return blockOffset < blockLimit || state != STATE_FRAME_MAGIC;
+    }
+
+    @Override
+    protected int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        boolean fin,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = offset;
+        int outputProgress = outputOffset;
+
+        try
+        {
+            decompress:
+            while (outputProgress < outputLimit)
+            {
+                if (blockOffset < blockLimit)
+                {
+                    final int length = Math.min(blockLimit - blockOffset, outputLimit - outputProgress);
+                    output.putBytes(outputProgress, block, blockOffset, length);
+                    outputProgress += length;
+                    blockOffset += length;
+                    continue;
+                }
+
+                switch (state)
+                {
+                case STATE_FRAME_MAGIC:
+                    if (limit - progress < Integer.BYTES)
+                    {
+                        break decompress;
+                    }
+
+                    if (input.getInt(progress, LITTLE_ENDIAN) != LZ4_FRAME_MAGIC)
+                    {
+                        return MALFORMED;
+                    }
+
+                    progress += Integer.BYTES;
+                    state = STATE_FRAME_DESCRIPTOR;
+                    break;
+                case STATE_FRAME_DESCRIPTOR:
+                    if (limit - progress < 2)
+                    {
+                        break decompress;
+                    }
+
+                    final int frameFlags = input.getByte(progress) & 0xff;
+                    final int blockDescriptor = input.getByte(progress + 1) & 0xff;
+                    final int descriptorSize = 3 +
+                        ((frameFlags & LZ4_FLAG_CONTENT_SIZE) != 0 ? Long.BYTES : 0) +
+                        ((frameFlags & LZ4_FLAG_DICTIONARY_ID) != 0 ? Integer.BYTES : 0);
+
+                    if (limit - progress < descriptorSize)
+                    {
+                        break decompress;
+                    }
+
+                    if ((frameFlags & LZ4_FRAME_VERSION_MASK) != LZ4_FRAME_VERSION)
+                    {
+                        return MALFORMED;
+                    }
+
+                    flags = frameFlags;
+                    blockMaxSize = 1 << (8 + 2 * ((blockDescriptor >> 4) & 0x07));
+                    progress += descriptorSize;
+                    state = STATE_BLOCK_SIZE;
+                    break;
+                case STATE_BLOCK_SIZE:
+                    if (limit - progress < Integer.BYTES)
+                    {
+                        break decompress;
+                    }
+
+                    final int blockSize = input.getInt(progress, LITTLE_ENDIAN);
+                    progress += Integer.BYTES;
+
+                    blockLength = blockSize & LZ4_BLOCK_SIZE_MASK;
+                    if (blockLength > blockMaxSize)
+                    {
+                        return MALFORMED;
+                    }
+
+                    if (blockSize == 0)
+                    {
+                        state = (flags & LZ4_FLAG_CONTENT_CHECKSUM) != 0 ? STATE_CONTENT_CHECKSUM : STATE_FRAME_MAGIC;
+                    }
+                    else if ((blockSize & LZ4_BLOCK_UNCOMPRESSED) != 0)
+                    {
+                        state = STATE_BLOCK_UNCOMPRESSED;
+                    }
+                    else
+                    {
+                        state = STATE_BLOCK;
+                    }
+                    break;
+                case STATE_BLOCK:
+                    if (limit - progress < blockLength)
+                    {
+                        break decompress;
+                    }
+
+                    decompressBlock(input, progress, progress + blockLength);
+                    progress += blockLength;
+                    state = STATE_BLOCK_CHECKSUM;
+                    break;
+                case STATE_BLOCK_UNCOMPRESSED:
+                    final int length = Math.min(Math.min(blockLength, limit - progress), outputLimit - outputProgress);
+                    output.putBytes(outputProgress, input, progress, length);
+                    outputProgress += length;
+                    progress += length;
+                    blockLength -= length;
+
+                    if (blockLength != 0)
+                    {
+                        break decompress;
+                    }
+
+                    state = STATE_BLOCK_CHECKSUM;
+                    break;
+                case STATE_BLOCK_CHECKSUM:
+                    if ((flags & LZ4_FLAG_BLOCK_CHECKSUM) != 0)
+                    {
+                        if (limit - progress < LZ4_CHECKSUM_SIZE)
+                        {
+                            break decompress;
+                        }
+
+                        progress += LZ4_CHECKSUM_SIZE;
+                    }
+                    state = STATE_BLOCK_SIZE;
+                    break;
+                case STATE_CONTENT_CHECKSUM:
+                    if (limit - progress < LZ4_CHECKSUM_SIZE)
+                    {
+                        break decompress;
+                    }
+
+                    progress += LZ4_CHECKSUM_SIZE;
+                    state = STATE_FRAME_MAGIC;
+                    break;
+                }
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            return MALFORMED;
+        }
+
+        consumed = progress - offset;
+
+        return outputProgress - outputOffset;
+    }
+
+    private void decompressBlock(
+        DirectBuffer input,
+        int offset,
+        int limit)
+    {
+        if (block.capacity() < blockMaxSize)
+        {
+            block.wrap(new byte[blockMaxSize]);
+        }
+
+        final Object blockBase = block.byteArray();
+        final long blockAddress = block.addressOffset();
+
+        blockOffset = 0;
+        blockLimit = Lz4RawDecompressor.decompress(input.byteArray(),
+            input.addressOffset() + offset, input.addressOffset() + limit,
+            blockBase, blockAddress, blockAddress + blockMaxSize);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.airlift.compress.snappy.SnappyRawCompressor;
+
+public final class KafkaSnappyCompressor extends KafkaCompressor
+{
+    private static final byte[] XERIAL_MAGIC = { (byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0 };
+    private static final int XERIAL_VERSION = 1;
+    private static final int XERIAL_COMPATIBLE_VERSION = 1;
+    private static final int XERIAL_HEADER_SIZE = XERIAL_MAGIC.length + Integer.BYTES + Integer.BYTES;
+    private static final int XERIAL_BLOCK_SIZE = 32 * 1024;
+
+    private final short[] table = new short[SnappyRawCompressor.MAX_HASH_TABLE_SIZE];
+
+    @Override
+    public int compress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = OVERFLOW;
+
+        encode:
+        if (outputLimit - outputOffset >= XERIAL_HEADER_SIZE)
+        {
+            int outputProgress = outputOffset;
+
+            output.putBytes(outputProgress, XERIAL_MAGIC);
+            outputProgress += XERIAL_MAGIC.length;
+            output.putInt(outputProgress, XERIAL_VERSION, BIG_ENDIAN);
+            outputProgress += Integer.BYTES;
+            output.putInt(outputProgress, XERIAL_COMPATIBLE_VERSION, BIG_ENDIAN);
+            outputProgress += Integer.BYTES;
+
+            for (int blockOffset = offset; blockOffset < limit; blockOffset += XERIAL_BLOCK_SIZE)
+            {
+                final int blockLimit = Math.min(blockOffset + XERIAL_BLOCK_SIZE, limit);
+                final int blockOutputOffset = outputProgress + Integer.BYTES;
+                final int blockMaxLength = SnappyRawCompressor.maxCompressedLength(blockLimit - blockOffset);
+                final int blockOutputLimit = blockOutputOffset + blockMaxLength;
+
+                if (blockOutputLimit > outputLimit)
+                {
+                    break encode;
+                }
+
+                final int blockLength = SnappyRawCompressor.compress(
+                    input.byteArray(), input.addressOffset() + blockOffset, input.addressOffset() + blockLimit,
+                    output.byteArray(), output.addressOffset() + blockOutputOffset, output.addressOffset() + blockOutputLimit,
+                    table);
+
+                output.putInt(outputProgress, blockLength, BIG_ENDIAN);
+                outputProgress = blockOutputOffset + blockLength;
+            }
+
+            progress = outputProgress - outputOffset;
+        }
+
+        return progress;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static java.nio.ByteOrder.BIG_ENDIAN;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.airlift.compress.snappy.SnappyRawDecompressor;
+
+public final class KafkaSnappyDecompressor extends KafkaDecompressor
+{
+    private static final DirectBuffer XERIAL_MAGIC =
+        new UnsafeBuffer(new byte[] { (byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0 });
+    private static final int XERIAL_HEADER_SIZE = XERIAL_MAGIC.capacity() + Integer.BYTES + Integer.BYTES;
+
+    private static final int STATE_HEADER = 0;
+    private static final int STATE_BLOCK_LENGTH = 1;
+    private static final int STATE_BLOCK = 2;
+    private static final int STATE_RAW = 3;
+
+    private final MutableDirectBuffer block = new UnsafeBuffer(new byte[0]);
+
+    private int state;
+    private int blockLength;
+    private int blockOffset;
+    private int blockLimit;
+
+    @Override
+    protected void reset()
+    {
+        state = STATE_HEADER;
+        blockLength = 0;
+        blockOffset = 0;
+        blockLimit = 0;
+    }
+
+    @Override
+    protected boolean pending()
+    {
+        return blockOffset < blockLimit;
+    }
+
+    @Override
+    protected int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        boolean fin,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = offset;
+        int outputProgress = outputOffset;
+
+        try
+        {
+            decompress:
+            while (outputProgress < outputLimit)
+            {
+                if (blockOffset < blockLimit)
+                {
+                    final int length = Math.min(blockLimit - blockOffset, outputLimit - outputProgress);
+                    output.putBytes(outputProgress, block, blockOffset, length);
+                    outputProgress += length;
+                    blockOffset += length;
+                    continue;
+                }
+
+                switch (state)
+                {
+                case STATE_HEADER:
+                    if (isXerialHeader(input, progress, limit))
+                    {
+                        progress += XERIAL_HEADER_SIZE;
+                        state = STATE_BLOCK_LENGTH;
+                    }
+                    else if (fin || limit - progress >= XERIAL_HEADER_SIZE)
+                    {
+                        state = STATE_RAW;
+                    }
+                    else
+                    {
+                        break decompress;
+                    }
+                    break;
+                case STATE_BLOCK_LENGTH:
+                    if (limit - progress < Integer.BYTES)
+                    {
+                        break decompress;
+                    }
+
+                    blockLength = input.getInt(progress, BIG_ENDIAN);
+                    progress += Integer.BYTES;
+                    state = STATE_BLOCK;
+                    break;
+                case STATE_BLOCK:
+                    if (limit - progress < blockLength)
+                    {
+                        break decompress;
+                    }
+
+                    decompressBlock(input, progress, progress + blockLength);
+                    progress += blockLength;
+                    state = STATE_BLOCK_LENGTH;
+                    break;
+                case STATE_RAW:
+                    if (!fin || progress == limit)
+                    {
+                        break decompress;
+                    }
+
+                    decompressBlock(input, progress, limit);
+                    progress = limit;
+                    break;
+                }
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            return MALFORMED;
+        }
+
+        consumed = progress - offset;
+
+        return outputProgress - outputOffset;
+    }
+
+    private void decompressBlock(
+        DirectBuffer input,
+        int offset,
+        int limit)
+    {
+        final Object inputBase = input.byteArray();
+        final long inputAddress = input.addressOffset() + offset;
+        final long inputLimit = input.addressOffset() + limit;
+
+        final int length = SnappyRawDecompressor.getUncompressedLength(inputBase, inputAddress, inputLimit);
+        if (block.capacity() < length)
+        {
+            block.wrap(new byte[length]);
+        }
+
+        final Object blockBase = block.byteArray();
+        final long blockAddress = block.addressOffset();
+
+        blockOffset = 0;
+        blockLimit = SnappyRawDecompressor.decompress(inputBase, inputAddress, inputLimit,
+            blockBase, blockAddress, blockAddress + length);
+    }
+
+    private static boolean isXerialHeader(
+        DirectBuffer input,
+        int offset,
+        int limit)
+    {
+        boolean matches = limit - offset >= XERIAL_HEADER_SIZE;
+
+        for (int index = 0; matches && index < XERIAL_MAGIC.capacity(); index++)
+        {
+            matches = input.getByte(offset + index) == XERIAL_MAGIC.getByte(index);
+        }
+
+        return matches;
+    }
+}
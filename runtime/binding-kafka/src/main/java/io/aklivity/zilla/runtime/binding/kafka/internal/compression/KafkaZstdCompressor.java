@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.airlift.compress.zstd.ZstdCompressor;
+
+public final class KafkaZstdCompressor extends KafkaCompressor
+{
+    private final ZstdCompressor compressor = new ZstdCompressor();
+
+    private byte[] inputArray = new byte[0];
+    private byte[] outputArray = new byte[0];
+
+    @Override
+    public int compress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        final int inputLength = limit - offset;
+        final int outputLength = compressor.maxCompressedLength(inputLength);
+
+        int progress = OVERFLOW;
+
+        if (inputArray.length < inputLength)
+        {
+            inputArray = new byte[inputLength];
+        }
+        input.getBytes(offset, inputArray, 0, inputLength);
+
+        if (outputArray.length < outputLength)
+        {
+            outputArray = new byte[outputLength];
+        }
+
+        final int compressed = compressor.compress(inputArray, 0, inputLength, outputArray, 0, outputLength);
+
+        if (compressed <= outputLimit - outputOffset)
+        {
+            output.putBytes(outputOffset, outputArray, 0, compressed);
+            progress = compressed;
+        }
+
+        return progress;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import io.airlift.compress.zstd.ZstdIncrementalFrameDecompressor;
+
+public final class KafkaZstdDecompressor extends KafkaDecompressor
+{
+    private ZstdIncrementalFrameDecompressor frames = new ZstdIncrementalFrameDecompressor();
+
+    private byte[] outputArray = new byte[0];
+
+    @Override
+    protected void reset()
+    {
+        if (!frames.isAtStoppingPoint() || frames.getRequestedOutputSize() != 0)
+        {
+            frames = new ZstdIncrementalFrameDecompressor();
+        }
+    }
+
+    @Override
+    protected boolean pending()
+    {
+        return !frames.isAtStoppingPoint() || frames.getRequestedOutputSize() != 0;
+    }
+
+    @Override
+    protected int decompress(
+        DirectBuffer input,
+        int offset,
+        int limit,
+        boolean fin,
+        MutableDirectBuffer output,
+        int outputOffset,
+        int outputLimit)
+    {
+        int progress = offset;
+        int outputProgress = outputOffset;
+
+        try
+        {
+            while (outputProgress < outputLimit &&
+                   limit - progress >= frames.getInputRequired() &&
+                   (progress < limit || pending()))
+            {
+                final int outputLength = outputLimit - outputProgress;
+                if (outputArray.length < outputLength)
+                {
+                    outputArray = new byte[outputLength];
+                }
+
+                frames.partialDecompress(input.byteArray(),
+                    input.addressOffset() + progress, input.addressOffset() + limit,
+                    outputArray, 0, outputLength);
+
+                final int inputConsumed = frames.getInputConsumed();
+                final int outputProduced = frames.getOutputBufferUsed();
+
+                output.putBytes(outputProgress, outputArray, 0, outputProduced);
+                outputProgress += outputProduced;
+                progress += inputConsumed;
+
+                if (inputConsumed == 0 && outputProduced == 0)
+                {
+                    break;
+                }
+            }
+        }
+        catch (RuntimeException ex)
+        {
+            return MALFORMED;
+        }
+
+        consumed = progress - offset;
+
+        return outputProgress - outputOffset;
+    }
+}
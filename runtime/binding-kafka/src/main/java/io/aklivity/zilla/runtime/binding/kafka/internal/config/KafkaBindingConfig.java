@@ -27,6 +27,7 @@ import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType;
 import io.aklivity.zilla.runtime.engine.EngineContext;
@@ -98,6 +99,13 @@ public final class KafkaBindingConfig
         return options != null ? options.servers : null;
     }
 
+    public KafkaCompressionCodec compression()
+    {
+        return options != null && options.compression != null
+            ? KafkaCompressionCodec.valueOf(options.compression.name())
+            : KafkaCompressionCodec.NONE;
+    }
+
     public KafkaDeltaType supplyDeltaType(
         String topic,
         KafkaDeltaType deltaType)
@@ -17,6 +17,7 @@ package io.aklivity.zilla.runtime.binding.kafka.internal.config;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,6 +29,7 @@ import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonString;
 import jakarta.json.bind.adapter.JsonbAdapter;
 
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaCompressionConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfigBuilder;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
@@ -47,6 +49,7 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
     private static final String SASL_MECHANISM_NAME = "mechanism";
     private static final String SASL_PLAIN_USERNAME_NAME = "username";
     private static final String SASL_PLAIN_PASSWORD_NAME = "password";
+    private static final String COMPRESSION_NAME = "compression";
 
     private final KafkaTopicConfigAdapter topic = new KafkaTopicConfigAdapter();
 
@@ -108,6 +111,12 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
             object.add(SASL_NAME, sasl);
         }
 
+        if (kafkaOptions.compression != null &&
+            kafkaOptions.compression != KafkaCompressionConfig.NONE)
+        {
+            object.add(COMPRESSION_NAME, kafkaOptions.compression.name().toLowerCase(Locale.ROOT));
+        }
+
         return object.build();
     }
 
@@ -177,6 +186,12 @@ public final class KafkaOptionsConfigAdapter implements OptionsConfigAdapterSpi,
                 .build());
         }
 
+        if (object.containsKey(COMPRESSION_NAME))
+        {
+            String compression = object.getString(COMPRESSION_NAME);
+            optionsBuilder.compression(KafkaCompressionConfig.valueOf(compression.toUpperCase(Locale.ROOT)));
+        }
+
         return optionsBuilder.build();
     }
 }
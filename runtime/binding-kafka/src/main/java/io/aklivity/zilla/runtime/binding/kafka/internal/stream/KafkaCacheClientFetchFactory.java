@@ -1024,10 +1024,16 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             final KafkaEvaluation evaluation = kafkaFetchFlush.evaluation().get();
             final KafkaFilterCondition condition = cursorFactory.asCondition(filters, evaluation);
 
+            if (nextCursor != null)
+            {
+                nextCursor.close();
+            }
+
             nextCursor = cursorFactory.newCursor(condition, deltaType);
             nextCursor.init(cursor);
             if (messageOffset == 0)
             {
+                cursor.close();
                 cursor = nextCursor;
                 nextCursor = null;
             }
@@ -1350,6 +1356,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
                     if (nextCursor != null)
                     {
+                        cursor.close();
                         cursor = nextCursor;
                         nextCursor = null;
                     }
@@ -1578,7 +1585,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             doEnd(sender, originId, routedId, replyId, replySeq, replyAck, replyMax,
                     traceId, authorization, EMPTY_EXTENSION);
             cleanupDebitorIfNecessary();
-            cursor.close();
+            cleanupCursors();
         }
 
         private void doClientReplyAbort(
@@ -1588,7 +1595,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             doAbort(sender, originId, routedId, replyId, replySeq, replyAck, replyMax,
                     traceId, authorization, EMPTY_EXTENSION);
             cleanupDebitorIfNecessary();
-            cursor.close();
+            cleanupCursors();
         }
 
         private void doClientReplyEndIfNecessary(
@@ -1601,7 +1608,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             state = KafkaState.closedReply(state);
             cleanupDebitorIfNecessary();
-            cursor.close();
+            cleanupCursors();
         }
 
         private void doClientReplyAbortIfNecessary(
@@ -1614,7 +1621,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             state = KafkaState.closedReply(state);
             cleanupDebitorIfNecessary();
-            cursor.close();
+            cleanupCursors();
         }
 
         private void onClientReplyWindow(
@@ -1667,7 +1674,7 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
 
             state = KafkaState.closedReply(state);
             cleanupDebitorIfNecessary();
-            cursor.close();
+            cleanupCursors();
 
             group.onClientFanoutMemberClosed(traceId, this);
 
@@ -1683,6 +1690,17 @@ public final class KafkaCacheClientFetchFactory implements BindingHandler
             }
         }
 
+        private void cleanupCursors()
+        {
+            cursor.close();
+
+            if (nextCursor != null)
+            {
+                nextCursor.close();
+                nextCursor = null;
+            }
+        }
+
         private void cleanupClient(
             long traceId,
             int error)
@@ -15,12 +15,17 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaDecompressor.MALFORMED;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.ProxyAddressProtocol.STREAM;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.codec.offsets.IsolationLevel.READ_UNCOMMITTED;
 import static io.aklivity.zilla.runtime.engine.budget.BudgetDebitor.NO_DEBITOR_INDEX;
 import static io.aklivity.zilla.runtime.engine.buffer.BufferPool.NO_SLOT;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 
@@ -35,6 +40,8 @@ import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaDecompressor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Flyweight;
@@ -109,7 +116,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
     private static final int SIGNAL_NEXT_REQUEST = 1;
 
-    private static final DirectBuffer EMPTY_BUFFER = new UnsafeBuffer();
+    private static final MutableDirectBuffer EMPTY_BUFFER = new UnsafeBuffer();
     private static final OctetsFW EMPTY_OCTETS = new OctetsFW().wrap(EMPTY_BUFFER, 0, 0);
     private static final Consumer<OctetsFW.Builder> EMPTY_EXTENSION = ex -> {};
 
@@ -204,6 +211,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final int proxyTypeId;
     private final MutableDirectBuffer extBuffer;
     private final BufferPool decodePool;
+    private final BufferPool decompressPool;
     private final BufferPool encodePool;
     private final Signaler signaler;
     private final BindingHandler streamFactory;
@@ -212,6 +220,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private final LongFunction<BudgetDebitor> supplyDebitor;
     private final LongFunction<KafkaClientRoute> supplyClientRoute;
     private final int decodeMaxBytes;
+    private final Map<KafkaCompressionCodec, Deque<KafkaDecompressor>> decompressors;
 
     public KafkaClientFetchFactory(
         KafkaConfiguration config,
@@ -229,6 +238,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.signaler = context.signaler();
         this.extBuffer = new UnsafeBuffer(new byte[context.writeBuffer().capacity()]);
         this.decodePool = context.bufferPool();
+        this.decompressPool = decodePool.duplicate();
         this.encodePool = context.bufferPool();
         this.streamFactory = context.streamFactory();
         this.supplyReceiver = context::supplyReceiver;
@@ -236,6 +246,11 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         this.supplyDebitor = supplyDebitor;
         this.supplyClientRoute = supplyClientRoute;
         this.decodeMaxBytes = decodePool.slotCapacity();
+        this.decompressors = new EnumMap<>(KafkaCompressionCodec.class);
+        for (KafkaCompressionCodec codec : KafkaCompressionCodec.values())
+        {
+            decompressors.put(codec, new ArrayDeque<>());
+        }
     }
 
     @Override
@@ -1100,12 +1115,27 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 client.decodableRecordBatchBytes -= recordBatchProgress;
                 assert client.decodableRecordBatchBytes >= 0;
 
-                if (isCompressedBatch(attributes) || isControlBatch(attributes) && !isTransactionalBatch(attributes))
+                if (isControlBatch(attributes) && !isTransactionalBatch(attributes))
                 {
                     client.decoder = decodeIgnoreRecordBatch;
                     break decode;
                 }
 
+                if (isCompressedBatch(attributes))
+                {
+                    if (client.decodableRecordBatchBytes > client.decodableRecordSetBytes)
+                    {
+                        client.decoder = decodeIgnoreRecordSet;
+                        break decode;
+                    }
+
+                    if (!client.decompressRecordBatch(KafkaCompressionCodec.valueOf(attributes)))
+                    {
+                        client.decoder = decodeIgnoreRecordBatch;
+                        break decode;
+                    }
+                }
+
                 client.decoder = decodeFetchRecordLength;
             }
         }
@@ -1714,6 +1744,30 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
         return limit;
     }
 
+    private boolean isRecordDecoder(
+        KafkaFetchClientDecoder decoder)
+    {
+        return decoder == decodeFetchRecordLength ||
+               decoder == decodeFetchRecord ||
+               decoder == decodeFetchRecordInit ||
+               decoder == decodeFetchRecordValue ||
+               decoder == decodeIgnoreRecord;
+    }
+
+    private KafkaDecompressor supplyDecompressor(
+        KafkaCompressionCodec codec)
+    {
+        final KafkaDecompressor decompressor = decompressors.get(codec).poll();
+        return decompressor != null ? decompressor : codec.newDecompressor();
+    }
+
+    private void releaseDecompressor(
+        KafkaCompressionCodec codec,
+        KafkaDecompressor decompressor)
+    {
+        decompressors.get(codec).offer(decompressor);
+    }
+
     private final class KafkaFetchStream
     {
         private final MessageConsumer application;
@@ -2191,6 +2245,11 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
             private int decodeSlotOffset;
             private int decodeSlotReserved;
 
+            private int decompressSlot = NO_SLOT;
+            private int decompressSlotOffset;
+            private KafkaCompressionCodec decompressCodec;
+            private KafkaDecompressor decompressor;
+
             private int decodableResponseBytes;
             private int decodableTopics;
             private int decodableTransactions;
@@ -2360,7 +2419,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 {
                     cleanupNetwork(traceId);
                 }
-                else if (decodeSlot == NO_SLOT)
+                else if (decodeSlot == NO_SLOT && decompressSlot == NO_SLOT)
                 {
                     doApplicationEnd(traceId);
                 }
@@ -2555,6 +2614,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
 
                 cleanupDecodeSlotIfNecessary();
+                cleanupDecompressSlotIfNecessary();
             }
 
             private void doNetworkWindow(
@@ -2835,6 +2895,11 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
 
                     decodeNetwork(traceId, authorization, budgetId, reserved, buffer, offset, limit);
                 }
+                else if (decompressSlot != NO_SLOT)
+                {
+                    final long budgetId = 0L; // TODO
+                    decodeNetwork(traceId, authorization, budgetId, 0, EMPTY_BUFFER, 0, 0);
+                }
             }
 
             private void decodeNetwork(
@@ -2851,7 +2916,9 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 while (progress <= limit && previous != decoder)
                 {
                     previous = decoder;
-                    progress = decoder.decode(this, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
+                    progress = decompressor != null
+                        ? decompressNetwork(traceId, authorization, budgetId, buffer, progress, limit)
+                        : decoder.decode(this, traceId, authorization, budgetId, reserved, buffer, offset, progress, limit);
                 }
 
                 if (progress < limit)
@@ -2880,7 +2947,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 {
                     cleanupDecodeSlotIfNecessary();
 
-                    if (KafkaState.replyClosing(state))
+                    if (KafkaState.replyClosing(state) && decompressSlot == NO_SLOT)
                     {
                         doApplicationEnd(traceId);
                     }
@@ -2891,6 +2958,138 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
             }
 
+            private int decompressNetwork(
+                long traceId,
+                long authorization,
+                long budgetId,
+                MutableDirectBuffer buffer,
+                int progress,
+                int limit)
+            {
+                final MutableDirectBuffer decompressBuffer = decompressPool.buffer(decompressSlot);
+                final int decompressLimit = decompressPool.slotCapacity();
+
+                decompress:
+                for (;;)
+                {
+                    int consumed = 0;
+                    int produced = 0;
+
+                    if (!decompressor.finished())
+                    {
+                        produced = decompressor.decompress(buffer, progress, limit,
+                            decompressBuffer, decompressSlotOffset, decompressLimit);
+
+                        if (produced == MALFORMED)
+                        {
+                            onDecompressRecordBatchEnd();
+                            break decompress;
+                        }
+
+                        consumed = decompressor.consumed();
+                        progress += consumed;
+                        decompressSlotOffset += produced;
+
+                        decodableResponseBytes -= consumed;
+                        assert decodableResponseBytes >= 0;
+
+                        decodableRecordSetBytes -= consumed;
+                        assert decodableRecordSetBytes >= 0;
+                    }
+
+                    final boolean finished = decompressor.finished();
+                    final int decodableResponseBytes = this.decodableResponseBytes;
+                    final int decodableRecordSetBytes = this.decodableRecordSetBytes;
+
+                    // decompressed records are bounded by the decompressed batch, not the network response
+                    final int decodable = finished ? decompressSlotOffset : Integer.MAX_VALUE;
+                    this.decodableResponseBytes = decodable;
+                    this.decodableRecordSetBytes = decodable;
+                    this.decodableRecordBatchBytes = decodable;
+
+                    if (finished && decompressSlotOffset == 0 && decoder == decodeFetchRecordLength)
+                    {
+                        decodableRecords = 0;
+                    }
+
+                    KafkaFetchClientDecoder previous = null;
+                    int decodeProgress = 0;
+                    int decodePrevious = -1;
+                    while (isRecordDecoder(decoder) && (previous != decoder || decodePrevious != decodeProgress))
+                    {
+                        previous = decoder;
+                        decodePrevious = decodeProgress;
+                        decodeProgress = decoder.decode(this, traceId, authorization, budgetId, 0,
+                            decompressBuffer, 0, decodeProgress, decompressSlotOffset);
+                    }
+
+                    this.decodableResponseBytes = decodableResponseBytes;
+                    this.decodableRecordSetBytes = decodableRecordSetBytes;
+
+                    if (decompressor == null || decoder == decodeIgnoreAll)
+                    {
+                        progress = limit;
+                        break decompress;
+                    }
+
+                    if (decodeProgress != 0)
+                    {
+                        decompressSlotOffset -= decodeProgress;
+                        decompressBuffer.putBytes(0, decompressBuffer, decodeProgress, decompressSlotOffset);
+                    }
+
+                    if (!isRecordDecoder(decoder))
+                    {
+                        onDecompressRecordBatchEnd();
+                        break decompress;
+                    }
+
+                    if (consumed == 0 && produced == 0 && decodeProgress == 0)
+                    {
+                        final int decompressible = Math.min(decompressor.remaining(), decodeMaxBytes);
+
+                        if (finished && decompressSlotOffset == 0 ||
+                            !finished && decompressSlotOffset < decompressLimit && limit - progress >= decompressible)
+                        {
+                            onDecompressRecordBatchEnd();
+                        }
+                        break decompress;
+                    }
+                }
+
+                return progress;
+            }
+
+            private boolean decompressRecordBatch(
+                KafkaCompressionCodec codec)
+            {
+                assert decompressor == null;
+
+                if (codec != null && codec != KafkaCompressionCodec.NONE)
+                {
+                    if (decompressSlot == NO_SLOT)
+                    {
+                        decompressSlot = decompressPool.acquire(initialId);
+                    }
+
+                    if (decompressSlot != NO_SLOT)
+                    {
+                        decompressCodec = codec;
+                        decompressor = supplyDecompressor(codec);
+                        decompressor.reset(decodableRecordBatchBytes);
+                    }
+                }
+
+                return decompressor != null;
+            }
+
+            private void onDecompressRecordBatchEnd()
+            {
+                decodableRecordBatchBytes = decompressor.remaining();
+                decoder = decodeIgnoreRecordBatch;
+                cleanupDecompressSlotIfNecessary();
+            }
+
             @Override
             protected void onDecodeSaslHandshakeResponse(
                 long traceId,
@@ -3219,6 +3418,23 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
                 }
             }
 
+            private void cleanupDecompressSlotIfNecessary()
+            {
+                if (decompressor != null)
+                {
+                    releaseDecompressor(decompressCodec, decompressor);
+                    decompressor = null;
+                    decompressCodec = null;
+                }
+
+                if (decompressSlot != NO_SLOT)
+                {
+                    decompressPool.release(decompressSlot);
+                    decompressSlot = NO_SLOT;
+                    decompressSlotOffset = 0;
+                }
+            }
+
             private void cleanupEncodeSlotIfNecessary()
             {
                 if (encodeSlot != NO_SLOT)
@@ -3294,7 +3510,7 @@ public final class KafkaClientFetchFactory extends KafkaClientSaslHandshaker imp
     private static boolean isCompressedBatch(
         int attributes)
     {
-        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4
+        // 0 = NONE, 1 = GZIP, 2 = SNAPPY, 3 = LZ4, 4 = ZSTD
         return (attributes & 0x07) != 0;
     }
 
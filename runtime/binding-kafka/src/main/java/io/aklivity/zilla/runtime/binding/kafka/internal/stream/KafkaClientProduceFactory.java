@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.stream;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressor.OVERFLOW;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.stream.KafkaChecksum.combineCRC32C;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaOffsetType.LIVE;
 import static io.aklivity.zilla.runtime.binding.kafka.internal.types.ProxyAddressProtocol.STREAM;
@@ -28,6 +29,8 @@ import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.zip.CRC32C;
@@ -42,6 +45,8 @@ import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaBinding;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
 import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaEventContext;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressionCodec;
+import io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressor;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaBindingConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.config.KafkaRouteConfig;
 import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
@@ -193,6 +198,9 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
     private final int encodeMaxBytes;
     private final CRC32C crc32c;
     private final KafkaEventContext event;
+    private final Map<KafkaCompressionCodec, KafkaCompressor> compressors;
+
+    private MutableDirectBuffer compressBuffer;
 
     public KafkaClientProduceFactory(
         KafkaConfiguration config,
@@ -219,6 +227,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 encodePool.slotCapacity() - PRODUCE_REQUEST_RECORDS_OFFSET_MAX);
         this.crc32c = new CRC32C();
         this.event = new KafkaEventContext(context);
+        this.compressors = new EnumMap<>(KafkaCompressionCodec.class);
     }
 
     @Override
@@ -256,6 +265,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 final long resolvedId = resolved.id;
                 final int partitionId = kafkaProduceBeginEx.partition().partitionId();
                 final KafkaSaslConfig sasl = binding.sasl();
+                final KafkaCompressionCodec compression = binding.compression();
 
                 final KafkaClientRoute clientRoute = supplyClientRoute.apply(resolvedId);
                 final KafkaServerConfig server = clientRoute.servers.get(affinity);
@@ -270,7 +280,8 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                         topicName,
                         partitionId,
                         server,
-                        sasl)::onApplication;
+                        sasl,
+                        compression)::onApplication;
             }
         }
 
@@ -884,6 +895,21 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
         return limit;
     }
 
+    private KafkaCompressor supplyCompressor(
+        KafkaCompressionCodec codec)
+    {
+        return compressors.computeIfAbsent(codec, KafkaCompressionCodec::newCompressor);
+    }
+
+    private MutableDirectBuffer supplyCompressBuffer()
+    {
+        if (compressBuffer == null)
+        {
+            compressBuffer = new UnsafeBuffer(new byte[encodePool.slotCapacity()]);
+        }
+        return compressBuffer;
+    }
+
     private final class KafkaProduceStream
     {
         private final MessageConsumer application;
@@ -914,7 +940,8 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             String topic,
             int partitionId,
             KafkaServerConfig server,
-            KafkaSaslConfig sasl)
+            KafkaSaslConfig sasl,
+            KafkaCompressionCodec compression)
         {
             this.application = application;
             this.originId = originId;
@@ -922,7 +949,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             this.initialId = initialId;
             this.replyId = supplyReplyId.applyAsLong(initialId);
             this.affinity = affinity;
-            this.client = new KafkaProduceClient(this, resolvedId, topic, partitionId, server, sasl);
+            this.client = new KafkaProduceClient(this, resolvedId, topic, partitionId, server, sasl, compression);
         }
 
         private void onApplication(
@@ -1198,6 +1225,7 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
             private final KafkaProduceStream stream;
             private final String topic;
             private final int partitionId;
+            private final KafkaCompressionCodec compression;
 
             private KafkaAckMode encodeableAckMode;
             private KafkaAckMode encodedAckMode;
@@ -1251,12 +1279,14 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 String topic,
                 int partitionId,
                 KafkaServerConfig server,
-                KafkaSaslConfig sasl)
+                KafkaSaslConfig sasl,
+                KafkaCompressionCodec compression)
             {
                 super(server, sasl, stream.routedId, resolvedId);
                 this.stream = stream;
                 this.topic = requireNonNull(topic);
                 this.partitionId = partitionId;
+                this.compression = compression;
                 this.flusher = flushRecord;
                 this.encodeableAckMode = KafkaAckMode.NONE;
 
@@ -1910,6 +1940,11 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 assert encodeSlot != NO_SLOT;
                 final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
 
+                if (compression != KafkaCompressionCodec.NONE && encodeableRecordBytesDeferred == 0)
+                {
+                    encodeCompressedRecordBatches();
+                }
+
                 final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeSlotOffset, encodeSlotLimit);
                 final int recordBatchLength = RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH + recordBatch.length();
 
@@ -1952,6 +1987,63 @@ public final class KafkaClientProduceFactory extends KafkaClientSaslHandshaker i
                 decoder = decodeProduceResponse;
             }
 
+            private void encodeCompressedRecordBatches()
+            {
+                final KafkaCompressor compressor = supplyCompressor(compression);
+                final MutableDirectBuffer compressBuffer = supplyCompressBuffer();
+                final MutableDirectBuffer encodeSlotBuffer = encodePool.buffer(encodeSlot);
+
+                final int compressLimit = compressBuffer.capacity();
+                final int encodeLimit = encodeSlotLimit;
+                int encodeProgress = encodeSlotOffset;
+                int compressProgress = 0;
+
+                while (encodeProgress < encodeLimit)
+                {
+                    final RecordBatchFW recordBatch = recordBatchRO.wrap(encodeSlotBuffer, encodeProgress, encodeLimit);
+
+                    final int recordBatchLimit = recordBatch.offset() + RecordBatchFW.FIELD_OFFSET_LEADER_EPOCH +
+                        recordBatch.length();
+                    assert recordBatchLimit <= encodeLimit;
+
+                    final int recordBatchHeaderSize = recordBatch.sizeof();
+                    final int recordsOffset = recordBatch.limit();
+                    final int recordsSize = recordBatchLimit - recordsOffset;
+
+                    compressBuffer.putBytes(compressProgress, encodeSlotBuffer, recordBatch.offset(), recordBatchHeaderSize);
+
+                    final int compressedOffset = compressProgress + recordBatchHeaderSize;
+                    final KafkaCompressionCodec recordBatchCodec = KafkaCompressionCodec.valueOf(recordBatch.attributes());
+                    final int compressedSize = recordBatchCodec == KafkaCompressionCodec.NONE
+                        ? compressor.compress(encodeSlotBuffer, recordsOffset, recordBatchLimit,
+                            compressBuffer, compressedOffset, compressLimit)
+                        : OVERFLOW;
+
+                    if (compressedSize != OVERFLOW && compressedSize < recordsSize)
+                    {
+                        final short attributes = (short) (recordBatch.attributes() | compression.value());
+
+                        compressBuffer.putInt(compressProgress + RecordBatchFW.FIELD_OFFSET_LENGTH,
+                            recordBatch.length() - recordsSize + compressedSize, BIG_ENDIAN);
+                        compressBuffer.putShort(compressProgress + RecordBatchFW.FIELD_OFFSET_ATTRIBUTES,
+                            attributes, BIG_ENDIAN);
+
+                        compressProgress = compressedOffset + compressedSize;
+                    }
+                    else
+                    {
+                        compressBuffer.putBytes(compressedOffset, encodeSlotBuffer, recordsOffset, recordsSize);
+                        compressProgress = compressedOffset + recordsSize;
+                    }
+
+                    encodeProgress = recordBatchLimit;
+                }
+
+                encodeSlotBuffer.putBytes(encodeSlotOffset, compressBuffer, 0, compressProgress);
+                encodeSlotLimit = encodeSlotOffset + compressProgress;
+                encodeableRecordBatchSlotOffset = encodeSlotLimit;
+            }
+
             private void encodeCrc()
             {
                 final MutableDirectBuffer encodeBuffer = writeBuffer;
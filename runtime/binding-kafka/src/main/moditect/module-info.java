@@ -17,6 +17,7 @@ module io.aklivity.zilla.runtime.binding.kafka
 {
     requires io.aklivity.zilla.runtime.common;
     requires io.aklivity.zilla.runtime.engine;
+    requires jdk.unsupported;
 
     exports io.aklivity.zilla.runtime.binding.kafka.config;
     exports io.aklivity.zilla.runtime.binding.kafka.identity;
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaSkip;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaValueMatchFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+
+public class KafkaCacheHeaderSequenceIndexTest
+{
+    private static final String FILTER = "zilla:filter";
+
+    private final KafkaCacheHeaderSequenceIndex index = new KafkaCacheHeaderSequenceIndex();
+
+    @Test
+    public void shouldMatchExactSequence()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence sequence = sequence(FILTER, "sensor", "one");
+
+        assertTrue(sequence.matches(headers(FILTER, "sensor", "one")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor", "two")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor", "one", "temp")));
+        assertFalse(sequence.matches(headers("other", "sensor", "one")));
+    }
+
+    @Test
+    public void shouldMatchSingleLevelSkip()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence sequence = sequence(FILTER, "sensor", "+", "temp");
+
+        assertTrue(sequence.matches(headers(FILTER, "sensor", "one", "temp")));
+        assertTrue(sequence.matches(headers(FILTER, "sensor", "two", "temp")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor", "temp")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor", "one", "two", "temp")));
+    }
+
+    @Test
+    public void shouldMatchMultiLevelSkip()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence sequence = sequence(FILTER, "sensor", "#");
+
+        assertTrue(sequence.matches(headers(FILTER, "sensor", "one")));
+        assertTrue(sequence.matches(headers(FILTER, "sensor", "one", "temp")));
+        assertFalse(sequence.matches(headers(FILTER, "sensor")));
+        assertFalse(sequence.matches(headers(FILTER, "device", "one")));
+    }
+
+    @Test
+    public void shouldMatchOverlappingSequences()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence exact = sequence(FILTER, "sensor", "one");
+        KafkaCacheHeaderSequenceIndex.Sequence single = sequence(FILTER, "+", "one");
+        KafkaCacheHeaderSequenceIndex.Sequence multi = sequence(FILTER, "#");
+        KafkaCacheHeaderSequenceIndex.Sequence other = sequence(FILTER, "sensor", "two");
+
+        Array32FW<KafkaHeaderFW> headers = headers(FILTER, "sensor", "one");
+
+        assertTrue(exact.matches(headers));
+        assertTrue(single.matches(headers));
+        assertTrue(multi.matches(headers));
+        assertFalse(other.matches(headers));
+    }
+
+    @Test
+    public void shouldIgnoreInterleavedHeaders()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence sequence = sequence(FILTER, "sensor", "one");
+
+        Array32FW.Builder<KafkaHeaderFW.Builder, KafkaHeaderFW> builder =
+            new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                .wrap(new UnsafeBuffer(ByteBuffer.allocate(1024)), 0, 1024);
+        header(builder, FILTER, "sensor");
+        header(builder, "zilla:qos", "1");
+        header(builder, FILTER, "one");
+
+        assertTrue(sequence.matches(builder.build()));
+    }
+
+    @Test
+    public void shouldRemoveClosedSequences()
+    {
+        KafkaCacheHeaderSequenceIndex.Sequence first = sequence(FILTER, "sensor", "+");
+        KafkaCacheHeaderSequenceIndex.Sequence second = sequence(FILTER, "sensor", "one");
+
+        first.close();
+
+        assertEquals(1, index.size());
+        assertTrue(second.matches(headers(FILTER, "sensor", "one")));
+
+        KafkaCacheHeaderSequenceIndex.Sequence third = sequence(FILTER, "sensor", "+");
+        assertTrue(third.matches(headers(FILTER, "sensor", "two")));
+        assertFalse(second.matches(headers(FILTER, "sensor", "two")));
+
+        second.close();
+        third.close();
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void shouldNotIndexNonTrailingMultiLevelSkip()
+    {
+        assertNull(sequence(FILTER, "#", "one"));
+    }
+
+    private KafkaCacheHeaderSequenceIndex.Sequence sequence(
+        String name,
+        String... levels)
+    {
+        Array32FW.Builder<KafkaValueMatchFW.Builder, KafkaValueMatchFW> builder =
+            new Array32FW.Builder<>(new KafkaValueMatchFW.Builder(), new KafkaValueMatchFW())
+                .wrap(new UnsafeBuffer(ByteBuffer.allocate(1024)), 0, 1024);
+
+        for (String level : levels)
+        {
+            switch (level)
+            {
+            case "+":
+                builder.item(i -> i.skip(s -> s.set(KafkaSkip.SKIP)));
+                break;
+            case "#":
+                builder.item(i -> i.skip(s -> s.set(KafkaSkip.SKIP_MANY)));
+                break;
+            default:
+                DirectBuffer value = new UnsafeBuffer(level.getBytes(UTF_8));
+                builder.item(i -> i.value(v -> v.length(value.capacity()).value(value, 0, value.capacity())));
+                break;
+            }
+        }
+
+        DirectBuffer nameBuffer = new UnsafeBuffer(name.getBytes(UTF_8));
+        OctetsFW nameFW = new OctetsFW().wrap(nameBuffer, 0, nameBuffer.capacity());
+
+        return index.supply(nameFW, builder.build());
+    }
+
+    private static Array32FW<KafkaHeaderFW> headers(
+        String name,
+        String... values)
+    {
+        Array32FW.Builder<KafkaHeaderFW.Builder, KafkaHeaderFW> builder =
+            new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+                .wrap(new UnsafeBuffer(ByteBuffer.allocate(1024)), 0, 1024);
+
+        for (String value : values)
+        {
+            header(builder, name, value);
+        }
+
+        return builder.build();
+    }
+
+    private static void header(
+        Array32FW.Builder<KafkaHeaderFW.Builder, KafkaHeaderFW> builder,
+        String name,
+        String value)
+    {
+        DirectBuffer nameBuffer = new UnsafeBuffer(name.getBytes(UTF_8));
+        DirectBuffer valueBuffer = new UnsafeBuffer(value.getBytes(UTF_8));
+
+        builder.item(h -> h
+            .nameLen(nameBuffer.capacity())
+            .name(nameBuffer, 0, nameBuffer.capacity())
+            .valueLen(valueBuffer.capacity())
+            .value(valueBuffer, 0, valueBuffer.capacity()));
+    }
+}
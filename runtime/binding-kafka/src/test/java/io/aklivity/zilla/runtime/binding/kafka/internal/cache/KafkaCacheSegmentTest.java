@@ -15,8 +15,12 @@
  */
 package io.aklivity.zilla.runtime.binding.kafka.internal.cache;
 
+import static io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexRecord.indexEntry;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
@@ -61,6 +65,64 @@ public class KafkaCacheSegmentTest
         }
     }
 
+    @Test
+    public void shouldFreezeWithHashBloom() throws Exception
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        Path location = tempFolder.getRoot().toPath();
+        MutableDirectBuffer appendBuf = new UnsafeBuffer(ByteBuffer.allocate(Long.BYTES));
+
+        try (KafkaCacheSegment head = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf, long[]::new))
+        {
+            for (int key = 0; key < 1000; key++)
+            {
+                head.hashFile().appendLong(indexEntry(key * 31, key));
+            }
+
+            try (KafkaCacheSegment tail = head.freeze())
+            {
+                final KafkaCacheBloomFile hashBloomFile = tail.hashBloomFile();
+
+                assertNull(head.hashBloomFile());
+                assertNotNull(hashBloomFile);
+
+                for (int key = 0; key < 1000; key++)
+                {
+                    assertTrue(hashBloomFile.mightContain(key * 31));
+                }
+
+                int falsePositives = 0;
+                for (int key = 0; key < 10000; key++)
+                {
+                    if (hashBloomFile.mightContain(key * 31 + 1))
+                    {
+                        falsePositives++;
+                    }
+                }
+                assertTrue(falsePositives < 500);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFreezeWithoutHashBloom() throws Exception
+    {
+        KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBloomBits = 0;
+        Path location = tempFolder.getRoot().toPath();
+        MutableDirectBuffer appendBuf = new UnsafeBuffer(ByteBuffer.allocate(Long.BYTES));
+
+        try (KafkaCacheSegment head = new KafkaCacheSegment(location, config, "test", 0, 1L, appendBuf, long[]::new))
+        {
+            head.hashFile().appendLong(indexEntry(1, 0));
+
+            try (KafkaCacheSegment tail = head.freeze())
+            {
+                assertNull(tail.hashBloomFile());
+            }
+        }
+    }
+
     @Test
     public void shouldDescribeObject() throws Exception
     {
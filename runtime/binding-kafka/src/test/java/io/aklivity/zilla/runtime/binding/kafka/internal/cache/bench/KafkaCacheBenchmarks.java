@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.KafkaConfiguration;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheTopicConfig;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+
+final class KafkaCacheBenchmarks
+{
+    static final String HEADER_NAME = "type";
+
+    private static final int SEGMENT_BYTES = 64 * 1024 * 1024;
+    private static final int SEGMENT_INDEX_BYTES = 8 * 1024 * 1024;
+    private static final int APPEND_CAPACITY = 64 * 1024;
+
+    static Path newDirectory() throws IOException
+    {
+        return Files.createTempDirectory("zilla-kafka-cache-bench");
+    }
+
+    static void deleteDirectory(
+        Path directory)
+    {
+        IoUtil.delete(directory.toFile(), true);
+    }
+
+    static KafkaCachePartition newPartition(
+        Path directory)
+    {
+        final KafkaCacheTopicConfig config = new KafkaCacheTopicConfig(new KafkaConfiguration());
+        config.segmentBytes = SEGMENT_BYTES;
+        config.segmentIndexBytes = SEGMENT_INDEX_BYTES;
+
+        return new KafkaCachePartition(directory, config, "cache", "test", 0, APPEND_CAPACITY, long[]::new);
+    }
+
+    static String keyName(
+        int index)
+    {
+        return String.format("key-%d", index);
+    }
+
+    static String headerValue(
+        int index)
+    {
+        return String.format("value-%d", index);
+    }
+
+    static KafkaKeyFW newKey(
+        MutableDirectBuffer buffer,
+        int offset,
+        String name)
+    {
+        final byte[] bytes = name.getBytes(UTF_8);
+
+        return new KafkaKeyFW.Builder()
+            .wrap(buffer, offset, buffer.capacity())
+            .length(bytes.length)
+            .value(k -> k.set(bytes))
+            .build();
+    }
+
+    static Array32FW<KafkaHeaderFW> newHeaders(
+        MutableDirectBuffer buffer,
+        int offset,
+        String value)
+    {
+        final byte[] name = HEADER_NAME.getBytes(UTF_8);
+        final byte[] bytes = value.getBytes(UTF_8);
+
+        return new Array32FW.Builder<>(new KafkaHeaderFW.Builder(), new KafkaHeaderFW())
+            .wrap(buffer, offset, buffer.capacity())
+            .item(h -> h.nameLen(name.length).name(n -> n.set(name))
+                        .valueLen(bytes.length).value(v -> v.set(bytes)))
+            .build();
+    }
+
+    static OctetsFW newValue(
+        MutableDirectBuffer buffer,
+        int offset,
+        int length)
+    {
+        return new OctetsFW.Builder()
+            .wrap(buffer, offset, buffer.capacity())
+            .set(new byte[length])
+            .build();
+    }
+
+    static Node writeEntries(
+        KafkaCachePartition partition,
+        int entries,
+        int keys,
+        int headers,
+        int valueLength,
+        boolean ancestors)
+    {
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(valueLength + 1024));
+        final MutableInteger entryMark = new MutableInteger(0);
+        final MutableInteger valueMark = new MutableInteger(0);
+        final KafkaCacheEntryFW ancestorRO = new KafkaCacheEntryFW();
+
+        final Node head = partition.append(0L);
+
+        for (int offset = 0; offset < entries; offset++)
+        {
+            final KafkaKeyFW key = newKey(buffer, 0, keyName(offset % keys));
+            final Array32FW<KafkaHeaderFW> entryHeaders = newHeaders(buffer, key.limit(), headerValue(offset % headers));
+            final OctetsFW value = newValue(buffer, entryHeaders.limit(), valueLength);
+
+            final KafkaCacheEntryFW ancestor = ancestors
+                ? head.findAndMarkAncestor(key, partition.computeKeyHash(key), offset, ancestorRO)
+                : null;
+
+            partition.writeEntry(null, 0L, 0L, offset, entryMark, valueMark, 0L, -1L,
+                key, entryHeaders, value, ancestor, 0x00, KafkaDeltaType.NONE,
+                ConverterHandler.NONE, ConverterHandler.NONE, false);
+        }
+
+        partition.append(entries);
+
+        return partition.head().previous();
+    }
+
+    private KafkaCacheBenchmarks()
+    {
+        // utility
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaCacheCursor;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheCursorFactory.KafkaFilterCondition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaConditionFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaEvaluation;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaFilterFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.cache.KafkaCacheEntryFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheCursorBM
+{
+    @Param({ "65536" })
+    public int entries;
+
+    @Param({ "1024" })
+    public int keys;
+
+    @Param({ "16" })
+    public int headers;
+
+    @Param({ "key", "header", "and", "or" })
+    public String filter;
+
+    private final KafkaCacheEntryFW entryRO = new KafkaCacheEntryFW();
+
+    private Path directory;
+    private KafkaCachePartition partition;
+    private KafkaCacheCursor cursor;
+    private Node segmentNode;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        this.directory = KafkaCacheBenchmarks.newDirectory();
+        this.partition = KafkaCacheBenchmarks.newPartition(directory);
+        this.segmentNode = KafkaCacheBenchmarks.writeEntries(partition, entries, keys, headers, 100, false);
+
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(1024));
+        final Array32FW.Builder<KafkaFilterFW.Builder, KafkaFilterFW> filtersRW =
+            new Array32FW.Builder<>(new KafkaFilterFW.Builder(), new KafkaFilterFW())
+                .wrap(buffer, 0, buffer.capacity());
+
+        switch (filter)
+        {
+        case "key":
+            filtersRW.item(f -> f.conditionsItem(c -> key(c, 0)));
+            break;
+        case "header":
+            filtersRW.item(f -> f.conditionsItem(c -> header(c, 0)));
+            break;
+        case "and":
+            filtersRW.item(f -> f.conditionsItem(c -> key(c, 0)).conditionsItem(c -> header(c, 0)));
+            break;
+        case "or":
+            filtersRW.item(f -> f.conditionsItem(c -> key(c, 0)))
+                     .item(f -> f.conditionsItem(c -> header(c, 1)));
+            break;
+        default:
+            throw new IllegalArgumentException(filter);
+        }
+
+        final KafkaCacheCursorFactory cursorFactory = new KafkaCacheCursorFactory(64 * 1024);
+        final KafkaFilterCondition condition = cursorFactory.asCondition(filtersRW.build(), KafkaEvaluation.LAZY);
+        this.cursor = cursorFactory.newCursor(condition, KafkaDeltaType.NONE);
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy()
+    {
+        KafkaCacheBenchmarks.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public int next()
+    {
+        int matches = 0;
+
+        cursor.init(segmentNode, 0L, entries - 1);
+
+        KafkaCacheEntryFW entry;
+        while ((entry = cursor.next(entryRO)) != null)
+        {
+            cursor.advance(entry.offset$() + 1);
+            matches++;
+        }
+
+        cursor.close();
+
+        return matches;
+    }
+
+    private static void key(
+        KafkaConditionFW.Builder condition,
+        int index)
+    {
+        final byte[] name = KafkaCacheBenchmarks.keyName(index).getBytes(UTF_8);
+        condition.key(k -> k.length(name.length).value(v -> v.set(name)));
+    }
+
+    private static void header(
+        KafkaConditionFW.Builder condition,
+        int index)
+    {
+        final byte[] name = KafkaCacheBenchmarks.HEADER_NAME.getBytes(UTF_8);
+        final byte[] value = KafkaCacheBenchmarks.headerValue(index).getBytes(UTF_8);
+        condition.header(h -> h.nameLen(name.length).name(n -> n.set(name))
+                               .valueLen(value.length).value(v -> v.set(value)));
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheCursorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheIndexFile;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCacheSegment;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCacheIndexFileBM
+{
+    private static final int SEEKS = 1024;
+    private static final int SEEKS_MASK = SEEKS - 1;
+
+    @Param({ "65536" })
+    public int entries;
+
+    @Param({ "1024" })
+    public int keys;
+
+    private final int[] offsetDeltas = new int[SEEKS];
+    private final int[] keyHashes = new int[SEEKS];
+
+    private Path directory;
+    private KafkaCachePartition partition;
+    private KafkaCacheIndexFile indexFile;
+    private KafkaCacheIndexFile hashFile;
+    private int seek;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException
+    {
+        this.directory = KafkaCacheBenchmarks.newDirectory();
+        this.partition = KafkaCacheBenchmarks.newPartition(directory);
+
+        final KafkaCacheSegment segment = KafkaCacheBenchmarks.writeEntries(partition, entries, keys, 1, 100, false).segment();
+        this.indexFile = segment.indexFile();
+        this.hashFile = segment.hashFile();
+
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(64));
+        final Random random = new Random(0L);
+        for (int index = 0; index < SEEKS; index++)
+        {
+            final KafkaKeyFW key = KafkaCacheBenchmarks.newKey(buffer, 0, KafkaCacheBenchmarks.keyName(random.nextInt(keys)));
+            offsetDeltas[index] = random.nextInt(entries);
+            keyHashes[index] = (int) partition.computeKeyHash(key);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy()
+    {
+        KafkaCacheBenchmarks.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public long seekOffset()
+    {
+        return indexFile.floor(offsetDeltas[seek++ & SEEKS_MASK]);
+    }
+
+    @Benchmark
+    public long seekKeyHash()
+    {
+        return hashFile.first(keyHashes[seek++ & SEEKS_MASK]);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCacheIndexFileBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.cache.bench;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition;
+import io.aklivity.zilla.runtime.binding.kafka.internal.cache.KafkaCachePartition.Node;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.Array32FW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaDeltaType;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaHeaderFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.KafkaKeyFW;
+import io.aklivity.zilla.runtime.binding.kafka.internal.types.OctetsFW;
+import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class KafkaCachePartitionBM
+{
+    private static final int FLAGS_INIT = 0x02;
+    private static final int FLAGS_FIN = 0x01;
+    private static final int FLAGS_NONE = 0x00;
+
+    @Param({ "100", "1000", "10000" })
+    public int valueLength;
+
+    @Param({ "4" })
+    public int fragments;
+
+    private final MutableInteger entryMark = new MutableInteger(0);
+    private final MutableInteger valueMark = new MutableInteger(0);
+
+    private Path directory;
+    private KafkaCachePartition partition;
+    private KafkaKeyFW key;
+    private long keyHash;
+    private Array32FW<KafkaHeaderFW> headers;
+    private OctetsFW value;
+    private OctetsFW[] valueFragments;
+    private long offset;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final MutableDirectBuffer buffer = new UnsafeBuffer(ByteBuffer.allocate(valueLength + 1024));
+
+        this.key = KafkaCacheBenchmarks.newKey(buffer, 0, KafkaCacheBenchmarks.keyName(0));
+        this.headers = KafkaCacheBenchmarks.newHeaders(buffer, key.limit(), KafkaCacheBenchmarks.headerValue(0));
+        this.value = KafkaCacheBenchmarks.newValue(buffer, headers.limit(), valueLength);
+
+        this.valueFragments = new OctetsFW[fragments];
+        final int fragmentLength = (valueLength + fragments - 1) / fragments;
+        for (int index = 0; index < fragments; index++)
+        {
+            final int fragmentOffset = value.offset() + Math.min(index * fragmentLength, valueLength);
+            final int fragmentLimit = value.offset() + Math.min((index + 1) * fragmentLength, valueLength);
+            valueFragments[index] = new OctetsFW().wrap(buffer, fragmentOffset, fragmentLimit);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() throws IOException
+    {
+        this.directory = KafkaCacheBenchmarks.newDirectory();
+        this.partition = KafkaCacheBenchmarks.newPartition(directory);
+        this.keyHash = partition.computeKeyHash(key);
+        this.offset = 0L;
+    }
+
+    @TearDown(Level.Iteration)
+    public void destroy()
+    {
+        KafkaCacheBenchmarks.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public void writeEntry()
+    {
+        final long offset = nextOffset();
+
+        partition.writeEntry(null, 0L, 0L, offset, entryMark, valueMark, 0L, -1L,
+            key, headers, value, null, 0x00, KafkaDeltaType.NONE, ConverterHandler.NONE, ConverterHandler.NONE, false);
+    }
+
+    @Benchmark
+    public void writeEntryContinue()
+    {
+        final long offset = nextOffset();
+
+        partition.writeEntryStart(null, 0L, 0L, offset, entryMark, valueMark, 0L, -1L,
+            key, keyHash, valueLength, null, 0x00, KafkaDeltaType.NONE, valueFragments[0],
+            ConverterHandler.NONE, ConverterHandler.NONE, false);
+
+        for (int index = 0; index < fragments; index++)
+        {
+            final int flags = (index == 0 ? FLAGS_INIT : FLAGS_NONE) | (index == fragments - 1 ? FLAGS_FIN : FLAGS_NONE);
+            partition.writeEntryContinue(null, 0L, 0L, flags, offset, entryMark, valueMark,
+                valueFragments[index], ConverterHandler.NONE, false);
+        }
+
+        partition.writeEntryFinish(headers, KafkaDeltaType.NONE);
+    }
+
+    private long nextOffset()
+    {
+        final long offset = this.offset++;
+        final Node head = partition.newHeadIfNecessary(offset, key, valueLength, headers.sizeof());
+
+        final Node tail = head.previous();
+        if (!tail.sentinel())
+        {
+            tail.remove();
+        }
+
+        return offset;
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(KafkaCachePartitionBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
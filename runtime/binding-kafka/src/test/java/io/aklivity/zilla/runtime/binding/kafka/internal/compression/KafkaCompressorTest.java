@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaCompressor.OVERFLOW;
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaDecompressor.MALFORMED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class KafkaCompressorTest
+{
+    private static final byte[] RECORDS = newRecords(100_000);
+
+    @Test
+    public void shouldNotSupplyCompressorForNone()
+    {
+        assertNull(KafkaCompressionCodec.NONE.newCompressor());
+    }
+
+    @Test
+    public void shouldCompressGzip()
+    {
+        shouldCompress(KafkaCompressionCodec.GZIP);
+    }
+
+    @Test
+    public void shouldCompressSnappy()
+    {
+        shouldCompress(KafkaCompressionCodec.SNAPPY);
+    }
+
+    @Test
+    public void shouldCompressLz4()
+    {
+        shouldCompress(KafkaCompressionCodec.LZ4);
+    }
+
+    @Test
+    public void shouldCompressZstd()
+    {
+        shouldCompress(KafkaCompressionCodec.ZSTD);
+    }
+
+    @Test
+    public void shouldRejectOverflow()
+    {
+        for (KafkaCompressionCodec codec : new KafkaCompressionCodec[] {
+            KafkaCompressionCodec.GZIP, KafkaCompressionCodec.SNAPPY, KafkaCompressionCodec.LZ4, KafkaCompressionCodec.ZSTD })
+        {
+            final KafkaCompressor compressor = codec.newCompressor();
+            final MutableDirectBuffer output = new UnsafeBuffer(new byte[16]);
+
+            assertEquals(OVERFLOW, compressor.compress(new UnsafeBuffer(RECORDS), 0, RECORDS.length,
+                output, 0, output.capacity()));
+        }
+    }
+
+    private static void shouldCompress(
+        KafkaCompressionCodec codec)
+    {
+        final KafkaCompressor compressor = codec.newCompressor();
+
+        shouldCompress(codec, compressor, RECORDS);
+        shouldCompress(codec, compressor, newRecords(19));
+        shouldCompress(codec, compressor, RECORDS);
+    }
+
+    private static void shouldCompress(
+        KafkaCompressionCodec codec,
+        KafkaCompressor compressor,
+        byte[] records)
+    {
+        final int offset = 7;
+        final MutableDirectBuffer input = new UnsafeBuffer(new byte[offset + records.length]);
+        input.putBytes(offset, records);
+
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[offset + records.length * 2 + 64]);
+        final int length = compressor.compress(input, offset, offset + records.length,
+            compressed, offset, compressed.capacity());
+
+        assertTrue(length != OVERFLOW);
+        assertTrue(records.length < 1024 || length < records.length);
+
+        final KafkaDecompressor decompressor = codec.newDecompressor();
+        final MutableDirectBuffer output = new UnsafeBuffer(new byte[records.length + 1]);
+
+        decompressor.reset(length);
+        final int produced = decompressor.decompress(compressed, offset, offset + length, output, 0, output.capacity());
+
+        assertTrue(produced != MALFORMED);
+        assertEquals(records.length, produced);
+        assertTrue(decompressor.finished());
+
+        final byte[] decompressed = new byte[produced];
+        output.getBytes(0, decompressed);
+        assertArrayEquals(records, decompressed);
+    }
+
+    private static byte[] newRecords(
+        int length)
+    {
+        final StringBuilder records = new StringBuilder();
+        for (int index = 0; records.length() < length; index++)
+        {
+            records.append("record-").append(index).append(':').append(index * 31 % 97).append(';');
+        }
+        return records.substring(0, length).getBytes(UTF_8);
+    }
+}
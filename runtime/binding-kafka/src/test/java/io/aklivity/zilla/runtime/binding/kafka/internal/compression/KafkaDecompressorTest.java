@@ -0,0 +1,274 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.binding.kafka.internal.compression;
+
+import static io.aklivity.zilla.runtime.binding.kafka.internal.compression.KafkaDecompressor.MALFORMED;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import io.airlift.compress.lz4.Lz4Compressor;
+import io.airlift.compress.snappy.SnappyCompressor;
+import io.airlift.compress.zstd.ZstdCompressor;
+
+public class KafkaDecompressorTest
+{
+    private static final byte[] RECORDS = newRecords(100_000);
+
+    @Test
+    public void shouldDecodeCodec()
+    {
+        assertEquals(KafkaCompressionCodec.NONE, KafkaCompressionCodec.valueOf(0x00));
+        assertEquals(KafkaCompressionCodec.GZIP, KafkaCompressionCodec.valueOf(0x01));
+        assertEquals(KafkaCompressionCodec.SNAPPY, KafkaCompressionCodec.valueOf(0x02));
+        assertEquals(KafkaCompressionCodec.LZ4, KafkaCompressionCodec.valueOf(0x03));
+        assertEquals(KafkaCompressionCodec.ZSTD, KafkaCompressionCodec.valueOf(0x14));
+        assertNull(KafkaCompressionCodec.valueOf(0x07));
+        assertNull(KafkaCompressionCodec.NONE.newDecompressor());
+    }
+
+    @Test
+    public void shouldDecompressGzip() throws Exception
+    {
+        shouldDecompress(KafkaCompressionCodec.GZIP, gzip(RECORDS));
+    }
+
+    @Test
+    public void shouldDecompressSnappy() throws Exception
+    {
+        shouldDecompress(KafkaCompressionCodec.SNAPPY, snappy(RECORDS));
+    }
+
+    @Test
+    public void shouldDecompressSnappyWithoutFraming() throws Exception
+    {
+        final byte[] records = newRecords(1_000);
+        final SnappyCompressor compressor = new SnappyCompressor();
+        final byte[] block = new byte[compressor.maxCompressedLength(records.length)];
+        final int length = compressor.compress(records, 0, records.length, block, 0, block.length);
+        final byte[] compressed = new byte[length];
+        System.arraycopy(block, 0, compressed, 0, length);
+
+        shouldDecompress(KafkaCompressionCodec.SNAPPY, compressed, records);
+    }
+
+    @Test
+    public void shouldDecompressLz4() throws Exception
+    {
+        shouldDecompress(KafkaCompressionCodec.LZ4, lz4(RECORDS));
+    }
+
+    @Test
+    public void shouldDecompressZstd() throws Exception
+    {
+        final ZstdCompressor compressor = new ZstdCompressor();
+        final byte[] frame = new byte[compressor.maxCompressedLength(RECORDS.length)];
+        final int length = compressor.compress(RECORDS, 0, RECORDS.length, frame, 0, frame.length);
+        final byte[] compressed = new byte[length];
+        System.arraycopy(frame, 0, compressed, 0, length);
+
+        shouldDecompress(KafkaCompressionCodec.ZSTD, compressed);
+    }
+
+    @Test
+    public void shouldDecompressAfterReset() throws Exception
+    {
+        final KafkaDecompressor decompressor = KafkaCompressionCodec.LZ4.newDecompressor();
+        final byte[] compressed = lz4(RECORDS);
+
+        decompressor.reset(compressed.length);
+        decompressor.decompress(new UnsafeBuffer(compressed), 0, compressed.length / 2,
+            new UnsafeBuffer(new byte[1024]), 0, 1024);
+
+        assertArrayEquals(RECORDS, decompress(decompressor, compressed, 4096, 8192));
+    }
+
+    @Test
+    public void shouldRejectMalformedGzip() throws Exception
+    {
+        final byte[] compressed = gzip(RECORDS);
+        compressed[0] = 0x00;
+
+        final KafkaDecompressor decompressor = KafkaCompressionCodec.GZIP.newDecompressor();
+        decompressor.reset(compressed.length);
+
+        final MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+        assertEquals(MALFORMED, decompressor.decompress(new UnsafeBuffer(compressed), 0, compressed.length,
+            output, 0, output.capacity()));
+    }
+
+    @Test
+    public void shouldRejectMalformedLz4() throws Exception
+    {
+        final byte[] compressed = lz4(RECORDS);
+        compressed[0] = 0x00;
+
+        final KafkaDecompressor decompressor = KafkaCompressionCodec.LZ4.newDecompressor();
+        decompressor.reset(compressed.length);
+
+        final MutableDirectBuffer output = new UnsafeBuffer(new byte[1024]);
+        assertEquals(MALFORMED, decompressor.decompress(new UnsafeBuffer(compressed), 0, compressed.length,
+            output, 0, output.capacity()));
+    }
+
+    private static void shouldDecompress(
+        KafkaCompressionCodec codec,
+        byte[] compressed)
+    {
+        shouldDecompress(codec, compressed, RECORDS);
+    }
+
+    private static void shouldDecompress(
+        KafkaCompressionCodec codec,
+        byte[] compressed,
+        byte[] expected)
+    {
+        final KafkaDecompressor decompressor = codec.newDecompressor();
+
+        assertArrayEquals(expected, decompress(decompressor, compressed, compressed.length, 65536));
+        assertArrayEquals(expected, decompress(decompressor, compressed, 7, 13));
+        assertArrayEquals(expected, decompress(decompressor, compressed, 1024, 100));
+    }
+
+    private static byte[] decompress(
+        KafkaDecompressor decompressor,
+        byte[] compressed,
+        int inputChunk,
+        int outputChunk)
+    {
+        final DirectBuffer input = new UnsafeBuffer(compressed);
+        final MutableDirectBuffer output = new UnsafeBuffer(new byte[outputChunk]);
+        final ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+
+        decompressor.reset(compressed.length);
+
+        int progress = 0;
+        int limit = 0;
+        while (!decompressor.finished())
+        {
+            limit = Math.min(limit + inputChunk, compressed.length);
+
+            final int produced = decompressor.decompress(input, progress, limit, output, 0, outputChunk);
+            assert produced != MALFORMED;
+            assert produced != 0 || decompressor.consumed() != 0 || limit < compressed.length;
+
+            progress += decompressor.consumed();
+            decompressed.write(output.byteArray(), 0, produced);
+        }
+
+        assertEquals(compressed.length, progress);
+
+        return decompressed.toByteArray();
+    }
+
+    private static byte[] newRecords(
+        int length)
+    {
+        final StringBuilder records = new StringBuilder();
+        for (int index = 0; records.length() < length; index++)
+        {
+            records.append("record-").append(index).append(':').append(index * 31 % 97).append(';');
+        }
+        return records.substring(0, length).getBytes(UTF_8);
+    }
+
+    private static byte[] gzip(
+        byte[] records) throws IOException
+    {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed))
+        {
+            gzip.write(records);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] snappy(
+        byte[] records)
+    {
+        final int blockSize = 32 * 1024;
+        final SnappyCompressor compressor = new SnappyCompressor();
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[16 + records.length * 2]);
+        final byte[] block = new byte[compressor.maxCompressedLength(blockSize)];
+
+        int limit = 0;
+        compressed.putBytes(limit, new byte[] { (byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0 });
+        limit += 8;
+        compressed.putInt(limit, 1, BIG_ENDIAN);
+        limit += Integer.BYTES;
+        compressed.putInt(limit, 1, BIG_ENDIAN);
+        limit += Integer.BYTES;
+
+        for (int offset = 0; offset < records.length; offset += blockSize)
+        {
+            final int length = Math.min(blockSize, records.length - offset);
+            final int blockLength = compressor.compress(records, offset, length, block, 0, block.length);
+            compressed.putInt(limit, blockLength, BIG_ENDIAN);
+            limit += Integer.BYTES;
+            compressed.putBytes(limit, block, 0, blockLength);
+            limit += blockLength;
+        }
+
+        final byte[] array = new byte[limit];
+        compressed.getBytes(0, array);
+        return array;
+    }
+
+    private static byte[] lz4(
+        byte[] records)
+    {
+        final int blockSize = 64 * 1024;
+        final Lz4Compressor compressor = new Lz4Compressor();
+        final MutableDirectBuffer compressed = new UnsafeBuffer(new byte[16 + records.length * 2]);
+        final byte[] block = new byte[compressor.maxCompressedLength(blockSize)];
+
+        int limit = 0;
+        compressed.putInt(limit, 0x184d2204, LITTLE_ENDIAN);
+        limit += Integer.BYTES;
+        compressed.putByte(limit++, (byte) 0x60);
+        compressed.putByte(limit++, (byte) 0x40);
+        compressed.putByte(limit++, (byte) 0x82);
+
+        for (int offset = 0; offset < records.length; offset += blockSize)
+        {
+            final int length = Math.min(blockSize, records.length - offset);
+            final int blockLength = compressor.compress(records, offset, length, block, 0, block.length);
+            compressed.putInt(limit, blockLength, LITTLE_ENDIAN);
+            limit += Integer.BYTES;
+            compressed.putBytes(limit, block, 0, blockLength);
+            limit += blockLength;
+        }
+
+        compressed.putInt(limit, 0, LITTLE_ENDIAN);
+        limit += Integer.BYTES;
+
+        final byte[] array = new byte[limit];
+        compressed.getBytes(0, array);
+        return array;
+    }
+}
@@ -30,6 +30,7 @@ import jakarta.json.bind.JsonbConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.aklivity.zilla.runtime.binding.kafka.config.KafkaCompressionConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaOptionsConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaSaslConfig;
 import io.aklivity.zilla.runtime.binding.kafka.config.KafkaServerConfig;
@@ -213,4 +214,40 @@ public class KafkaOptionsConfigAdapterTest
                 "\"servers\":[\"localhost:9092\"]," +
                 "\"sasl\":{\"mechanism\":\"plain\",\"username\":\"username\",\"password\":\"password\"}}"));
     }
+
+    @Test
+    public void shouldReadCompressionOptions()
+    {
+        String text =
+                "{" +
+                        "\"servers\":" +
+                        "[" +
+                        "\"localhost:9092\"" +
+                        "]," +
+                        "\"compression\": \"lz4\"" +
+                        "}";
+
+        KafkaOptionsConfig options = jsonb.fromJson(text, KafkaOptionsConfig.class);
+
+        assertThat(options, not(nullValue()));
+        assertThat(options.compression, equalTo(KafkaCompressionConfig.LZ4));
+    }
+
+    @Test
+    public void shouldWriteCompressionOptions()
+    {
+        KafkaOptionsConfig options = KafkaOptionsConfig.builder()
+            .servers(singletonList(KafkaServerConfig.builder()
+                .host("localhost")
+                .port(9092)
+                .build()))
+            .compression(KafkaCompressionConfig.ZSTD)
+            .build();
+
+        String text = jsonb.toJson(options);
+
+        assertThat(text, not(nullValue()));
+        assertThat(text, equalTo("{\"servers\":[\"localhost:9092\"]," +
+                "\"compression\":\"zstd\"}"));
+    }
 }
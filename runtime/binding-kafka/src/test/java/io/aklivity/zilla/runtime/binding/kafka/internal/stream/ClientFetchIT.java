@@ -238,11 +238,10 @@ public class ClientFetchIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Configuration("client.when.topic.yaml")
     @Specification({
-        "${app}/message.value.gzip/client",
+        "${app}/message.value/client",
         "${net}/message.value.gzip/server"})
     public void shouldReceiveMessageValueGzip() throws Exception
     {
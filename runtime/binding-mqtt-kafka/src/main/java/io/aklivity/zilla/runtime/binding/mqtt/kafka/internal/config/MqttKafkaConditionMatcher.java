@@ -15,38 +15,75 @@
 package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Object2IntHashMap;
 
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionConfig;
 import io.aklivity.zilla.runtime.binding.mqtt.kafka.config.MqttKafkaConditionKind;
 
 public class MqttKafkaConditionMatcher
 {
-    private final Matcher matcher;
+    private static final char LEVEL_SEPARATOR = '/';
+    private static final char SINGLE_LEVEL_WILDCARD = '+';
+    private static final char MULTI_LEVEL_WILDCARD = '#';
+    private static final String SINGLE_LEVEL = "+";
+    private static final String MULTI_LEVEL = "#";
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final int NO_CAPTURE = -1;
+
+    private final Node root;
+    private final Object2IntHashMap<String> paramSlots;
+    private final int[] captureStart;
+    private final int[] captureEnd;
+    private final int[] matchStart;
+    private final int[] matchEnd;
     public final MqttKafkaConditionKind kind;
     private Consumer<MqttKafkaConditionMatcher> observer;
 
+    private String topic;
+    private int limit;
+    private int best;
+
     public MqttKafkaConditionMatcher(
         MqttKafkaConditionConfig condition)
     {
-        this.matcher = asTopicMatcher(condition.topics);
+        this.root = new Node(null);
+        this.paramSlots = new Object2IntHashMap<>(NO_CAPTURE);
         this.kind = condition.kind;
+
+        final List<String> topics = condition.topics;
+        for (int index = 0; index < topics.size(); index++)
+        {
+            root.add(topics.get(index), index, paramSlots);
+        }
+        root.complete();
+
+        final int params = paramSlots.size();
+        this.captureStart = new int[params];
+        this.captureEnd = new int[params];
+        this.matchStart = new int[params];
+        this.matchEnd = new int[params];
+        Arrays.fill(captureStart, NO_CAPTURE);
+        Arrays.fill(captureEnd, NO_CAPTURE);
     }
 
     public boolean matches(
         String topic)
     {
-        return this.matcher == null ||
-            this.matcher.reset(topic).matches() && observeMatched();
+        return match(topic) && observeMatched();
     }
 
     public String parameter(
         String name)
     {
-        return matcher.group(name);
+        final int slot = paramSlots.getValue(name);
+        return slot != NO_CAPTURE && matchStart[slot] != NO_CAPTURE
+            ? topic.substring(matchStart[slot], matchEnd[slot])
+            : null;
     }
 
     public void observe(
@@ -65,89 +102,377 @@ public class MqttKafkaConditionMatcher
         return true;
     }
 
-    private static List<Matcher> asTopicMatchers(
-        List<String> wildcards)
+    private boolean match(
+        String topic)
     {
-        final List<Matcher> matchers = new ArrayList<>();
-        for (String wildcard : wildcards)
+        final int length = topic.length();
+        final boolean leadingSeparator = length > 0 && topic.charAt(0) == LEVEL_SEPARATOR;
+        final Node start = leadingSeparator ? root.literal(topic, 0, 0) : root;
+        final int position = leadingSeparator ? 1 : 0;
+
+        this.topic = topic;
+        this.best = NO_MATCH;
+        Arrays.fill(matchStart, NO_CAPTURE);
+        Arrays.fill(matchEnd, NO_CAPTURE);
+
+        if (length == 0)
+        {
+            best = 0;
+        }
+        else if (start == null)
         {
-            String patternBegin = wildcard.startsWith("/") ? "(" : "^(?!\\/)(";
-            String fixedPattern = patternBegin + asRegexPattern(wildcard, 0, true) + ")?\\/?\\#?";
-            String nonFixedPattern = patternBegin + asRegexPattern(wildcard, 0, false) + ")?\\/?\\#";
-            fixedPattern = fixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>.+)");
-            nonFixedPattern = nonFixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "");
-            matchers.add(Pattern.compile(nonFixedPattern + "|" + fixedPattern).matcher(""));
+            best = NO_MATCH;
         }
-        return matchers;
+        else if (topic.charAt(length - 1) == MULTI_LEVEL_WILDCARD)
+        {
+            int prefixLimit = length - 1;
+            if (prefixLimit > 0 && topic.charAt(prefixLimit - 1) == LEVEL_SEPARATOR)
+            {
+                prefixLimit--;
+            }
+
+            if (prefixLimit <= position)
+            {
+                best = start.minTopic;
+            }
+            else
+            {
+                limit = prefixLimit;
+                matchPrefix(start, position);
+                matchFixed(start, position);
+            }
+        }
+        else if (length == position)
+        {
+            best = start.minTopic;
+        }
+        else
+        {
+            limit = length;
+            matchFixed(start, position);
+
+            if (best == NO_MATCH && topic.charAt(length - 1) == LEVEL_SEPARATOR)
+            {
+                limit = length - 1;
+                matchFixed(start, position);
+            }
+        }
+
+        return best != NO_MATCH;
     }
 
-    private static Matcher asTopicMatcher(
-        List<String> wildcards)
+    private void matchFixed(
+        Node node,
+        int position)
     {
-        StringBuilder combinedRegex = new StringBuilder();
-
-        for (String wildcard : wildcards)
+        if (position > limit)
         {
-            String patternBegin = wildcard.startsWith("/") ? "(" : "^(?!\\/)(";
-            String fixedPattern = patternBegin + asRegexPattern(wildcard, 0, true) + ")?\\/?\\#?";
-            String nonFixedPattern = patternBegin + asRegexPattern(wildcard, 0, false) + ")?\\/?\\#";
-            fixedPattern = fixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "(?<$1>.+)");
-            nonFixedPattern = nonFixedPattern.replaceAll("\\{([a-zA-Z_]+)\\}", "");
+            if (node.topic < best)
+            {
+                best = node.topic;
+                System.arraycopy(captureStart, 0, matchStart, 0, captureStart.length);
+                System.arraycopy(captureEnd, 0, matchEnd, 0, captureEnd.length);
+            }
+        }
+        else if (node.minTopic < best)
+        {
+            final int end = levelEnd(position);
+            final int next = end + 1;
+            final boolean wildcard = isSingleLevelWildcard(position, end);
+
+            if (wildcard)
+            {
+                for (int i = 0; i < node.literals.size(); i++)
+                {
+                    final Node literal = node.literals.get(i);
+                    if (!literal.level.isEmpty())
+                    {
+                        matchFixed(literal, next);
+                    }
+                }
+            }
+            else
+            {
+                final Node literal = node.literal(topic, position, end);
+                if (literal != null)
+                {
+                    matchFixed(literal, next);
+                }
+            }
+
+            if (node.singleLevel != null)
+            {
+                matchFixed(node.singleLevel, next);
+            }
+
+            for (int i = 0; i < node.params.size(); i++)
+            {
+                final Node param = node.params.get(i);
+                if (wildcard)
+                {
+                    matchFixed(param, next);
+                }
 
-            combinedRegex.append(nonFixedPattern).append("|").append(fixedPattern).append("|");
+                for (int paramEnd = limit; paramEnd > position; paramEnd--)
+                {
+                    if (paramEnd == limit || topic.charAt(paramEnd) == LEVEL_SEPARATOR)
+                    {
+                        captureStart[param.slot] = position;
+                        captureEnd[param.slot] = paramEnd;
+                        matchFixed(param, paramEnd + 1);
+                        captureStart[param.slot] = NO_CAPTURE;
+                        captureEnd[param.slot] = NO_CAPTURE;
+                    }
+                }
+            }
+
+            if (node.multiLevel != null)
+            {
+                for (int multiEnd = limit; multiEnd >= end; multiEnd--)
+                {
+                    if (multiEnd == limit || topic.charAt(multiEnd) == LEVEL_SEPARATOR)
+                    {
+                        matchFixed(node.multiLevel, multiEnd + 1);
+                    }
+                }
+            }
         }
+    }
 
-        if (combinedRegex.length() > 0)
+    private void matchPrefix(
+        Node node,
+        int position)
+    {
+        if (position > limit)
         {
-            combinedRegex.deleteCharAt(combinedRegex.length() - 1);
+            if (node.minTopic < best)
+            {
+                best = node.minTopic;
+            }
         }
+        else if (node.minTopic < best)
+        {
+            final int end = levelEnd(position);
+            final int next = end + 1;
+            final boolean wildcard = isSingleLevelWildcard(position, end);
+
+            if (wildcard)
+            {
+                for (int i = 0; i < node.literals.size(); i++)
+                {
+                    final Node literal = node.literals.get(i);
+                    if (!literal.level.isEmpty())
+                    {
+                        matchPrefix(literal, next);
+                    }
+                }
+            }
+            else
+            {
+                final Node literal = node.literal(topic, position, end);
+                if (literal != null)
+                {
+                    matchPrefix(literal, next);
+                }
+            }
+
+            if (node.singleLevel != null)
+            {
+                matchPrefix(node.singleLevel, next);
+            }
+
+            if (wildcard || end == position)
+            {
+                for (int i = 0; i < node.params.size(); i++)
+                {
+                    matchPrefix(node.params.get(i), next);
+                }
+            }
 
-        return Pattern.compile(combinedRegex.toString()).matcher("");
+            if (node.multiLevel != null)
+            {
+                for (int multiEnd = limit; multiEnd >= end; multiEnd--)
+                {
+                    if (multiEnd == limit || topic.charAt(multiEnd) == LEVEL_SEPARATOR)
+                    {
+                        matchPrefix(node.multiLevel, multiEnd + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private int levelEnd(
+        int position)
+    {
+        final int end = topic.indexOf(LEVEL_SEPARATOR, position);
+        return end == -1 || end > limit ? limit : end;
     }
 
-    private static String asRegexPattern(
-        String wildcard,
-        int level,
-        boolean fixedLength)
+    private boolean isSingleLevelWildcard(
+        int position,
+        int end)
     {
-        if (wildcard.isEmpty())
+        return end - position == 1 && topic.charAt(position) == SINGLE_LEVEL_WILDCARD;
+    }
+
+    private static int hashOf(
+        String topic,
+        int position,
+        int end)
+    {
+        int hash = 0;
+        for (int i = position; i < end; i++)
         {
-            return "";
+            hash = 31 * hash + topic.charAt(i);
         }
+        return hash;
+    }
 
-        String[] parts = wildcard.split("/", 2);
-        String currentPart = parts[0];
-        String remainingParts = (parts.length > 1) ? parts[1] : "";
+    private static final class Node
+    {
+        private final String level;
+        private final Int2ObjectHashMap<Node> literalsByHash;
+        private final List<Node> literals;
+        private final List<Node> params;
+
+        private Node collision;
+        private Node singleLevel;
+        private Node multiLevel;
+        private int slot = NO_CAPTURE;
+        private int topic = NO_MATCH;
+        private int minTopic = NO_MATCH;
 
-        String pattern;
-        if ("".equals(currentPart))
+        private Node(
+            String level)
         {
-            pattern = "\\/";
-            level--;
+            this.level = level;
+            this.literalsByHash = new Int2ObjectHashMap<>();
+            this.literals = new ArrayList<>();
+            this.params = new ArrayList<>();
         }
-        else
+
+        private void add(
+            String wildcard,
+            int index,
+            Object2IntHashMap<String> paramSlots)
         {
-            currentPart = currentPart
-                .replace(".", "\\.")
-                .replace("$", "\\$")
-                .replace("+", "[^/]*")
-                .replace("\\{[^}]+\\}", "[^/]*")
-                .replace("#", ".*");
-            pattern = (level > 0) ? "(\\/\\+|\\/" + currentPart + ")" : "(\\+|" + currentPart + ")";
+            final String levels = wildcard.length() > 1 && wildcard.charAt(wildcard.length() - 1) == LEVEL_SEPARATOR
+                ? wildcard.substring(0, wildcard.length() - 1)
+                : wildcard;
+
+            Node node = this;
+            for (String level : levels.split(String.valueOf(LEVEL_SEPARATOR), -1))
+            {
+                node = node.supply(level, paramSlots);
+            }
+
+            node.topic = Math.min(node.topic, index);
         }
 
-        String nextPart = asRegexPattern(remainingParts, level + 1, fixedLength);
-        if (level > 0)
+        private Node supply(
+            String level,
+            Object2IntHashMap<String> paramSlots)
         {
-            pattern = "(" + pattern;
+            Node child;
+
+            if (SINGLE_LEVEL.equals(level))
+            {
+                if (singleLevel == null)
+                {
+                    singleLevel = new Node(level);
+                }
+                child = singleLevel;
+            }
+            else if (MULTI_LEVEL.equals(level))
+            {
+                if (multiLevel == null)
+                {
+                    multiLevel = new Node(level);
+                }
+                child = multiLevel;
+            }
+            else if (isParam(level))
+            {
+                child = params.stream().filter(p -> p.level.equals(level)).findFirst().orElse(null);
+                if (child == null)
+                {
+                    child = new Node(level);
+                    final String name = level.substring(1, level.length() - 1);
+                    final int slot = paramSlots.getValue(name);
+                    child.slot = slot != NO_CAPTURE ? slot : paramSlots.size();
+                    paramSlots.put(name, child.slot);
+                    params.add(child);
+                }
+            }
+            else
+            {
+                child = literal(level, 0, level.length());
+                if (child == null)
+                {
+                    child = new Node(level);
+                    child.collision = literalsByHash.put(level.hashCode(), child);
+                    literals.add(child);
+                }
+            }
+
+            return child;
         }
-        pattern += nextPart;
 
-        if ("".equals(nextPart))
+        private Node literal(
+            String topic,
+            int position,
+            int end)
         {
-            String endParentheses = fixedLength ? ")" : ")?";
-            pattern += "(\\/\\#)?" + endParentheses.repeat(Math.max(0, level));
+            final int length = end - position;
+
+            Node literal = literalsByHash.get(hashOf(topic, position, end));
+            while (literal != null &&
+                (literal.level.length() != length || !topic.regionMatches(position, literal.level, 0, length)))
+            {
+                literal = literal.collision;
+            }
+
+            return literal;
+        }
+
+        private int complete()
+        {
+            int min = topic;
+            for (int i = 0; i < literals.size(); i++)
+            {
+                min = Math.min(min, literals.get(i).complete());
+            }
+            for (int i = 0; i < params.size(); i++)
+            {
+                min = Math.min(min, params.get(i).complete());
+            }
+            if (singleLevel != null)
+            {
+                min = Math.min(min, singleLevel.complete());
+            }
+            if (multiLevel != null)
+            {
+                min = Math.min(min, multiLevel.complete());
+            }
+            minTopic = min;
+            return min;
+        }
+
+        private static boolean isParam(
+            String level)
+        {
+            boolean param = level.length() > 2 &&
+                level.charAt(0) == '{' &&
+                level.charAt(level.length() - 1) == '}';
+
+            for (int i = 1; param && i < level.length() - 1; i++)
+            {
+                final char ch = level.charAt(i);
+                param = Character.isLetter(ch) || ch == '_';
+            }
+
+            return param;
         }
-        return pattern;
     }
 }
@@ -14,7 +14,9 @@
  */
 package io.aklivity.zilla.runtime.binding.mqtt.kafka.internal.config;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -124,4 +126,60 @@ public class MqttKafkaConditionMatcherTest
         assertFalse(matcher.matches("devices/one"));
         assertFalse(matcher.matches("/#"));
     }
+
+    @Test
+    public void shouldMatchSingleLevelWildcardConditions()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/+/temp")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches("sensor/one/temp"));
+        assertTrue(matcher.matches("sensor/+/temp"));
+        assertTrue(matcher.matches("sensor/#"));
+        assertFalse(matcher.matches("sensor/one/two/temp"));
+        assertFalse(matcher.matches("sensor/one/humidity"));
+    }
+
+    @Test
+    public void shouldMatchAnyOfMultipleTopics()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/one")
+            .topic("sensor/two")
+            .topic("device/#")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches("sensor/one"));
+        assertTrue(matcher.matches("sensor/two"));
+        assertTrue(matcher.matches("device/one/temp"));
+        assertFalse(matcher.matches("sensor/three"));
+    }
+
+    @Test
+    public void shouldCaptureTopicParameters()
+    {
+        MqttKafkaConditionConfig condition = MqttKafkaConditionConfig.builder()
+            .topic("sensor/{id}/temp")
+            .topic("device/{id}")
+            .kind(MqttKafkaConditionKind.PUBLISH)
+            .build();
+        MqttKafkaConditionMatcher matcher = new MqttKafkaConditionMatcher(condition);
+
+        assertTrue(matcher.matches("sensor/one/temp"));
+        assertEquals("one", matcher.parameter("id"));
+
+        assertTrue(matcher.matches("device/two"));
+        assertEquals("two", matcher.parameter("id"));
+
+        assertTrue(matcher.matches("sensor/+/temp"));
+        assertNull(matcher.parameter("id"));
+        assertNull(matcher.parameter("unknown"));
+
+        assertFalse(matcher.matches("sensor/three/humidity"));
+    }
 }
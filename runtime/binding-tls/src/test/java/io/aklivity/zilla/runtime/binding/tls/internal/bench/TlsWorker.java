@@ -428,6 +428,13 @@ public class TlsWorker implements EngineContext
         return null;
     }
 
+    @Override
+    public MessageReader supplyEventReader(
+        long timestamp)
+    {
+        return null;
+    }
+
     @Override
     public Clock clock()
     {
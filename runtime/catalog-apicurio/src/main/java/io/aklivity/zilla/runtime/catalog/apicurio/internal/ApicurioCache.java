@@ -17,15 +17,85 @@ package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class ApicurioCache
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
+
+public class ApicurioCache implements CatalogCacheFile.RecordLoader
 {
     public final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> artifacts;
     public final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> artifactIds;
 
+    private final CatalogCacheFile file;
+    private final AtomicInteger attached;
+
     public ApicurioCache()
+    {
+        this(null);
+    }
+
+    public ApicurioCache(
+        CatalogCacheFile file)
     {
         this.artifacts = new ConcurrentHashMap<>();
         this.artifactIds = new ConcurrentHashMap<>();
+        this.file = file;
+        this.attached = new AtomicInteger();
+
+        if (file != null)
+        {
+            file.load(this);
+        }
+    }
+
+    public void onArtifactResolved(
+        int artifactId,
+        String artifact)
+    {
+        if (file != null)
+        {
+            file.writeSchema(artifactId, artifact);
+        }
+    }
+
+    public void onArtifactIdResolved(
+        int artifactKey,
+        CachedArtifactId cachedArtifactId)
+    {
+        if (file != null)
+        {
+            file.writeSchemaId(artifactKey, cachedArtifactId.timestamp, cachedArtifactId.id);
+        }
+    }
+
+    @Override
+    public void onSchemaLoaded(
+        int schemaId,
+        String schema)
+    {
+        artifacts.put(schemaId, CompletableFuture.completedFuture(new CachedArtifact(schema)));
+    }
+
+    @Override
+    public void onSchemaIdLoaded(
+        int schemaKey,
+        long timestamp,
+        int schemaId)
+    {
+        final CachedArtifactId cachedArtifactId = new CachedArtifactId(timestamp, schemaId, new AtomicInteger(), 0L);
+        artifactIds.put(schemaKey, CompletableFuture.completedFuture(cachedArtifactId));
+    }
+
+    public void attach()
+    {
+        attached.incrementAndGet();
+    }
+
+    public void detach()
+    {
+        if (attached.decrementAndGet() == 0 && file != null)
+        {
+            file.close();
+        }
     }
 }
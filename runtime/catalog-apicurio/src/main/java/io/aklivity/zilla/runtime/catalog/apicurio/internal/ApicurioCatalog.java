@@ -27,11 +27,13 @@ public class ApicurioCatalog implements Catalog
 {
     public static final String NAME = "apicurio";
 
+    private final ApicurioConfiguration config;
     private final ConcurrentMap<Long, ApicurioCache> cache;
 
     public ApicurioCatalog(
         Configuration config)
     {
+        this.config = new ApicurioConfiguration(config);
         this.cache = new ConcurrentHashMap<>();
     }
 
@@ -45,7 +47,7 @@ public class ApicurioCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new ApicurioCatalogContext(context, cache);
+        return new ApicurioCatalogContext(config, context, cache);
     }
 
     @Override
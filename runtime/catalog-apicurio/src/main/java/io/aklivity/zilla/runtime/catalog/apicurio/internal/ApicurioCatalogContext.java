@@ -14,23 +14,28 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentMap;
 
 import io.aklivity.zilla.runtime.catalog.apicurio.internal.config.ApicurioOptionsConfig;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 
 public class ApicurioCatalogContext implements CatalogContext
 {
+    private final ApicurioConfiguration config;
     private final EngineContext context;
     private final ConcurrentMap<Long, ApicurioCache> cachesById;
 
     public ApicurioCatalogContext(
+        ApicurioConfiguration config,
         EngineContext context,
         ConcurrentMap<Long, ApicurioCache> cachesById)
     {
+        this.config = config;
         this.context = context;
         this.cachesById = cachesById;
     }
@@ -39,8 +44,34 @@ public class ApicurioCatalogContext implements CatalogContext
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        ApicurioCache cache = cachesById.computeIfAbsent(catalog.id, id -> new ApicurioCache());
-        return new ApicurioCatalogHandler(ApicurioOptionsConfig.class.cast(catalog.options), context,
-            catalog.id, cache);
+        ApicurioOptionsConfig options = ApicurioOptionsConfig.class.cast(catalog.options);
+        ApicurioCache cache = cachesById.computeIfAbsent(catalog.id, id -> newCache(catalog, options));
+        cache.attach();
+        return new ApicurioCatalogHandler(options, context, catalog.id, cache);
+    }
+
+    @Override
+    public void detach(
+        CatalogConfig catalog)
+    {
+        ApicurioCache cache = cachesById.get(catalog.id);
+        if (cache != null)
+        {
+            cache.detach();
+        }
+    }
+
+    private ApicurioCache newCache(
+        CatalogConfig catalog,
+        ApicurioOptionsConfig options)
+    {
+        CatalogCacheFile file = null;
+        if (config.cachePersistent())
+        {
+            Path location = config.cacheDirectory().resolve(catalog.qname);
+            String identity = String.format("%s %s %s", options.url, options.groupId, options.useId);
+            file = new CatalogCacheFile(location, identity);
+        }
+        return new ApicurioCache(file);
     }
 }
@@ -40,6 +40,7 @@ import jakarta.json.stream.JsonParsingException;
 
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectCache;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.catalog.apicurio.internal.config.ApicurioOptionsConfig;
@@ -78,6 +79,8 @@ public class ApicurioCatalogHandler implements CatalogHandler
     private final String artifactPath;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifact>> cachedArtifacts;
     private final ConcurrentMap<Integer, CompletableFuture<CachedArtifactId>> cachedArtifactIds;
+    private final ManyToOneConcurrentLinkedQueue<Runnable> events;
+    private final ApicurioCache cache;
 
 
     public ApicurioCatalogHandler(
@@ -108,12 +111,16 @@ public class ApicurioCatalogHandler implements CatalogHandler
         this.catalogId = catalogId;
         this.cachedArtifacts = cache.artifacts;
         this.cachedArtifactIds = cache.artifactIds;
+        this.events = new ManyToOneConcurrentLinkedQueue<>();
+        this.cache = cache;
     }
 
     @Override
     public String resolve(
         int artifactId)
     {
+        flushEvents();
+
         String artifact = null;
         if (artifactId != NO_SCHEMA_ID)
         {
@@ -145,30 +152,10 @@ public class ApicurioCatalogHandler implements CatalogHandler
                     v1.getNow(CachedArtifact.IN_PROGRESS).artifact == null ? v2 : v1);
                 if (future == newFuture)
                 {
-                    try
-                    {
-                        artifact = sendHttpRequest(MessageFormat.format(artifactPath, artifactId));
-                        if (artifact == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableArtifactId(catalogId, artifactId);
-                            }
-                            newFuture.complete(new CachedArtifact(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableArtifactId(catalogId, artifactId);
-                            }
-                            newFuture.complete(new CachedArtifact(artifact, retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
+                    final AtomicInteger attempts = retryAttempts;
+                    sendHttpRequestAsync(MessageFormat.format(artifactPath, artifactId))
+                        .thenAccept(response -> onArtifactResponse(artifactId, attempts, newFuture, response))
+                        .exceptionally(ex -> onResponseFailed(newFuture, ex));
                 }
                 assert future != null;
                 try
@@ -183,6 +170,8 @@ public class ApicurioCatalogHandler implements CatalogHandler
                 {
                     future.completeExceptionally(ex);
                 }
+
+                flushEvents();
             }
         }
         return artifact;
@@ -193,18 +182,20 @@ public class ApicurioCatalogHandler implements CatalogHandler
         String artifact,
         String version)
     {
+        flushEvents();
+
         int artifactId = NO_SCHEMA_ID;
 
         int artifactKey = generateCRC32C(artifact, version);
-        if (artifactIds.containsKey(artifactKey) && !artifactIds.get(artifactKey).expired(maxAgeMillis))
+        CachedArtifactId cached = artifactIds.get(artifactKey);
+        if (cached != null && !cached.expired(maxAgeMillis))
         {
-            artifactId = artifactIds.get(artifactKey).id;
+            artifactId = cached.id;
         }
         else
         {
             CachedArtifactId cachedArtifactId = null;
             AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
             CompletableFuture<CachedArtifactId> newFuture = new CompletableFuture<>();
             CompletableFuture<CachedArtifactId> existing = cachedArtifactIds.get(artifactKey);
             if (existing != null && existing.isDone())
@@ -227,74 +218,144 @@ public class ApicurioCatalogHandler implements CatalogHandler
                     (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
             if (future == newFuture)
             {
-                try
-                {
-                    String path = VERSION_LATEST.equals(version) ? MessageFormat.format(ARTIFACT_META_PATH, groupId, artifact) :
-                        MessageFormat.format(ARTIFACT_VERSION_PATH, groupId, artifact, version);
+                final CachedArtifactId previous = cachedArtifactId;
+                final AtomicInteger attempts = retryAttempts;
+                String path = VERSION_LATEST.equals(version) ? MessageFormat.format(ARTIFACT_META_PATH, groupId, artifact) :
+                    MessageFormat.format(ARTIFACT_VERSION_PATH, groupId, artifact, version);
 
-                    String response = sendHttpRequest(path);
-                    if (response == null)
-                    {
-                        if (retryAttempts.getAndIncrement() == 0)
-                        {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableArtifactSubjectVersion(catalogId, artifact, version);
-                            if (cachedArtifactId != null && cachedArtifactId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableArtifactSubjectVersionStaleArtifact(catalogId,
-                                    artifact, version, cachedArtifactId.id);
-                            }
-                        }
+                sendHttpRequestAsync(path)
+                    .thenAccept(response ->
+                        onArtifactIdResponse(artifactKey, artifact, version, previous, attempts, newFuture, response))
+                    .exceptionally(ex -> onResponseFailed(newFuture, ex));
+            }
+            assert future != null;
 
-                        if (cachedArtifactId != null)
-                        {
-                            if (cachedArtifactId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedArtifactId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedArtifactId(cachedArtifactId.timestamp, cachedArtifactId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedArtifactId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
+            final CachedArtifactId stale = cachedArtifactId != null && cachedArtifactId.id != NO_SCHEMA_ID
+                ? cachedArtifactId
+                : cached;
+            if (!future.isDone() && stale != null && stale.id != NO_SCHEMA_ID)
+            {
+                artifactId = stale.id;
+            }
+            else
+            {
+                try
+                {
+                    cachedArtifactId = future.get();
+                    artifactId = cachedArtifactId.id;
+                    if (artifactId != NO_SCHEMA_ID)
                     {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableArtifactSubjectVersion(catalogId, artifact, version);
-                        }
-                        newFuture.complete(new CachedArtifactId(System.currentTimeMillis(), resolveId(response),
-                            retryAttempts, retryAfter));
+                        artifactIds.put(artifactKey, cachedArtifactId);
                     }
                 }
                 catch (Throwable ex)
                 {
-                    newFuture.completeExceptionally(ex);
+                    future.completeExceptionally(ex);
                 }
+
+                flushEvents();
             }
-            assert future != null;
-            try
+        }
+        return artifactId;
+    }
+
+    private void onArtifactResponse(
+        int artifactId,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedArtifact> future,
+        String response)
+    {
+        if (response == null)
+        {
+            if (retryAttempts.getAndIncrement() == 0)
+            {
+                events.offer(() -> event.onUnretrievableArtifactId(catalogId, artifactId));
+            }
+            future.complete(new CachedArtifact(null, retryAttempts));
+        }
+        else
+        {
+            if (retryAttempts.getAndSet(0) > 0)
             {
-                cachedArtifactId = future.get();
-                artifactId = cachedArtifactId.id;
-                if (artifactId != NO_SCHEMA_ID)
+                events.offer(() -> event.onRetrievableArtifactId(catalogId, artifactId));
+            }
+            cache.onArtifactResolved(artifactId, response);
+            future.complete(new CachedArtifact(response, retryAttempts));
+        }
+    }
+
+    private void onArtifactIdResponse(
+        int artifactKey,
+        String artifact,
+        String version,
+        CachedArtifactId cachedArtifactId,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedArtifactId> future,
+        String response)
+    {
+        long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+        if (response == null)
+        {
+            if (retryAttempts.getAndIncrement() == 0)
+            {
+                retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
+                events.offer(() -> event.onUnretrievableArtifactSubjectVersion(catalogId, artifact, version));
+                if (cachedArtifactId != null && cachedArtifactId.id != NO_SCHEMA_ID)
+                {
+                    events.offer(() -> event.onUnretrievableArtifactSubjectVersionStaleArtifact(catalogId, artifact, version,
+                        cachedArtifactId.id));
+                }
+            }
+
+            if (cachedArtifactId != null)
+            {
+                if (cachedArtifactId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
                 {
-                    artifactIds.put(artifactKey, cachedArtifactId);
+                    retryAfter = Math.min(cachedArtifactId.retryAfter << 1, maxAgeMillis);
                 }
+                future.complete(new CachedArtifactId(cachedArtifactId.timestamp, cachedArtifactId.id,
+                    retryAttempts, retryAfter));
+            }
+            else
+            {
+                future.complete(new CachedArtifactId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                    retryAttempts, retryAfter));
             }
-            catch (Throwable ex)
+        }
+        else
+        {
+            if (retryAttempts.getAndSet(0) > 0)
             {
-                future.completeExceptionally(ex);
+                events.offer(() -> event.onRetrievableArtifactSubjectVersion(catalogId, artifact, version));
             }
+            final CachedArtifactId newCachedArtifactId = new CachedArtifactId(System.currentTimeMillis(),
+                resolveId(response), retryAttempts, retryAfter);
+            if (newCachedArtifactId.id != NO_SCHEMA_ID)
+            {
+                cache.onArtifactIdResolved(artifactKey, newCachedArtifactId);
+            }
+            future.complete(newCachedArtifactId);
         }
-        return artifactId;
     }
 
-    private String sendHttpRequest(
+    private <T> Void onResponseFailed(
+        CompletableFuture<T> future,
+        Throwable ex)
+    {
+        future.completeExceptionally(ex);
+        return null;
+    }
+
+    private void flushEvents()
+    {
+        Runnable pending;
+        while ((pending = events.poll()) != null)
+        {
+            pending.run();
+        }
+    }
+
+    private CompletableFuture<String> sendHttpRequestAsync(
         String path)
     {
         HttpRequest httpRequest = HttpRequest
@@ -303,17 +364,8 @@ public class ApicurioCatalogHandler implements CatalogHandler
                 .build();
         // TODO: introduce interrupt/timeout for request to apicurio
 
-        String responseBody;
-        try
-        {
-            HttpResponse<String> httpResponse = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
-        }
-        catch (Exception ex)
-        {
-            responseBody = null;
-        }
-        return responseBody;
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+            .handle((response, ex) -> ex == null && response.statusCode() == 200 ? response.body() : null);
     }
 
     @Override
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.apicurio.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CACHE_DIRECTORY;
+
+import java.nio.file.Path;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class ApicurioConfiguration extends Configuration
+{
+    private static final ConfigurationDef APICURIO_CONFIG;
+
+    public static final BooleanPropertyDef APICURIO_CACHE_PERSISTENT;
+    public static final PropertyDef<Path> APICURIO_CACHE_DIRECTORY;
+
+    static
+    {
+        final ConfigurationDef config = new ConfigurationDef("zilla.catalog.apicurio");
+        APICURIO_CACHE_PERSISTENT = config.property("cache.persistent", false);
+        APICURIO_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
+            ApicurioConfiguration::cacheDirectory, ApicurioCatalog.NAME);
+        APICURIO_CONFIG = config;
+    }
+
+    public ApicurioConfiguration(
+        Configuration config)
+    {
+        super(APICURIO_CONFIG, config);
+    }
+
+    public boolean cachePersistent()
+    {
+        return APICURIO_CACHE_PERSISTENT.getAsBoolean(this);
+    }
+
+    public Path cacheDirectory()
+    {
+        return APICURIO_CACHE_DIRECTORY.get(this);
+    }
+
+    private static Path cacheDirectory(
+        Configuration config,
+        String cacheDirectory)
+    {
+        return ENGINE_CACHE_DIRECTORY.get(config).resolve(cacheDirectory);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.apicurio.internal;
+
+import static io.aklivity.zilla.runtime.catalog.apicurio.internal.ApicurioConfiguration.APICURIO_CACHE_DIRECTORY;
+import static io.aklivity.zilla.runtime.catalog.apicurio.internal.ApicurioConfiguration.APICURIO_CACHE_PERSISTENT;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ApicurioConfigurationTest
+{
+    public static final String APICURIO_CACHE_PERSISTENT_NAME = "zilla.catalog.apicurio.cache.persistent";
+    public static final String APICURIO_CACHE_DIRECTORY_NAME = "zilla.catalog.apicurio.cache.directory";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        assertEquals(APICURIO_CACHE_PERSISTENT.name(), APICURIO_CACHE_PERSISTENT_NAME);
+        assertEquals(APICURIO_CACHE_DIRECTORY.name(), APICURIO_CACHE_DIRECTORY_NAME);
+    }
+}
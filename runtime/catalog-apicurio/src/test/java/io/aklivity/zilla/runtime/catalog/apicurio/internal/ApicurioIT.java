@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.catalog.apicurio.internal;
 
+import static io.aklivity.zilla.runtime.catalog.apicurio.internal.ApicurioConfigurationTest.APICURIO_CACHE_PERSISTENT_NAME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.rules.RuleChain.outerRule;
@@ -38,6 +39,7 @@ import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class ApicurioIT
 {
@@ -93,6 +95,30 @@ public class ApicurioIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("resolve/artifact/global/id/zilla.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server",
+        "${local}/resolve.artifact.via.global.id" })
+    @Configure(name = APICURIO_CACHE_PERSISTENT_NAME, value = "true")
+    public void shouldResolveArtifactViaGlobalIdWithPersistentCache() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("resolve/artifact/id/subject/version/zilla.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server",
+        "${local}/resolve.artifact.via.artifactid.version" })
+    @Configure(name = APICURIO_CACHE_PERSISTENT_NAME, value = "true")
+    public void shouldResolveArtifactIdViaSubjectAndVersionWithPersistentCache() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("resolve/artifact/id/subject/version/latest/zilla.yaml")
     @Specification({
@@ -17,15 +17,85 @@ package io.aklivity.zilla.runtime.catalog.karapace.internal;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class KarapaceCache
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
+
+public class KarapaceCache implements CatalogCacheFile.RecordLoader
 {
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> schemas;
     public final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> schemaIds;
 
+    private final CatalogCacheFile file;
+    private final AtomicInteger attached;
+
     public KarapaceCache()
+    {
+        this(null);
+    }
+
+    public KarapaceCache(
+        CatalogCacheFile file)
     {
         this.schemas = new ConcurrentHashMap<>();
         this.schemaIds = new ConcurrentHashMap<>();
+        this.file = file;
+        this.attached = new AtomicInteger();
+
+        if (file != null)
+        {
+            file.load(this);
+        }
+    }
+
+    public void onSchemaResolved(
+        int schemaId,
+        String schema)
+    {
+        if (file != null)
+        {
+            file.writeSchema(schemaId, schema);
+        }
+    }
+
+    public void onSchemaIdResolved(
+        int schemaKey,
+        CachedSchemaId cachedSchemaId)
+    {
+        if (file != null)
+        {
+            file.writeSchemaId(schemaKey, cachedSchemaId.timestamp, cachedSchemaId.id);
+        }
+    }
+
+    @Override
+    public void onSchemaLoaded(
+        int schemaId,
+        String schema)
+    {
+        schemas.put(schemaId, CompletableFuture.completedFuture(new CachedSchema(schema)));
+    }
+
+    @Override
+    public void onSchemaIdLoaded(
+        int schemaKey,
+        long timestamp,
+        int schemaId)
+    {
+        final CachedSchemaId cachedSchemaId = new CachedSchemaId(timestamp, schemaId, new AtomicInteger(), 0L);
+        schemaIds.put(schemaKey, CompletableFuture.completedFuture(cachedSchemaId));
+    }
+
+    public void attach()
+    {
+        attached.incrementAndGet();
+    }
+
+    public void detach()
+    {
+        if (attached.decrementAndGet() == 0 && file != null)
+        {
+            file.close();
+        }
     }
 }
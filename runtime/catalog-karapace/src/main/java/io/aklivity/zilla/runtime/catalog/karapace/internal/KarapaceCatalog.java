@@ -27,11 +27,13 @@ public class KarapaceCatalog implements Catalog
 {
     public static final String NAME = "karapace";
 
+    private final KarapaceConfiguration config;
     private final ConcurrentMap<Long, KarapaceCache> cache;
 
     public KarapaceCatalog(
         Configuration config)
     {
+        this.config = new KarapaceConfiguration(config);
         this.cache = new ConcurrentHashMap<>();
     }
 
@@ -45,7 +47,7 @@ public class KarapaceCatalog implements Catalog
     public CatalogContext supply(
         EngineContext context)
     {
-        return new KarapaceCatalogContext(context, cache);
+        return new KarapaceCatalogContext(config, context, cache);
     }
 
     @Override
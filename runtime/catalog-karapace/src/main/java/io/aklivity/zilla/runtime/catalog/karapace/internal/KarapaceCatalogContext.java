@@ -14,23 +14,28 @@
  */
 package io.aklivity.zilla.runtime.catalog.karapace.internal;
 
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentMap;
 
 import io.aklivity.zilla.runtime.catalog.karapace.internal.config.KarapaceOptionsConfig;
 import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.catalog.CatalogCacheFile;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.config.CatalogConfig;
 
 public class KarapaceCatalogContext implements CatalogContext
 {
+    private final KarapaceConfiguration config;
     private final EngineContext context;
     private final ConcurrentMap<Long, KarapaceCache> cachesById;
 
     public KarapaceCatalogContext(
+        KarapaceConfiguration config,
         EngineContext context,
         ConcurrentMap<Long, KarapaceCache> cachesById)
     {
+        this.config = config;
         this.context = context;
         this.cachesById = cachesById;
     }
@@ -39,7 +44,34 @@ public class KarapaceCatalogContext implements CatalogContext
     public CatalogHandler attach(
         CatalogConfig catalog)
     {
-        KarapaceCache cache = cachesById.computeIfAbsent(catalog.id, id -> new KarapaceCache());
-        return new KarapaceCatalogHandler(KarapaceOptionsConfig.class.cast(catalog.options), context, catalog.id, cache);
+        KarapaceOptionsConfig options = KarapaceOptionsConfig.class.cast(catalog.options);
+        KarapaceCache cache = cachesById.computeIfAbsent(catalog.id, id -> newCache(catalog, options));
+        cache.attach();
+        return new KarapaceCatalogHandler(options, context, catalog.id, cache);
+    }
+
+    @Override
+    public void detach(
+        CatalogConfig catalog)
+    {
+        KarapaceCache cache = cachesById.get(catalog.id);
+        if (cache != null)
+        {
+            cache.detach();
+        }
+    }
+
+    private KarapaceCache newCache(
+        CatalogConfig catalog,
+        KarapaceOptionsConfig options)
+    {
+        CatalogCacheFile file = null;
+        if (config.cachePersistent())
+        {
+            Path location = config.cacheDirectory().resolve(catalog.qname);
+            String identity = String.format("%s %s", options.url, options.context);
+            file = new CatalogCacheFile(location, identity);
+        }
+        return new KarapaceCache(file);
     }
 }
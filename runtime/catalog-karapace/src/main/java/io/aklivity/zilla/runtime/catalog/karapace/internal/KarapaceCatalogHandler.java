@@ -30,6 +30,7 @@ import java.util.zip.CRC32C;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectCache;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import io.aklivity.zilla.runtime.catalog.karapace.internal.config.KarapaceOptionsConfig;
@@ -63,6 +64,8 @@ public class KarapaceCatalogHandler implements CatalogHandler
     private final long catalogId;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchema>> cachedSchemas;
     private final ConcurrentMap<Integer, CompletableFuture<CachedSchemaId>> cachedSchemaIds;
+    private final ManyToOneConcurrentLinkedQueue<Runnable> events;
+    private final KarapaceCache cache;
 
     public KarapaceCatalogHandler(
         KarapaceOptionsConfig config,
@@ -89,12 +92,16 @@ public class KarapaceCatalogHandler implements CatalogHandler
         this.catalogId = catalogId;
         this.cachedSchemas = cache.schemas;
         this.cachedSchemaIds = cache.schemaIds;
+        this.events = new ManyToOneConcurrentLinkedQueue<>();
+        this.cache = cache;
     }
 
     @Override
     public String resolve(
         int schemaId)
     {
+        flushEvents();
+
         String schema = null;
         if (schemaId != NO_SCHEMA_ID)
         {
@@ -126,30 +133,10 @@ public class KarapaceCatalogHandler implements CatalogHandler
                     v1.getNow(CachedSchema.IN_PROGRESS).schema == null ? v2 : v1);
                 if (future == newFuture)
                 {
-                    try
-                    {
-                        String response = sendHttpRequest(MessageFormat.format(SCHEMA_PATH, schemaId));
-                        if (response == null)
-                        {
-                            if (retryAttempts.getAndIncrement() == 0)
-                            {
-                                event.onUnretrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(null, retryAttempts));
-                        }
-                        else
-                        {
-                            if (retryAttempts.getAndSet(0) > 0)
-                            {
-                                event.onRetrievableSchemaId(catalogId, schemaId);
-                            }
-                            newFuture.complete(new CachedSchema(request.resolveSchemaResponse(response), retryAttempts));
-                        }
-                    }
-                    catch (Throwable ex)
-                    {
-                        newFuture.completeExceptionally(ex);
-                    }
+                    final AtomicInteger attempts = retryAttempts;
+                    sendHttpRequestAsync(MessageFormat.format(SCHEMA_PATH, schemaId))
+                        .thenAccept(response -> onSchemaResponse(schemaId, attempts, newFuture, response))
+                        .exceptionally(ex -> onResponseFailed(newFuture, ex));
                 }
                 assert future != null;
                 try
@@ -164,6 +151,8 @@ public class KarapaceCatalogHandler implements CatalogHandler
                 {
                     future.completeExceptionally(ex);
                 }
+
+                flushEvents();
             }
         }
         return schema;
@@ -174,18 +163,20 @@ public class KarapaceCatalogHandler implements CatalogHandler
         String subject,
         String version)
     {
+        flushEvents();
+
         int schemaId = NO_SCHEMA_ID;
 
         int schemaKey = generateCRC32C(subject, version);
-        if (schemaIds.containsKey(schemaKey) && !schemaIds.get(schemaKey).expired(maxAgeMillis))
+        CachedSchemaId cached = schemaIds.get(schemaKey);
+        if (cached != null && !cached.expired(maxAgeMillis))
         {
-            schemaId = schemaIds.get(schemaKey).id;
+            schemaId = cached.id;
         }
         else
         {
             CachedSchemaId cachedSchemaId = null;
             AtomicInteger retryAttempts = new AtomicInteger();
-            long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
             CompletableFuture<CachedSchemaId> newFuture = new CompletableFuture<>();
             CompletableFuture<CachedSchemaId> existing = cachedSchemaIds.get(schemaKey);
             if (existing != null && existing.isDone())
@@ -207,66 +198,38 @@ public class KarapaceCatalogHandler implements CatalogHandler
                 v1.getNow(IN_PROGRESS).retry() &&
                     (v1.getNow(IN_PROGRESS).id == NO_SCHEMA_ID || v1.getNow(IN_PROGRESS).expired(maxAgeMillis)) ? v2 : v1);
             if (future == newFuture)
+            {
+                final CachedSchemaId previous = cachedSchemaId;
+                final AtomicInteger attempts = retryAttempts;
+                sendHttpRequestAsync(MessageFormat.format(SUBJECT_VERSION_PATH, subject, version))
+                    .thenAccept(response ->
+                        onSchemaIdResponse(schemaKey, subject, version, previous, attempts, newFuture, response))
+                    .exceptionally(ex -> onResponseFailed(newFuture, ex));
+            }
+            assert future != null;
+
+            final CachedSchemaId stale = cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID ? cachedSchemaId : cached;
+            if (!future.isDone() && stale != null && stale.id != NO_SCHEMA_ID)
+            {
+                schemaId = stale.id;
+            }
+            else
             {
                 try
                 {
-                    String response = sendHttpRequest(MessageFormat.format(SUBJECT_VERSION_PATH, subject, version));
-                    if (response == null)
-                    {
-                        if (retryAttempts.getAndIncrement() == 0)
-                        {
-                            retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
-                            event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version);
-                            if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
-                            {
-                                event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version,
-                                    cachedSchemaId.id);
-                            }
-                        }
-
-                        if (cachedSchemaId != null)
-                        {
-                            if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
-                            {
-                                retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
-                            }
-                            newFuture.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
-                                retryAttempts, retryAfter));
-                        }
-                        else
-                        {
-                            newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
-                                retryAttempts, retryAfter));
-                        }
-                    }
-                    else if (response != null)
+                    cachedSchemaId = future.get();
+                    schemaId = cachedSchemaId.id;
+                    if (schemaId != NO_SCHEMA_ID)
                     {
-                        if (retryAttempts.getAndSet(0) > 0)
-                        {
-                            event.onRetrievableSchemaSubjectVersion(catalogId, subject, version);
-                        }
-                        newFuture.complete(new CachedSchemaId(System.currentTimeMillis(), request.resolveResponse(response),
-                            retryAttempts, retryAfter));
+                        schemaIds.put(schemaKey, cachedSchemaId);
                     }
                 }
                 catch (Throwable ex)
                 {
-                    newFuture.completeExceptionally(ex);
-                }
-            }
-            assert future != null;
-            try
-            {
-                cachedSchemaId = future.get();
-                schemaId = cachedSchemaId.id;
-                if (schemaId != NO_SCHEMA_ID)
-                {
-                    schemaIds.put(schemaKey, cachedSchemaId);
+                    future.completeExceptionally(ex);
                 }
-            }
-            catch (Throwable ex)
-            {
-                future.completeExceptionally(ex);
+
+                flushEvents();
             }
         }
         return schemaId;
@@ -336,7 +299,107 @@ public class KarapaceCatalogHandler implements CatalogHandler
         return MAX_PADDING_LENGTH;
     }
 
-    private String sendHttpRequest(
+    private void onSchemaResponse(
+        int schemaId,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedSchema> future,
+        String response)
+    {
+        if (response == null)
+        {
+            if (retryAttempts.getAndIncrement() == 0)
+            {
+                events.offer(() -> event.onUnretrievableSchemaId(catalogId, schemaId));
+            }
+            future.complete(new CachedSchema(null, retryAttempts));
+        }
+        else
+        {
+            if (retryAttempts.getAndSet(0) > 0)
+            {
+                events.offer(() -> event.onRetrievableSchemaId(catalogId, schemaId));
+            }
+            final String schema = request.resolveSchemaResponse(response);
+            if (schema != null)
+            {
+                cache.onSchemaResolved(schemaId, schema);
+            }
+            future.complete(new CachedSchema(schema, retryAttempts));
+        }
+    }
+
+    private void onSchemaIdResponse(
+        int schemaKey,
+        String subject,
+        String version,
+        CachedSchemaId cachedSchemaId,
+        AtomicInteger retryAttempts,
+        CompletableFuture<CachedSchemaId> future,
+        String response)
+    {
+        long retryAfter = RESET_RETRY_DELAY_MS_DEFAULT;
+        if (response == null)
+        {
+            if (retryAttempts.getAndIncrement() == 0)
+            {
+                retryAfter = RETRY_INITIAL_DELAY_MS_DEFAULT;
+                events.offer(() -> event.onUnretrievableSchemaSubjectVersion(catalogId, subject, version));
+                if (cachedSchemaId != null && cachedSchemaId.id != NO_SCHEMA_ID)
+                {
+                    events.offer(() -> event.onUnretrievableSchemaSubjectVersionStaleSchema(catalogId, subject, version,
+                        cachedSchemaId.id));
+                }
+            }
+
+            if (cachedSchemaId != null)
+            {
+                if (cachedSchemaId.retryAfter != RESET_RETRY_DELAY_MS_DEFAULT)
+                {
+                    retryAfter = Math.min(cachedSchemaId.retryAfter << 1, maxAgeMillis);
+                }
+                future.complete(new CachedSchemaId(cachedSchemaId.timestamp, cachedSchemaId.id,
+                    retryAttempts, retryAfter));
+            }
+            else
+            {
+                future.complete(new CachedSchemaId(System.currentTimeMillis(), NO_SCHEMA_ID,
+                    retryAttempts, retryAfter));
+            }
+        }
+        else
+        {
+            if (retryAttempts.getAndSet(0) > 0)
+            {
+                events.offer(() -> event.onRetrievableSchemaSubjectVersion(catalogId, subject, version));
+            }
+            final CachedSchemaId newCachedSchemaId = new CachedSchemaId(System.currentTimeMillis(),
+                request.resolveResponse(response), retryAttempts, retryAfter);
+            if (newCachedSchemaId.id != NO_SCHEMA_ID)
+            {
+                cache.onSchemaIdResolved(schemaKey, newCachedSchemaId);
+            }
+            future.complete(newCachedSchemaId);
+        }
+    }
+
+    private <T> Void onResponseFailed(
+        CompletableFuture<T> future,
+        Throwable ex)
+    {
+        future.completeExceptionally(ex);
+        return null;
+    }
+
+    private void flushEvents()
+    {
+        Runnable pending;
+        while ((pending = events.poll()) != null)
+        {
+            pending.run();
+        }
+    }
+
+    private CompletableFuture<String> sendHttpRequestAsync(
         String path)
     {
         HttpRequest httpRequest = HttpRequest
@@ -345,17 +408,8 @@ public class KarapaceCatalogHandler implements CatalogHandler
                 .build();
         // TODO: introduce interrupt/timeout for request to schema registry
 
-        String responseBody;
-        try
-        {
-            HttpResponse<String> httpResponse = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
-            responseBody = httpResponse.statusCode() == 200 ? httpResponse.body() : null;
-        }
-        catch (Exception ex)
-        {
-            responseBody = null;
-        }
-        return responseBody;
+        return client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+            .handle((response, ex) -> ex == null && response.statusCode() == 200 ? response.body() : null);
     }
 
     private URI toURI(
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.karapace.internal;
+
+import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_CACHE_DIRECTORY;
+
+import java.nio.file.Path;
+
+import io.aklivity.zilla.runtime.engine.Configuration;
+
+public class KarapaceConfiguration extends Configuration
+{
+    private static final ConfigurationDef KARAPACE_CONFIG;
+
+    public static final BooleanPropertyDef KARAPACE_CACHE_PERSISTENT;
+    public static final PropertyDef<Path> KARAPACE_CACHE_DIRECTORY;
+
+    static
+    {
+        final ConfigurationDef config = new ConfigurationDef("zilla.catalog.karapace");
+        KARAPACE_CACHE_PERSISTENT = config.property("cache.persistent", false);
+        KARAPACE_CACHE_DIRECTORY = config.property(Path.class, "cache.directory",
+            KarapaceConfiguration::cacheDirectory, KarapaceCatalog.NAME);
+        KARAPACE_CONFIG = config;
+    }
+
+    public KarapaceConfiguration(
+        Configuration config)
+    {
+        super(KARAPACE_CONFIG, config);
+    }
+
+    public boolean cachePersistent()
+    {
+        return KARAPACE_CACHE_PERSISTENT.getAsBoolean(this);
+    }
+
+    public Path cacheDirectory()
+    {
+        return KARAPACE_CACHE_DIRECTORY.get(this);
+    }
+
+    private static Path cacheDirectory(
+        Configuration config,
+        String cacheDirectory)
+    {
+        return ENGINE_CACHE_DIRECTORY.get(config).resolve(cacheDirectory);
+    }
+}
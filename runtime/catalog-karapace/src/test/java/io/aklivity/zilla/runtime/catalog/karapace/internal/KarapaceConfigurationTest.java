@@ -0,0 +1,34 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.catalog.karapace.internal;
+
+import static io.aklivity.zilla.runtime.catalog.karapace.internal.KarapaceConfiguration.KARAPACE_CACHE_DIRECTORY;
+import static io.aklivity.zilla.runtime.catalog.karapace.internal.KarapaceConfiguration.KARAPACE_CACHE_PERSISTENT;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class KarapaceConfigurationTest
+{
+    public static final String KARAPACE_CACHE_PERSISTENT_NAME = "zilla.catalog.karapace.cache.persistent";
+    public static final String KARAPACE_CACHE_DIRECTORY_NAME = "zilla.catalog.karapace.cache.directory";
+
+    @Test
+    public void shouldVerifyConstants() throws Exception
+    {
+        assertEquals(KARAPACE_CACHE_PERSISTENT.name(), KARAPACE_CACHE_PERSISTENT_NAME);
+        assertEquals(KARAPACE_CACHE_DIRECTORY.name(), KARAPACE_CACHE_DIRECTORY_NAME);
+    }
+}
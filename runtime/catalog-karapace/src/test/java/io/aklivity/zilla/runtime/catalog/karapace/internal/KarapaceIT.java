@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.catalog.karapace.internal;
 
+import static io.aklivity.zilla.runtime.catalog.karapace.internal.KarapaceConfigurationTest.KARAPACE_CACHE_PERSISTENT_NAME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.rules.RuleChain.outerRule;
@@ -38,6 +39,7 @@ import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
 import io.aklivity.zilla.runtime.engine.model.function.ValueConsumer;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class KarapaceIT
 {
@@ -104,6 +106,30 @@ public class KarapaceIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("resolve/subject/version/zilla.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server",
+        "${local}/resolve.schema.via.subject.version" })
+    @Configure(name = KARAPACE_CACHE_PERSISTENT_NAME, value = "true")
+    public void shouldResolveSchemaIdViaSubjectVersionWithPersistentCache() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("resolve/schema/id/zilla.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server",
+        "${local}/resolve.schema.via.schema.id" })
+    @Configure(name = KARAPACE_CACHE_PERSISTENT_NAME, value = "true")
+    public void shouldResolveSchemaViaSchemaIdWithPersistentCache() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("resolve/subject/version/cache/zilla.yaml")
     @Specification({
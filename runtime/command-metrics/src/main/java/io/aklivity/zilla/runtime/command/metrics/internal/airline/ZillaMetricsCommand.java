@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.command.metrics.internal.airline;
 
 import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_DIRECTORY;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.io.IOException;
@@ -34,6 +35,7 @@ import com.github.rvesse.airline.annotations.Command;
 import com.github.rvesse.airline.annotations.Option;
 
 import io.aklivity.zilla.runtime.command.ZillaCommand;
+import io.aklivity.zilla.runtime.command.metrics.internal.printer.MetricsIntervalPrinter;
 import io.aklivity.zilla.runtime.command.metrics.internal.printer.MetricsPrinter;
 import io.aklivity.zilla.runtime.engine.Configuration;
 import io.aklivity.zilla.runtime.engine.Engine;
@@ -49,6 +51,10 @@ public final class ZillaMetricsCommand extends ZillaCommand
     @Option(name = {"--namespace"})
     public String namespace;
 
+    @Option(name = {"-i", "--interval"},
+        description = "Refresh interval in seconds, showing rates and percentiles per interval")
+    public int interval;
+
     @Option(name = {"-p", "--properties"},
         description = "Path to properties",
         hidden = true)
@@ -86,11 +92,22 @@ public final class ZillaMetricsCommand extends ZillaCommand
             .build())
         {
             engine.start();
-            MetricsReader metrics = new MetricsReader(engine, engine::supplyLocalName);
             LongPredicate filter = supplyFilter(namespace, binding, engine::supplyLabelId);
-            List<MetricRecord> records = filter(metrics.records(), filter);
-            MetricsPrinter printer = new MetricsPrinter(records);
-            printer.print(System.out);
+            if (interval > 0)
+            {
+                MetricsIntervalPrinter printer = new MetricsIntervalPrinter(true);
+                printer.sample(records(engine, filter), System.nanoTime());
+                while (!Thread.currentThread().isInterrupted())
+                {
+                    Thread.sleep(SECONDS.toMillis(interval));
+                    printer.print(System.out, records(engine, filter), System.nanoTime());
+                }
+            }
+            else
+            {
+                MetricsPrinter printer = new MetricsPrinter(records(engine, filter));
+                printer.print(System.out);
+            }
         }
         catch (Throwable ex)
         {
@@ -99,6 +116,14 @@ public final class ZillaMetricsCommand extends ZillaCommand
         }
     }
 
+    private List<MetricRecord> records(
+        Engine engine,
+        LongPredicate filter)
+    {
+        MetricsReader metrics = new MetricsReader(engine, engine::supplyLocalName);
+        return filter(metrics.records(), filter);
+    }
+
     private LongPredicate supplyFilter(
         String namespace,
         String binding,
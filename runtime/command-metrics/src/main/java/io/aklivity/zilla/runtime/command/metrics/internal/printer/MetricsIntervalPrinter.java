@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.command.metrics.internal.printer;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+
+public class MetricsIntervalPrinter
+{
+    private static final String[] HEADERS =
+        {"namespace", "binding", "metric", "value", "delta", "rate/s", "p50", "p90", "p99", "p999"};
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String NONE = "-";
+    private static final String CLEAR_SCREEN = "\033[H\033[2J";
+
+    private static final Comparator<Row> BY_RATE_DESCENDING = Comparator
+        .comparingDouble((Row r) -> r.rate).reversed()
+        .thenComparing(r -> r.columns[0])
+        .thenComparing(r -> r.columns[1])
+        .thenComparing(r -> r.columns[2]);
+
+    private final boolean clear;
+
+    private Map<MetricRecord, long[]> samples = new HashMap<>();
+    private long sampledAt;
+
+    public MetricsIntervalPrinter(
+        boolean clear)
+    {
+        this.clear = clear;
+    }
+
+    public void sample(
+        List<MetricRecord> records,
+        long timeNanos)
+    {
+        Map<MetricRecord, long[]> current = new HashMap<>();
+        for (MetricRecord record : records)
+        {
+            current.put(record, sample(record));
+        }
+        samples = current;
+        sampledAt = timeNanos;
+    }
+
+    public void print(
+        PrintStream out,
+        List<MetricRecord> records,
+        long timeNanos)
+    {
+        final Map<MetricRecord, long[]> previous = samples;
+        final long elapsedNanos = Math.max(timeNanos - sampledAt, 1L);
+        sample(records, timeNanos);
+
+        List<Row> rows = new ArrayList<>(records.size());
+        for (MetricRecord record : records)
+        {
+            rows.add(newRow(record, samples.get(record), previous.get(record), elapsedNanos));
+        }
+        rows.sort(BY_RATE_DESCENDING);
+
+        int[] widths = new int[HEADERS.length];
+        for (int i = 0; i < HEADERS.length; i++)
+        {
+            widths[i] = HEADERS[i].length();
+        }
+        for (Row row : rows)
+        {
+            for (int i = 0; i < widths.length; i++)
+            {
+                widths[i] = Math.max(widths[i], row.columns[i].length());
+            }
+        }
+
+        StringBuilder format = new StringBuilder();
+        for (int i = 0; i < widths.length; i++)
+        {
+            format.append(i != 0 ? "    " : "");
+            format.append(i < 3 ? "%-" : "%").append(widths[i]).append("s");
+        }
+        format.append("\n");
+
+        if (clear)
+        {
+            out.print(CLEAR_SCREEN);
+        }
+        out.format(format.toString(), (Object[]) HEADERS);
+        for (Row row : rows)
+        {
+            out.format(format.toString(), (Object[]) row.columns);
+        }
+        out.println();
+        out.flush();
+    }
+
+    private long[] sample(
+        MetricRecord record)
+    {
+        long[] sample = null;
+        if (record.getClass().equals(ScalarRecord.class))
+        {
+            sample = new long[]{((ScalarRecord) record).valueReader().getAsLong()};
+        }
+        else if (record.getClass().equals(HistogramRecord.class))
+        {
+            HistogramRecord histogram = (HistogramRecord) record;
+            histogram.update();
+            sample = histogram.bucketValues().clone();
+        }
+        return sample;
+    }
+
+    private Row newRow(
+        MetricRecord record,
+        long[] sample,
+        long[] previous,
+        long elapsedNanos)
+    {
+        String[] columns = new String[HEADERS.length];
+        columns[0] = record.namespace();
+        columns[1] = record.binding();
+        columns[2] = record.metric();
+
+        long value = 0L;
+        long delta = 0L;
+        long[] window = new long[sample.length];
+        for (int i = 0; i < sample.length; i++)
+        {
+            window[i] = previous != null ? sample[i] - previous[i] : 0L;
+            value += sample[i];
+            delta += window[i];
+        }
+
+        double rate = (double) delta * SECONDS.toNanos(1) / elapsedNanos;
+        columns[3] = String.valueOf(value);
+        columns[4] = String.valueOf(delta);
+        columns[5] = String.valueOf(Math.round(rate));
+
+        for (int i = 0; i < PERCENTILES.length; i++)
+        {
+            columns[6 + i] = record.getClass().equals(HistogramRecord.class)
+                ? String.valueOf(((HistogramRecord) record).percentile(window, PERCENTILES[i]))
+                : NONE;
+        }
+
+        return new Row(columns, rate);
+    }
+
+    private static final class Row
+    {
+        private final String[] columns;
+        private final double rate;
+
+        private Row(
+            String[] columns,
+            double rate)
+        {
+            this.columns = columns;
+            this.rate = rate;
+        }
+    }
+}
@@ -114,7 +114,7 @@ public class MetricsPrinter
         HistogramRecord record)
     {
         record.update();
-        return String.format("[min: %d | max: %d | cnt: %d | avg: %d]",
-            record.stats()[0], record.stats()[1], record.stats()[3], record.stats()[4]);
+        return String.format("[min: %d | max: %d | cnt: %d | avg: %d | p99: %d]",
+            record.stats()[0], record.stats()[1], record.stats()[3], record.stats()[4], record.percentile(99.0));
     }
 }
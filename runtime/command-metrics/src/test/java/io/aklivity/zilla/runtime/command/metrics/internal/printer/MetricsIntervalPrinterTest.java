@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.command.metrics.internal.printer;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
+import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
+import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
+
+public class MetricsIntervalPrinterTest
+{
+    private static final long BINDING_ID = NamespacedId.id(1, 2);
+    private static final long COUNTER_ID = NamespacedId.id(1, 3);
+    private static final long GAUGE_ID = NamespacedId.id(1, 4);
+    private static final long HISTOGRAM_ID = NamespacedId.id(1, 5);
+
+    private final long[] counter = new long[1];
+    private final long[] gauge = new long[1];
+    private final long[] buckets = new long[63];
+
+    @Test
+    public void shouldPrintRatesAndPercentilesSortedByRate() throws Exception
+    {
+        // GIVEN
+        MetricsIntervalPrinter printer = new MetricsIntervalPrinter(false);
+        counter[0] = 10L;
+        gauge[0] = 5L;
+        buckets[1] = 1L;
+        printer.sample(records(), 0L);
+
+        counter[0] = 40L;
+        gauge[0] = 3L;
+        buckets[7] = 98L;
+        buckets[15] = 2L;
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(os);
+
+        // WHEN
+        printer.print(out, records(), SECONDS.toNanos(2L));
+
+        // THEN
+        List<String> lines = Arrays.stream(os.toString("UTF8").split("\n"))
+            .map(line -> line.trim().replaceAll(" +", " "))
+            .collect(Collectors.toList());
+        assertThat(lines, equalTo(List.of(
+            "namespace binding metric value delta rate/s p50 p90 p99 p999",
+            "ns1 binding1 histogram1 101 100 50 255 255 65535 65535",
+            "ns1 binding1 counter1 40 30 15 - - - -",
+            "ns1 binding1 gauge1 3 -2 -1 - - - -")));
+    }
+
+    @Test
+    public void shouldPrintZeroDeltaForNewRecords() throws Exception
+    {
+        // GIVEN
+        MetricsIntervalPrinter printer = new MetricsIntervalPrinter(false);
+        printer.sample(List.of(), 0L);
+        counter[0] = 42L;
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(os);
+
+        // WHEN
+        printer.print(out, List.of(new ScalarRecord(BINDING_ID, COUNTER_ID, () -> counter[0], this::label)),
+            SECONDS.toNanos(1L));
+
+        // THEN
+        assertThat(os.toString("UTF8").split("\n")[1].replaceAll(" +", " "), equalTo("ns1 binding1 counter1 42 0 0 - - - -"));
+    }
+
+    private List<MetricRecord> records()
+    {
+        LongSupplier[] readers = new LongSupplier[buckets.length];
+        for (int i = 0; i < buckets.length; i++)
+        {
+            final int index = i;
+            readers[i] = () -> buckets[index];
+        }
+        return List.of(
+            new ScalarRecord(BINDING_ID, COUNTER_ID, () -> counter[0], this::label),
+            new ScalarRecord(BINDING_ID, GAUGE_ID, () -> gauge[0], this::label),
+            new HistogramRecord(BINDING_ID, HISTOGRAM_ID, readers, this::label));
+    }
+
+    private String label(
+        long id)
+    {
+        return id == 1L ? "ns1"
+            : id == BINDING_ID ? "binding1"
+            : id == COUNTER_ID ? "counter1"
+            : id == GAUGE_ID ? "gauge1"
+            : "histogram1";
+    }
+}
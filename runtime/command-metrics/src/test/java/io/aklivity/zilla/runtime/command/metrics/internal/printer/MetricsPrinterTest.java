@@ -36,10 +36,10 @@ public class MetricsPrinterTest
     {
         // GIVEN
         String expectedOutput =
-            "namespace    binding     metric                                        value\n" +
-            "ns1          binding1    counter1                                         42\n" +
-            "ns1          binding1    gauge1                                           77\n" +
-            "ns1          binding1    histogram1    [min: 1 | max: 63 | cnt: 2 | avg: 32]\n\n";
+            "namespace    binding     metric                                                  value\n" +
+            "ns1          binding1    counter1                                                   42\n" +
+            "ns1          binding1    gauge1                                                     77\n" +
+            "ns1          binding1    histogram1    [min: 1 | max: 63 | cnt: 2 | avg: 32 | p99: 63]\n\n";
 
         ScalarRecord counterRecord = mock(ScalarRecord.class);
         when(counterRecord.namespace()).thenReturn("ns1");
@@ -58,6 +58,7 @@ public class MetricsPrinterTest
         when(histogramRecord.binding()).thenReturn("binding1");
         when(histogramRecord.metric()).thenReturn("histogram1");
         when(histogramRecord.stats()).thenReturn(new long[]{1L, 63L, 64L, 2L, 32L});
+        when(histogramRecord.percentile(99.0)).thenReturn(63L);
 
         List<MetricRecord> metricRecords = List.of(counterRecord, gaugeRecord, histogramRecord);
         MetricsPrinter printer = new MetricsPrinter(metricRecords);
@@ -15,7 +15,6 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
 import static java.net.http.HttpClient.Redirect.NORMAL;
 import static java.net.http.HttpClient.Version.HTTP_2;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -165,8 +164,8 @@ public final class Engine implements Collector, AutoCloseable
         {
             EngineWorker worker =
                 new EngineWorker(config, tasks, labels, errorHandler, tuning::affinity, bindings, exporters,
-                    guards, vaults, catalogs, models, metricGroups, this, this::supplyEventReader,
-                    eventFormatterFactory, workerIndex, readonly, this::process);
+                    guards, vaults, catalogs, models, metricGroups, this, this::supplyEventReader, this::supplyEventReader,
+                    eventFormatterFactory, this::wakeup, workerIndex, readonly, this::process);
             workers.add(worker);
         }
         this.workers = workers;
@@ -248,6 +247,15 @@ public final class Engine implements Collector, AutoCloseable
         manager.process(config);
     }
 
+    private void wakeup(
+        int workerIndex)
+    {
+        if (workerIndex < workers.size())
+        {
+            workers.get(workerIndex).wakeup();
+        }
+    }
+
     public void start() throws Exception
     {
         for (EngineWorker worker : workers)
@@ -446,8 +454,10 @@ public final class Engine implements Collector, AutoCloseable
         long bindingId,
         long metricId)
     {
-        LongSupplier[] result = new LongSupplier[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
+        // the bucket scheme is expected to be identical in all cores
+        int buckets = workers.get(0).histogramBuckets();
+        LongSupplier[] result = new LongSupplier[buckets];
+        for (int i = 0; i < buckets; i++)
         {
             final int index = i;
             result[index] = () -> aggregateHistogramBucketValue(bindingId, metricId, index);
@@ -505,7 +515,13 @@ public final class Engine implements Collector, AutoCloseable
 
     public MessageReader supplyEventReader()
     {
-        return new EventReader();
+        return new EventReader(EventsLayout.NO_TIMESTAMP);
+    }
+
+    public MessageReader supplyEventReader(
+        long timestamp)
+    {
+        return new EventReader(timestamp);
     }
 
     public String supplyLocalName(
@@ -529,12 +545,15 @@ public final class Engine implements Collector, AutoCloseable
         private int minWorkerIndex;
         private long minTimeStamp;
 
-        EventReader()
+        EventReader(
+            long timestamp)
         {
             accessors = new EventsLayout.EventAccessor[workers.size()];
             for (int i = 0; i < workers.size(); i++)
             {
-                accessors[i] = workers.get(i).createEventAccessor();
+                accessors[i] = timestamp != EventsLayout.NO_TIMESTAMP
+                    ? workers.get(i).createEventAccessor(timestamp)
+                    : workers.get(i).createEventAccessor();
             }
         }
 
@@ -572,6 +591,28 @@ public final class Engine implements Collector, AutoCloseable
             }
             return messagesRead;
         }
+
+        @Override
+        public long lag()
+        {
+            long lag = 0L;
+            for (EventsLayout.EventAccessor accessor : accessors)
+            {
+                lag += accessor.lag();
+            }
+            return lag;
+        }
+
+        @Override
+        public long dropped()
+        {
+            long dropped = 0L;
+            for (EventsLayout.EventAccessor accessor : accessors)
+            {
+                dropped += accessor.dropped();
+            }
+            return dropped;
+        }
     }
 
     // visible for testing
@@ -15,6 +15,7 @@
  */
 package io.aklivity.zilla.runtime.engine;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -54,7 +55,10 @@ public class EngineConfiguration extends Configuration
     public static final IntPropertyDef ENGINE_BUFFER_SLOT_CAPACITY;
     public static final IntPropertyDef ENGINE_STREAMS_BUFFER_CAPACITY;
     public static final IntPropertyDef ENGINE_EVENTS_BUFFER_CAPACITY;
+    public static final LongPropertyDef ENGINE_EVENTS_RETENTION_CAPACITY;
+    public static final BooleanPropertyDef ENGINE_EVENTS_METRICS;
     public static final IntPropertyDef ENGINE_COUNTERS_BUFFER_CAPACITY;
+    public static final IntPropertyDef ENGINE_HISTOGRAM_SUB_BUCKETS;
     public static final IntPropertyDef ENGINE_BUDGETS_BUFFER_CAPACITY;
     public static final BooleanPropertyDef ENGINE_TIMESTAMPS;
     public static final IntPropertyDef ENGINE_MAXIMUM_MESSAGES_PER_READ;
@@ -64,6 +68,9 @@ public class EngineConfiguration extends Configuration
     public static final LongPropertyDef ENGINE_BACKOFF_MAX_YIELDS;
     public static final LongPropertyDef ENGINE_BACKOFF_MIN_PARK_NANOS;
     public static final LongPropertyDef ENGINE_BACKOFF_MAX_PARK_NANOS;
+    public static final PropertyDef<String> ENGINE_IDLE_STRATEGY;
+    public static final LongPropertyDef ENGINE_IDLE_SLEEP_NANOS;
+    public static final BooleanPropertyDef ENGINE_IDLE_STRATEGY_METRICS;
     public static final BooleanPropertyDef ENGINE_DRAIN_ON_CLOSE;
     public static final BooleanPropertyDef ENGINE_SYNTHETIC_ABORT;
     public static final LongPropertyDef ENGINE_ROUTED_DELAY_MILLIS;
@@ -94,9 +101,13 @@ public class EngineConfiguration extends Configuration
                 EngineConfiguration::defaultStreamsBufferCapacity);
         ENGINE_EVENTS_BUFFER_CAPACITY = config.property("events.buffer.capacity",
                 EngineConfiguration::defaultEventsBufferCapacity);
+        ENGINE_EVENTS_RETENTION_CAPACITY = config.property("events.retention.capacity",
+                EngineConfiguration::defaultEventsRetentionCapacity);
+        ENGINE_EVENTS_METRICS = config.property("events.metrics", false);
         ENGINE_BUDGETS_BUFFER_CAPACITY = config.property("budgets.buffer.capacity",
                 EngineConfiguration::defaultBudgetsBufferCapacity);
         ENGINE_COUNTERS_BUFFER_CAPACITY = config.property("counters.buffer.capacity", 1024 * 1024);
+        ENGINE_HISTOGRAM_SUB_BUCKETS = config.property("histogram.sub.buckets", 1);
         ENGINE_TIMESTAMPS = config.property("timestamps", true);
         ENGINE_MAXIMUM_MESSAGES_PER_READ = config.property("maximum.messages.per.read", Integer.MAX_VALUE);
         ENGINE_MAXIMUM_EXPIRATIONS_PER_POLL = config.property("maximum.expirations.per.poll", Integer.MAX_VALUE);
@@ -105,6 +116,9 @@ public class EngineConfiguration extends Configuration
         ENGINE_BACKOFF_MAX_YIELDS = config.property("backoff.idle.strategy.max.yields", 64L);
         ENGINE_BACKOFF_MIN_PARK_NANOS = config.property("backoff.min.park.nanos", NANOSECONDS.toNanos(64L));
         ENGINE_BACKOFF_MAX_PARK_NANOS = config.property("backoff.max.park.nanos", MILLISECONDS.toNanos(100L));
+        ENGINE_IDLE_STRATEGY = config.property("idle.strategy", "backoff");
+        ENGINE_IDLE_SLEEP_NANOS = config.property("idle.sleep.nanos", MICROSECONDS.toNanos(100L));
+        ENGINE_IDLE_STRATEGY_METRICS = config.property("idle.strategy.metrics", false);
         ENGINE_DRAIN_ON_CLOSE = config.property("drain.on.close", false);
         ENGINE_SYNTHETIC_ABORT = config.property("synthetic.abort", false);
         ENGINE_ROUTED_DELAY_MILLIS = config.property("routed.delay.millis", 0L);
@@ -192,11 +206,26 @@ public class EngineConfiguration extends Configuration
         return ENGINE_EVENTS_BUFFER_CAPACITY.getAsInt(this);
     }
 
+    public long eventsRetentionCapacity()
+    {
+        return ENGINE_EVENTS_RETENTION_CAPACITY.getAsLong(this);
+    }
+
+    public boolean eventsMetrics()
+    {
+        return ENGINE_EVENTS_METRICS.getAsBoolean(this);
+    }
+
     public int countersBufferCapacity()
     {
         return ENGINE_COUNTERS_BUFFER_CAPACITY.getAsInt(this);
     }
 
+    public int histogramSubBuckets()
+    {
+        return ENGINE_HISTOGRAM_SUB_BUCKETS.getAsInt(this);
+    }
+
     public int maximumMessagesPerRead()
     {
         return ENGINE_MAXIMUM_MESSAGES_PER_READ.getAsInt(this);
@@ -237,6 +266,21 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BACKOFF_MAX_PARK_NANOS.getAsLong(this);
     }
 
+    public String idleStrategy()
+    {
+        return ENGINE_IDLE_STRATEGY.get(this);
+    }
+
+    public long idleSleepNanos()
+    {
+        return ENGINE_IDLE_SLEEP_NANOS.getAsLong(this);
+    }
+
+    public boolean idleStrategyMetrics()
+    {
+        return ENGINE_IDLE_STRATEGY_METRICS.getAsBoolean(this);
+    }
+
     public boolean drainOnClose()
     {
         return ENGINE_DRAIN_ON_CLOSE.getAsBoolean(this);
@@ -305,6 +349,12 @@ public class EngineConfiguration extends Configuration
         return ENGINE_BUFFER_SLOT_CAPACITY.get(config) * ENGINE_WORKER_CAPACITY.getAsInt(config);
     }
 
+    private static long defaultEventsRetentionCapacity(
+        Configuration config)
+    {
+        return 16L * ENGINE_EVENTS_BUFFER_CAPACITY.getAsInt(config);
+    }
+
     private static int defaultBudgetsBufferCapacity(
         Configuration config)
     {
@@ -170,5 +170,8 @@ public interface EngineContext
 
     MessageReader supplyEventReader();
 
+    MessageReader supplyEventReader(
+        long timestamp);
+
     Clock clock();
 }
@@ -20,4 +20,14 @@ public interface MessageReader
     int read(
         MessageConsumer handler,
         int messageCountLimit);
+
+    default long lag()
+    {
+        return 0L;
+    }
+
+    default long dropped()
+    {
+        return 0L;
+    }
 }
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+public final class CatalogCacheFile
+{
+    private static final String EXT_WORK = ".work";
+
+    private static final int KIND_SCHEMA = 1;
+    private static final int KIND_SCHEMA_ID = 2;
+
+    private static final int FIELD_OFFSET_KIND = 0;
+    private static final int FIELD_OFFSET_KEY = FIELD_OFFSET_KIND + Integer.BYTES;
+    private static final int FIELD_OFFSET_TIMESTAMP = FIELD_OFFSET_KEY + Integer.BYTES;
+    private static final int FIELD_OFFSET_VALUE = FIELD_OFFSET_TIMESTAMP + Long.BYTES;
+    private static final int FIELD_OFFSET_LENGTH = FIELD_OFFSET_VALUE + Integer.BYTES;
+    private static final int FIELD_OFFSET_BYTES = FIELD_OFFSET_LENGTH + Integer.BYTES;
+
+    private static final int COMPACT_RATIO = 2;
+    private static final long COMPACT_MIN_SIZE = 4096L;
+
+    private final Path location;
+    private final byte[] identity;
+    private final Long2LongHashMap recordSizes;
+
+    private FileChannel channel;
+    private long liveSize;
+    private long fileSize;
+
+    public CatalogCacheFile(
+        Path location,
+        String identity)
+    {
+        this.location = location;
+        this.identity = identity.getBytes(UTF_8);
+        this.recordSizes = new Long2LongHashMap(0L);
+    }
+
+    public Path location()
+    {
+        return location;
+    }
+
+    public synchronized void load(
+        RecordLoader loader)
+    {
+        try
+        {
+            if (Files.exists(location))
+            {
+                try (FileChannel channel = FileChannel.open(location, READ))
+                {
+                    final MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                    final DirectBuffer buffer = new UnsafeBuffer(mapped);
+
+                    read(buffer, (kind, key, timestamp, value, record, index, length) ->
+                        onRecordLoaded(loader, kind, key, timestamp, value, record, index, length));
+
+                    IoUtil.unmap(mapped);
+                }
+            }
+
+            compact();
+        }
+        catch (IOException ex)
+        {
+            // best effort, the registry remains the source of truth
+        }
+    }
+
+    public synchronized void writeSchema(
+        int schemaId,
+        String schema)
+    {
+        write(KIND_SCHEMA, schemaId, 0L, 0, schema.getBytes(UTF_8));
+    }
+
+    public synchronized void writeSchemaId(
+        int schemaKey,
+        long timestamp,
+        int schemaId)
+    {
+        write(KIND_SCHEMA_ID, schemaKey, timestamp, schemaId, null);
+    }
+
+    public synchronized void close()
+    {
+        CloseHelper.quietClose(channel);
+        channel = null;
+    }
+
+    private void onRecordLoaded(
+        RecordLoader loader,
+        int kind,
+        int key,
+        long timestamp,
+        int value,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        switch (kind)
+        {
+        case KIND_SCHEMA:
+            final String schema = buffer.getStringWithoutLengthUtf8(index + FIELD_OFFSET_BYTES, length);
+            loader.onSchemaLoaded(key, schema);
+            break;
+        case KIND_SCHEMA_ID:
+            loader.onSchemaIdLoaded(key, timestamp, value);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void read(
+        DirectBuffer buffer,
+        RecordConsumer consumer)
+    {
+        final int limit = buffer.capacity();
+
+        int progress = 0;
+        if (limit >= Integer.BYTES)
+        {
+            final int identityLength = buffer.getInt(progress);
+            progress += Integer.BYTES;
+
+            if (identityLength == identity.length && limit - progress >= identityLength && matchesIdentity(buffer, progress))
+            {
+                progress += identityLength;
+
+                while (limit - progress >= FIELD_OFFSET_BYTES)
+                {
+                    final int kind = buffer.getInt(progress + FIELD_OFFSET_KIND);
+                    final int key = buffer.getInt(progress + FIELD_OFFSET_KEY);
+                    final long timestamp = buffer.getLong(progress + FIELD_OFFSET_TIMESTAMP);
+                    final int value = buffer.getInt(progress + FIELD_OFFSET_VALUE);
+                    final int length = buffer.getInt(progress + FIELD_OFFSET_LENGTH);
+
+                    if (length < 0 || limit - progress - FIELD_OFFSET_BYTES < length)
+                    {
+                        break;
+                    }
+
+                    consumer.accept(kind, key, timestamp, value, buffer, progress, length);
+
+                    progress += FIELD_OFFSET_BYTES + length;
+                }
+            }
+        }
+    }
+
+    private boolean matchesIdentity(
+        DirectBuffer buffer,
+        int index)
+    {
+        boolean matches = true;
+        for (int i = 0; matches && i < identity.length; i++)
+        {
+            matches = buffer.getByte(index + i) == identity[i];
+        }
+        return matches;
+    }
+
+    private void compact() throws IOException
+    {
+        final Path workingFile = location.resolveSibling(location.getFileName() + EXT_WORK);
+        final Map<Long, byte[]> records = new LinkedHashMap<>();
+
+        close();
+
+        if (Files.exists(location))
+        {
+            try (FileChannel channel = FileChannel.open(location, READ))
+            {
+                final MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                final DirectBuffer buffer = new UnsafeBuffer(mapped);
+
+                read(buffer, (kind, key, timestamp, value, record, index, length) ->
+                {
+                    final byte[] bytes = new byte[FIELD_OFFSET_BYTES + length];
+                    record.getBytes(index, bytes);
+                    records.remove(recordKey(kind, key));
+                    records.put(recordKey(kind, key), bytes);
+                });
+
+                IoUtil.unmap(mapped);
+            }
+        }
+
+        Files.createDirectories(location.getParent());
+
+        recordSizes.clear();
+        liveSize = Integer.BYTES + identity.length;
+
+        try (FileChannel channel = FileChannel.open(workingFile, CREATE, TRUNCATE_EXISTING, WRITE))
+        {
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + identity.length);
+            final MutableDirectBuffer headerBuf = new UnsafeBuffer(header);
+            headerBuf.putInt(0, identity.length);
+            headerBuf.putBytes(Integer.BYTES, identity);
+            writeFully(channel, header);
+
+            for (Map.Entry<Long, byte[]> entry : records.entrySet())
+            {
+                final byte[] record = entry.getValue();
+                writeFully(channel, ByteBuffer.wrap(record));
+                recordSizes.put(entry.getKey(), record.length);
+                liveSize += record.length;
+            }
+        }
+
+        Files.move(workingFile, location, REPLACE_EXISTING);
+
+        fileSize = liveSize;
+    }
+
+    private void write(
+        int kind,
+        int key,
+        long timestamp,
+        int value,
+        byte[] bytes)
+    {
+        try
+        {
+            if (channel == null)
+            {
+                channel = FileChannel.open(location, CREATE, WRITE, APPEND);
+            }
+
+            final ByteBuffer record = encode(kind, key, timestamp, value, bytes);
+            final int size = record.remaining();
+            writeFully(channel, record);
+
+            final long previousSize = recordSizes.put(recordKey(kind, key), size);
+            liveSize += size - previousSize;
+            fileSize += size;
+
+            if (fileSize > COMPACT_MIN_SIZE && fileSize > COMPACT_RATIO * liveSize)
+            {
+                compact();
+            }
+        }
+        catch (IOException ex)
+        {
+            // best effort, the registry remains the source of truth
+            close();
+        }
+    }
+
+    private static long recordKey(
+        int kind,
+        int key)
+    {
+        return (long) kind << Integer.SIZE | key & 0xffff_ffffL;
+    }
+
+    private static ByteBuffer encode(
+        int kind,
+        int key,
+        long timestamp,
+        int value,
+        byte[] bytes)
+    {
+        final int length = bytes != null ? bytes.length : 0;
+        final ByteBuffer byteBuf = ByteBuffer.allocate(FIELD_OFFSET_BYTES + length);
+        final MutableDirectBuffer buffer = new UnsafeBuffer(byteBuf);
+
+        buffer.putInt(FIELD_OFFSET_KIND, kind);
+        buffer.putInt(FIELD_OFFSET_KEY, key);
+        buffer.putLong(FIELD_OFFSET_TIMESTAMP, timestamp);
+        buffer.putInt(FIELD_OFFSET_VALUE, value);
+        buffer.putInt(FIELD_OFFSET_LENGTH, length);
+        if (bytes != null)
+        {
+            buffer.putBytes(FIELD_OFFSET_BYTES, bytes);
+        }
+
+        return byteBuf;
+    }
+
+    private static void writeFully(
+        FileChannel channel,
+        ByteBuffer byteBuf) throws IOException
+    {
+        while (byteBuf.hasRemaining())
+        {
+            channel.write(byteBuf);
+        }
+    }
+
+    public interface RecordLoader
+    {
+        void onSchemaLoaded(
+            int schemaId,
+            String schema);
+
+        void onSchemaIdLoaded(
+            int schemaKey,
+            long timestamp,
+            int schemaId);
+    }
+
+    @FunctionalInterface
+    private interface RecordConsumer
+    {
+        void accept(
+            int kind,
+            int key,
+            long timestamp,
+            int value,
+            DirectBuffer buffer,
+            int index,
+            int length);
+    }
+}
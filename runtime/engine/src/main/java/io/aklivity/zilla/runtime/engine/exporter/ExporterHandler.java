@@ -22,4 +22,14 @@ public interface ExporterHandler
     int export();
 
     void stop();
+
+    default long eventsLag()
+    {
+        return 0L;
+    }
+
+    default long eventsDropped()
+    {
+        return 0L;
+    }
 }
@@ -15,6 +15,8 @@
  */
 package io.aklivity.zilla.runtime.engine.internal.exporter;
 
+import java.util.function.LongConsumer;
+
 import org.agrona.concurrent.Agent;
 
 import io.aklivity.zilla.runtime.engine.exporter.ExporterHandler;
@@ -23,13 +25,22 @@ public class ExporterAgent implements Agent
 {
     private final String agentName;
     private final ExporterHandler handler;
+    private final LongConsumer eventsLag;
+    private final LongConsumer eventsDropped;
+
+    private long lastEventsLag;
+    private long lastEventsDropped;
 
     public ExporterAgent(
         long exporterId,
-        ExporterHandler handler)
+        ExporterHandler handler,
+        LongConsumer eventsLag,
+        LongConsumer eventsDropped)
     {
         this.agentName = String.format("engine/exporter#%d", exporterId);
         this.handler = handler;
+        this.eventsLag = eventsLag;
+        this.eventsDropped = eventsDropped;
     }
 
     @Override
@@ -41,13 +52,41 @@ public class ExporterAgent implements Agent
     @Override
     public int doWork()
     {
-        return handler.export();
+        final int workDone = handler.export();
+
+        if (eventsLag != null)
+        {
+            final long lag = handler.eventsLag();
+            if (lag != lastEventsLag)
+            {
+                eventsLag.accept(lag - lastEventsLag);
+                lastEventsLag = lag;
+            }
+        }
+
+        if (eventsDropped != null)
+        {
+            final long dropped = handler.eventsDropped();
+            if (dropped != lastEventsDropped)
+            {
+                eventsDropped.accept(dropped - lastEventsDropped);
+                lastEventsDropped = dropped;
+            }
+        }
+
+        return workDone;
     }
 
     @Override
     public void onClose()
     {
         handler.stop();
+
+        if (eventsLag != null)
+        {
+            eventsLag.accept(-lastEventsLag);
+            lastEventsLag = 0L;
+        }
     }
 
     @Override
@@ -16,23 +16,34 @@
 package io.aklivity.zilla.runtime.engine.internal.layouts;
 
 import static io.aklivity.zilla.runtime.engine.internal.spy.RingBufferSpy.SpyPosition.ZERO;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.agrona.IoUtil.createEmptyFile;
 import static org.agrona.IoUtil.mapExistingFile;
 import static org.agrona.IoUtil.unmap;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.MappedByteBuffer;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
@@ -45,24 +56,52 @@ import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
 import io.aklivity.zilla.runtime.engine.binding.function.MessageConsumer;
 import io.aklivity.zilla.runtime.engine.internal.spy.OneToOneRingBufferSpy;
 import io.aklivity.zilla.runtime.engine.internal.spy.RingBufferSpy;
+import io.aklivity.zilla.runtime.engine.internal.types.event.EventFW;
 
 public final class EventsLayout implements AutoCloseable
 {
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    private static final String INDEX_SUFFIX = ".index";
+    private static final String INFLATED_SUFFIX = ".inflated";
+    private static final int EMPTY_CAPACITY = 64;
+    private static final MessageConsumer NO_EVENT = (m, b, i, l) -> {};
+
     private final Path path;
     private final long capacity;
+    private final long retention;
+    private final Executor executor;
     private final List<EventAccessor> accessors;
+    private final Deque<Segment> segments;
+    private final EventFW eventRO = new EventFW();
+    private final AtomicLong written;
 
     private RingBuffer buffer;
+    private long nextSegmentId;
+    private volatile long liveStart;
+    private volatile long retainedStart;
+    private long firstTimestamp;
+    private long lastTimestamp;
 
     private EventsLayout(
         Path path,
         long capacity,
+        long retention,
+        Executor executor,
         RingBuffer buffer)
     {
         this.path = path;
         this.capacity = capacity;
+        this.retention = retention;
+        this.executor = executor;
         this.buffer = buffer;
-        this.accessors = new ArrayList<>();
+        this.accessors = new CopyOnWriteArrayList<>();
+        this.segments = new ArrayDeque<>();
+        this.written = new AtomicLong();
+        this.firstTimestamp = NO_TIMESTAMP;
+        this.lastTimestamp = NO_TIMESTAMP;
+        restoreIndex();
     }
 
     @Override
@@ -81,26 +120,83 @@ public final class EventsLayout implements AutoCloseable
         if (!success)
         {
             rotateFile();
-            buffer.write(msgTypeId, recordBuffer, index, length);
+            success = buffer.write(msgTypeId, recordBuffer, index, length);
+        }
+
+        if (success)
+        {
+            written.lazySet(written.get() + 1L);
+        }
+
+        final EventFW event = eventRO.tryWrap(recordBuffer, index, index + length);
+        if (success && event != null)
+        {
+            final long timestamp = event.timestamp();
+            if (firstTimestamp == NO_TIMESTAMP)
+            {
+                firstTimestamp = timestamp;
+            }
+            lastTimestamp = timestamp;
         }
     }
 
     public EventAccessor createEventAccessor()
     {
-        RingBufferSpy ringBufferSpy = createRingBufferSpy();
-        EventAccessor accessor = new EventAccessor(ringBufferSpy);
-        accessors.add(accessor);
+        EventAccessor accessor;
+        synchronized (segments)
+        {
+            accessor = new EventAccessor(new SegmentSpy(createRingBufferSpy(), liveStart), NO_TIMESTAMP);
+            accessors.add(accessor);
+        }
+        return accessor;
+    }
+
+    public EventAccessor createEventAccessor(
+        long timestamp)
+    {
+        EventAccessor accessor;
+        synchronized (segments)
+        {
+            Queue<SegmentSpy> spies = new LinkedList<>();
+            for (Segment segment : segments)
+            {
+                if (segment.lastTimestamp >= timestamp)
+                {
+                    spies.add(new SegmentSpy(segment));
+                }
+            }
+            spies.add(new SegmentSpy(createRingBufferSpy(), liveStart));
+
+            accessor = new EventAccessor(spies.poll(), timestamp);
+            spies.forEach(accessor::addNextBufferSpy);
+            accessors.add(accessor);
+        }
         return accessor;
     }
 
+    public long written()
+    {
+        return written.get();
+    }
+
+    public long retained()
+    {
+        synchronized (segments)
+        {
+            return segments.stream().mapToLong(s -> s.size).sum();
+        }
+    }
+
     private void rotateFile()
     {
         close();
-        String timestamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
-        Path newPath = Path.of(String.format("%s_%s", path, timestamp));
+        final long start = liveStart;
+        final Segment segment = new Segment(nextSegmentId++, firstTimestamp, lastTimestamp, start, written.get() - start);
+        final Path segmentPath = segment.path(false);
         try
         {
-            Files.move(path, newPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(path, segmentPath, REPLACE_EXISTING);
+            segment.size = Files.size(segmentPath);
         }
         catch (IOException ex)
         {
@@ -108,7 +204,214 @@ public final class EventsLayout implements AutoCloseable
             rethrowUnchecked(ex);
         }
         buffer = createRingBuffer(path, capacity);
-        accessors.forEach(a -> a.addNextBufferSpy(createRingBufferSpy()));
+        firstTimestamp = NO_TIMESTAMP;
+        lastTimestamp = NO_TIMESTAMP;
+
+        synchronized (segments)
+        {
+            liveStart = written.get();
+            segments.addLast(segment);
+            evictSegments();
+            persistIndex();
+            accessors.forEach(a -> a.addNextBufferSpy(new SegmentSpy(createRingBufferSpy(), liveStart)));
+        }
+
+        if (executor != null)
+        {
+            executor.execute(() -> compressSegment(segment));
+        }
+        else
+        {
+            compressSegment(segment);
+        }
+    }
+
+    private void compressSegment(
+        Segment segment)
+    {
+        final Path source = segment.path(false);
+        final Path target = segment.path(true);
+        try
+        {
+            synchronized (segments)
+            {
+                if (!segments.contains(segment))
+                {
+                    return;
+                }
+            }
+
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(target)))
+            {
+                in.transferTo(out);
+            }
+
+            synchronized (segments)
+            {
+                if (segments.contains(segment))
+                {
+                    segment.compressed = true;
+                    segment.size = Files.size(target);
+                    Files.delete(source);
+                    evictSegments();
+                    persistIndex();
+                }
+                else
+                {
+                    Files.deleteIfExists(target);
+                }
+            }
+        }
+        catch (IOException ex)
+        {
+            ex.printStackTrace();
+        }
+    }
+
+    private void evictSegments()
+    {
+        long retained = segments.stream().mapToLong(s -> s.size).sum();
+        while (retained > retention && !segments.isEmpty())
+        {
+            Segment segment = segments.removeFirst();
+            retained -= segment.size;
+            try
+            {
+                Files.deleteIfExists(segment.path(false));
+                Files.deleteIfExists(segment.path(true));
+            }
+            catch (IOException ex)
+            {
+                ex.printStackTrace();
+            }
+        }
+        retainedStart = segments.isEmpty() ? liveStart : segments.peekFirst().start;
+    }
+
+    private void persistIndex()
+    {
+        final Path indexPath = Path.of(path + INDEX_SUFFIX);
+        final Path indexTempPath = Path.of(path + INDEX_SUFFIX + ".tmp");
+        try
+        {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(indexTempPath)))
+            {
+                for (Segment segment : segments)
+                {
+                    out.writeLong(segment.id);
+                    out.writeLong(segment.firstTimestamp);
+                    out.writeLong(segment.lastTimestamp);
+                    out.writeLong(segment.start);
+                    out.writeLong(segment.count);
+                    out.writeLong(segment.size);
+                    out.writeBoolean(segment.compressed);
+                }
+            }
+            Files.move(indexTempPath, indexPath, REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+        catch (IOException ex)
+        {
+            ex.printStackTrace();
+        }
+    }
+
+    private void restoreIndex()
+    {
+        final Path indexPath = Path.of(path + INDEX_SUFFIX);
+        if (Files.exists(indexPath))
+        {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(indexPath)))
+            {
+                while (in.available() > 0)
+                {
+                    Segment segment = new Segment(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+                    segment.size = in.readLong();
+                    segment.compressed = in.readBoolean();
+                    if (Files.exists(segment.path(segment.compressed)))
+                    {
+                        segments.addLast(segment);
+                    }
+                    nextSegmentId = Math.max(nextSegmentId, segment.id + 1);
+                    written.set(Math.max(written.get(), segment.start + segment.count));
+                }
+            }
+            catch (IOException ex)
+            {
+                ex.printStackTrace();
+            }
+        }
+        liveStart = written.get();
+        retainedStart = segments.isEmpty() ? liveStart : segments.peekFirst().start;
+        deleteInflatedSegments();
+    }
+
+    private void deleteInflatedSegments()
+    {
+        final Path directory = path.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory))
+        {
+            return;
+        }
+
+        final String glob = String.format("%s_*%s", path.getFileName(), INFLATED_SUFFIX);
+        try (DirectoryStream<Path> inflated = Files.newDirectoryStream(directory, glob))
+        {
+            for (Path inflatedPath : inflated)
+            {
+                Files.deleteIfExists(inflatedPath);
+            }
+        }
+        catch (IOException ex)
+        {
+            ex.printStackTrace();
+        }
+    }
+
+    private RingBufferSpy createSegmentSpy(
+        SegmentSpy segmentSpy)
+    {
+        final Segment segment = segmentSpy.segment;
+        AtomicBuffer atomicBuffer = null;
+        try
+        {
+            synchronized (segments)
+            {
+                if (segments.contains(segment) && !segment.compressed)
+                {
+                    atomicBuffer = createAtomicBuffer(segment.path(false), 0, false);
+                }
+            }
+
+            if (atomicBuffer == null && Files.exists(segment.path(true)))
+            {
+                final Path directory = path.toAbsolutePath().getParent();
+                final String prefix = String.format("%s_%d.", path.getFileName(), segment.id);
+                final Path inflated = Files.createTempFile(directory, prefix, INFLATED_SUFFIX);
+                segmentSpy.inflated = inflated;
+
+                try (InputStream in = new GZIPInputStream(Files.newInputStream(segment.path(true)));
+                     OutputStream out = Files.newOutputStream(inflated))
+                {
+                    in.transferTo(out);
+                }
+                atomicBuffer = createAtomicBuffer(inflated, 0, false);
+            }
+        }
+        catch (IOException ex)
+        {
+            // segment evicted while inflating
+            atomicBuffer = null;
+        }
+
+        if (atomicBuffer == null)
+        {
+            atomicBuffer = new UnsafeBuffer(new byte[EMPTY_CAPACITY + RingBufferDescriptor.TRAILER_LENGTH]);
+        }
+
+        OneToOneRingBufferSpy spy = new OneToOneRingBufferSpy(atomicBuffer);
+        spy.spyAt(ZERO);
+        return spy;
     }
 
     private RingBufferSpy createRingBufferSpy()
@@ -141,54 +444,233 @@ public final class EventsLayout implements AutoCloseable
         return new OneToOneRingBuffer(atomicBuffer);
     }
 
-    public static final class EventAccessor
+    private final class Segment
+    {
+        private final long id;
+        private final long firstTimestamp;
+        private final long lastTimestamp;
+        private final long start;
+        private final long count;
+
+        private long size;
+        private boolean compressed;
+
+        private Segment(
+            long id,
+            long firstTimestamp,
+            long lastTimestamp,
+            long start,
+            long count)
+        {
+            this.id = id;
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = lastTimestamp;
+            this.start = start;
+            this.count = count;
+        }
+
+        private Path path(
+            boolean compressed)
+        {
+            String segmentPath = String.format("%s_%d", path, id);
+            return Path.of(compressed ? segmentPath + COMPRESSED_SUFFIX : segmentPath);
+        }
+    }
+
+    private final class SegmentSpy
+    {
+        private final Segment segment;
+        private final long start;
+
+        private RingBufferSpy spy;
+        private Path inflated;
+
+        private SegmentSpy(
+            RingBufferSpy spy,
+            long start)
+        {
+            this.segment = null;
+            this.spy = spy;
+            this.start = start;
+        }
+
+        private SegmentSpy(
+            Segment segment)
+        {
+            this.segment = segment;
+            this.start = segment.start;
+        }
+
+        private RingBufferSpy acquire()
+        {
+            if (spy == null)
+            {
+                spy = createSegmentSpy(this);
+            }
+            return spy;
+        }
+
+        private void release()
+        {
+            if (spy != null)
+            {
+                unmap(spy.buffer().byteBuffer());
+                spy = null;
+            }
+
+            if (inflated != null)
+            {
+                try
+                {
+                    Files.deleteIfExists(inflated);
+                }
+                catch (IOException ex)
+                {
+                    ex.printStackTrace();
+                }
+                inflated = null;
+            }
+        }
+    }
+
+    public final class EventAccessor
     {
-        private final Queue<RingBufferSpy> nextBufferSpies;
-        private RingBufferSpy bufferSpy;
+        private final Queue<SegmentSpy> nextBufferSpies;
+        private final EventFW eventRO = new EventFW();
+        private SegmentSpy segmentSpy;
+        private long position;
+        private long dropped;
+        private long fromTimestamp;
+        private boolean stale;
 
         private EventAccessor(
-            RingBufferSpy bufferSpy)
+            SegmentSpy segmentSpy,
+            long fromTimestamp)
         {
-            this.nextBufferSpies = new LinkedList<>();
-            this.bufferSpy = bufferSpy;
+            this.nextBufferSpies = new ConcurrentLinkedQueue<>();
+            this.segmentSpy = segmentSpy;
+            this.position = segmentSpy.start;
+            this.fromTimestamp = fromTimestamp;
         }
 
         public int readEvent(
             MessageConsumer handler,
             int messageCountLimit)
         {
-            int result = bufferSpy.spy(handler, messageCountLimit);
-            if (result == 0 && !nextBufferSpies.isEmpty())
+            skipEvictedEvents();
+            skipStaleEvents();
+            int result = segmentSpy.acquire().spy(handler, messageCountLimit);
+            if (result == 0 && nextBufferSpy())
             {
-                bufferSpy = nextBufferSpies.poll();
-                result = bufferSpy.spy(handler, messageCountLimit);
+                result = segmentSpy.acquire().spy(handler, messageCountLimit);
             }
+            position += result;
             return result;
         }
 
         public int peekEvent(
             MessageConsumer handler)
         {
-            int result = bufferSpy.peek(handler);
-            if (result == 0 && !nextBufferSpies.isEmpty())
+            skipEvictedEvents();
+            skipStaleEvents();
+            int result = segmentSpy.acquire().peek(handler);
+            if (result == 0 && nextBufferSpy())
             {
-                bufferSpy = nextBufferSpies.poll();
-                result = bufferSpy.peek(handler);
+                result = segmentSpy.acquire().peek(handler);
             }
             return result;
         }
 
+        public long lag()
+        {
+            return Math.max(written.get() - position, 0L);
+        }
+
+        public long dropped()
+        {
+            return dropped;
+        }
+
+        private void skipEvictedEvents()
+        {
+            final long retainedStart = EventsLayout.this.retainedStart;
+            if (position < retainedStart)
+            {
+                SegmentSpy next = nextBufferSpies.peek();
+                while (next != null && next.start <= retainedStart)
+                {
+                    segmentSpy.release();
+                    nextBufferSpies.poll();
+                    segmentSpy = next;
+                    dropped += Math.max(next.start - position, 0L);
+                    position = Math.max(next.start, position);
+                    next = nextBufferSpies.peek();
+                }
+            }
+        }
+
+        private void skipStaleEvents()
+        {
+            while (fromTimestamp != NO_TIMESTAMP)
+            {
+                stale = false;
+                int peeked = segmentSpy.acquire().peek(this::checkStale);
+                if (peeked == 0 && nextBufferSpy())
+                {
+                    peeked = segmentSpy.acquire().peek(this::checkStale);
+                }
+
+                if (peeked == 0)
+                {
+                    break;
+                }
+
+                if (stale)
+                {
+                    position += segmentSpy.acquire().spy(NO_EVENT, 1);
+                }
+                else
+                {
+                    fromTimestamp = NO_TIMESTAMP;
+                }
+            }
+        }
+
+        private void checkStale(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            final EventFW event = eventRO.tryWrap(buffer, index, index + length);
+            stale = event != null && event.timestamp() < fromTimestamp;
+        }
+
+        private boolean nextBufferSpy()
+        {
+            final SegmentSpy next = nextBufferSpies.poll();
+            if (next != null)
+            {
+                segmentSpy.release();
+                segmentSpy = next;
+                position = Math.max(next.start, position);
+            }
+            return next != null;
+        }
+
         private void addNextBufferSpy(
-            RingBufferSpy bufferSpy)
+            SegmentSpy segmentSpy)
         {
-            this.nextBufferSpies.add(bufferSpy);
+            this.nextBufferSpies.add(segmentSpy);
         }
     }
 
     public static final class Builder
     {
         private long capacity;
+        private long retention = Long.MAX_VALUE;
         private Path path;
+        private Executor executor;
 
         public Builder capacity(
             long capacity)
@@ -197,6 +679,13 @@ public final class EventsLayout implements AutoCloseable
             return this;
         }
 
+        public Builder retention(
+            long retention)
+        {
+            this.retention = retention;
+            return this;
+        }
+
         public Builder path(
             Path path)
         {
@@ -204,10 +693,17 @@ public final class EventsLayout implements AutoCloseable
             return this;
         }
 
+        public Builder executor(
+            Executor executor)
+        {
+            this.executor = executor;
+            return this;
+        }
+
         public EventsLayout build()
         {
             RingBuffer ringBuffer = createRingBuffer(path, capacity);
-            return new EventsLayout(path, capacity, ringBuffer);
+            return new EventsLayout(path, capacity, retention, executor, ringBuffer);
         }
     }
 }
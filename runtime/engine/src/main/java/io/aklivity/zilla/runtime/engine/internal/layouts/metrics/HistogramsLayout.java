@@ -30,25 +30,51 @@ import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
 import org.agrona.concurrent.AtomicBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class HistogramsLayout extends MetricsLayout
 {
-    public static final int BUCKETS = 63;
-    public static final long[] BUCKET_LIMITS = generateBucketLimits();
+    public static final int DEFAULT_SUB_BUCKETS = 1;
+    public static final int MAX_SUB_BUCKETS = 64;
+    public static final int BUCKETS = buckets(DEFAULT_SUB_BUCKETS);
+    public static final long[] BUCKET_LIMITS = bucketLimits(DEFAULT_SUB_BUCKETS);
 
-    // We use the buffer to store structs {long bindingId, long metricId, long[] values}
+    // The file starts with a header {int subBuckets, int reserved} so that readers discover the bucket scheme,
+    // followed by structs {long bindingId, long metricId, long[] values}
+    private static final int HEADER_SIZE = FIELD_SIZE;
+    private static final int SUB_BUCKETS_OFFSET = 0;
     private static final int VALUES_OFFSET = 2 * FIELD_SIZE;
-    private static final int ARRAY_SIZE = BUCKETS * FIELD_SIZE;
-    private static final int RECORD_SIZE = 2 * FIELD_SIZE + ARRAY_SIZE;
     private static final LongSupplier ZERO_LONG_SUPPLIER = () -> 0L;
 
+    private final int subBucketBits;
+    private final int buckets;
+    private final long[] bucketLimits;
+    private final int arraySize;
+    private final int recordSize;
+
     private HistogramsLayout(
-        AtomicBuffer buffer)
+        AtomicBuffer buffer,
+        int subBuckets)
     {
         super(buffer);
+        this.subBucketBits = Integer.numberOfTrailingZeros(subBuckets);
+        this.buckets = buckets(subBuckets);
+        this.bucketLimits = bucketLimits(subBuckets);
+        this.arraySize = buckets * FIELD_SIZE;
+        this.recordSize = 2 * FIELD_SIZE + arraySize;
+    }
+
+    public int buckets()
+    {
+        return buckets;
+    }
+
+    public long[] bucketLimits()
+    {
+        return bucketLimits;
     }
 
     @Override
@@ -57,7 +83,7 @@ public final class HistogramsLayout extends MetricsLayout
         long metricId)
     {
         int index = findOrSetPosition(bindingId, metricId);
-        return value -> buffer.getAndAddLong(index + VALUES_OFFSET + findBucket(value) * FIELD_SIZE, 1);
+        return value -> addOrdered(index + VALUES_OFFSET + findBucket(value) * FIELD_SIZE, 1L);
     }
 
     @Override
@@ -77,14 +103,14 @@ public final class HistogramsLayout extends MetricsLayout
         int index = findPosition(bindingId, metricId);
         if (index == -1) // not found
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets)
                     .mapToObj(bucket -> ZERO_LONG_SUPPLIER)
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
         }
         else
         {
-            readers = IntStream.range(0, BUCKETS)
+            readers = IntStream.range(0, buckets)
                     .mapToObj(bucket -> newLongSupplier(index + VALUES_OFFSET + bucket * FIELD_SIZE))
                     .collect(Collectors.toList())
                     .toArray(LongSupplier[]::new);
@@ -96,13 +122,13 @@ public final class HistogramsLayout extends MetricsLayout
         long value)
     {
         assert value >= 0;
-        return Math.max(63 - Long.numberOfLeadingZeros(value), 0);
+        return bucketIndex(value, subBucketBits);
     }
 
     private LongSupplier newLongSupplier(
         int index)
     {
-        return () -> buffer.getLong(index);
+        return () -> buffer.getLongVolatile(index);
     }
 
     @Override
@@ -111,29 +137,73 @@ public final class HistogramsLayout extends MetricsLayout
         long metricId,
         int index)
     {
-        buffer.putLong(index + BINDING_ID_OFFSET, bindingId);
-        buffer.putLong(index + METRIC_ID_OFFSET, metricId);
-        ByteBuffer initialValues = ByteBuffer.allocate(ARRAY_SIZE); // all zeroes
+        ByteBuffer initialValues = ByteBuffer.allocate(arraySize); // all zeroes
         buffer.putBytes(index + VALUES_OFFSET, initialValues.array());
+        publishRecord(bindingId, metricId, index);
     }
 
     @Override
     protected int recordSize()
     {
-        return RECORD_SIZE;
+        return recordSize;
+    }
+
+    public static int buckets(
+        int subBuckets)
+    {
+        assert BitUtil.isPowerOfTwo(subBuckets);
+        final int subBucketBits = Integer.numberOfTrailingZeros(subBuckets);
+        return ((64 - subBucketBits) << subBucketBits) - 1;
     }
 
     // exclusive upper limits of each bucket
-    private static long[] generateBucketLimits()
+    public static long[] bucketLimits(
+        int subBuckets)
     {
-        long[] limits = new long[BUCKETS];
-        for (int i = 0; i < BUCKETS; i++)
+        final int subBucketBits = Integer.numberOfTrailingZeros(subBuckets);
+        final int buckets = buckets(subBuckets);
+        long[] limits = new long[buckets];
+        for (int i = 0; i < buckets; i++)
         {
-            limits[i] = 1L << (i + 1);
+            limits[i] = bucketLowerBound(i + 2, subBucketBits);
         }
         return limits;
     }
 
+    // smallest sub buckets scheme with at least the given number of buckets
+    public static int subBuckets(
+        int buckets)
+    {
+        int subBuckets = DEFAULT_SUB_BUCKETS;
+        while (subBuckets < MAX_SUB_BUCKETS && buckets(subBuckets) < buckets)
+        {
+            subBuckets <<= 1;
+        }
+        return subBuckets;
+    }
+
+    // log-linear: each power of two is split into 2^subBucketBits equal width sub-buckets,
+    // values below 2^(subBucketBits + 1) are tracked exactly, except 0 and 1 which share the first bucket
+    private static int bucketIndex(
+        long value,
+        int subBucketBits)
+    {
+        final int exponent = Math.max(63 - Long.numberOfLeadingZeros(value), subBucketBits);
+        final int shift = exponent - subBucketBits;
+        final int index = (shift << subBucketBits) + (int) (value >>> shift);
+        return Math.max(index - 1, 0);
+    }
+
+    private static long bucketLowerBound(
+        int index,
+        int subBucketBits)
+    {
+        final int subBuckets = 1 << subBucketBits;
+        final int shift = Math.max((index >> subBucketBits) - 1, 0);
+        final long mantissa = index < subBuckets ? index : (index & (subBuckets - 1)) + subBuckets;
+        return mantissa << shift;
+    }
+
     public static final class Builder
     {
         public static final String HISTOGRAMS_LABEL = "histograms";
@@ -141,6 +211,7 @@ public final class HistogramsLayout extends MetricsLayout
         private long capacity;
         private Path path;
         private boolean readonly;
+        private int subBuckets = DEFAULT_SUB_BUCKETS;
 
         public Builder capacity(
             long capacity)
@@ -163,6 +234,17 @@ public final class HistogramsLayout extends MetricsLayout
             return this;
         }
 
+        public Builder subBuckets(
+            int subBuckets)
+        {
+            if (!BitUtil.isPowerOfTwo(subBuckets) || subBuckets > MAX_SUB_BUCKETS)
+            {
+                throw new IllegalArgumentException(String.format("Invalid histogram sub buckets: %d", subBuckets));
+            }
+            this.subBuckets = subBuckets;
+            return this;
+        }
+
         public HistogramsLayout build()
         {
             final File layoutFile = path.toFile();
@@ -172,8 +254,17 @@ public final class HistogramsLayout extends MetricsLayout
             }
             FileChannel.MapMode mode = readonly ? READ_ONLY : READ_WRITE;
             MappedByteBuffer mappedBuffer = mapExistingFile(layoutFile, mode, HISTOGRAMS_LABEL);
-            final AtomicBuffer atomicBuffer = new UnsafeBuffer(mappedBuffer);
-            return new HistogramsLayout(atomicBuffer);
+            final AtomicBuffer header = new UnsafeBuffer(mappedBuffer, 0, HEADER_SIZE);
+            if (readonly)
+            {
+                subBuckets = Math.max(header.getIntVolatile(SUB_BUCKETS_OFFSET), DEFAULT_SUB_BUCKETS);
+            }
+            else
+            {
+                header.putIntOrdered(SUB_BUCKETS_OFFSET, subBuckets);
+            }
+            final AtomicBuffer atomicBuffer = new UnsafeBuffer(mappedBuffer, HEADER_SIZE, mappedBuffer.capacity() - HEADER_SIZE);
+            return new HistogramsLayout(atomicBuffer, subBuckets);
         }
     }
 }
@@ -27,6 +27,9 @@ import java.util.stream.StreamSupport;
 import org.agrona.BitUtil;
 import org.agrona.concurrent.AtomicBuffer;
 
+// Records are created only by the owning EngineWorker, which updates its values with plain adds and ordered stores.
+// Values also written from another thread, such as exporter metrics, use a shared writer with atomic adds instead.
+// Readers observe each value atomically, but not a consistent snapshot across values or records.
 public abstract class MetricsLayout implements AutoCloseable
 {
     protected static final int FIELD_SIZE = BitUtil.SIZE_OF_LONG;
@@ -80,7 +83,7 @@ public abstract class MetricsLayout implements AutoCloseable
         boolean done = false;
         while (!done)
         {
-            long b = buffer.getLong(pos + BINDING_ID_OFFSET);
+            long b = buffer.getLongVolatile(pos + BINDING_ID_OFFSET);
             long m = buffer.getLong(pos + METRIC_ID_OFFSET);
             if (b == bindingId && m == metricId)
             {
@@ -113,6 +116,29 @@ public abstract class MetricsLayout implements AutoCloseable
         return bindingId == 0L && metricId == 0L;
     }
 
+    protected final void addOrdered(
+        int index,
+        long delta)
+    {
+        buffer.putLongOrdered(index, buffer.getLong(index) + delta);
+    }
+
+    protected final void addAtomic(
+        int index,
+        long delta)
+    {
+        buffer.getAndAddLong(index, delta);
+    }
+
+    protected final void publishRecord(
+        long bindingId,
+        long metricId,
+        int index)
+    {
+        buffer.putLong(index + METRIC_ID_OFFSET, metricId);
+        buffer.putLongOrdered(index + BINDING_ID_OFFSET, bindingId);
+    }
+
     public abstract LongConsumer supplyWriter(
         long bindingId,
         long metricId);
@@ -149,13 +175,13 @@ public abstract class MetricsLayout implements AutoCloseable
 
         private boolean isRecordLeft()
         {
-            return buffer.getLong(index + BINDING_ID_OFFSET) != 0L;
+            return buffer.getLongVolatile(index + BINDING_ID_OFFSET) != 0L;
         }
 
         @Override
         public long[] next()
         {
-            long bindingId = buffer.getLong(index + BINDING_ID_OFFSET);
+            long bindingId = buffer.getLongVolatile(index + BINDING_ID_OFFSET);
             long metricId = buffer.getLong(index + METRIC_ID_OFFSET);
             index += recordSize();
             return new long[]{bindingId, metricId};
@@ -48,7 +48,15 @@ public final class ScalarsLayout extends MetricsLayout
         long metricId)
     {
         int index = findOrSetPosition(bindingId, metricId);
-        return delta -> buffer.getAndAddLong(index + VALUE_OFFSET, delta);
+        return delta -> addOrdered(index + VALUE_OFFSET, delta);
+    }
+
+    public LongConsumer supplySharedWriter(
+        long bindingId,
+        long metricId)
+    {
+        int index = findOrSetPosition(bindingId, metricId);
+        return delta -> addAtomic(index + VALUE_OFFSET, delta);
     }
 
     @Override
@@ -64,7 +72,7 @@ public final class ScalarsLayout extends MetricsLayout
         }
         else
         {
-            reader = () -> buffer.getLong(index + VALUE_OFFSET);
+            reader = () -> buffer.getLongVolatile(index + VALUE_OFFSET);
         }
         return reader;
     }
@@ -83,9 +91,8 @@ public final class ScalarsLayout extends MetricsLayout
         long metricId,
         int index)
     {
-        buffer.putLong(index + BINDING_ID_OFFSET, bindingId);
-        buffer.putLong(index + METRIC_ID_OFFSET, metricId);
         buffer.putLong(index + VALUE_OFFSET, 0L); // initial value
+        publishRecord(bindingId, metricId, index);
     }
 
     @Override
@@ -41,7 +41,7 @@ public final class Poller extends TransportPoller
 
         try
         {
-            if (selector.selectNow() != 0)
+            if (selector.selectNow() != 0 || selectedKeySet.size() != 0)
             {
                 workDone = selectedKeySet.forEach(selectHandler);
             }
@@ -55,6 +55,24 @@ public final class Poller extends TransportPoller
         return workDone;
     }
 
+    public void select(
+        long timeoutMillis)
+    {
+        try
+        {
+            selector.select(timeoutMillis);
+        }
+        catch (Throwable ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    public void wakeup()
+    {
+        selector.wakeup();
+    }
+
     public void onClose()
     {
         for (SelectionKey key : selector.keys())
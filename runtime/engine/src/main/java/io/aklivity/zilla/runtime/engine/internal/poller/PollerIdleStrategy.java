@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.function.BooleanSupplier;
+
+import org.agrona.concurrent.IdleStrategy;
+
+public final class PollerIdleStrategy implements IdleStrategy
+{
+    public static final String ALIAS = "selector";
+
+    private final Poller poller;
+    private final BooleanSupplier ready;
+    private final long timeoutMillis;
+
+    private volatile boolean parked;
+
+    public PollerIdleStrategy(
+        Poller poller,
+        BooleanSupplier ready,
+        long timeoutNanos)
+    {
+        this.poller = poller;
+        this.ready = ready;
+        this.timeoutMillis = Math.max(NANOSECONDS.toMillis(timeoutNanos), 1L);
+    }
+
+    @Override
+    public void idle(
+        int workCount)
+    {
+        if (workCount <= 0)
+        {
+            idle();
+        }
+    }
+
+    @Override
+    public void idle()
+    {
+        parked = true;
+
+        // re-check after publishing parked to avoid missing a concurrent wakeup
+        if (!ready.getAsBoolean())
+        {
+            poller.select(timeoutMillis);
+        }
+
+        parked = false;
+    }
+
+    @Override
+    public void reset()
+    {
+    }
+
+    @Override
+    public String alias()
+    {
+        return ALIAS;
+    }
+
+    public void wakeup()
+    {
+        if (parked)
+        {
+            poller.wakeup();
+        }
+    }
+}
@@ -16,26 +16,37 @@
 package io.aklivity.zilla.runtime.engine.internal.registry;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.agrona.LangUtil.rethrowUnchecked;
 
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
 import java.util.function.ToIntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
 import org.agrona.LangUtil;
+import org.agrona.collections.IntHashSet;
+import org.agrona.collections.LongHashSet;
 
 import io.aklivity.zilla.runtime.engine.EngineConfiguration;
 import io.aklivity.zilla.runtime.engine.binding.Binding;
@@ -68,6 +79,13 @@ import io.aklivity.zilla.runtime.engine.resolver.Resolver;
 public class EngineManager
 {
     private static final String CONFIG_TEXT_DEFAULT = "name: default\n";
+    private static final String BINDINGS_NAME = "bindings";
+    private static final String GUARDS_NAME = "guards";
+    private static final String VAULTS_NAME = "vaults";
+    private static final String CATALOGS_NAME = "catalogs";
+    private static final String TELEMETRY_NAME = "telemetry";
+    private static final String ATTRIBUTES_NAME = "attributes";
+    private static final String EXPORTERS_NAME = "exporters";
 
     private final Collection<URL> schemaTypes;
     private final Function<String, Binding> bindingByType;
@@ -129,19 +147,18 @@ public class EngineManager
             if (newConfig != null)
             {
                 final EngineConfig oldConfig = current;
-                unregister(oldConfig);
 
                 try
                 {
                     current = newConfig;
-                    register(newConfig);
+                    reconcile(oldConfig, newConfig);
                 }
                 catch (Exception ex)
                 {
                     context.onError(ex);
 
                     current = oldConfig;
-                    register(oldConfig);
+                    reconcile(newConfig, oldConfig);
 
                     rethrowUnchecked(ex);
                 }
@@ -369,32 +386,249 @@ public class EngineManager
         }
     }
 
-    private void register(
-        EngineConfig config)
+    private void reconcile(
+        EngineConfig oldConfig,
+        EngineConfig newConfig)
     {
-        if (config != null)
+        extensions.forEach(e -> e.onUnregistered(context));
+
+        final Map<String, NamespaceConfig> oldNamespaces = namespacesByName(oldConfig);
+        final Map<String, NamespaceConfig> newNamespaces = namespacesByName(newConfig);
+        final LongHashSet changedIds = new LongHashSet();
+        final IntHashSet changedNamespaceIds = new IntHashSet();
+
+        diff(oldNamespaces, newNamespaces, changedIds, changedNamespaceIds);
+
+        for (NamespaceConfig namespace : oldNamespaces.values())
+        {
+            if (!newNamespaces.containsKey(namespace.name))
+            {
+                unregister(namespace);
+            }
+        }
+
+        for (NamespaceConfig namespace : newNamespaces.values())
         {
-            for (NamespaceConfig namespace : config.namespaces)
+            if (!oldNamespaces.containsKey(namespace.name))
             {
                 register(namespace);
             }
+            else if (changedNamespaceIds.contains(namespace.id))
+            {
+                update(namespace, changedIds::contains);
+            }
         }
 
         extensions.forEach(e -> e.onRegistered(context));
     }
 
-    private void unregister(
-        EngineConfig config)
+    private void diff(
+        Map<String, NamespaceConfig> oldNamespaces,
+        Map<String, NamespaceConfig> newNamespaces,
+        LongHashSet changedIds,
+        IntHashSet changedNamespaceIds)
     {
-        if (config != null)
+        final NamespaceAdapter adapter = new NamespaceAdapter(new NamespaceConfigAdapterContext(l -> null));
+        final Map<String, JsonObject> oldObjects = new HashMap<>();
+        final Map<String, JsonObject> newObjects = new HashMap<>();
+
+        for (NamespaceConfig oldNamespace : oldNamespaces.values())
         {
-            for (NamespaceConfig namespace : config.namespaces)
+            final NamespaceConfig newNamespace = newNamespaces.get(oldNamespace.name);
+            final JsonObject oldObject = newNamespace != null ? adaptToJson(adapter, oldNamespace) : null;
+            final JsonObject newObject = oldObject != null ? adaptToJson(adapter, newNamespace) : null;
+
+            if (newObject == null)
             {
-                unregister(namespace);
+                supplyIds(oldNamespace, changedIds::add);
+
+                if (newNamespace != null)
+                {
+                    supplyIds(newNamespace, changedIds::add);
+                }
+            }
+            else if (!newObject.equals(oldObject))
+            {
+                oldObjects.put(oldNamespace.name, oldObject);
+                newObjects.put(newNamespace.name, newObject);
+
+                diffComponents(newNamespace.id, oldObject, newObject, GUARDS_NAME, changedIds);
+                diffComponents(newNamespace.id, oldObject, newObject, VAULTS_NAME, changedIds);
+                diffComponents(newNamespace.id, oldObject, newObject, CATALOGS_NAME, changedIds);
+                diffTelemetry(oldNamespace, newNamespace, oldObject, newObject, changedIds);
             }
         }
 
-        extensions.forEach(e -> e.onUnregistered(context));
+        for (NamespaceConfig newNamespace : newNamespaces.values())
+        {
+            if (!oldNamespaces.containsKey(newNamespace.name))
+            {
+                supplyIds(newNamespace, changedIds::add);
+            }
+        }
+
+        final LongHashSet dependentIds = new LongHashSet();
+        for (NamespaceConfig newNamespace : newNamespaces.values())
+        {
+            final JsonObject newObject = newObjects.get(newNamespace.name);
+            if (newObject != null)
+            {
+                final JsonObject oldObject = oldObjects.get(newNamespace.name);
+                diffComponents(newNamespace.id, oldObject, newObject, BINDINGS_NAME, dependentIds);
+            }
+
+            if (oldNamespaces.containsKey(newNamespace.name))
+            {
+                newNamespace.bindings.stream()
+                    .filter(b -> references(b, changedIds))
+                    .forEach(b -> dependentIds.add(b.id));
+
+                newNamespace.telemetry.exporters.stream()
+                    .filter(e -> changedIds.contains(e.vaultId))
+                    .forEach(e -> dependentIds.add(e.id));
+            }
+        }
+        changedIds.addAll(dependentIds);
+
+        changedIds.forEach(id -> changedNamespaceIds.add(NamespacedId.namespaceId(id)));
+    }
+
+    private void diffComponents(
+        int namespaceId,
+        JsonObject oldObject,
+        JsonObject newObject,
+        String componentsName,
+        LongHashSet changedIds)
+    {
+        final JsonObject oldComponents = jsonObject(oldObject, componentsName);
+        final JsonObject newComponents = jsonObject(newObject, componentsName);
+
+        final Set<String> names = new HashSet<>(oldComponents.keySet());
+        names.addAll(newComponents.keySet());
+
+        for (String name : names)
+        {
+            if (!Objects.equals(oldComponents.get(name), newComponents.get(name)))
+            {
+                changedIds.add(NamespacedId.id(namespaceId, supplyId.applyAsInt(name)));
+            }
+        }
+    }
+
+    private void diffTelemetry(
+        NamespaceConfig oldNamespace,
+        NamespaceConfig newNamespace,
+        JsonObject oldObject,
+        JsonObject newObject,
+        LongHashSet changedIds)
+    {
+        final Set<String> oldMetrics = oldNamespace.telemetry.metrics.stream().map(m -> m.name).collect(toSet());
+        final Set<String> newMetrics = newNamespace.telemetry.metrics.stream().map(m -> m.name).collect(toSet());
+
+        oldNamespace.telemetry.metrics.stream()
+            .filter(m -> !newMetrics.contains(m.name))
+            .forEach(m -> changedIds.add(m.id));
+        newNamespace.telemetry.metrics.stream()
+            .filter(m -> !oldMetrics.contains(m.name))
+            .forEach(m -> changedIds.add(m.id));
+
+        final JsonObject oldTelemetry = jsonObject(oldObject, TELEMETRY_NAME);
+        final JsonObject newTelemetry = jsonObject(newObject, TELEMETRY_NAME);
+
+        if (Objects.equals(oldTelemetry.get(ATTRIBUTES_NAME), newTelemetry.get(ATTRIBUTES_NAME)))
+        {
+            diffComponents(newNamespace.id, oldTelemetry, newTelemetry, EXPORTERS_NAME, changedIds);
+        }
+        else
+        {
+            oldNamespace.telemetry.exporters.forEach(e -> changedIds.add(e.id));
+            newNamespace.telemetry.exporters.forEach(e -> changedIds.add(e.id));
+        }
+    }
+
+    private static boolean references(
+        BindingConfig binding,
+        LongHashSet changedIds)
+    {
+        boolean references = changedIds.contains(binding.vaultId);
+
+        if (!references && binding.catalogs != null)
+        {
+            references = binding.catalogs.stream().anyMatch(c -> changedIds.contains(c.id));
+        }
+
+        if (!references && binding.options != null && binding.options.models != null)
+        {
+            references = binding.options.models.stream()
+                .filter(m -> m.cataloged != null)
+                .flatMap(m -> m.cataloged.stream())
+                .anyMatch(c -> changedIds.contains(c.id));
+        }
+
+        if (!references)
+        {
+            references = binding.routes.stream()
+                .filter(r -> r.guarded != null)
+                .flatMap(r -> r.guarded.stream())
+                .anyMatch(g -> changedIds.contains(g.id));
+        }
+
+        if (!references && binding.metricIds != null)
+        {
+            references = Arrays.stream(binding.metricIds).anyMatch(changedIds::contains);
+        }
+
+        return references;
+    }
+
+    private static void supplyIds(
+        NamespaceConfig namespace,
+        LongConsumer ids)
+    {
+        namespace.vaults.forEach(v -> ids.accept(v.id));
+        namespace.guards.forEach(g -> ids.accept(g.id));
+        namespace.catalogs.forEach(c -> ids.accept(c.id));
+        namespace.telemetry.metrics.forEach(m -> ids.accept(m.id));
+        namespace.telemetry.exporters.forEach(e -> ids.accept(e.id));
+        namespace.bindings.forEach(b -> ids.accept(b.id));
+    }
+
+    private static JsonObject adaptToJson(
+        NamespaceAdapter adapter,
+        NamespaceConfig namespace)
+    {
+        JsonObject object = null;
+
+        try
+        {
+            object = adapter.adaptToJson(namespace);
+        }
+        catch (Exception ex)
+        {
+            // not comparable, replace namespace
+        }
+
+        return object;
+    }
+
+    private static JsonObject jsonObject(
+        JsonObject object,
+        String name)
+    {
+        return object.containsKey(name) ? object.getJsonObject(name) : JsonValue.EMPTY_JSON_OBJECT;
+    }
+
+    private static Map<String, NamespaceConfig> namespacesByName(
+        EngineConfig config)
+    {
+        final Map<String, NamespaceConfig> namespaces = new LinkedHashMap<>();
+
+        if (config != null)
+        {
+            config.namespaces.forEach(n -> namespaces.put(n.name, n));
+        }
+
+        return namespaces;
     }
 
     private void register(
@@ -418,6 +652,16 @@ public class EngineManager
         }
     }
 
+    private void update(
+        NamespaceConfig namespace,
+        LongPredicate changed)
+    {
+        workers.stream()
+            .map(w -> w.update(namespace, changed))
+            .reduce(CompletableFuture::allOf)
+            .ifPresent(CompletableFuture::join);
+    }
+
     private final class NameResolver
     {
         private final int namespaceId;
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 import java.util.function.ToIntFunction;
 
 import org.agrona.collections.Int2ObjectHashMap;
@@ -113,6 +114,13 @@ public class EngineRegistry
         return new NamespaceTask(namespace, this::detachNamespace);
     }
 
+    public NamespaceTask update(
+        NamespaceConfig namespace,
+        LongPredicate changed)
+    {
+        return new NamespaceTask(namespace, n -> updateNamespace(n, changed));
+    }
+
     public BindingRegistry resolveBinding(
         long bindingId)
     {
@@ -201,6 +209,15 @@ public class EngineRegistry
         registry.attach();
     }
 
+    private void updateNamespace(
+        NamespaceConfig namespace,
+        LongPredicate changed)
+    {
+        int namespaceId = supplyLabelId.applyAsInt(namespace.name);
+        NamespaceRegistry registry = namespacesById.get(namespaceId);
+        registry.update(namespace, changed);
+    }
+
     protected void detachNamespace(
         NamespaceConfig namespace)
     {
@@ -36,6 +36,7 @@ import static io.aklivity.zilla.runtime.engine.metrics.MetricContext.Direction.S
 import static java.lang.System.currentTimeMillis;
 import static java.lang.ThreadLocal.withInitial;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.agrona.CloseHelper.quietClose;
 import static org.agrona.LangUtil.rethrowUnchecked;
 import static org.agrona.concurrent.AgentRunner.startOnThread;
@@ -62,6 +63,7 @@ import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
 import java.util.function.LongSupplier;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
@@ -81,9 +83,12 @@ import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.AgentRunner;
 import org.agrona.concurrent.AgentTerminationException;
 import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
 import org.agrona.concurrent.IdleStrategy;
 import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.SleepingIdleStrategy;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.YieldingIdleStrategy;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.hints.ThreadHints;
 
@@ -124,7 +129,13 @@ import io.aklivity.zilla.runtime.engine.internal.layouts.EventsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.StreamsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
 import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.ScalarsLayout;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineExporterEventsDroppedMetric;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineExporterEventsLagMetric;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineMetricGroup;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineWorkerBusyMetric;
+import io.aklivity.zilla.runtime.engine.internal.metrics.EngineWorkerIdleMetric;
 import io.aklivity.zilla.runtime.engine.internal.poller.Poller;
+import io.aklivity.zilla.runtime.engine.internal.poller.PollerIdleStrategy;
 import io.aklivity.zilla.runtime.engine.internal.stream.StreamId;
 import io.aklivity.zilla.runtime.engine.internal.stream.Target;
 import io.aklivity.zilla.runtime.engine.internal.types.stream.AbortFW;
@@ -160,6 +171,13 @@ public class EngineWorker implements EngineContext, Agent
 
     private static final int SIGNAL_TASK_QUEUED = 1;
 
+    private static final String BACKOFF_IDLE_STRATEGY = "backoff";
+    private static final String BUSY_SPIN_IDLE_STRATEGY = "busy-spin";
+    private static final String YIELDING_IDLE_STRATEGY = "yielding";
+    private static final String SLEEPING_IDLE_STRATEGY = "sleeping";
+
+    private static final long IDLE_METRICS_WINDOW_NANOS = SECONDS.toNanos(1L);
+
     private final FrameFW frameRO = new FrameFW();
     private final BeginFW beginRO = new BeginFW();
     private final DataFW dataRO = new DataFW();
@@ -218,13 +236,15 @@ public class EngineWorker implements EngineContext, Agent
     private final Deque<Runnable> taskQueue;
     private final LongUnaryOperator affinityMask;
     private final AgentRunner runner;
-    private final IdleStrategy idleStrategy;
+    private final PollerIdleStrategy pollerIdleStrategy;
+    private final IntConsumer wakeup;
     private final ErrorHandler errorHandler;
     private final ScalarsLayout countersLayout;
     private final ScalarsLayout gaugesLayout;
     private final HistogramsLayout histogramsLayout;
     private final EventsLayout eventsLayout;
     private final Supplier<MessageReader> supplyEventReader;
+    private final LongFunction<MessageReader> supplyEventReplay;
     private final EventFormatterFactory eventFormatterFactory;
 
     private long initialId;
@@ -252,7 +272,9 @@ public class EngineWorker implements EngineContext, Agent
         Collection<MetricGroup> metricGroups,
         Collector collector,
         Supplier<MessageReader> supplyEventReader,
+        LongFunction<MessageReader> supplyEventReplay,
         EventFormatterFactory eventFormatterFactory,
+        IntConsumer wakeup,
         int index,
         boolean readonly,
         Consumer<NamespaceConfig> process)
@@ -262,12 +284,7 @@ public class EngineWorker implements EngineContext, Agent
         this.configURL = config.configURL();
         this.labels = labels;
         this.affinityMask = affinityMask;
-
-        final IdleStrategy idleStrategy = new BackoffIdleStrategy(
-                config.maxSpins(),
-                config.maxYields(),
-                config.minParkNanos(),
-                config.maxParkNanos());
+        this.poller = new Poller();
 
         this.countersLayout = new ScalarsLayout.Builder()
                 .path(config.directory().resolve(String.format("metrics/counters%d", index)))
@@ -286,6 +303,7 @@ public class EngineWorker implements EngineContext, Agent
         this.histogramsLayout = new HistogramsLayout.Builder()
                 .path(config.directory().resolve(String.format("metrics/histograms%d", index)))
                 .capacity(config.countersBufferCapacity())
+                .subBuckets(config.histogramSubBuckets())
                 .readonly(readonly)
                 .build();
 
@@ -310,11 +328,25 @@ public class EngineWorker implements EngineContext, Agent
         this.eventsLayout = new EventsLayout.Builder()
             .path(config.directory().resolve(String.format("events%d", index)))
             .capacity(config.eventsBufferCapacity())
+            .retention(config.eventsRetentionCapacity())
+            .executor(executor)
             .build();
 
         this.agentName = String.format("engine/data#%d", index);
         this.streamsLayout = streamsLayout;
         this.bufferPoolLayout = bufferPoolLayout;
+
+        final String idleStrategyName = config.idleStrategy();
+        this.pollerIdleStrategy = PollerIdleStrategy.ALIAS.equals(idleStrategyName)
+            ? new PollerIdleStrategy(poller, this::hasPendingWork, config.maxParkNanos())
+            : null;
+        this.wakeup = pollerIdleStrategy != null ? wakeup : null;
+
+        IdleStrategy idleStrategy = pollerIdleStrategy != null ? pollerIdleStrategy : newIdleStrategy(idleStrategyName);
+        if (config.idleStrategyMetrics() && !readonly)
+        {
+            idleStrategy = new MeteredIdleStrategy(idleStrategy);
+        }
         this.runner = new AgentRunner(idleStrategy, errorHandler, null, this);
 
         this.resolveHost = config.hostResolver();
@@ -340,8 +372,6 @@ public class EngineWorker implements EngineContext, Agent
         this.futuresById = new Long2ObjectHashMap<>();
         this.signaler = new ElektronSignaler(executor, Math.max(config.bufferSlotCapacity(), 512));
 
-        this.poller = new Poller();
-
         final BufferPool bufferPool = bufferPoolLayout.bufferPool();
 
         final long initial = ((long) index) << SHIFT_SIZE;
@@ -423,6 +453,7 @@ public class EngineWorker implements EngineContext, Agent
         {
             metricGroupsByName.put(metricGroup.name(), metricGroup);
         }
+        metricGroupsByName.put(EngineMetricGroup.NAME, new EngineMetricGroup());
 
         this.registry = new EngineRegistry(
                 bindingsByType::get, guardsByType::get, vaultsByType::get, catalogsByType::get, metricsByName::get,
@@ -431,10 +462,10 @@ public class EngineWorker implements EngineContext, Agent
 
         this.taskQueue = new ConcurrentLinkedDeque<>();
         this.correlations = new Long2ObjectHashMap<>();
-        this.idleStrategy = idleStrategy;
         this.errorHandler = errorHandler;
         this.exportersById = new Long2ObjectHashMap<>();
         this.supplyEventReader = supplyEventReader;
+        this.supplyEventReplay = supplyEventReplay;
         this.eventFormatterFactory = eventFormatterFactory;
     }
 
@@ -640,6 +671,11 @@ public class EngineWorker implements EngineContext, Agent
         return histogramsLayout.getIds();
     }
 
+    public int histogramBuckets()
+    {
+        return histogramsLayout.buckets();
+    }
+
     @Override
     public MessageConsumer droppedFrameHandler()
     {
@@ -912,6 +948,25 @@ public class EngineWorker implements EngineContext, Agent
         return attachTask.future();
     }
 
+    public CompletableFuture<Void> update(
+        NamespaceConfig namespace,
+        LongPredicate changed)
+    {
+        assert thread != Thread.currentThread();
+
+        NamespaceTask updateTask = registry.update(namespace, changed);
+        taskQueue.offer(updateTask);
+        signaler.signalNow(0L, 0L, 0L, supplyTraceId(), SIGNAL_TASK_QUEUED, 0);
+
+        if (localIndex == 0)
+        {
+            updateTask.future().join();
+            writeBindingTypes(registry);
+        }
+
+        return updateTask.future();
+    }
+
     public CompletableFuture<Void> detach(
         NamespaceConfig namespace)
     {
@@ -934,6 +989,14 @@ public class EngineWorker implements EngineContext, Agent
         return runner;
     }
 
+    public void wakeup()
+    {
+        if (pollerIdleStrategy != null)
+        {
+            pollerIdleStrategy.wakeup();
+        }
+    }
+
     @Override
     public void onExporterAttached(
         long exporterId)
@@ -942,8 +1005,18 @@ public class EngineWorker implements EngineContext, Agent
         {
             ExporterRegistry exporter = registry.resolveExporter(exporterId);
             ExporterHandler handler = exporter.handler();
-            ExporterAgent agent = new ExporterAgent(exporterId, handler);
-            AgentRunner runner = new AgentRunner(idleStrategy, errorHandler, null, agent);
+            LongConsumer eventsLag = null;
+            LongConsumer eventsDropped = null;
+            if (config.eventsMetrics())
+            {
+                final int lagMetricId = labels.supplyLabelId(EngineExporterEventsLagMetric.NAME);
+                final int droppedMetricId = labels.supplyLabelId(EngineExporterEventsDroppedMetric.NAME);
+                eventsLag = gaugesLayout.supplySharedWriter(exporterId, lagMetricId);
+                eventsDropped = countersLayout.supplySharedWriter(exporterId, droppedMetricId);
+            }
+            ExporterAgent agent = new ExporterAgent(exporterId, handler, eventsLag, eventsDropped);
+            String idleStrategyName = pollerIdleStrategy != null ? BACKOFF_IDLE_STRATEGY : config.idleStrategy();
+            AgentRunner runner = new AgentRunner(newIdleStrategy(idleStrategyName), errorHandler, null, agent);
             AgentRunner.startOnThread(runner);
             exportersById.put(exporterId, runner);
         }
@@ -1723,11 +1796,23 @@ public class EngineWorker implements EngineContext, Agent
         return eventsLayout.createEventAccessor();
     }
 
+    public EventsLayout.EventAccessor createEventAccessor(
+        long timestamp)
+    {
+        return eventsLayout.createEventAccessor(timestamp);
+    }
+
     public MessageReader supplyEventReader()
     {
         return supplyEventReader.get();
     }
 
+    public MessageReader supplyEventReader(
+        long timestamp)
+    {
+        return supplyEventReplay.apply(timestamp);
+    }
+
     public EventFormatter supplyEventFormatter()
     {
         return eventFormatterFactory.create(config, this);
@@ -1809,7 +1894,43 @@ public class EngineWorker implements EngineContext, Agent
     private Target newTarget(
         int index)
     {
-        return new Target(config, index, writeBuffer, correlations, streams, streamSets, throttles);
+        final Runnable wakeupTarget = wakeup != null ? () -> wakeup.accept(index) : null;
+        return new Target(config, index, writeBuffer, correlations, streams, streamSets, throttles, wakeupTarget);
+    }
+
+    private boolean hasPendingWork()
+    {
+        return streamsBuffer.consumerPosition() < streamsBuffer.producerPosition();
+    }
+
+    private IdleStrategy newIdleStrategy(
+        String name)
+    {
+        IdleStrategy idleStrategy;
+
+        switch (name)
+        {
+        case BACKOFF_IDLE_STRATEGY:
+            idleStrategy = new BackoffIdleStrategy(
+                config.maxSpins(),
+                config.maxYields(),
+                config.minParkNanos(),
+                config.maxParkNanos());
+            break;
+        case BUSY_SPIN_IDLE_STRATEGY:
+            idleStrategy = new BusySpinIdleStrategy();
+            break;
+        case YIELDING_IDLE_STRATEGY:
+            idleStrategy = new YieldingIdleStrategy();
+            break;
+        case SLEEPING_IDLE_STRATEGY:
+            idleStrategy = new SleepingIdleStrategy(config.idleSleepNanos());
+            break;
+        default:
+            throw new IllegalArgumentException(String.format("Unrecognized idle strategy: %s", name));
+        }
+
+        return idleStrategy;
     }
 
     private DefaultBudgetDebitor newBudgetDebitor(
@@ -2086,6 +2207,7 @@ public class EngineWorker implements EngineContext, Agent
                 .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+            wakeup();
         }
 
         private void signal(
@@ -2121,6 +2243,114 @@ public class EngineWorker implements EngineContext, Agent
                                             .build();
 
             streamsBuffer.write(signal.typeId(), signal.buffer(), signal.offset(), signal.sizeof());
+            wakeup();
+        }
+    }
+
+    private final class MeteredIdleStrategy implements IdleStrategy
+    {
+        private final IdleStrategy delegate;
+        private final LongConsumer busyRatio;
+        private final LongConsumer idleRatio;
+
+        private long windowNanos;
+        private long lastNanos;
+        private long busyNanos;
+        private long idleNanos;
+        private long busyPercent;
+        private long idlePercent;
+
+        private MeteredIdleStrategy(
+            IdleStrategy delegate)
+        {
+            final int namespaceId = labels.supplyLabelId(EngineMetricGroup.NAME);
+            final int busyMetricId = labels.supplyLabelId(EngineWorkerBusyMetric.NAME);
+            final int idleMetricId = labels.supplyLabelId(EngineWorkerIdleMetric.NAME);
+
+            LongConsumer busyRatio = null;
+            LongConsumer idleRatio = null;
+
+            // gauge ids are expected to be identical in all cores
+            for (int index = 0; index < config.workers(); index++)
+            {
+                final int workerId = labels.supplyLabelId(String.format("worker%d", index));
+                final long bindingId = NamespacedId.id(namespaceId, workerId);
+                final LongConsumer busyWriter = gaugesLayout.supplyWriter(bindingId, busyMetricId);
+                final LongConsumer idleWriter = gaugesLayout.supplyWriter(bindingId, idleMetricId);
+
+                if (index == localIndex)
+                {
+                    busyRatio = busyWriter;
+                    idleRatio = idleWriter;
+                }
+            }
+
+            this.delegate = delegate;
+            this.busyRatio = busyRatio;
+            this.idleRatio = idleRatio;
+            this.windowNanos = System.nanoTime();
+            this.lastNanos = windowNanos;
+        }
+
+        @Override
+        public void idle(
+            int workCount)
+        {
+            delegate.idle(workCount);
+
+            final long nowNanos = System.nanoTime();
+            if (workCount > 0)
+            {
+                busyNanos += nowNanos - lastNanos;
+            }
+            else
+            {
+                idleNanos += nowNanos - lastNanos;
+            }
+            lastNanos = nowNanos;
+
+            if (nowNanos - windowNanos >= IDLE_METRICS_WINDOW_NANOS)
+            {
+                onWindowElapsed(nowNanos);
+            }
+        }
+
+        @Override
+        public void idle()
+        {
+            delegate.idle();
+        }
+
+        @Override
+        public void reset()
+        {
+            delegate.reset();
+        }
+
+        @Override
+        public String alias()
+        {
+            return delegate.alias();
+        }
+
+        private void onWindowElapsed(
+            long nowNanos)
+        {
+            final long totalNanos = Math.max(busyNanos + idleNanos, 1L);
+            final long newBusyPercent = busyNanos * 100L / totalNanos;
+            final long newIdlePercent = 100L - newBusyPercent;
+
+            if (busyRatio != null)
+            {
+                busyRatio.accept(newBusyPercent - busyPercent);
+                idleRatio.accept(newIdlePercent - idlePercent);
+            }
+
+            busyPercent = newBusyPercent;
+            idlePercent = newIdlePercent;
+            busyNanos = 0L;
+            idleNanos = 0L;
+            windowNanos = nowNanos;
         }
     }
 
@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
 import java.util.function.ToIntFunction;
 
 import org.agrona.collections.Int2ObjectHashMap;
@@ -53,7 +54,7 @@ import io.aklivity.zilla.runtime.engine.vault.VaultContext;
 
 public class NamespaceRegistry
 {
-    private final NamespaceConfig namespace;
+    private NamespaceConfig namespace;
     private final Function<String, BindingContext> bindingsByType;
     private final Function<String, GuardContext> guardsByType;
     private final Function<String, VaultContext> vaultsByType;
@@ -139,6 +140,27 @@ public class NamespaceRegistry
         namespace.telemetry.exporters.forEach(this::detachExporter);
     }
 
+    public void update(
+        NamespaceConfig namespace,
+        LongPredicate changed)
+    {
+        final NamespaceConfig previous = this.namespace;
+        previous.vaults.stream().filter(v -> changed.test(v.id)).forEach(this::detachVault);
+        previous.guards.stream().filter(g -> changed.test(g.id)).forEach(this::detachGuard);
+        previous.catalogs.stream().filter(c -> changed.test(c.id)).forEach(this::detachCatalog);
+        previous.bindings.stream().filter(b -> changed.test(b.id)).forEach(this::detachBinding);
+        previous.telemetry.metrics.stream().filter(m -> changed.test(m.id)).forEach(this::detachMetric);
+        previous.telemetry.exporters.stream().filter(e -> changed.test(e.id)).forEach(this::detachExporter);
+
+        this.namespace = namespace;
+        namespace.vaults.stream().filter(v -> changed.test(v.id)).forEach(this::attachVault);
+        namespace.guards.stream().filter(g -> changed.test(g.id)).forEach(this::attachGuard);
+        namespace.catalogs.stream().filter(c -> changed.test(c.id)).forEach(this::attachCatalog);
+        namespace.telemetry.metrics.stream().filter(m -> changed.test(m.id)).forEach(this::attachMetric);
+        namespace.bindings.stream().filter(b -> changed.test(b.id)).forEach(this::attachBinding);
+        namespace.telemetry.exporters.stream().filter(e -> changed.test(e.id)).forEach(this::attachExporter);
+    }
+
     public Collection<BindingRegistry> bindings()
     {
         return bindingsById.values();
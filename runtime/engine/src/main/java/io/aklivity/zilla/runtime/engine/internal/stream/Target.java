@@ -70,7 +70,8 @@ public final class Target implements AutoCloseable
         Long2ObjectHashMap<MessageConsumer> correlations,
         Int2ObjectHashMap<MessageConsumer>[] streams,
         Long2ObjectHashMap<LongHashSet> streamSets,
-        Int2ObjectHashMap<MessageConsumer>[] throttles)
+        Int2ObjectHashMap<MessageConsumer>[] throttles,
+        Runnable wakeup)
     {
         this.timestamps = config.timestamps();
         this.localIndex = index;
@@ -84,7 +85,9 @@ public final class Target implements AutoCloseable
                 .readonly(true)
                 .build();
         this.streamsLayout = streamsLayout;
-        this.streamsBuffer = streamsLayout.streamsBuffer()::write;
+        this.streamsBuffer = wakeup != null
+            ? wakeupAfterWrite(streamsLayout.streamsBuffer()::write, wakeup)
+            : streamsLayout.streamsBuffer()::write;
 
         this.writeBuffer = writeBuffer;
         this.correlations = correlations;
@@ -123,6 +126,21 @@ public final class Target implements AutoCloseable
         return writeHandler;
     }
 
+    private static MessagePredicate wakeupAfterWrite(
+        MessagePredicate write,
+        Runnable wakeup)
+    {
+        return (t, b, i, l) ->
+        {
+            final boolean written = write.test(t, b, i, l);
+            if (written)
+            {
+                wakeup.run();
+            }
+            return written;
+        };
+    }
+
     private void handleWrite(
         int msgTypeId,
         DirectBuffer buffer,
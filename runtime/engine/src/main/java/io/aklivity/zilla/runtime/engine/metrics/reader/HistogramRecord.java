@@ -15,14 +15,15 @@
  */
 package io.aklivity.zilla.runtime.engine.metrics.reader;
 
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKETS;
-import static io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout.BUCKET_LIMITS;
 import static io.aklivity.zilla.runtime.engine.namespace.NamespacedId.namespaceId;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.LongFunction;
 import java.util.function.LongSupplier;
 
+import io.aklivity.zilla.runtime.engine.internal.layouts.metrics.HistogramsLayout;
+
 public class HistogramRecord implements MetricRecord
 {
     private final long bindingId;
@@ -30,8 +31,9 @@ public class HistogramRecord implements MetricRecord
     private final int namespaceId;
     private final LongSupplier[] readers;
     private final LongFunction<String> labelResolver;
-
-    private long[] bucketValues = new long[BUCKETS];
+    private final int buckets;
+    private final long[] bucketLimits;
+    private final long[] bucketValues;
 
     public HistogramRecord(
         long bindingId,
@@ -44,6 +46,9 @@ public class HistogramRecord implements MetricRecord
         this.namespaceId = namespaceId(bindingId);
         this.readers = readers;
         this.labelResolver = labelResolver;
+        this.buckets = readers.length;
+        this.bucketLimits = Arrays.copyOf(HistogramsLayout.bucketLimits(HistogramsLayout.subBuckets(buckets)), buckets);
+        this.bucketValues = new long[buckets];
     }
 
     @Override
@@ -73,17 +78,17 @@ public class HistogramRecord implements MetricRecord
 
     public int buckets()
     {
-        return BUCKETS;
+        return buckets;
     }
 
     public long[] bucketLimits()
     {
-        return BUCKET_LIMITS;
+        return bucketLimits;
     }
 
     public void update()
     {
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < buckets; i++)
         {
             bucketValues[i] = readers[i].getAsLong();
         }
@@ -100,7 +105,7 @@ public class HistogramRecord implements MetricRecord
         long sum = 0L;
         int minIndex = -1;
         int maxIndex = -1;
-        for (int i = 0; i < BUCKETS; i++)
+        for (int i = 0; i < buckets; i++)
         {
             long bucketCount = bucketValues[i];
             count += bucketCount;
@@ -121,11 +126,44 @@ public class HistogramRecord implements MetricRecord
         return new long[]{minimum, maximum, sum, count, average};
     }
 
+    public long percentile(
+        double percentile)
+    {
+        return percentile(bucketValues, percentile);
+    }
+
+    public long percentile(
+        long[] values,
+        double percentile)
+    {
+        long count = 0L;
+        for (int i = 0; i < buckets; i++)
+        {
+            count += values[i];
+        }
+
+        long value = 0L;
+        if (count != 0L)
+        {
+            long rank = Math.max((long) Math.ceil(count * percentile / 100.0), 1L);
+            long cumulative = 0L;
+            for (int i = 0; i < buckets; i++)
+            {
+                cumulative += values[i];
+                if (cumulative >= rank)
+                {
+                    value = getValue(i);
+                    break;
+                }
+            }
+        }
+        return value;
+    }
 
     private long getValue(
         int index)
     {
-        return BUCKET_LIMITS[index] - 1;
+        return bucketLimits[index] - 1;
     }
 
     @Override
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.catalog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CatalogCacheFileTest
+{
+    private static final String SCHEMA = "{\"type\":\"string\"}";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLoadResolvedSchemas() throws Exception
+    {
+        Path location = tempFolder.getRoot().toPath().resolve("test:catalog0");
+
+        CatalogCacheFile file = new CatalogCacheFile(location, "http://localhost:8081 default");
+        file.load(new TestRecordLoader());
+        file.writeSchema(9, SCHEMA);
+        file.writeSchemaId(42, 1000L, 9);
+        file.close();
+
+        TestRecordLoader loaded = new TestRecordLoader();
+        new CatalogCacheFile(location, "http://localhost:8081 default").load(loaded);
+
+        assertEquals(SCHEMA, loaded.schemas.get(9));
+        assertEquals(9, loaded.schemaIds.get(42).intValue());
+        assertEquals(1000L, loaded.timestamps.get(42).longValue());
+    }
+
+    @Test
+    public void shouldIgnoreSchemasFromOtherRegistry() throws Exception
+    {
+        Path location = tempFolder.getRoot().toPath().resolve("test:catalog0");
+
+        CatalogCacheFile file = new CatalogCacheFile(location, "http://localhost:8081 default");
+        file.load(new TestRecordLoader());
+        file.writeSchema(9, SCHEMA);
+        file.close();
+
+        TestRecordLoader loaded = new TestRecordLoader();
+        new CatalogCacheFile(location, "http://localhost:8082 default").load(loaded);
+
+        assertNull(loaded.schemas.get(9));
+    }
+
+    @Test
+    public void shouldIgnoreTruncatedSchema() throws Exception
+    {
+        Path location = tempFolder.getRoot().toPath().resolve("test:catalog0");
+
+        CatalogCacheFile file = new CatalogCacheFile(location, "http://localhost:8081 default");
+        file.load(new TestRecordLoader());
+        file.writeSchemaId(42, 1000L, 9);
+        file.writeSchema(9, SCHEMA);
+        file.close();
+
+        try (FileChannel channel = FileChannel.open(location, StandardOpenOption.WRITE))
+        {
+            channel.truncate(channel.size() - 1);
+        }
+
+        TestRecordLoader loaded = new TestRecordLoader();
+        new CatalogCacheFile(location, "http://localhost:8081 default").load(loaded);
+
+        assertEquals(9, loaded.schemaIds.get(42).intValue());
+        assertNull(loaded.schemas.get(9));
+    }
+
+    @Test
+    public void shouldCompactWhenRefreshedSchemaIdsOutgrowLiveSize() throws Exception
+    {
+        Path location = tempFolder.getRoot().toPath().resolve("test:catalog0");
+
+        CatalogCacheFile file = new CatalogCacheFile(location, "http://localhost:8081 default");
+        file.load(new TestRecordLoader());
+        file.writeSchema(9, SCHEMA);
+        for (int i = 0; i < 10000; i++)
+        {
+            file.writeSchemaId(42, i, 9);
+        }
+        file.close();
+
+        assertTrue(Files.size(location) <= 8192L);
+
+        TestRecordLoader loaded = new TestRecordLoader();
+        new CatalogCacheFile(location, "http://localhost:8081 default").load(loaded);
+
+        assertEquals(SCHEMA, loaded.schemas.get(9));
+        assertEquals(9999L, loaded.timestamps.get(42).longValue());
+    }
+
+    @Test
+    public void shouldReopenAfterClose() throws Exception
+    {
+        Path location = tempFolder.getRoot().toPath().resolve("test:catalog0");
+
+        CatalogCacheFile file = new CatalogCacheFile(location, "http://localhost:8081 default");
+        file.load(new TestRecordLoader());
+        file.writeSchemaId(42, 1000L, 9);
+        file.close();
+
+        file.writeSchema(9, SCHEMA);
+        file.close();
+
+        TestRecordLoader loaded = new TestRecordLoader();
+        new CatalogCacheFile(location, "http://localhost:8081 default").load(loaded);
+
+        assertEquals(SCHEMA, loaded.schemas.get(9));
+        assertEquals(9, loaded.schemaIds.get(42).intValue());
+    }
+
+    private static final class TestRecordLoader implements CatalogCacheFile.RecordLoader
+    {
+        private final Map<Integer, String> schemas = new HashMap<>();
+        private final Map<Integer, Integer> schemaIds = new HashMap<>();
+        private final Map<Integer, Long> timestamps = new HashMap<>();
+
+        @Override
+        public void onSchemaLoaded(
+            int schemaId,
+            String schema)
+        {
+            schemas.put(schemaId, schema);
+        }
+
+        @Override
+        public void onSchemaIdLoaded(
+            int schemaKey,
+            long timestamp,
+            int schemaId)
+        {
+            schemaIds.put(schemaKey, schemaId);
+            timestamps.put(schemaKey, timestamp);
+        }
+    }
+}
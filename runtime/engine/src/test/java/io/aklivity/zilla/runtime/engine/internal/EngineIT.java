@@ -28,9 +28,12 @@ import org.kaazing.k3po.junit.rules.K3poRule;
 
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class EngineIT
 {
+    private static final String ENGINE_IDLE_STRATEGY_NAME = "zilla.engine.idle.strategy";
+
     private final K3poRule k3po = new K3poRule()
         .addScriptRoot("net", "io/aklivity/zilla/specs/engine/streams/network")
         .addScriptRoot("app", "io/aklivity/zilla/specs/engine/streams/application");
@@ -67,6 +70,50 @@ public class EngineIT
         k3po.finish();
     }
 
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = ENGINE_IDLE_STRATEGY_NAME, value = "busy-spin")
+    @Specification({
+        "${net}/client.sent.data/client",
+        "${app}/client.sent.data/server"})
+    public void shouldReceiveClientSentDataWithBusySpinIdleStrategy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = ENGINE_IDLE_STRATEGY_NAME, value = "yielding")
+    @Specification({
+        "${net}/client.sent.data/client",
+        "${app}/client.sent.data/server"})
+    public void shouldReceiveClientSentDataWithYieldingIdleStrategy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = ENGINE_IDLE_STRATEGY_NAME, value = "sleeping")
+    @Specification({
+        "${net}/client.sent.data/client",
+        "${app}/client.sent.data/server"})
+    public void shouldReceiveClientSentDataWithSleepingIdleStrategy() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = ENGINE_IDLE_STRATEGY_NAME, value = "selector")
+    @Specification({
+        "${net}/client.sent.data/client",
+        "${app}/client.sent.data/server"})
+    public void shouldReceiveClientSentDataWithSelectorIdleStrategy() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Configuration("server.yaml")
     @Specification({
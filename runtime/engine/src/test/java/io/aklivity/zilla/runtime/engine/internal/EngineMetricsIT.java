@@ -19,6 +19,7 @@ import static io.aklivity.zilla.runtime.engine.EngineConfiguration.ENGINE_WORKER
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItemInArray;
 import static org.junit.rules.RuleChain.outerRule;
 
 import java.util.function.LongConsumer;
@@ -30,12 +31,17 @@ import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
 
+import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class EngineMetricsIT
 {
     private static final String ENGINE_DIRECTORY = "target/zilla-itests";
+    private static final String ENGINE_IDLE_STRATEGY_NAME = "zilla.engine.idle.strategy";
+    private static final String ENGINE_IDLE_STRATEGY_METRICS_NAME = "zilla.engine.idle.strategy.metrics";
+    private static final String ENGINE_EVENTS_METRICS_NAME = "zilla.engine.events.metrics";
 
     private final TestRule timeout = new DisableOnDebug(new Timeout(10, SECONDS));
 
@@ -167,4 +173,79 @@ public class EngineMetricsIT
         // values 16..31 (2^4..2^5-1) go to bucket no #4; all 3 values should go to bucket #4
         assertThat(histogram[4].getAsLong(), equalTo(3L));
     }
+
+    @Test
+    @Configuration("server.yaml")
+    @Configure(name = ENGINE_IDLE_STRATEGY_NAME, value = "selector")
+    @Configure(name = ENGINE_IDLE_STRATEGY_METRICS_NAME, value = "true")
+    public void shouldReportWorkerIdleRatios() throws Exception
+    {
+        // GIVEN
+        int namespaceId = engine.supplyLabelId("engine");
+        int busyId = engine.supplyLabelId("engine.worker.busy.ratio");
+        int idleId = engine.supplyLabelId("engine.worker.idle.ratio");
+        long workerId = NamespacedId.id(namespaceId, engine.supplyLabelId("worker1"));
+        LongSupplier busy = engine.gauge(workerId, busyId);
+        LongSupplier idle = engine.gauge(workerId, idleId);
+
+        // WHEN
+        while (busy.getAsLong() + idle.getAsLong() != 100L)
+        {
+            Thread.sleep(100L);
+        }
+
+        // THEN
+        long[][] gaugeIds = engine.gaugeIds();
+        for (int index = 0; index < 3; index++)
+        {
+            long bindingId = NamespacedId.id(namespaceId, engine.supplyLabelId(String.format("worker%d", index)));
+            assertThat(gaugeIds, hasItemInArray(new long[]{bindingId, busyId}));
+            assertThat(gaugeIds, hasItemInArray(new long[]{bindingId, idleId}));
+        }
+    }
+
+    @Test
+    @Configuration("server.event.yaml")
+    @Configure(name = ENGINE_EVENTS_METRICS_NAME, value = "true")
+    public void shouldReportExporterEventsMetrics() throws Exception
+    {
+        // GIVEN
+        int lagId = engine.supplyLabelId("engine.exporter.events.lag");
+        int droppedId = engine.supplyLabelId("engine.exporter.events.dropped");
+        long exporterId = NamespacedId.id(engine.supplyLabelId("test"), engine.supplyLabelId("exporter0"));
+
+        // WHEN
+        while (!contains(engine.gaugeIds(), exporterId, lagId))
+        {
+            Thread.sleep(100L);
+        }
+
+        // THEN
+        assertThat(engine.gaugeIds(), hasItemInArray(new long[]{exporterId, lagId}));
+        assertThat(engine.counterIds(), hasItemInArray(new long[]{exporterId, droppedId}));
+        assertThat(engine.counter(exporterId, droppedId).getAsLong(), equalTo(0L));
+    }
+
+    @Test
+    @Configuration("server.event.yaml")
+    public void shouldNotReportExporterEventsMetricsByDefault()
+    {
+        int lagId = engine.supplyLabelId("engine.exporter.events.lag");
+        long exporterId = NamespacedId.id(engine.supplyLabelId("test"), engine.supplyLabelId("exporter0"));
+
+        assertThat(contains(engine.gaugeIds(), exporterId, lagId), equalTo(false));
+    }
+
+    private static boolean contains(
+        long[][] ids,
+        long bindingId,
+        long metricId)
+    {
+        boolean contains = false;
+        for (long[] id : ids)
+        {
+            contains |= id[0] == bindingId && id[1] == metricId;
+        }
+        return contains;
+    }
 }
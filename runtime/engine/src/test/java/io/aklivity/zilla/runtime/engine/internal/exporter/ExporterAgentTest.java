@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.exporter;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.exporter.ExporterHandler;
+
+public class ExporterAgentTest
+{
+    @Test
+    public void shouldReportEventsLagAndDropped()
+    {
+        ExporterHandler handler = mock(ExporterHandler.class);
+        AtomicLong lag = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        ExporterAgent agent = new ExporterAgent(1L, handler, lag::addAndGet, dropped::addAndGet);
+
+        when(handler.eventsLag()).thenReturn(5L, 2L, 2L);
+        when(handler.eventsDropped()).thenReturn(0L, 3L, 7L);
+
+        agent.onStart();
+        agent.doWork();
+        assertThat(lag.get(), equalTo(5L));
+        assertThat(dropped.get(), equalTo(0L));
+
+        agent.doWork();
+        assertThat(lag.get(), equalTo(2L));
+        assertThat(dropped.get(), equalTo(3L));
+
+        agent.doWork();
+        assertThat(lag.get(), equalTo(2L));
+        assertThat(dropped.get(), equalTo(7L));
+
+        agent.onClose();
+        assertThat(lag.get(), equalTo(0L));
+        assertThat(dropped.get(), equalTo(7L));
+
+        verify(handler).start();
+        verify(handler).stop();
+    }
+
+    @Test
+    public void shouldExportWithoutEventsMetrics()
+    {
+        ExporterHandler handler = mock(ExporterHandler.class);
+        ExporterAgent agent = new ExporterAgent(1L, handler, null, null);
+
+        when(handler.export()).thenReturn(3);
+
+        agent.onStart();
+        assertThat(agent.doWork(), equalTo(3));
+        agent.onClose();
+
+        verify(handler).stop();
+    }
+}
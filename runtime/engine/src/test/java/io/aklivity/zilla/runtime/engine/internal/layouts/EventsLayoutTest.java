@@ -18,18 +18,29 @@ package io.aklivity.zilla.runtime.engine.internal.layouts;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
+import io.aklivity.zilla.runtime.engine.internal.types.event.EventFW;
+
 public class EventsLayoutTest
 {
     private static final Path PATH = Paths.get("target/zilla-itests/events0");
     private static final int CAPACITY = 1024;
 
+    private final EventFW eventRO = new EventFW();
+    private final List<Long> timestamps = new ArrayList<>();
+
     private int msgTypeId;
 
     @Test
@@ -52,6 +63,169 @@ public class EventsLayoutTest
         assertThat(msgTypeId, equalTo(42));
     }
 
+    @Test
+    public void shouldRotateCompressAndReplayFromTimestamp() throws Exception
+    {
+        // GIVEN
+        Path path = Paths.get("target/zilla-itests/events1");
+        Files.deleteIfExists(Paths.get(path + ".index"));
+        EventsLayout layout = new EventsLayout.Builder()
+            .path(path)
+            .capacity(CAPACITY)
+            .build();
+        for (long timestamp = 1L; timestamp <= 100L; timestamp++)
+        {
+            writeEvent(layout, timestamp);
+        }
+
+        // WHEN
+        EventsLayout.EventAccessor accessor = layout.createEventAccessor(60L);
+        while (accessor.readEvent(this::readTimestamp, 1) != 0)
+        {
+        }
+
+        // THEN
+        assertThat(Files.exists(Paths.get(path + "_0.gz")), equalTo(true));
+        assertThat(Files.exists(Paths.get(path + "_0")), equalTo(false));
+        assertThat(timestamps.size(), equalTo(41));
+        assertThat(timestamps.get(0), equalTo(60L));
+        assertThat(timestamps.get(40), equalTo(100L));
+        layout.close();
+    }
+
+    @Test
+    public void shouldInflateCompressedSegmentsLazily() throws Exception
+    {
+        // GIVEN
+        Path path = Paths.get("target/zilla-itests/events4");
+        Files.deleteIfExists(Paths.get(path + ".index"));
+        EventsLayout layout = new EventsLayout.Builder()
+            .path(path)
+            .capacity(CAPACITY)
+            .build();
+        for (long timestamp = 1L; timestamp <= 100L; timestamp++)
+        {
+            writeEvent(layout, timestamp);
+        }
+
+        // WHEN
+        EventsLayout.EventAccessor accessor = layout.createEventAccessor(0L);
+        long inflatedBeforeRead = inflated(path);
+        accessor.readEvent(this::readTimestamp, 1);
+        long inflatedAfterRead = inflated(path);
+        while (accessor.readEvent(this::readTimestamp, 1) != 0)
+        {
+        }
+
+        // THEN
+        assertThat(inflatedBeforeRead, equalTo(0L));
+        assertThat(inflatedAfterRead, equalTo(1L));
+        assertThat(inflated(path), equalTo(0L));
+        assertThat(timestamps.size(), equalTo(100));
+        layout.close();
+    }
+
+    @Test
+    public void shouldEvictSegmentsBeyondRetention() throws Exception
+    {
+        // GIVEN
+        Path path = Paths.get("target/zilla-itests/events2");
+        Files.deleteIfExists(Paths.get(path + ".index"));
+        EventsLayout layout = new EventsLayout.Builder()
+            .path(path)
+            .capacity(CAPACITY)
+            .retention(0L)
+            .build();
+        for (long timestamp = 1L; timestamp <= 100L; timestamp++)
+        {
+            writeEvent(layout, timestamp);
+        }
+
+        // WHEN
+        EventsLayout.EventAccessor accessor = layout.createEventAccessor(0L);
+        while (accessor.readEvent(this::readTimestamp, 1) != 0)
+        {
+        }
+
+        // THEN
+        assertThat(layout.retained(), equalTo(0L));
+        assertThat(Files.exists(Paths.get(path + "_0.gz")), equalTo(false));
+        assertThat(timestamps.get(timestamps.size() - 1), equalTo(100L));
+        assertThat(timestamps.size() < 100, equalTo(true));
+        layout.close();
+    }
+
+    @Test
+    public void shouldReportLagAndDroppedEvents() throws Exception
+    {
+        // GIVEN
+        Path path = Paths.get("target/zilla-itests/events3");
+        Files.deleteIfExists(Paths.get(path + ".index"));
+        EventsLayout layout = new EventsLayout.Builder()
+            .path(path)
+            .capacity(CAPACITY)
+            .retention(0L)
+            .build();
+        EventsLayout.EventAccessor accessor = layout.createEventAccessor();
+        for (long timestamp = 1L; timestamp <= 100L; timestamp++)
+        {
+            writeEvent(layout, timestamp);
+        }
+        long lag = accessor.lag();
+
+        // WHEN
+        while (accessor.readEvent(this::readTimestamp, 1) != 0)
+        {
+        }
+
+        // THEN
+        assertThat(layout.written(), equalTo(100L));
+        assertThat(lag, equalTo(100L));
+        assertThat(accessor.lag(), equalTo(0L));
+        assertThat(accessor.dropped() > 0L, equalTo(true));
+        assertThat(accessor.dropped() + timestamps.size(), equalTo(100L));
+        assertThat(timestamps.get(0), equalTo(accessor.dropped() + 1L));
+        layout.close();
+    }
+
+    private static long inflated(
+        Path path) throws IOException
+    {
+        try (Stream<Path> files = Files.list(path.getParent()))
+        {
+            return files
+                .map(Path::getFileName)
+                .map(Path::toString)
+                .filter(f -> f.startsWith(path.getFileName() + "_") && f.endsWith(".inflated"))
+                .count();
+        }
+    }
+
+    private void writeEvent(
+        EventsLayout layout,
+        long timestamp)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(new byte[64]);
+        EventFW event = new EventFW.Builder()
+            .wrap(buffer, 0, buffer.capacity())
+            .id(1)
+            .timestamp(timestamp)
+            .traceId(0L)
+            .namespacedId(0L)
+            .extension(new UnsafeBuffer(), 0, 0)
+            .build();
+        layout.writeEvent(1, buffer, 0, event.sizeof());
+    }
+
+    private void readTimestamp(
+        int msgTypeId,
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        timestamps.add(eventRO.wrap(buffer, index, index + length).timestamp());
+    }
+
     private void readEvent(
         int msgTypeId,
         DirectBuffer buffer,
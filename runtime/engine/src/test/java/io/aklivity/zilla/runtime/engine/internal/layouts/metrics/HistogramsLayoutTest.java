@@ -215,4 +215,95 @@ public class HistogramsLayoutTest
 
         assertThat(countersLayout.getIds(), equalTo(expectedIds));
     }
+
+    @Test
+    public void shouldWorkWithLogLinearBuckets() throws Exception
+    {
+        String fileName = "target/zilla-itests/histograms4";
+        Path path = Paths.get(fileName);
+        HistogramsLayout histogramsLayout = new HistogramsLayout.Builder()
+                .path(path)
+                .capacity(65536)
+                .subBuckets(8)
+                .readonly(false)
+                .build();
+
+        LongConsumer writer = histogramsLayout.supplyWriter(11L, 42L);
+        LongSupplier[] readers = histogramsLayout.supplyReaders(11L, 42L);
+        long[] limits = histogramsLayout.bucketLimits();
+
+        assertThat(histogramsLayout.buckets(), equalTo(487));
+        assertThat(readers.length, equalTo(487));
+
+        // values below 16 are tracked exactly, except 0 and 1
+        assertThat(limits[0], equalTo(2L));
+        assertThat(limits[1], equalTo(3L));
+        assertThat(limits[14], equalTo(16L));
+
+        // 8 sub-buckets per power of two above that
+        assertThat(limits[15], equalTo(18L));
+        assertThat(limits[22], equalTo(32L));
+        assertThat(limits[23], equalTo(36L));
+
+        writer.accept(0L);
+        writer.accept(1L);
+        writer.accept(15L);
+        writer.accept(16L);
+        writer.accept(17L);
+        writer.accept(1_100_000L);
+        writer.accept(1_900_000L);
+        writer.accept(Long.MAX_VALUE);
+
+        assertThat(readers[0].getAsLong(), equalTo(2L));
+        assertThat(readers[14].getAsLong(), equalTo(1L));
+        assertThat(readers[15].getAsLong(), equalTo(2L));
+        assertThat(readers[486].getAsLong(), equalTo(1L));
+
+        int bucket1100us = bucketOf(limits, 1_100_000L);
+        int bucket1900us = bucketOf(limits, 1_900_000L);
+        assertThat(bucket1100us == bucket1900us, equalTo(false));
+        assertThat(readers[bucket1100us].getAsLong(), equalTo(1L));
+        assertThat(readers[bucket1900us].getAsLong(), equalTo(1L));
+
+        HistogramsLayout histogramsReader = new HistogramsLayout.Builder()
+                .path(path)
+                .readonly(true)
+                .build();
+        assertThat(histogramsReader.buckets(), equalTo(487));
+        assertThat(histogramsReader.supplyReaders(11L, 42L)[15].getAsLong(), equalTo(2L));
+
+        histogramsReader.close();
+        histogramsLayout.close();
+        Files.delete(path);
+    }
+
+    @Test
+    public void shouldMatchPowerOfTwoBucketsByDefault()
+    {
+        assertThat(HistogramsLayout.buckets(1), equalTo(HistogramsLayout.BUCKETS));
+        for (int i = 0; i < HistogramsLayout.BUCKETS; i++)
+        {
+            assertThat(HistogramsLayout.BUCKET_LIMITS[i], equalTo(1L << (i + 1)));
+        }
+        assertThat(HistogramsLayout.subBuckets(487), equalTo(8));
+    }
+
+    @Test
+    public void shouldRejectInvalidSubBuckets()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new HistogramsLayout.Builder().subBuckets(3));
+        assertThrows(IllegalArgumentException.class, () -> new HistogramsLayout.Builder().subBuckets(128));
+    }
+
+    private static int bucketOf(
+        long[] limits,
+        long value)
+    {
+        int bucket = 0;
+        while (limits[bucket] <= value)
+        {
+            bucket++;
+        }
+        return bucket;
+    }
 }
@@ -115,4 +115,91 @@ public class ScalarsLayoutTest
 
         assertThat(scalarsLayout.getIds(), equalTo(expectedIds));
     }
+
+    @Test
+    public void shouldReadSingleWriterUpdatesFromReadonlyLayout() throws Exception
+    {
+        String fileName = "target/zilla-itests/counters3";
+        Path path = Paths.get(fileName);
+        ScalarsLayout scalarsLayout = new ScalarsLayout.Builder()
+                .path(path)
+                .capacity(8192)
+                .readonly(false)
+                .label("counters")
+                .build();
+        LongConsumer writer = scalarsLayout.supplyWriter(11L, 42L);
+
+        ScalarsLayout readonlyLayout = new ScalarsLayout.Builder()
+                .path(path)
+                .readonly(true)
+                .label("counters")
+                .build();
+        LongSupplier reader = readonlyLayout.supplyReader(11L, 42L);
+
+        Thread thread = new Thread(() ->
+        {
+            for (int i = 0; i < 100_000; i++)
+            {
+                writer.accept(1L);
+            }
+        });
+        thread.start();
+
+        long previous = 0L;
+        while (thread.isAlive())
+        {
+            long value = reader.getAsLong();
+            assertTrue(value >= previous);
+            previous = value;
+        }
+        thread.join();
+
+        assertThat(reader.getAsLong(), equalTo(100_000L));
+        assertThat(readonlyLayout.getIds(), equalTo(new long[][]{{11L, 42L}}));
+
+        readonlyLayout.close();
+        scalarsLayout.close();
+        Files.delete(path);
+    }
+
+    @Test
+    public void shouldAddSharedWriterUpdatesFromConcurrentThreads() throws Exception
+    {
+        String fileName = "target/zilla-itests/counters4";
+        Path path = Paths.get(fileName);
+        ScalarsLayout scalarsLayout = new ScalarsLayout.Builder()
+                .path(path)
+                .capacity(8192)
+                .readonly(false)
+                .label("counters")
+                .build();
+        LongConsumer writer1 = scalarsLayout.supplySharedWriter(11L, 42L);
+        LongConsumer writer2 = scalarsLayout.supplySharedWriter(11L, 42L);
+        LongSupplier reader = scalarsLayout.supplyReader(11L, 42L);
+
+        Thread thread1 = new Thread(() ->
+        {
+            for (int i = 0; i < 100_000; i++)
+            {
+                writer1.accept(1L);
+            }
+        });
+        Thread thread2 = new Thread(() ->
+        {
+            for (int i = 0; i < 100_000; i++)
+            {
+                writer2.accept(1L);
+            }
+        });
+        thread1.start();
+        thread2.start();
+        thread1.join();
+        thread2.join();
+
+        assertThat(reader.getAsLong(), equalTo(200_000L));
+        assertThat(scalarsLayout.getIds(), equalTo(new long[][]{{11L, 42L}}));
+
+        scalarsLayout.close();
+        Files.delete(path);
+    }
 }
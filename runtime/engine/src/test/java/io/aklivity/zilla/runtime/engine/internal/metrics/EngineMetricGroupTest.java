@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.metrics;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+import io.aklivity.zilla.runtime.engine.EngineContext;
+import io.aklivity.zilla.runtime.engine.metrics.Metric;
+import io.aklivity.zilla.runtime.engine.metrics.MetricGroup;
+
+public class EngineMetricGroupTest
+{
+    @Test
+    public void shouldReturnMetricNames()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        assertThat(metricGroup.name(), equalTo("engine"));
+        assertThat(metricGroup.type(), nullValue());
+        assertThat(metricGroup.metricNames(), containsInAnyOrder(
+            "engine.worker.busy.ratio", "engine.worker.idle.ratio",
+            "engine.exporter.events.lag", "engine.exporter.events.dropped"));
+    }
+
+    @Test
+    public void shouldResolveWorkerBusyRatio()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        Metric metric = metricGroup.supply("engine.worker.busy.ratio");
+
+        assertThat(metric, instanceOf(EngineWorkerBusyMetric.class));
+        assertThat(metric.name(), equalTo("engine.worker.busy.ratio"));
+        assertThat(metric.kind(), equalTo(Metric.Kind.GAUGE));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+        assertThat(metric.description(), equalTo("Percentage of time the engine worker spent doing work"));
+        assertThat(metric.supply(mock(EngineContext.class)), nullValue());
+    }
+
+    @Test
+    public void shouldResolveWorkerIdleRatio()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        Metric metric = metricGroup.supply("engine.worker.idle.ratio");
+
+        assertThat(metric, instanceOf(EngineWorkerIdleMetric.class));
+        assertThat(metric.name(), equalTo("engine.worker.idle.ratio"));
+        assertThat(metric.kind(), equalTo(Metric.Kind.GAUGE));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+        assertThat(metric.description(), equalTo("Percentage of time the engine worker spent idling"));
+        assertThat(metric.supply(mock(EngineContext.class)), nullValue());
+    }
+
+    @Test
+    public void shouldResolveExporterEventsLag()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        Metric metric = metricGroup.supply("engine.exporter.events.lag");
+
+        assertThat(metric, instanceOf(EngineExporterEventsLagMetric.class));
+        assertThat(metric.name(), equalTo("engine.exporter.events.lag"));
+        assertThat(metric.kind(), equalTo(Metric.Kind.GAUGE));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+        assertThat(metric.description(), equalTo("Number of events not yet read by the exporter"));
+        assertThat(metric.supply(mock(EngineContext.class)), nullValue());
+    }
+
+    @Test
+    public void shouldResolveExporterEventsDropped()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        Metric metric = metricGroup.supply("engine.exporter.events.dropped");
+
+        assertThat(metric, instanceOf(EngineExporterEventsDroppedMetric.class));
+        assertThat(metric.name(), equalTo("engine.exporter.events.dropped"));
+        assertThat(metric.kind(), equalTo(Metric.Kind.COUNTER));
+        assertThat(metric.unit(), equalTo(Metric.Unit.COUNT));
+        assertThat(metric.description(), equalTo("Number of events dropped before the exporter could read them"));
+        assertThat(metric.supply(mock(EngineContext.class)), nullValue());
+    }
+
+    @Test
+    public void shouldNotResolveUnknownMetric()
+    {
+        MetricGroup metricGroup = new EngineMetricGroup();
+
+        assertThat(metricGroup.supply("engine.unknown"), nullValue());
+    }
+}
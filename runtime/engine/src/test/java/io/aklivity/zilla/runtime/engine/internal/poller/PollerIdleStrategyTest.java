@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.poller;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class PollerIdleStrategyTest
+{
+    @Test
+    public void shouldNotParkWhenReady()
+    {
+        Poller poller = new Poller();
+        PollerIdleStrategy idleStrategy = new PollerIdleStrategy(poller, () -> true, SECONDS.toNanos(10L));
+
+        long startAt = System.nanoTime();
+        idleStrategy.idle(0);
+        idleStrategy.idle(1);
+        idleStrategy.reset();
+
+        assertThat(System.nanoTime() - startAt, lessThan(SECONDS.toNanos(5L)));
+        assertThat(idleStrategy.alias(), equalTo("selector"));
+
+        poller.onClose();
+    }
+
+    @Test
+    public void shouldParkUntilTimeout()
+    {
+        Poller poller = new Poller();
+        PollerIdleStrategy idleStrategy = new PollerIdleStrategy(poller, () -> false, 1L);
+
+        idleStrategy.idle();
+        idleStrategy.wakeup();
+
+        assertThat(poller.doWork(), equalTo(0));
+
+        poller.onClose();
+    }
+
+    @Test(timeout = 5000L)
+    public void shouldParkUntilWakeup() throws Exception
+    {
+        Poller poller = new Poller();
+        CountDownLatch parking = new CountDownLatch(1);
+        PollerIdleStrategy idleStrategy = new PollerIdleStrategy(poller, () ->
+        {
+            parking.countDown();
+            return false;
+        }, SECONDS.toNanos(60L));
+
+        Thread waker = new Thread(() ->
+        {
+            try
+            {
+                parking.await();
+                while (true)
+                {
+                    idleStrategy.wakeup();
+                    Thread.sleep(10L);
+                }
+            }
+            catch (InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waker.start();
+
+        idleStrategy.idle(0);
+
+        waker.interrupt();
+        waker.join();
+
+        poller.onClose();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc.
+ *
+ * Aklivity licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.aklivity.zilla.runtime.engine.internal.registry;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.function.ToIntFunction;
+
+import org.agrona.collections.Object2IntHashMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.aklivity.zilla.runtime.engine.EngineConfiguration;
+import io.aklivity.zilla.runtime.engine.binding.Binding;
+import io.aklivity.zilla.runtime.engine.config.NamespaceConfig;
+import io.aklivity.zilla.runtime.engine.ext.EngineExtContext;
+import io.aklivity.zilla.runtime.engine.guard.Guard;
+import io.aklivity.zilla.runtime.engine.internal.Tuning;
+import io.aklivity.zilla.runtime.engine.namespace.NamespacedId;
+import io.aklivity.zilla.runtime.engine.test.internal.binding.TestBinding;
+import io.aklivity.zilla.runtime.engine.test.internal.guard.TestGuard;
+
+public class EngineManagerTest
+{
+    private static final String CONFIG_BEFORE =
+        "name: test\n" +
+        "guards:\n" +
+        "  test0:\n" +
+        "    type: test\n" +
+        "    options:\n" +
+        "      credentials: TOKEN\n" +
+        "bindings:\n" +
+        "  net0:\n" +
+        "    type: test\n" +
+        "    kind: server\n" +
+        "    exit: app0\n" +
+        "  net1:\n" +
+        "    type: test\n" +
+        "    kind: server\n" +
+        "    routes:\n" +
+        "      - guarded:\n" +
+        "          test0:\n" +
+        "            - read\n" +
+        "        exit: app0\n" +
+        "  app0:\n" +
+        "    type: test\n" +
+        "    kind: server\n" +
+        "    exit: net0\n";
+
+    private final Object2IntHashMap<String> labels = new Object2IntHashMap<>(-1);
+
+    private EngineWorker worker;
+    private EngineManager manager;
+
+    @Before
+    public void initManager()
+    {
+        EngineConfiguration config = new EngineConfiguration();
+        Tuning tuning = new Tuning(Paths.get("target/zilla-itests"), 1);
+        tuning.reset();
+
+        List<URL> schemaTypes = List.of(
+            TestBinding.class.getResource("test.schema.patch.json"),
+            TestGuard.class.getResource("test.schema.patch.json"));
+
+        worker = mock(EngineWorker.class);
+        when(worker.attach(any())).thenReturn(completedFuture(null));
+        when(worker.detach(any())).thenReturn(completedFuture(null));
+        when(worker.update(any(), any())).thenReturn(completedFuture(null));
+
+        manager = new EngineManager(
+            schemaTypes,
+            type -> mock(Binding.class),
+            type -> mock(Guard.class),
+            this::supplyLabelId,
+            id -> null,
+            type -> kind -> 1,
+            tuning,
+            List.of(worker),
+            m -> {},
+            mock(EngineExtContext.class),
+            config,
+            List.of(),
+            (url, location) -> null);
+    }
+
+    @Test
+    public void shouldNotUpdateUnchangedConfig() throws Exception
+    {
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE);
+        manager.reconfigure(new URL("file:zilla.yaml"), "# unchanged\n" + CONFIG_BEFORE);
+
+        verify(worker, times(1)).attach(any());
+        verify(worker, never()).detach(any());
+        verify(worker, never()).update(any(), any());
+    }
+
+    @Test
+    public void shouldUpdateModifiedBindingOnly() throws Exception
+    {
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE);
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE.replace("exit: app0\n  net1", "exit: app1\n  net1"));
+
+        LongPredicate changed = captureUpdate();
+
+        assertTrue(changed.test(id("net0")));
+        assertFalse(changed.test(id("net1")));
+        assertFalse(changed.test(id("app0")));
+        assertFalse(changed.test(id("test0")));
+        verify(worker, times(1)).attach(any());
+        verify(worker, never()).detach(any());
+    }
+
+    @Test
+    public void shouldUpdateBindingsGuardedByModifiedGuard() throws Exception
+    {
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE);
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE.replace("TOKEN", "SECRET"));
+
+        LongPredicate changed = captureUpdate();
+
+        assertTrue(changed.test(id("test0")));
+        assertTrue(changed.test(id("net1")));
+        assertFalse(changed.test(id("net0")));
+        assertFalse(changed.test(id("app0")));
+    }
+
+    @Test
+    public void shouldUpdateAddedAndRemovedBindings() throws Exception
+    {
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE);
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE.replace("  app0:\n", "  app1:\n"));
+
+        LongPredicate changed = captureUpdate();
+
+        assertTrue(changed.test(id("app0")));
+        assertTrue(changed.test(id("app1")));
+        assertFalse(changed.test(id("net0")));
+        assertFalse(changed.test(id("net1")));
+    }
+
+    @Test
+    public void shouldReplaceRenamedNamespace() throws Exception
+    {
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE);
+        manager.reconfigure(new URL("file:zilla.yaml"), CONFIG_BEFORE.replace("name: test", "name: renamed"));
+
+        verify(worker, times(2)).attach(any());
+        verify(worker, times(1)).detach(any());
+        verify(worker, never()).update(any(), any());
+    }
+
+    private LongPredicate captureUpdate()
+    {
+        ArgumentCaptor<LongPredicate> changed = ArgumentCaptor.forClass(LongPredicate.class);
+        verify(worker, times(1)).update(any(NamespaceConfig.class), changed.capture());
+        return changed.getValue();
+    }
+
+    private long id(
+        String name)
+    {
+        return NamespacedId.id(supplyLabelId("test"), supplyLabelId(name));
+    }
+
+    private int supplyLabelId(
+        String label)
+    {
+        final ToIntFunction<String> nextId = l -> labels.size() + 1;
+        return labels.computeIfAbsent(label, nextId);
+    }
+}
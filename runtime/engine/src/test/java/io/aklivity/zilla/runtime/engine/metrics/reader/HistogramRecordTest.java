@@ -92,4 +92,20 @@ public class HistogramRecordTest
         assertThat(stats[3], equalTo(0L)); // cnt
         assertThat(stats[4], equalTo(0L)); // avg
     }
+
+    @Test
+    public void shouldResolvePercentiles()
+    {
+        // GIVEN
+        HistogramRecord histogram = new HistogramRecord(0L, 0L, READER_HISTOGRAM, null);
+
+        // WHEN
+        histogram.update();
+
+        // THEN
+        assertThat(histogram.percentile(1.0), equalTo(3L));
+        assertThat(histogram.percentile(23.0), equalTo(255L));
+        assertThat(histogram.percentile(50.0), equalTo(65_535L));
+        assertThat(histogram.percentile(99.0), equalTo(65_535L));
+    }
 }
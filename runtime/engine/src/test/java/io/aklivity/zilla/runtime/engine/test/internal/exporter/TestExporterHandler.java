@@ -61,6 +61,18 @@ class TestExporterHandler implements ExporterHandler
     {
     }
 
+    @Override
+    public long eventsLag()
+    {
+        return readEvent.lag();
+    }
+
+    @Override
+    public long eventsDropped()
+    {
+        return readEvent.dropped();
+    }
+
     private void handleEvent(
         int msgTypeId,
         DirectBuffer buffer,
@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.exporter.otlp.internal;
 
 import java.time.Duration;
+import java.time.Instant;
 
 import io.aklivity.zilla.runtime.engine.Configuration;
 
@@ -23,6 +24,8 @@ public class OltpConfiguration extends Configuration
     public static final PropertyDef<Duration> OTLP_EXPORTER_RETRY_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_TIMEOUT_INTERVAL;
     public static final PropertyDef<Duration> OTLP_EXPORTER_WARNING_INTERVAL;
+    public static final IntPropertyDef OTLP_EXPORTER_EVENTS_BATCH_SIZE;
+    public static final PropertyDef<Instant> OTLP_EXPORTER_EVENTS_REPLAY_FROM;
 
     private static final ConfigurationDef OTLP_EXPORTER_CONFIG;
 
@@ -35,6 +38,9 @@ public class OltpConfiguration extends Configuration
             (c, v) -> Duration.parse(v), "PT30S");
         OTLP_EXPORTER_WARNING_INTERVAL = config.property(Duration.class, "warning.interval",
             (c, v) -> Duration.parse(v), "PT5M");
+        OTLP_EXPORTER_EVENTS_BATCH_SIZE = config.property("events.batch.size", 100);
+        OTLP_EXPORTER_EVENTS_REPLAY_FROM = config.property(Instant.class, "events.replay.from",
+            Instant::parse, (Instant) null);
         OTLP_EXPORTER_CONFIG = config;
     }
 
@@ -58,4 +64,14 @@ public class OltpConfiguration extends Configuration
     {
         return OTLP_EXPORTER_WARNING_INTERVAL.get(this);
     }
+
+    public int eventsBatchSize()
+    {
+        return OTLP_EXPORTER_EVENTS_BATCH_SIZE.getAsInt(this);
+    }
+
+    public Instant eventsReplayFrom()
+    {
+        return OTLP_EXPORTER_EVENTS_REPLAY_FROM.get(this);
+    }
 }
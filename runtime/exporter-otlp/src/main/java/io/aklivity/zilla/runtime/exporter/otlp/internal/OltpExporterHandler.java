@@ -23,6 +23,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -48,6 +49,8 @@ public class OltpExporterHandler implements ExporterHandler
     private final long retryInterval;
     private final Duration timeoutInterval;
     private final long warningInterval;
+    private final int eventsBatchSize;
+    private final Instant eventsReplayFrom;
     private final EngineContext context;
     private final Set<OtlpOptionsConfig.OtlpSignalsConfig> signals;
     private final String protocol;
@@ -62,6 +65,8 @@ public class OltpExporterHandler implements ExporterHandler
 
     private OtlpMetricsSerializer metricsSerializer;
     private OtlpLogsSerializer logsSerializer;
+    private EventReader eventReader;
+    private long eventsDropped;
     private long nextAttempt;
     private long lastSuccess;
     private boolean warningLogged;
@@ -79,6 +84,8 @@ public class OltpExporterHandler implements ExporterHandler
         this.retryInterval = config.retryInterval().toMillis();
         this.timeoutInterval = config.timeoutInterval();
         this.warningInterval = config.warningInterval().toMillis();
+        this.eventsBatchSize = config.eventsBatchSize();
+        this.eventsReplayFrom = config.eventsReplayFrom();
         this.context = context;
         this.metricsEndpoint = exporter.resolveMetrics();
         this.logsEndpoint = exporter.resolveLogs();
@@ -99,7 +106,7 @@ public class OltpExporterHandler implements ExporterHandler
 
         MetricsReader metrics = new MetricsReader(collector, context::supplyLocalName);
         metricsSerializer = new OtlpMetricsSerializer(metrics.records(), attributes, context::resolveMetric, resolveKind);
-        EventReader eventReader = new EventReader(context);
+        eventReader = new EventReader(context, eventsBatchSize, eventsReplayFrom);
         logsSerializer = new OtlpLogsSerializer(attributes, eventReader);
         lastSuccess = System.currentTimeMillis();
         nextAttempt = lastSuccess + interval;
@@ -123,6 +130,20 @@ public class OltpExporterHandler implements ExporterHandler
             }
             workDone = 1;
         }
+        else if (signals.contains(LOGS) && eventReader.lag() > 0 && isLogsDelivered())
+        {
+            // catch up on lagging events with back-to-back batches while the endpoint keeps up
+            sendLogs();
+            workDone = 1;
+        }
+
+        final long dropped = eventReader.dropped();
+        if (dropped > eventsDropped)
+        {
+            System.out.format("Warning: The otlp exporter dropped %d events that expired before they could be exported.%n",
+                dropped - eventsDropped);
+            eventsDropped = dropped;
+        }
         return workDone;
     }
 
@@ -149,19 +170,41 @@ public class OltpExporterHandler implements ExporterHandler
     {
         if (signals.contains(LOGS) && (logsResponse == null || logsResponse.isDone()))
         {
-            String logsJson = logsSerializer.serializeAll();
-            HttpRequest logsRequest = HttpRequest.newBuilder()
-                .uri(logsEndpoint)
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(logsJson))
-                .timeout(timeoutInterval)
-                .build();
-            logsResponse = httpClient.sendAsync(logsRequest, HttpResponse.BodyHandlers.ofString());
-            logsResponse.thenAccept(responseHandler);
-            nextAttempt = now + retryInterval;
+            if (eventReader.lag() > 0)
+            {
+                sendLogs();
+                nextAttempt = now + retryInterval;
+            }
+            else if (!signals.contains(METRICS))
+            {
+                // no pending events, nothing to push
+                lastSuccess = now;
+                nextAttempt = now + interval;
+            }
         }
     }
 
+    private void sendLogs()
+    {
+        String logsJson = logsSerializer.serializeAll();
+        HttpRequest logsRequest = HttpRequest.newBuilder()
+            .uri(logsEndpoint)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(logsJson))
+            .timeout(timeoutInterval)
+            .build();
+        logsResponse = httpClient.sendAsync(logsRequest, HttpResponse.BodyHandlers.ofString());
+        logsResponse.thenAccept(responseHandler);
+    }
+
+    private boolean isLogsDelivered()
+    {
+        return logsResponse != null &&
+            logsResponse.isDone() &&
+            !logsResponse.isCompletedExceptionally() &&
+            logsResponse.join().statusCode() == HttpURLConnection.HTTP_OK;
+    }
+
     private void handleResponse(
         HttpResponse<String> response)
     {
@@ -177,4 +220,16 @@ public class OltpExporterHandler implements ExporterHandler
     public void stop()
     {
     }
+
+    @Override
+    public long eventsLag()
+    {
+        return eventReader != null ? eventReader.lag() : 0L;
+    }
+
+    @Override
+    public long eventsDropped()
+    {
+        return eventReader != null ? eventReader.dropped() : 0L;
+    }
 }
@@ -15,6 +15,7 @@
 package io.aklivity.zilla.runtime.exporter.otlp.internal.serializer;
 
 import java.io.StringReader;
+import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.json.Json;
@@ -32,7 +33,6 @@ import io.aklivity.zilla.runtime.exporter.otlp.internal.types.event.EventFW;
 
 public class EventReader
 {
-    private static final int MESSAGE_COUNT_LIMIT = 100;
     private static final String TIME_UNIX_NANO = "timeUnixNano";
     private static final String OBSERVED_TIME_UNIX_NANO = "observedTimeUnixNano";
     private static final String BODY = "body";
@@ -44,26 +44,42 @@ public class EventReader
     private final MessageReader readEvent;
     private final EventFormatter formatter;
     private final EventFW eventRO = new EventFW();
+    private final int batchSize;
 
     private JsonArrayBuilder eventsJson;
     private JsonObjectBuilder eventJson;
     private JsonArrayBuilder eventAttributesJson;
 
     public EventReader(
-        EngineContext context)
+        EngineContext context,
+        int batchSize,
+        Instant replayFrom)
     {
         this.context = context;
-        this.readEvent = context.supplyEventReader();
+        this.batchSize = batchSize;
+        this.readEvent = replayFrom != null
+            ? context.supplyEventReader(replayFrom.toEpochMilli())
+            : context.supplyEventReader();
         this.formatter = context.supplyEventFormatter();
     }
 
     public JsonArray readEvents()
     {
         eventsJson = Json.createArrayBuilder();
-        readEvent.read(this::handleEvent, MESSAGE_COUNT_LIMIT);
+        readEvent.read(this::handleEvent, batchSize);
         return eventsJson.build();
     }
 
+    public long lag()
+    {
+        return readEvent.lag();
+    }
+
+    public long dropped()
+    {
+        return readEvent.dropped();
+    }
+
     private void handleEvent(
         int msgTypeId,
         DirectBuffer buffer,
@@ -29,6 +29,7 @@ import org.kaazing.k3po.junit.rules.K3poRule;
 
 import io.aklivity.zilla.runtime.engine.test.EngineRule;
 import io.aklivity.zilla.runtime.engine.test.annotation.Configuration;
+import io.aklivity.zilla.runtime.engine.test.annotation.Configure;
 
 public class EventIT
 {
@@ -62,4 +63,18 @@ public class EventIT
     {
         k3po.finish();
     }
+
+    @Test
+    @Configuration("event.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${net}/handshake/server",
+        "${app}/event/server"
+    })
+    @ScriptProperty("serverAddress \"zilla://streams/app0\"")
+    @Configure(name = "zilla.exporter.otlp.events.replay.from", value = "1970-01-01T00:00:00Z")
+    public void shouldPostEventLogReplayedFromTimestamp() throws Exception
+    {
+        k3po.finish();
+    }
 }
@@ -16,18 +16,22 @@ package io.aklivity.zilla.runtime.exporter.prometheus.internal;
 
 import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
-import java.io.UnsupportedEncodingException;
+import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.io.ExpandableDirectBufferOutputStream;
 
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
@@ -45,12 +49,22 @@ import io.aklivity.zilla.runtime.exporter.prometheus.internal.printer.Prometheus
 
 public class PrometheusExporterHandler implements ExporterHandler
 {
+    private static final long RENDER_CACHE_NANOS = MILLISECONDS.toNanos(500L);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String ENCODING_GZIP = "gzip";
+
     private final EngineContext context;
     private final PrometheusEndpointConfig[] endpoints;
     private final Map<Integer, HttpServer> servers;
     private final Collector collector;
+    private final ExpandableArrayBuffer output;
+    private final ExpandableArrayBuffer compressed;
+    private final ExpandableDirectBufferOutputStream compressedOut;
 
     private PrometheusMetricsPrinter printer;
+    private long renderedAt;
+    private int outputLength = -1;
+    private int compressedLength = -1;
 
     public PrometheusExporterHandler(
         EngineConfiguration config,
@@ -62,6 +76,9 @@ public class PrometheusExporterHandler implements ExporterHandler
         this.endpoints = exporter.options().endpoints; // options is required, at least one endpoint is required
         this.collector = collector;
         this.servers = new Int2ObjectHashMap<>();
+        this.output = new ExpandableArrayBuffer();
+        this.compressed = new ExpandableArrayBuffer();
+        this.compressedOut = new ExpandableDirectBufferOutputStream();
     }
 
     @Override
@@ -105,21 +122,65 @@ public class PrometheusExporterHandler implements ExporterHandler
         }
     }
 
-    private String generateOutput()
+    private synchronized void respond(
+        HttpExchange exchange,
+        boolean gzip) throws IOException
     {
-        String output = "";
-        ByteArrayOutputStream os = new ByteArrayOutputStream();
-        PrintStream out = new PrintStream(os);
-        printer.print(out);
-        try
+        final long now = System.nanoTime();
+        if (outputLength == -1 || now - renderedAt >= RENDER_CACHE_NANOS)
+        {
+            outputLength = printer.print(output);
+            compressedLength = -1;
+            renderedAt = now;
+        }
+
+        final Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", CONTENT_TYPE);
+
+        if (gzip)
+        {
+            if (compressedLength == -1)
+            {
+                compressedOut.wrap(compressed);
+                try (GZIPOutputStream out = new GZIPOutputStream(compressedOut))
+                {
+                    out.write(output.byteArray(), 0, outputLength);
+                }
+                compressedLength = compressedOut.position();
+            }
+
+            headers.set("Content-Encoding", ENCODING_GZIP);
+            write(exchange, compressed, compressedLength);
+        }
+        else
         {
-            output = os.toString("UTF8");
+            write(exchange, output, outputLength);
         }
-        catch (UnsupportedEncodingException ex)
+    }
+
+    private static void write(
+        HttpExchange exchange,
+        ExpandableArrayBuffer buffer,
+        int length) throws IOException
+    {
+        exchange.sendResponseHeaders(HTTP_OK, length);
+        OutputStream body = exchange.getResponseBody();
+        body.write(buffer.byteArray(), 0, length);
+    }
+
+    private static boolean acceptsGzip(
+        HttpExchange exchange)
+    {
+        boolean gzip = false;
+        List<String> encodings = exchange.getRequestHeaders().get("Accept-Encoding");
+        if (encodings != null)
         {
-            LangUtil.rethrowUnchecked(ex);
+            for (String encoding : encodings)
+            {
+                gzip |= encoding.toLowerCase(Locale.ROOT).contains(ENCODING_GZIP);
+            }
         }
-        return output;
+        return gzip;
     }
 
     private final class MetricsHttpHandler implements HttpHandler
@@ -131,9 +192,7 @@ public class PrometheusExporterHandler implements ExporterHandler
         {
             if ("GET".equals(exchange.getRequestMethod()))
             {
-                String response = generateOutput();
-                exchange.sendResponseHeaders(HTTP_OK, response.length());
-                exchange.getResponseBody().write(response.getBytes());
+                respond(exchange, acceptsGzip(exchange));
             }
             else
             {
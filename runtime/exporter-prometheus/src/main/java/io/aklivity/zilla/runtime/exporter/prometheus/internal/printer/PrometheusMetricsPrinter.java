@@ -14,16 +14,35 @@
  */
 package io.aklivity.zilla.runtime.exporter.prometheus.internal.printer;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
 import java.io.PrintStream;
 import java.util.List;
 import java.util.function.Function;
 
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
 import io.aklivity.zilla.runtime.engine.metrics.reader.HistogramRecord;
 import io.aklivity.zilla.runtime.engine.metrics.reader.MetricRecord;
 import io.aklivity.zilla.runtime.engine.metrics.reader.ScalarRecord;
 
 public class PrometheusMetricsPrinter
 {
+    private static final byte[] HELP = "# HELP ".getBytes(US_ASCII);
+    private static final byte[] TYPE = "# TYPE ".getBytes(US_ASCII);
+    private static final byte[] BUCKET = "_bucket{le=\"".getBytes(US_ASCII);
+    private static final byte[] SUM = "_sum".getBytes(US_ASCII);
+    private static final byte[] COUNT = "_count".getBytes(US_ASCII);
+    private static final byte[] INFINITY = "+Inf".getBytes(US_ASCII);
+    private static final byte[] LABELS_OPEN = "{".getBytes(US_ASCII);
+    private static final byte[] LABEL_SEPARATOR = "\",".getBytes(US_ASCII);
+    private static final byte[] NAMESPACE = "namespace=\"".getBytes(US_ASCII);
+    private static final byte[] BINDING = "\",binding=\"".getBytes(US_ASCII);
+    private static final byte[] LABELS_CLOSE = "\"} ".getBytes(US_ASCII);
+    private static final byte SPACE = ' ';
+    private static final byte NEWLINE = '\n';
+
     private final List<MetricRecord> records;
     private final Function<String, String> supplyKind;
     private final Function<String, String> supplyName;
@@ -44,66 +63,125 @@ public class PrometheusMetricsPrinter
     public void print(
         PrintStream out)
     {
-        for (MetricRecord metric : records)
-        {
-            out.println(format(metric));
-            out.println();
-        }
+        ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+        int length = print(buffer);
+        out.write(buffer.byteArray(), 0, length);
     }
 
-    private String format(
-        MetricRecord metric)
+    public int print(
+        MutableDirectBuffer buffer)
     {
-        String result = null;
-        if (metric.getClass().equals(ScalarRecord.class))
-        {
-            result = formatScalar((ScalarRecord) metric);
-        }
-        else if (metric.getClass().equals(HistogramRecord.class))
+        int progress = 0;
+        for (MetricRecord metric : records)
         {
-            HistogramRecord record = (HistogramRecord) metric;
-            result = formatHistogram(record);
+            if (metric.getClass().equals(ScalarRecord.class))
+            {
+                progress = printScalar(buffer, progress, (ScalarRecord) metric);
+            }
+            else if (metric.getClass().equals(HistogramRecord.class))
+            {
+                progress = printHistogram(buffer, progress, (HistogramRecord) metric);
+            }
+            buffer.putByte(progress++, NEWLINE);
+            buffer.putByte(progress++, NEWLINE);
         }
-        return result;
+        return progress;
     }
 
-    private String formatScalar(
+    private int printScalar(
+        MutableDirectBuffer buffer,
+        int progress,
         ScalarRecord record)
     {
-        String kind = supplyKind.apply(record.metric());
         String extName = supplyName.apply(record.metric());
-        String description = supplyDescription.apply(record.metric());
-        String format =
-            "# HELP %s %s\n" +
-            "# TYPE %s %s\n" +
-            "%s{namespace=\"%s\",binding=\"%s\"} %d";
-        return String.format(format, extName, description, extName, kind, extName,
-            record.namespace(), record.binding(), record.valueReader().getAsLong());
+        progress = printHeader(buffer, progress, record.metric(), extName);
+        progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+        progress = printLabels(buffer, progress, LABELS_OPEN, record);
+        progress += buffer.putLongAscii(progress, record.valueReader().getAsLong());
+        return progress;
     }
 
-    private String formatHistogram(
+    private int printHistogram(
+        MutableDirectBuffer buffer,
+        int progress,
         HistogramRecord record)
     {
         record.update();
-        StringBuilder sb = new StringBuilder();
-        String kind = supplyKind.apply(record.metric());
         String extName = supplyName.apply(record.metric());
-        String description = supplyDescription.apply(record.metric());
         long sum = record.stats()[2];
         long count = record.stats()[3];
-        sb.append(String.format("# HELP %s %s\n# TYPE %s %s\n", extName, description, extName, kind));
+        progress = printHeader(buffer, progress, record.metric(), extName);
         long cumulativeValue = 0;
         for (int i = 0; i < record.buckets(); i++)
         {
-            String limit = i == record.buckets() - 1 ? "+Inf" : String.valueOf(record.bucketLimits()[i]);
             cumulativeValue += record.bucketValues()[i];
-            sb.append(String.format("%s_bucket{le=\"%s\",namespace=\"%s\",binding=\"%s\"} %d\n",
-                extName, limit, record.namespace(), record.binding(), cumulativeValue));
+            progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+            progress = putBytes(buffer, progress, BUCKET);
+            if (i == record.buckets() - 1)
+            {
+                progress = putBytes(buffer, progress, INFINITY);
+            }
+            else
+            {
+                progress += buffer.putLongAscii(progress, record.bucketLimits()[i]);
+            }
+            progress = printLabels(buffer, progress, LABEL_SEPARATOR, record);
+            progress += buffer.putLongAscii(progress, cumulativeValue);
+            buffer.putByte(progress++, NEWLINE);
         }
-        sb.append(String.format("%s_sum{namespace=\"%s\",binding=\"%s\"} %d\n",
-            extName, record.namespace(), record.binding(), sum));
-        sb.append(String.format("%s_count{namespace=\"%s\",binding=\"%s\"} %d\n",
-            extName, record.namespace(), record.binding(), count));
-        return sb.toString();
+        progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+        progress = putBytes(buffer, progress, SUM);
+        progress = printLabels(buffer, progress, LABELS_OPEN, record);
+        progress += buffer.putLongAscii(progress, sum);
+        buffer.putByte(progress++, NEWLINE);
+        progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+        progress = putBytes(buffer, progress, COUNT);
+        progress = printLabels(buffer, progress, LABELS_OPEN, record);
+        progress += buffer.putLongAscii(progress, count);
+        buffer.putByte(progress++, NEWLINE);
+        return progress;
+    }
+
+    private int printHeader(
+        MutableDirectBuffer buffer,
+        int progress,
+        String metric,
+        String extName)
+    {
+        progress = putBytes(buffer, progress, HELP);
+        progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+        buffer.putByte(progress++, SPACE);
+        progress += buffer.putStringWithoutLengthUtf8(progress, String.valueOf(supplyDescription.apply(metric)));
+        buffer.putByte(progress++, NEWLINE);
+        progress = putBytes(buffer, progress, TYPE);
+        progress += buffer.putStringWithoutLengthUtf8(progress, extName);
+        buffer.putByte(progress++, SPACE);
+        progress += buffer.putStringWithoutLengthUtf8(progress, String.valueOf(supplyKind.apply(metric)));
+        buffer.putByte(progress++, NEWLINE);
+        return progress;
+    }
+
+    private int printLabels(
+        MutableDirectBuffer buffer,
+        int progress,
+        byte[] prefix,
+        MetricRecord record)
+    {
+        progress = putBytes(buffer, progress, prefix);
+        progress = putBytes(buffer, progress, NAMESPACE);
+        progress += buffer.putStringWithoutLengthUtf8(progress, record.namespace());
+        progress = putBytes(buffer, progress, BINDING);
+        progress += buffer.putStringWithoutLengthUtf8(progress, record.binding());
+        progress = putBytes(buffer, progress, LABELS_CLOSE);
+        return progress;
+    }
+
+    private static int putBytes(
+        MutableDirectBuffer buffer,
+        int progress,
+        byte[] bytes)
+    {
+        buffer.putBytes(progress, bytes);
+        return progress + bytes.length;
     }
 }
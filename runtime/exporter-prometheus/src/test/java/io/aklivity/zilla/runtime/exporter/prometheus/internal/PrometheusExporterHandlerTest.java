@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.exporter.prometheus.internal;
 
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -27,6 +28,7 @@ import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -78,4 +80,45 @@ public class PrometheusExporterHandlerTest
         assertThat(response.statusCode(), equalTo(200));
         handler.stop();
     }
+
+    @Test
+    public void shouldRespondWithGzipEncoding() throws Exception
+    {
+        // GIVEN
+        EngineConfiguration config = mock(EngineConfiguration.class);
+        EngineContext context = mock(EngineContext.class);
+        PrometheusEndpointConfig endpoint = new PrometheusEndpointConfig("http", 4243, "/metrics");
+        PrometheusOptionsConfig options = new PrometheusOptionsConfig(new PrometheusEndpointConfig[]{endpoint});
+        ExporterConfig exporter = ExporterConfig.builder()
+                .namespace("test")
+                .name("test0")
+                .type("prometheus")
+                .options(options)
+                .build();
+        PrometheusExporterConfig prometheusExporter = new PrometheusExporterConfig(exporter);
+        Collector collector = mock(Collector.class);
+        when(collector.counterIds()).thenReturn(new long[][]{});
+        when(collector.gaugeIds()).thenReturn(new long[][]{});
+        when(collector.histogramIds()).thenReturn(new long[][]{});
+        PrometheusExporterHandler handler = new PrometheusExporterHandler(config, context, prometheusExporter, collector);
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest httpRequest = HttpRequest
+            .newBuilder(new URI("http://localhost:4243/metrics"))
+            .timeout(Duration.of(10, SECONDS))
+            .header("Accept-Encoding", "gzip")
+            .GET()
+            .build();
+
+        // WHEN
+        handler.start();
+        HttpResponse<byte[]> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> cached = client.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        // THEN
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(response.headers().firstValue("Content-Encoding"), equalTo(Optional.of("gzip")));
+        assertThat(response.headers().firstValue("Content-Type").orElse(""), startsWith("text/plain"));
+        assertThat(cached.body(), equalTo(response.body()));
+        handler.stop();
+    }
 }
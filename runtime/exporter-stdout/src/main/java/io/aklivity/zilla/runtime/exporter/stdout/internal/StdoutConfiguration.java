@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.exporter.stdout.internal;
 
 import java.io.PrintStream;
 import java.lang.reflect.Field;
+import java.time.Instant;
 
 import org.agrona.LangUtil;
 
@@ -26,12 +27,15 @@ public class StdoutConfiguration extends Configuration
     private static final ConfigurationDef STDOUT_CONFIG;
 
     public static final PropertyDef<PrintStream> STDOUT_OUTPUT;
+    public static final PropertyDef<Instant> STDOUT_EVENTS_REPLAY_FROM;
 
     static
     {
         final ConfigurationDef config = new ConfigurationDef("zilla.exporter.stdout");
         STDOUT_OUTPUT = config.property(PrintStream.class, "output",
             StdoutConfiguration::decodeOutput, c -> System.out);
+        STDOUT_EVENTS_REPLAY_FROM = config.property(Instant.class, "events.replay.from",
+            Instant::parse, (Instant) null);
         STDOUT_CONFIG = config;
     }
 
@@ -46,6 +50,11 @@ public class StdoutConfiguration extends Configuration
         return STDOUT_OUTPUT.get(this);
     }
 
+    public Instant eventsReplayFrom()
+    {
+        return STDOUT_EVENTS_REPLAY_FROM.get(this);
+    }
+
     private static PrintStream decodeOutput(
         Configuration config,
         String value)
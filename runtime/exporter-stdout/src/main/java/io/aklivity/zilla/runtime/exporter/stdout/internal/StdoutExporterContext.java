@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.exporter.stdout.internal;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.function.LongFunction;
 
@@ -71,6 +72,9 @@ public class StdoutExporterContext implements ExporterContext
 
     public MessageReader supplyEventReader()
     {
-        return context.supplyEventReader();
+        final Instant replayFrom = config.eventsReplayFrom();
+        return replayFrom != null
+            ? context.supplyEventReader(replayFrom.toEpochMilli())
+            : context.supplyEventReader();
     }
 }
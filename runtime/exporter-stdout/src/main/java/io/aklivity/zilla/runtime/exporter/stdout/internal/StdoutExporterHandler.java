@@ -54,4 +54,16 @@ public class StdoutExporterHandler implements ExporterHandler
     {
         this.events = null;
     }
+
+    @Override
+    public long eventsLag()
+    {
+        return events != null ? events.lag() : 0L;
+    }
+
+    @Override
+    public long eventsDropped()
+    {
+        return events != null ? events.dropped() : 0L;
+    }
 }
@@ -53,6 +53,16 @@ public class StdoutEventsStream
         return readEvent.read(this::handleEvent, 1);
     }
 
+    public long lag()
+    {
+        return readEvent.lag();
+    }
+
+    public long dropped()
+    {
+        return readEvent.dropped();
+    }
+
     private void handleEvent(
         int msgTypeId,
         DirectBuffer buffer,
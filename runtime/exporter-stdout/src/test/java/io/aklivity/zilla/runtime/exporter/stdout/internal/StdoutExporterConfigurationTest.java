@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.exporter.stdout.internal;
 
+import static io.aklivity.zilla.runtime.exporter.stdout.internal.StdoutConfiguration.STDOUT_EVENTS_REPLAY_FROM;
 import static io.aklivity.zilla.runtime.exporter.stdout.internal.StdoutConfiguration.STDOUT_OUTPUT;
 import static org.junit.Assert.assertEquals;
 
@@ -22,10 +23,12 @@ import org.junit.Test;
 public class StdoutExporterConfigurationTest
 {
     public static final String STDOUT_OUTPUT_NAME = "zilla.exporter.stdout.output";
+    public static final String STDOUT_EVENTS_REPLAY_FROM_NAME = "zilla.exporter.stdout.events.replay.from";
 
     @Test
     public void shouldVerifyConstants()
     {
         assertEquals(STDOUT_OUTPUT.name(), STDOUT_OUTPUT_NAME);
+        assertEquals(STDOUT_EVENTS_REPLAY_FROM.name(), STDOUT_EVENTS_REPLAY_FROM_NAME);
     }
 }
@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.exporter.stdout.internal.events;
 
+import static io.aklivity.zilla.runtime.exporter.stdout.internal.StdoutExporterConfigurationTest.STDOUT_EVENTS_REPLAY_FROM_NAME;
 import static io.aklivity.zilla.runtime.exporter.stdout.internal.StdoutExporterConfigurationTest.STDOUT_OUTPUT_NAME;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
@@ -65,4 +66,34 @@ public class EventIT
         k3po.finish();
         output.expect(Pattern.compile("test.net0 \\[[^\\]]+\\] test event message\n"));
     }
+
+    @Test
+    @Configuration("server.event.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server"
+    })
+    @Configure(name = STDOUT_OUTPUT_NAME,
+        value = "io.aklivity.zilla.runtime.exporter.stdout.internal.events.StdoutOutputRule.OUT")
+    @Configure(name = STDOUT_EVENTS_REPLAY_FROM_NAME, value = "1970-01-01T00:00:00Z")
+    public void shouldLogEventsReplayedFromTimestamp() throws Exception
+    {
+        k3po.finish();
+        output.expect(Pattern.compile("test.net0 \\[[^\\]]+\\] test event message\n"));
+    }
+
+    @Test
+    @Configuration("server.event.yaml")
+    @Specification({
+        "${net}/handshake/client",
+        "${app}/handshake/server"
+    })
+    @Configure(name = STDOUT_OUTPUT_NAME,
+        value = "io.aklivity.zilla.runtime.exporter.stdout.internal.events.StdoutOutputRule.OUT")
+    @Configure(name = STDOUT_EVENTS_REPLAY_FROM_NAME, value = "2999-01-01T00:00:00Z")
+    public void shouldNotLogEventsBeforeReplayTimestamp() throws Exception
+    {
+        k3po.finish();
+        output.expect(Pattern.compile(""));
+    }
 }
@@ -0,0 +1,1235 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+
+public final class AvroJsonTranscoder
+{
+    private static final byte[] NULL = "null".getBytes(UTF_8);
+    private static final byte[] TRUE = "true".getBytes(UTF_8);
+    private static final byte[] FALSE = "false".getBytes(UTF_8);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(UTF_8);
+
+    private final Node root;
+
+    private DirectBuffer in;
+    private int position;
+    private int limit;
+    private MutableDirectBuffer out;
+    private int progress;
+    private int[] spans;
+    private int spanDepth;
+
+    private AvroJsonTranscoder(
+        Node root)
+    {
+        this.root = root;
+        this.spans = new int[64];
+    }
+
+    public int readJson(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer output,
+        int offset)
+    {
+        this.in = buffer;
+        this.position = index;
+        this.limit = index + length;
+        this.out = output;
+        this.progress = offset;
+
+        readValue(root);
+
+        return progress - offset;
+    }
+
+    public int writeAvro(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer output,
+        int offset)
+    {
+        this.in = buffer;
+        this.position = index;
+        this.limit = index + length;
+        this.out = output;
+        this.progress = offset;
+        this.spanDepth = 0;
+
+        writeValue(root);
+
+        return progress - offset;
+    }
+
+    public static AvroJsonTranscoder compile(
+        Schema schema)
+    {
+        return new AvroJsonTranscoder(compile(schema, new IdentityHashMap<>()));
+    }
+
+    private void readValue(
+        Node node)
+    {
+        switch (node.type)
+        {
+        case NULL:
+            put(NULL);
+            break;
+        case BOOLEAN:
+            put(readByte() == 1 ? TRUE : FALSE);
+            break;
+        case INT:
+            progress += out.putIntAscii(progress, readInt());
+            break;
+        case LONG:
+            progress += out.putLongAscii(progress, readLong());
+            break;
+        case FLOAT:
+            putDecimal(Float.intBitsToFloat(in.getInt(require(Integer.BYTES), LITTLE_ENDIAN)));
+            break;
+        case DOUBLE:
+            putDecimal(Double.longBitsToDouble(in.getLong(require(Long.BYTES), LITTLE_ENDIAN)));
+            break;
+        case STRING:
+            readString(readLength());
+            break;
+        case BYTES:
+            readBytes(readLength());
+            break;
+        case FIXED:
+            readBytes(node.size);
+            break;
+        case ENUM:
+            put(node.symbols[readIndex(node.symbols.length)]);
+            break;
+        case RECORD:
+            putByte('{');
+            for (int index = 0; index < node.fields.length; index++)
+            {
+                if (index != 0)
+                {
+                    putByte(',');
+                }
+                put(node.names[index]);
+                readValue(node.fields[index]);
+            }
+            putByte('}');
+            break;
+        case ARRAY:
+            putByte('[');
+            readItems(node.items, false);
+            putByte(']');
+            break;
+        case MAP:
+            putByte('{');
+            readItems(node.values, true);
+            putByte('}');
+            break;
+        case UNION:
+            final int branch = readIndex(node.branches.length);
+            if (branch == node.nullIndex)
+            {
+                put(NULL);
+            }
+            else
+            {
+                put(node.labels[branch]);
+                readValue(node.branches[branch]);
+                putByte('}');
+            }
+            break;
+        default:
+            throw new AvroRuntimeException("Unsupported type " + node.type);
+        }
+    }
+
+    private void readItems(
+        Node node,
+        boolean keyed)
+    {
+        boolean first = true;
+        for (long count = readBlockCount(); count != 0; count = readBlockCount())
+        {
+            for (long index = 0; index < count; index++)
+            {
+                if (!first)
+                {
+                    putByte(',');
+                }
+                first = false;
+
+                if (keyed)
+                {
+                    readString(readLength());
+                    putByte(':');
+                }
+                readValue(node);
+            }
+        }
+    }
+
+    private long readBlockCount()
+    {
+        long count = readLong();
+        if (count < 0)
+        {
+            readLong();
+            count = -count;
+        }
+        return count;
+    }
+
+    private void readString(
+        int length)
+    {
+        final int end = require(length) + length;
+
+        putByte('"');
+        int run = position - length;
+        for (int index = run; index < end; index++)
+        {
+            final int c = in.getByte(index) & 0xff;
+            if (c < 0x20 || c == '"' || c == '\\')
+            {
+                out.putBytes(progress, in, run, index - run);
+                progress += index - run;
+                putEscape(c);
+                run = index + 1;
+            }
+            else if (c >= 0xf0 && index + 3 < end)
+            {
+                out.putBytes(progress, in, run, index - run);
+                progress += index - run;
+                final int codePoint = (c & 0x07) << 18 |
+                    (in.getByte(index + 1) & 0x3f) << 12 |
+                    (in.getByte(index + 2) & 0x3f) << 6 |
+                    in.getByte(index + 3) & 0x3f;
+                putUnicode(Character.highSurrogate(codePoint));
+                putUnicode(Character.lowSurrogate(codePoint));
+                index += 3;
+                run = index + 1;
+            }
+        }
+        out.putBytes(progress, in, run, end - run);
+        progress += end - run;
+        putByte('"');
+    }
+
+    private void readBytes(
+        int length)
+    {
+        final int end = require(length) + length;
+
+        putByte('"');
+        for (int index = position - length; index < end; index++)
+        {
+            final int c = in.getByte(index) & 0xff;
+            if (c >= 0x80)
+            {
+                putByte(0xc0 | c >> 6);
+                putByte(0x80 | c & 0x3f);
+            }
+            else if (c < 0x20 || c == '"' || c == '\\')
+            {
+                putEscape(c);
+            }
+            else
+            {
+                putByte(c);
+            }
+        }
+        putByte('"');
+    }
+
+    private int readByte()
+    {
+        return in.getByte(require(Byte.BYTES)) & 0xff;
+    }
+
+    private int readIndex(
+        int length)
+    {
+        final int index = readInt();
+        if (index < 0 || index >= length)
+        {
+            throw new AvroRuntimeException(String.format("Index %d out of bounds for length %d", index, length));
+        }
+        return index;
+    }
+
+    private int readLength()
+    {
+        final long length = readLong();
+        if (length < 0 || length > limit - position)
+        {
+            throw new AvroRuntimeException(String.format("Invalid length %d", length));
+        }
+        return (int) length;
+    }
+
+    private int readInt()
+    {
+        final long value = readVarLong(Integer.SIZE + 3);
+        return (int) value;
+    }
+
+    private long readLong()
+    {
+        return readVarLong(Long.SIZE + 6);
+    }
+
+    private long readVarLong(
+        int bits)
+    {
+        long value = 0L;
+        int shift = 0;
+        int b;
+        do
+        {
+            if (shift >= bits)
+            {
+                throw new AvroRuntimeException("Invalid varint encoding");
+            }
+            b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while ((b & 0x80) != 0);
+
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int require(
+        int length)
+    {
+        if (length > limit - position)
+        {
+            throw new AvroRuntimeException("Unexpected end of input");
+        }
+        final int index = position;
+        position += length;
+        return index;
+    }
+
+    private void writeValue(
+        Node node)
+    {
+        skipWhitespace();
+
+        switch (node.type)
+        {
+        case NULL:
+            expectLiteral(NULL);
+            break;
+        case BOOLEAN:
+            final boolean value = peek() == 't';
+            expectLiteral(value ? TRUE : FALSE);
+            putByte(value ? 1 : 0);
+            break;
+        case INT:
+            final long number = parseInteger();
+            if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE)
+            {
+                throw new AvroRuntimeException(String.format("Numeric value %d out of range of int", number));
+            }
+            putVarLong(number);
+            break;
+        case LONG:
+            putVarLong(parseInteger());
+            break;
+        case FLOAT:
+            out.putInt(progress, Float.floatToRawIntBits((float) parseDecimal()), LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+            break;
+        case DOUBLE:
+            out.putLong(progress, Double.doubleToRawLongBits(parseDecimal()), LITTLE_ENDIAN);
+            progress += Long.BYTES;
+            break;
+        case STRING:
+            writeString(false, -1);
+            break;
+        case BYTES:
+            writeString(true, -1);
+            break;
+        case FIXED:
+            writeString(true, node.size);
+            break;
+        case ENUM:
+            putVarLong(parseName(node.keys, "enum symbol"));
+            break;
+        case RECORD:
+            writeRecord(node);
+            break;
+        case ARRAY:
+            writeItems(node.items, '[', ']', false);
+            break;
+        case MAP:
+            writeItems(node.values, '{', '}', true);
+            break;
+        case UNION:
+            if (node.nullIndex != -1 && peek() == 'n')
+            {
+                expectLiteral(NULL);
+                putVarLong(node.nullIndex);
+            }
+            else
+            {
+                expect('{');
+                skipWhitespace();
+                final int branch = parseName(node.keys, "union branch");
+                expect(':');
+                putVarLong(branch);
+                writeValue(node.branches[branch]);
+                expect('}');
+            }
+            break;
+        default:
+            throw new AvroRuntimeException("Unsupported type " + node.type);
+        }
+    }
+
+    private void writeRecord(
+        Node node)
+    {
+        expect('{');
+
+        final int mark = progress;
+        final int start = position;
+        int field = 0;
+        boolean ordered = true;
+
+        skipWhitespace();
+        if (peek() == '}')
+        {
+            position++;
+        }
+        else
+        {
+            for (int c = ','; ordered && c == ','; c = next())
+            {
+                skipWhitespace();
+                final int index = parseField(node);
+                expect(':');
+
+                if (index == field)
+                {
+                    writeValue(node.fields[field++]);
+                }
+                else if (index == -1)
+                {
+                    skipValue();
+                }
+                else
+                {
+                    ordered = false;
+                }
+                skipWhitespace();
+            }
+
+            if (ordered && in.getByte(position - 1) != '}')
+            {
+                throw unexpected(position - 1);
+            }
+        }
+
+        if (!ordered)
+        {
+            progress = mark;
+            position = start;
+            writeRecordUnordered(node);
+        }
+        else if (field != node.fields.length)
+        {
+            throw missing(node, field);
+        }
+    }
+
+    private void writeRecordUnordered(
+        Node node)
+    {
+        final int base = spanDepth;
+        final int fields = node.fields.length;
+
+        spanDepth += fields;
+        if (spanDepth > spans.length)
+        {
+            spans = Arrays.copyOf(spans, Math.max(spanDepth, spans.length << 1));
+        }
+        Arrays.fill(spans, base, spanDepth, -1);
+
+        for (int c = ','; c == ','; c = next())
+        {
+            skipWhitespace();
+            final int index = parseField(node);
+            expect(':');
+            skipWhitespace();
+            if (index != -1)
+            {
+                spans[base + index] = position;
+            }
+            skipValue();
+            skipWhitespace();
+        }
+
+        if (in.getByte(position - 1) != '}')
+        {
+            throw unexpected(position - 1);
+        }
+
+        final int end = position;
+        for (int index = 0; index < fields; index++)
+        {
+            if (spans[base + index] == -1)
+            {
+                throw missing(node, index);
+            }
+            position = spans[base + index];
+            writeValue(node.fields[index]);
+        }
+        position = end;
+        spanDepth = base;
+    }
+
+    private void writeItems(
+        Node node,
+        int open,
+        int close,
+        boolean keyed)
+    {
+        expect(open);
+
+        final int count = countItems(close, keyed);
+        if (count != 0)
+        {
+            putVarLong(count);
+            for (int index = 0; index < count; index++)
+            {
+                if (keyed)
+                {
+                    skipWhitespace();
+                    writeString(false, -1);
+                    expect(':');
+                }
+                writeValue(node);
+                skipWhitespace();
+                position++;
+            }
+        }
+        else
+        {
+            expect(close);
+        }
+        putVarLong(0L);
+    }
+
+    private int countItems(
+        int close,
+        boolean keyed)
+    {
+        final int start = position;
+        int count = 0;
+
+        skipWhitespace();
+        if (peek() != close)
+        {
+            int c;
+            do
+            {
+                if (keyed)
+                {
+                    skipWhitespace();
+                    expect('"');
+                    skipString();
+                    expect(':');
+                }
+                skipValue();
+                skipWhitespace();
+                count++;
+                c = next();
+            }
+            while (c == ',');
+
+            if (c != close)
+            {
+                throw unexpected(position - 1);
+            }
+        }
+
+        position = start;
+        return count;
+    }
+
+    private void writeString(
+        boolean latin1,
+        int fixed)
+    {
+        expect('"');
+
+        final int start = position;
+        final boolean plain = skipString() && (!latin1 || ascii(start, position - 1));
+        final int end = position - 1;
+        final int length = plain ? end - start : decodeString(start, end, latin1, false);
+
+        if (fixed == -1)
+        {
+            putVarLong(length);
+        }
+        else if (length != fixed)
+        {
+            throw new AvroRuntimeException(String.format("Expected fixed length %d, but got %d", fixed, length));
+        }
+
+        if (plain)
+        {
+            out.putBytes(progress, in, start, length);
+            progress += length;
+        }
+        else
+        {
+            decodeString(start, end, latin1, true);
+        }
+    }
+
+    private int decodeString(
+        int start,
+        int end,
+        boolean latin1,
+        boolean write)
+    {
+        int length = 0;
+        int index = start;
+        while (index < end)
+        {
+            int c = in.getByte(index++) & 0xff;
+            if (c == '\\')
+            {
+                c = in.getByte(index++);
+                switch (c)
+                {
+                case 'b':
+                    c = '\b';
+                    break;
+                case 'f':
+                    c = '\f';
+                    break;
+                case 'n':
+                    c = '\n';
+                    break;
+                case 'r':
+                    c = '\r';
+                    break;
+                case 't':
+                    c = '\t';
+                    break;
+                case 'u':
+                    c = parseHex(index);
+                    index += 4;
+                    if (Character.isHighSurrogate((char) c) && index + 6 <= end &&
+                        in.getByte(index) == '\\' && in.getByte(index + 1) == 'u')
+                    {
+                        final int low = parseHex(index + 2);
+                        if (Character.isLowSurrogate((char) low))
+                        {
+                            c = Character.toCodePoint((char) c, (char) low);
+                            index += 6;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+            else if (c >= 0x80 && latin1)
+            {
+                final int extra = c >= 0xf0 ? 3 : c >= 0xe0 ? 2 : 1;
+                c &= 0x3f >> extra;
+                for (int count = 0; count < extra && index < end; count++)
+                {
+                    c = c << 6 | in.getByte(index++) & 0x3f;
+                }
+            }
+            else if (c >= 0x80)
+            {
+                if (write)
+                {
+                    out.putByte(progress++, (byte) c);
+                }
+                length++;
+                continue;
+            }
+
+            length += latin1 ? putLatin1(c, write) : putUtf8(c, write);
+        }
+        return length;
+    }
+
+    private int putLatin1(
+        int c,
+        boolean write)
+    {
+        if (c > 0xff)
+        {
+            throw new AvroRuntimeException(String.format("Invalid byte value \\u%04x", c));
+        }
+        if (write)
+        {
+            out.putByte(progress++, (byte) c);
+        }
+        return 1;
+    }
+
+    private int putUtf8(
+        int c,
+        boolean write)
+    {
+        final int length = c < 0x80 ? 1 : c < 0x800 ? 2 : c < 0x10000 ? 3 : 4;
+        if (write)
+        {
+            switch (length)
+            {
+            case 1:
+                putByte(c);
+                break;
+            case 2:
+                putByte(0xc0 | c >> 6);
+                putByte(0x80 | c & 0x3f);
+                break;
+            case 3:
+                putByte(0xe0 | c >> 12);
+                putByte(0x80 | c >> 6 & 0x3f);
+                putByte(0x80 | c & 0x3f);
+                break;
+            default:
+                putByte(0xf0 | c >> 18);
+                putByte(0x80 | c >> 12 & 0x3f);
+                putByte(0x80 | c >> 6 & 0x3f);
+                putByte(0x80 | c & 0x3f);
+                break;
+            }
+        }
+        return length;
+    }
+
+    private int parseHex(
+        int index)
+    {
+        int value = 0;
+        for (int count = 0; count < 4; count++)
+        {
+            final int digit = Character.digit(in.getByte(index + count), 16);
+            if (digit == -1)
+            {
+                throw unexpected(index + count);
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private boolean ascii(
+        int start,
+        int end)
+    {
+        boolean ascii = true;
+        for (int index = start; ascii && index < end; index++)
+        {
+            ascii = in.getByte(index) >= 0;
+        }
+        return ascii;
+    }
+
+    private long parseInteger()
+    {
+        final int start = position;
+        final boolean negative = peek() == '-';
+        if (negative)
+        {
+            position++;
+        }
+
+        long value = 0L;
+        while (position < limit && isDigit(in.getByte(position)))
+        {
+            final int digit = in.getByte(position++) - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10)
+            {
+                throw new AvroRuntimeException("Numeric value out of range of long");
+            }
+            value = value * 10 - digit;
+        }
+
+        if (position == start + (negative ? 1 : 0) ||
+            position < limit && isNumber(in.getByte(position)))
+        {
+            throw unexpected(start);
+        }
+
+        if (!negative)
+        {
+            if (value == Long.MIN_VALUE)
+            {
+                throw new AvroRuntimeException("Numeric value out of range of long");
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    private double parseDecimal()
+    {
+        double value;
+
+        if (peek() == '"')
+        {
+            position++;
+            final int start = position;
+            skipString();
+            final String text = in.getStringWithoutLengthUtf8(start, position - start - 1);
+            switch (text)
+            {
+            case "NaN":
+                value = Double.NaN;
+                break;
+            case "Infinity":
+                value = Double.POSITIVE_INFINITY;
+                break;
+            case "-Infinity":
+                value = Double.NEGATIVE_INFINITY;
+                break;
+            default:
+                throw unexpected(start - 1);
+            }
+        }
+        else
+        {
+            final int start = position;
+            while (position < limit && isNumber(in.getByte(position)))
+            {
+                position++;
+            }
+
+            try
+            {
+                value = Double.parseDouble(in.getStringWithoutLengthAscii(start, position - start));
+            }
+            catch (NumberFormatException ex)
+            {
+                throw unexpected(start);
+            }
+        }
+
+        return value;
+    }
+
+    private int parseField(
+        Node node)
+    {
+        expect('"');
+        final int start = position;
+        skipString();
+        return find(node.keys, start, position - 1);
+    }
+
+    private int parseName(
+        byte[][] names,
+        String kind)
+    {
+        expect('"');
+        final int start = position;
+        skipString();
+        final int index = find(names, start, position - 1);
+        if (index == -1)
+        {
+            throw new AvroRuntimeException(String.format("Unknown %s %s", kind,
+                in.getStringWithoutLengthUtf8(start, position - 1 - start)));
+        }
+        return index;
+    }
+
+    private int find(
+        byte[][] names,
+        int start,
+        int end)
+    {
+        int found = -1;
+        for (int index = 0; found == -1 && index < names.length; index++)
+        {
+            if (matches(names[index], start, end))
+            {
+                found = index;
+            }
+        }
+        return found;
+    }
+
+    private boolean matches(
+        byte[] name,
+        int start,
+        int end)
+    {
+        boolean matches = end - start == name.length;
+        for (int index = 0; matches && index < name.length; index++)
+        {
+            matches = in.getByte(start + index) == name[index];
+        }
+        return matches;
+    }
+
+    private boolean skipString()
+    {
+        boolean plain = true;
+        int c;
+        while ((c = next()) != '"')
+        {
+            if (c == '\\')
+            {
+                plain = false;
+                next();
+            }
+            else if (c < 0x20)
+            {
+                throw unexpected(position - 1);
+            }
+        }
+        return plain;
+    }
+
+    private void skipValue()
+    {
+        skipWhitespace();
+
+        final int c = next();
+        if (c == '"')
+        {
+            skipString();
+        }
+        else if (c == '{' || c == '[')
+        {
+            int depth = 1;
+            while (depth != 0)
+            {
+                final int n = next();
+                if (n == '"')
+                {
+                    skipString();
+                }
+                else if (n == '{' || n == '[')
+                {
+                    depth++;
+                }
+                else if (n == '}' || n == ']')
+                {
+                    depth--;
+                }
+            }
+        }
+        else if (isNumber((byte) c) || c == 't' || c == 'f' || c == 'n')
+        {
+            while (position < limit && (isNumber(in.getByte(position)) || Character.isLetter(in.getByte(position))))
+            {
+                position++;
+            }
+        }
+        else
+        {
+            throw unexpected(position - 1);
+        }
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < limit)
+        {
+            final byte c = in.getByte(position);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+            {
+                break;
+            }
+            position++;
+        }
+    }
+
+    private void expect(
+        int c)
+    {
+        skipWhitespace();
+        if (next() != c)
+        {
+            throw unexpected(position - 1);
+        }
+    }
+
+    private void expectLiteral(
+        byte[] literal)
+    {
+        for (int index = 0; index < literal.length; index++)
+        {
+            if (next() != literal[index])
+            {
+                throw unexpected(position - 1);
+            }
+        }
+    }
+
+    private int peek()
+    {
+        return position < limit ? in.getByte(position) & 0xff : -1;
+    }
+
+    private int next()
+    {
+        if (position >= limit)
+        {
+            throw new AvroRuntimeException("Unexpected end of input");
+        }
+        return in.getByte(position++) & 0xff;
+    }
+
+    private void putVarLong(
+        long value)
+    {
+        long bits = (value << 1) ^ (value >> 63);
+        while ((bits & ~0x7fL) != 0L)
+        {
+            out.putByte(progress++, (byte) (bits & 0x7f | 0x80));
+            bits >>>= 7;
+        }
+        out.putByte(progress++, (byte) bits);
+    }
+
+    private void putDecimal(
+        float value)
+    {
+        if (Float.isFinite(value))
+        {
+            progress += out.putStringWithoutLengthAscii(progress, Float.toString(value));
+        }
+        else
+        {
+            putByte('"');
+            progress += out.putStringWithoutLengthAscii(progress, Float.toString(value));
+            putByte('"');
+        }
+    }
+
+    private void putDecimal(
+        double value)
+    {
+        if (Double.isFinite(value))
+        {
+            progress += out.putStringWithoutLengthAscii(progress, Double.toString(value));
+        }
+        else
+        {
+            putByte('"');
+            progress += out.putStringWithoutLengthAscii(progress, Double.toString(value));
+            putByte('"');
+        }
+    }
+
+    private void putEscape(
+        int c)
+    {
+        putByte('\\');
+        switch (c)
+        {
+        case '"':
+        case '\\':
+            putByte(c);
+            break;
+        case '\b':
+            putByte('b');
+            break;
+        case '\t':
+            putByte('t');
+            break;
+        case '\n':
+            putByte('n');
+            break;
+        case '\f':
+            putByte('f');
+            break;
+        case '\r':
+            putByte('r');
+            break;
+        default:
+            putByte('u');
+            putByte('0');
+            putByte('0');
+            putByte(HEX[c >> 4]);
+            putByte(HEX[c & 0x0f]);
+            break;
+        }
+    }
+
+    private void putUnicode(
+        int c)
+    {
+        putByte('\\');
+        putByte('u');
+        putByte(HEX[c >> 12 & 0x0f]);
+        putByte(HEX[c >> 8 & 0x0f]);
+        putByte(HEX[c >> 4 & 0x0f]);
+        putByte(HEX[c & 0x0f]);
+    }
+
+    private void put(
+        byte[] bytes)
+    {
+        out.putBytes(progress, bytes);
+        progress += bytes.length;
+    }
+
+    private void putByte(
+        int c)
+    {
+        out.putByte(progress++, (byte) c);
+    }
+
+    private AvroRuntimeException unexpected(
+        int index)
+    {
+        return new AvroRuntimeException(index < limit
+            ? String.format("Unexpected character '%c' at offset %d", (char) (in.getByte(index) & 0xff), index)
+            : "Unexpected end of input");
+    }
+
+    private static AvroRuntimeException missing(
+        Node node,
+        int field)
+    {
+        return new AvroRuntimeException(String.format("Expected field name not found: %s",
+            new String(node.keys[field], UTF_8)));
+    }
+
+    private static boolean isDigit(
+        byte c)
+    {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNumber(
+        byte c)
+    {
+        return isDigit(c) || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private static Node compile(
+        Schema schema,
+        Map<Schema, Node> nodes)
+    {
+        Node node = nodes.get(schema);
+
+        if (node == null)
+        {
+            node = new Node(schema.getType());
+            nodes.put(schema, node);
+
+            switch (schema.getType())
+            {
+            case RECORD:
+                final List<Schema.Field> fields = schema.getFields();
+                node.fields = new Node[fields.size()];
+                node.names = new byte[fields.size()][];
+                node.keys = new byte[fields.size()][];
+                for (int index = 0; index < fields.size(); index++)
+                {
+                    final Schema.Field field = fields.get(index);
+                    node.names[index] = String.format("\"%s\":", field.name()).getBytes(UTF_8);
+                    node.keys[index] = field.name().getBytes(UTF_8);
+                    node.fields[index] = compile(field.schema(), nodes);
+                }
+                break;
+            case ENUM:
+                final List<String> symbols = schema.getEnumSymbols();
+                node.symbols = new byte[symbols.size()][];
+                node.keys = new byte[symbols.size()][];
+                for (int index = 0; index < symbols.size(); index++)
+                {
+                    node.symbols[index] = String.format("\"%s\"", symbols.get(index)).getBytes(UTF_8);
+                    node.keys[index] = symbols.get(index).getBytes(UTF_8);
+                }
+                break;
+            case ARRAY:
+                node.items = compile(schema.getElementType(), nodes);
+                break;
+            case MAP:
+                node.values = compile(schema.getValueType(), nodes);
+                break;
+            case UNION:
+                final List<Schema> types = schema.getTypes();
+                node.branches = new Node[types.size()];
+                node.labels = new byte[types.size()][];
+                node.keys = new byte[types.size()][];
+                for (int index = 0; index < types.size(); index++)
+                {
+                    final Schema type = types.get(index);
+                    node.branches[index] = compile(type, nodes);
+                    node.labels[index] = String.format("{\"%s\":", type.getFullName()).getBytes(UTF_8);
+                    node.keys[index] = type.getFullName().getBytes(UTF_8);
+                    if (type.getType() == Schema.Type.NULL)
+                    {
+                        node.nullIndex = index;
+                    }
+                }
+                break;
+            case FIXED:
+                node.size = schema.getFixedSize();
+                break;
+            default:
+                break;
+            }
+        }
+
+        return node;
+    }
+
+    private static final class Node
+    {
+        private final Schema.Type type;
+
+        private Node[] fields;
+        private byte[][] names;
+        private byte[][] symbols;
+        private byte[][] keys;
+        private Node items;
+        private Node values;
+        private Node[] branches;
+        private byte[][] labels;
+        private int nullIndex = -1;
+        private int size;
+
+        private Node(
+            Schema.Type type)
+        {
+            this.type = type;
+        }
+    }
+}
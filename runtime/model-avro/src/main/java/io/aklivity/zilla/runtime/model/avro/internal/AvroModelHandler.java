@@ -15,27 +15,21 @@
 package io.aklivity.zilla.runtime.model.avro.internal;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableDirectByteBuffer;
 import org.agrona.collections.Int2IntHashMap;
 import org.agrona.collections.Int2ObjectCache;
 import org.agrona.io.DirectBufferInputStream;
-import org.agrona.io.ExpandableDirectBufferOutputStream;
 import org.apache.avro.AvroRuntimeException;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
-import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DecoderFactory;
-import org.apache.avro.io.EncoderFactory;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
@@ -48,7 +42,6 @@ public abstract class AvroModelHandler
     protected static final String VIEW_JSON = "json";
 
     private static final InputStream EMPTY_INPUT_STREAM = new ByteArrayInputStream(new byte[0]);
-    private static final OutputStream EMPTY_OUTPUT_STREAM = new ByteArrayOutputStream(0);
     private static final int JSON_FIELD_STRUCTURE_LENGTH = "\"\":\"\",".length();
     private static final int JSON_FIELD_UNION_LENGTH = "\"\":{\"DATA_TYPE\":\"\"},".length();
     private static final int COMMA_LENGTH = ",".length();
@@ -58,18 +51,16 @@ public abstract class AvroModelHandler
     protected final SchemaConfig catalog;
     protected final CatalogHandler handler;
     protected final DecoderFactory decoderFactory;
-    protected final EncoderFactory encoderFactory;
     protected final BinaryDecoder decoder;
-    protected final BinaryEncoder encoder;
     protected final String subject;
     protected final String view;
-    protected final ExpandableDirectBufferOutputStream expandable;
+    protected final ExpandableDirectByteBuffer expandable;
     protected final DirectBufferInputStream in;
     protected final AvroModelEventContext event;
 
     private final Int2ObjectCache<Schema> schemas;
     private final Int2ObjectCache<GenericDatumReader<GenericRecord>> readers;
-    private final Int2ObjectCache<GenericDatumWriter<GenericRecord>> writers;
+    private final Int2ObjectCache<AvroJsonTranscoder> transcoders;
     private final Int2ObjectCache<GenericRecord> records;
     private final Int2IntHashMap paddings;
 
@@ -79,8 +70,6 @@ public abstract class AvroModelHandler
     {
         this.decoderFactory = DecoderFactory.get();
         this.decoder = decoderFactory.binaryDecoder(EMPTY_INPUT_STREAM, null);
-        this.encoderFactory = EncoderFactory.get();
-        this.encoder = encoderFactory.binaryEncoder(EMPTY_OUTPUT_STREAM, null);
         CatalogedConfig cataloged = config.cataloged.get(0);
         this.handler = context.supplyCatalog(cataloged.id);
         this.catalog = cataloged.schemas.size() != 0 ? cataloged.schemas.get(0) : null;
@@ -90,10 +79,10 @@ public abstract class AvroModelHandler
                 : config.subject;
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
         this.readers = new Int2ObjectCache<>(1, 1024, i -> {});
-        this.writers = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.transcoders = new Int2ObjectCache<>(1, 1024, i -> {});
         this.records = new Int2ObjectCache<>(1, 1024, i -> {});
         this.paddings = new Int2IntHashMap(-1);
-        this.expandable = new ExpandableDirectBufferOutputStream(new ExpandableDirectByteBuffer());
+        this.expandable = new ExpandableDirectByteBuffer();
         this.in = new DirectBufferInputStream();
         this.event = new AvroModelEventContext(context);
     }
@@ -143,10 +132,10 @@ public abstract class AvroModelHandler
         return readers.computeIfAbsent(schemaId, this::createReader);
     }
 
-    protected final GenericDatumWriter<GenericRecord> supplyWriter(
+    protected final AvroJsonTranscoder supplyTranscoder(
         int schemaId)
     {
-        return writers.computeIfAbsent(schemaId, this::createWriter);
+        return transcoders.computeIfAbsent(schemaId, this::createTranscoder);
     }
 
     protected final GenericRecord supplyRecord(
@@ -167,16 +156,16 @@ public abstract class AvroModelHandler
         return reader;
     }
 
-    private GenericDatumWriter<GenericRecord> createWriter(
+    private AvroJsonTranscoder createTranscoder(
         int schemaId)
     {
         Schema schema = supplySchema(schemaId);
-        GenericDatumWriter<GenericRecord> writer = null;
+        AvroJsonTranscoder transcoder = null;
         if (schema != null)
         {
-            writer = new GenericDatumWriter<GenericRecord>(schema);
+            transcoder = AvroJsonTranscoder.compile(schema);
         }
-        return writer;
+        return transcoder;
     }
 
     private GenericRecord createRecord(
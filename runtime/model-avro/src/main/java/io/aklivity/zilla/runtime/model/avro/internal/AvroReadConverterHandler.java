@@ -16,15 +16,8 @@ package io.aklivity.zilla.runtime.model.avro.internal;
 
 import static io.aklivity.zilla.runtime.engine.catalog.CatalogHandler.NO_SCHEMA_ID;
 
-import java.io.IOException;
-
 import org.agrona.DirectBuffer;
 import org.apache.avro.AvroRuntimeException;
-import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.generic.GenericDatumWriter;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.JsonEncoder;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.model.ConverterHandler;
@@ -104,11 +97,10 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
 
         if (VIEW_JSON.equals(view))
         {
-            deserializeRecord(traceId, bindingId, schemaId, data, index, length);
-            int recordLength = expandable.position();
+            int recordLength = deserializeRecord(traceId, bindingId, schemaId, data, index, length);
             if (recordLength > 0)
             {
-                next.accept(expandable.buffer(), 0, recordLength);
+                next.accept(expandable, 0, recordLength);
                 valLength = recordLength;
             }
         }
@@ -120,7 +112,7 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         return valLength;
     }
 
-    private void deserializeRecord(
+    private int deserializeRecord(
         long traceId,
         long bindingId,
         int schemaId,
@@ -128,25 +120,20 @@ public class AvroReadConverterHandler extends AvroModelHandler implements Conver
         int index,
         int length)
     {
+        int recordLength = 0;
         try
         {
-            GenericDatumReader<GenericRecord> reader = supplyReader(schemaId);
-            GenericDatumWriter<GenericRecord> writer = supplyWriter(schemaId);
-            if (reader != null)
+            AvroJsonTranscoder transcoder = supplyTranscoder(schemaId);
+            if (transcoder != null)
             {
-                GenericRecord record = supplyRecord(schemaId);
-                in.wrap(buffer, index, length);
-                expandable.wrap(expandable.buffer());
-                record = reader.read(record, decoderFactory.binaryDecoder(in, decoder));
-                Schema schema = record.getSchema();
-                JsonEncoder out = encoderFactory.jsonEncoder(schema, expandable);
-                writer.write(record, out);
-                out.flush();
+                expandable.checkLimit(length + supplyPadding(schemaId));
+                recordLength = transcoder.readJson(buffer, index, length, expandable, 0);
             }
         }
-        catch (IOException | AvroRuntimeException ex)
+        catch (AvroRuntimeException ex)
         {
             event.validationFailure(traceId, bindingId, ex.getMessage());
         }
+        return recordLength;
     }
 }
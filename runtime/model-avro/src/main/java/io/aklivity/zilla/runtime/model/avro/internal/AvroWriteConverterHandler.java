@@ -14,14 +14,8 @@
  */
 package io.aklivity.zilla.runtime.model.avro.internal;
 
-import java.io.IOException;
-
 import org.agrona.DirectBuffer;
 import org.apache.avro.AvroRuntimeException;
-import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericDatumReader;
-import org.apache.avro.generic.GenericDatumWriter;
-import org.apache.avro.generic.GenericRecord;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.catalog.CatalogHandler;
@@ -82,27 +76,21 @@ public class AvroWriteConverterHandler extends AvroModelHandler implements Conve
         int length,
         ValueConsumer next)
     {
+        int recordLength = 0;
         try
         {
-            Schema schema = supplySchema(schemaId);
-            GenericDatumReader<GenericRecord> reader = supplyReader(schemaId);
-            GenericDatumWriter<GenericRecord> writer = supplyWriter(schemaId);
-            if (reader != null)
+            AvroJsonTranscoder transcoder = supplyTranscoder(schemaId);
+            if (transcoder != null)
             {
-                GenericRecord record = supplyRecord(schemaId);
-                in.wrap(buffer, index, length);
-                expandable.wrap(expandable.buffer());
-                record = reader.read(record, decoderFactory.jsonDecoder(schema, in));
-                encoderFactory.binaryEncoder(expandable, encoder);
-                writer.write(record, encoder);
-                encoder.flush();
-                next.accept(expandable.buffer(), 0, expandable.position());
+                recordLength = transcoder.writeAvro(buffer, index, length, expandable, 0);
+                next.accept(expandable, 0, recordLength);
             }
         }
-        catch (IOException | AvroRuntimeException ex)
+        catch (AvroRuntimeException ex)
         {
+            recordLength = 0;
             event.validationFailure(traceId, bindingId, ex.getMessage());
         }
-        return expandable.position();
+        return recordLength;
     }
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.avro.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonEncoder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AvroJsonTranscoderTest
+{
+    private static final String SCHEMA = "{\"type\":\"record\",\"name\":\"Event\",\"namespace\":\"io.aklivity.example\"," +
+        "\"fields\":[" +
+            "{\"name\":\"id\",\"type\":\"string\"}," +
+            "{\"name\":\"flag\",\"type\":\"boolean\"}," +
+            "{\"name\":\"count\",\"type\":\"int\"}," +
+            "{\"name\":\"total\",\"type\":\"long\"}," +
+            "{\"name\":\"ratio\",\"type\":\"float\"}," +
+            "{\"name\":\"score\",\"type\":\"double\"}," +
+            "{\"name\":\"payload\",\"type\":\"bytes\"}," +
+            "{\"name\":\"hash\",\"type\":{\"type\":\"fixed\",\"name\":\"Hash\",\"size\":4}}," +
+            "{\"name\":\"status\",\"type\":{\"type\":\"enum\",\"name\":\"Status\",\"symbols\":[\"OK\",\"FAILED\"]}}," +
+            "{\"name\":\"tags\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}," +
+            "{\"name\":\"labels\",\"type\":{\"type\":\"map\",\"values\":\"long\"}}," +
+            "{\"name\":\"nothing\",\"type\":\"null\"}," +
+            "{\"name\":\"source\",\"type\":[\"null\",\"string\"]}," +
+            "{\"name\":\"next\",\"type\":[\"null\",\"Event\"]}" +
+        "]}";
+
+    private Schema schema;
+    private AvroJsonTranscoder transcoder;
+    private ExpandableDirectByteBuffer output;
+
+    @Before
+    public void init()
+    {
+        schema = new Schema.Parser().parse(SCHEMA);
+        transcoder = AvroJsonTranscoder.compile(schema);
+        output = new ExpandableDirectByteBuffer();
+    }
+
+    @Test
+    public void shouldTranscodeLikeAvroEncoders() throws IOException
+    {
+        GenericRecord nested = newRecord("n\u00e9st\u00e9d", null, null);
+        GenericRecord record = newRecord("id\"0\\\n\u0001", "src", nested);
+
+        byte[] avro = encodeBinary(record);
+        byte[] json = encodeJson(record);
+
+        assertArrayEquals(json, readJson(avro));
+        assertArrayEquals(avro, writeAvro(json));
+    }
+
+    @Test
+    public void shouldTranscodeNonFiniteDecimals() throws IOException
+    {
+        GenericRecord record = newRecord("id", null, null);
+        record.put("ratio", Float.NaN);
+        record.put("score", Double.NEGATIVE_INFINITY);
+
+        byte[] avro = encodeBinary(record);
+        byte[] json = encodeJson(record);
+
+        assertArrayEquals(json, readJson(avro));
+        assertArrayEquals(avro, writeAvro(json));
+
+        record.put("ratio", Float.POSITIVE_INFINITY);
+        assertArrayEquals(encodeBinary(record), writeAvro(encodeJson(record)));
+    }
+
+    @Test
+    public void shouldWriteAvroWithUnorderedFields() throws IOException
+    {
+        GenericRecord record = newRecord("id", "src", null);
+
+        String json = "{ \"status\": \"FAILED\", \"id\": \"id\", \"flag\": true, \"count\": -2147483648, " +
+            "\"total\": 9223372036854775807, \"ratio\": 1.25, \"score\": 1e-10, " +
+            "\"payload\": \"\\u0000\\\"\\\\\\u007f\u0080\u00ff\", \"hash\": \"\\u0001\\nA\u00e9\", " +
+            "\"tags\": [ \"a\", \"\u00e9\\ud83d\\ude00\" ], \"labels\": { \"a\\tb\": 1, \"c\": -1 }, \"nothing\": null, " +
+            "\"source\": { \"string\": \"src\" }, \"next\": null, \"unknown\": [ {\"a\": [1, \"]\"]}, true ] }";
+
+        assertArrayEquals(encodeBinary(record), writeAvro(json.getBytes(UTF_8)));
+    }
+
+    @Test
+    public void shouldWriteAvroWithEmptyCollections() throws IOException
+    {
+        GenericRecord record = newRecord("id", null, null);
+        record.put("tags", List.of());
+        record.put("labels", Map.of());
+
+        byte[] avro = encodeBinary(record);
+        byte[] json = encodeJson(record);
+
+        assertArrayEquals(json, readJson(avro));
+        assertArrayEquals(avro, writeAvro(json));
+    }
+
+    @Test
+    public void shouldReadJsonFromNegativeBlockCounts()
+    {
+        Schema array = new Schema.Parser().parse("{\"type\":\"array\",\"items\":\"int\"}");
+        AvroJsonTranscoder arrays = AvroJsonTranscoder.compile(array);
+        DirectBuffer data = new UnsafeBuffer(new byte[] { 0x03, 0x04, 0x02, 0x04, 0x00 });
+
+        int length = arrays.readJson(data, 0, data.capacity(), output, 0);
+
+        assertEquals("[1,2]", output.getStringWithoutLengthUtf8(0, length));
+    }
+
+    @Test
+    public void shouldRejectInvalidAvro()
+    {
+        rejectAvro(new byte[] { 0x06, 0x69, 0x64 });
+        rejectAvro(new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff });
+        rejectAvro(new byte[] { 0x01 });
+    }
+
+    @Test
+    public void shouldRejectInvalidJson()
+    {
+        rejectJson("{}");
+        rejectJson("{\"id\": 1}");
+        rejectJson("{\"id\": \"1\"");
+        rejectJson("{\"id\": \"1\", \"flag\": maybe}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1.5}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 3000000000}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 99999999999999999999}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": -}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1.5.5}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": \"Big\"}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\u0100\"}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\\u0100\"}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\", \"hash\": \"abc\"}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\", \"hash\": \"abcd\", \"status\": \"UNKNOWN\"}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\", \"hash\": \"abcd\", \"status\": \"OK\", \"tags\": [\"a\" \"b\"]}");
+        rejectJson("{\"id\": \"1\", \"flag\": true, \"count\": 1, \"total\": 1, \"ratio\": 1, \"score\": 1, " +
+            "\"payload\": \"\", \"hash\": \"abcd\", \"status\": \"OK\", \"tags\": [], \"labels\": {}, " +
+            "\"nothing\": null, \"source\": {\"int\": 1}}");
+        rejectJson("{\"status\": \"OK\", \"id\": \"1\", \"x\": \"\u0001\"}");
+        rejectJson("{\"status\": \"OK\", \"id\": \"\\uzzzz\"}");
+        rejectJson("{\"status\": \"OK\", \"id\": \"1\"} ");
+        rejectJson("{\"status\": \"OK\", \"id\": \"1\", \"x\": @}");
+    }
+
+    private GenericRecord newRecord(
+        String id,
+        String source,
+        GenericRecord next)
+    {
+        Schema hash = schema.getField("hash").schema();
+        Schema status = schema.getField("status").schema();
+
+        Map<String, Long> labels = new LinkedHashMap<>();
+        labels.put("a\tb", 1L);
+        labels.put("c", -1L);
+
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("id", id);
+        record.put("flag", true);
+        record.put("count", Integer.MIN_VALUE);
+        record.put("total", Long.MAX_VALUE);
+        record.put("ratio", 1.25f);
+        record.put("score", 1.0E-10);
+        record.put("payload", ByteBuffer.wrap(new byte[] { 0x00, 0x22, 0x5c, 0x7f, (byte) 0x80, (byte) 0xff }));
+        record.put("hash", new GenericData.Fixed(hash, new byte[] { 0x01, 0x0a, 0x41, (byte) 0xe9 }));
+        record.put("status", new GenericData.EnumSymbol(status, "FAILED"));
+        record.put("tags", Arrays.asList("a", "\u00e9\ud83d\ude00"));
+        record.put("labels", labels);
+        record.put("nothing", null);
+        record.put("source", source);
+        record.put("next", next);
+        return record;
+    }
+
+    private byte[] encodeBinary(
+        GenericRecord record) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private byte[] encodeJson(
+        GenericRecord record) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonEncoder encoder = EncoderFactory.get().jsonEncoder(schema, out);
+        new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private byte[] readJson(
+        byte[] avro)
+    {
+        DirectBuffer data = new UnsafeBuffer(avro);
+        int length = transcoder.readJson(data, 0, data.capacity(), output, 0);
+        byte[] json = new byte[length];
+        output.getBytes(0, json);
+        return json;
+    }
+
+    private byte[] writeAvro(
+        byte[] json)
+    {
+        DirectBuffer data = new UnsafeBuffer(json);
+        int length = transcoder.writeAvro(data, 0, data.capacity(), output, 0);
+        byte[] avro = new byte[length];
+        output.getBytes(0, avro);
+        return avro;
+    }
+
+    private void rejectAvro(
+        byte[] avro)
+    {
+        try
+        {
+            readJson(avro);
+            fail();
+        }
+        catch (AvroRuntimeException ex)
+        {
+        }
+    }
+
+    private void rejectJson(
+        String json)
+    {
+        try
+        {
+            writeAvro(json.getBytes(UTF_8));
+            fail(json);
+        }
+        catch (AvroRuntimeException ex)
+        {
+        }
+    }
+}
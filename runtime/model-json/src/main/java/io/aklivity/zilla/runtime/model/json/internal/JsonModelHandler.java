@@ -19,13 +19,13 @@ import java.io.StringReader;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
 
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectCache;
 import org.agrona.io.DirectBufferInputStream;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
-import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
 import org.leadpony.justify.api.ProblemHandler;
 
@@ -44,9 +44,11 @@ public abstract class JsonModelHandler
 
     private final Int2ObjectCache<JsonSchema> schemas;
     private final Int2ObjectCache<JsonProvider> providers;
+    private final Int2ObjectCache<CompiledSchema> compiled;
     private final JsonProvider schemaProvider;
     private final JsonValidationService service;
     private final JsonParserFactory factory;
+    private final JsonStreamParser stream;
     private DirectBufferInputStream in;
 
     public JsonModelHandler(
@@ -64,6 +66,8 @@ public abstract class JsonModelHandler
                 : config.subject;
         this.schemas = new Int2ObjectCache<>(1, 1024, i -> {});
         this.providers = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.compiled = new Int2ObjectCache<>(1, 1024, i -> {});
+        this.stream = new JsonStreamParser(schemaProvider);
         this.in = new DirectBufferInputStream();
         this.event = new JsonModelEventContext(context);
     }
@@ -79,15 +83,27 @@ public abstract class JsonModelHandler
         boolean status = true;
         try
         {
-            JsonProvider provider = supplyProvider(schemaId);
-            status &= provider != null;
-            if (status)
+            JsonSchemaValidator validator = supplyValidator(schemaId);
+            if (validator != null)
             {
-                in.wrap(buffer, index, length);
-                provider.createReader(in).readValue();
+                stream.reset();
+                stream.wrap(buffer, index, length);
+                stream.finish();
+                validator.reset();
+                validator.validate(stream);
+            }
+            else
+            {
+                JsonProvider provider = supplyProvider(schemaId);
+                status &= provider != null;
+                if (status)
+                {
+                    in.wrap(buffer, index, length);
+                    provider.createReader(in).readValue();
+                }
             }
         }
-        catch (JsonValidatingException ex)
+        catch (JsonParsingException ex)
         {
             status = false;
             event.validationFailure(traceId, bindingId, ex.getMessage());
@@ -95,12 +111,27 @@ public abstract class JsonModelHandler
         return status;
     }
 
+    protected JsonSchemaValidator supplyValidator(
+        int schemaId)
+    {
+        CompiledSchema schema = compiled.computeIfAbsent(schemaId, this::compileSchema);
+        return schema != null ? schema.validator : null;
+    }
+
     protected JsonProvider supplyProvider(
         int schemaId)
     {
         return providers.computeIfAbsent(schemaId, this::createProvider);
     }
 
+    protected JsonParser supplyParser(
+        int schemaId,
+        JsonParser parser)
+    {
+        JsonSchema schema = supplySchema(schemaId);
+        return schema != null ? service.createParser(parser, schema, ProblemHandler.throwing()) : null;
+    }
+
     private JsonSchema supplySchema(
         int schemaId)
     {
@@ -122,6 +153,13 @@ public abstract class JsonModelHandler
         return schema;
     }
 
+    private CompiledSchema compileSchema(
+        int schemaId)
+    {
+        JsonSchema schema = supplySchema(schemaId);
+        return schema != null ? new CompiledSchema(JsonSchemaValidator.compile(schema.toJson())) : null;
+    }
+
     private JsonProvider createProvider(
         int schemaId)
     {
@@ -133,4 +171,15 @@ public abstract class JsonModelHandler
         }
         return provider;
     }
+
+    private static final class CompiledSchema
+    {
+        private final JsonSchemaValidator validator;
+
+        private CompiledSchema(
+            JsonSchemaValidator validator)
+        {
+            this.validator = validator;
+        }
+    }
 }
@@ -0,0 +1,653 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+public final class JsonSchemaValidator
+{
+    private static final int TYPE_NULL = 1 << 0;
+    private static final int TYPE_BOOLEAN = 1 << 1;
+    private static final int TYPE_OBJECT = 1 << 2;
+    private static final int TYPE_ARRAY = 1 << 3;
+    private static final int TYPE_NUMBER = 1 << 4;
+    private static final int TYPE_INTEGER = 1 << 5;
+    private static final int TYPE_STRING = 1 << 6;
+
+    private static final String[] TYPE_NAMES = { "null", "boolean", "object", "array", "number", "integer", "string" };
+
+    private static final BigDecimal LONG_LOWER = BigDecimal.valueOf(-1_000_000_000_000_000_000L);
+    private static final BigDecimal LONG_UPPER = BigDecimal.valueOf(1_000_000_000_000_000_000L);
+    private static final int LONG_DIGITS = 19;
+
+    private static final Node ANY = new Node();
+
+    static
+    {
+        ANY.items = ANY;
+    }
+
+    private final Node root;
+
+    private Node[] nodes;
+    private long[] seen;
+    private boolean[] arrays;
+    private int depth;
+    private Node expected;
+
+    private JsonSchemaValidator(
+        Node root)
+    {
+        this.root = root;
+        this.nodes = new Node[16];
+        this.seen = new long[16];
+        this.arrays = new boolean[16];
+        reset();
+    }
+
+    public void reset()
+    {
+        depth = 0;
+        expected = root;
+    }
+
+    public void validate(
+        JsonStreamParser parser)
+    {
+        while (parser.hasNext())
+        {
+            final Event event = parser.next();
+
+            switch (event)
+            {
+            case START_OBJECT:
+                checkType(parser, expected, TYPE_OBJECT);
+                checkEnum(parser, expected, event);
+                push(expected, false);
+                break;
+            case START_ARRAY:
+                checkType(parser, expected, TYPE_ARRAY);
+                checkEnum(parser, expected, event);
+                push(expected, true);
+                expected = expected.items;
+                break;
+            case KEY_NAME:
+                onKey(parser);
+                break;
+            case END_OBJECT:
+                checkRequired(parser);
+                pop();
+                break;
+            case END_ARRAY:
+                pop();
+                break;
+            case VALUE_STRING:
+                checkString(parser, expected);
+                next();
+                break;
+            case VALUE_NUMBER:
+                checkNumber(parser, expected);
+                next();
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                checkType(parser, expected, TYPE_BOOLEAN);
+                checkEnum(parser, expected, event);
+                next();
+                break;
+            default:
+                checkType(parser, expected, TYPE_NULL);
+                checkEnum(parser, expected, event);
+                next();
+                break;
+            }
+        }
+    }
+
+    public static JsonSchemaValidator compile(
+        JsonValue schema)
+    {
+        Node root = compileNode(schema);
+        return root != null ? new JsonSchemaValidator(root) : null;
+    }
+
+    private void push(
+        Node node,
+        boolean array)
+    {
+        if (depth == nodes.length)
+        {
+            nodes = Arrays.copyOf(nodes, depth << 1);
+            seen = Arrays.copyOf(seen, depth << 1);
+            arrays = Arrays.copyOf(arrays, depth << 1);
+        }
+
+        nodes[depth] = node;
+        seen[depth] = 0L;
+        arrays[depth] = array;
+        depth++;
+    }
+
+    private void pop()
+    {
+        nodes[--depth] = null;
+        next();
+    }
+
+    private void next()
+    {
+        if (depth != 0 && arrays[depth - 1])
+        {
+            expected = nodes[depth - 1].items;
+        }
+    }
+
+    private void onKey(
+        JsonStreamParser parser)
+    {
+        final Node node = nodes[depth - 1];
+        final CharSequence key = parser.text();
+        final String[] keys = node.keys;
+
+        expected = ANY;
+        for (int index = 0; index < keys.length; index++)
+        {
+            if (keys[index].contentEquals(key))
+            {
+                seen[depth - 1] |= 1L << index;
+                expected = node.properties[index];
+                break;
+            }
+        }
+    }
+
+    private void checkRequired(
+        JsonStreamParser parser)
+    {
+        final Node node = nodes[depth - 1];
+        final long missing = node.required & ~seen[depth - 1];
+
+        if (missing != 0L)
+        {
+            final String name = node.keys[Long.numberOfTrailingZeros(missing)];
+            throw failure(parser, String.format("The object must have a property whose name is \"%s\".", name));
+        }
+    }
+
+    private void checkString(
+        JsonStreamParser parser,
+        Node node)
+    {
+        checkType(parser, node, TYPE_STRING);
+
+        final CharSequence text = parser.text();
+
+        if (node.minLength != -1 || node.maxLength != -1)
+        {
+            final int length = Character.codePointCount(text, 0, text.length());
+            if (node.minLength != -1 && length < node.minLength)
+            {
+                throw failure(parser, String.format("The value must be at least %d characters long, " +
+                    "but actual length is %d.", node.minLength, length));
+            }
+            if (node.maxLength != -1 && length > node.maxLength)
+            {
+                throw failure(parser, String.format("The value must be at most %d characters long, " +
+                    "but actual length is %d.", node.maxLength, length));
+            }
+        }
+
+        if (node.pattern != null && !node.pattern.reset(text).find())
+        {
+            throw failure(parser, String.format("The value must match the pattern \"%s\".", node.pattern.pattern()));
+        }
+
+        checkEnum(parser, node, Event.VALUE_STRING);
+    }
+
+    private void checkNumber(
+        JsonStreamParser parser,
+        Node node)
+    {
+        int type = TYPE_NUMBER;
+        if (parser.isIntegralNumber() ||
+            (node.types & TYPE_INTEGER) != 0 && parser.getBigDecimal().stripTrailingZeros().scale() <= 0)
+        {
+            type = TYPE_INTEGER;
+        }
+
+        checkType(parser, node, type);
+
+        if (node.bounded)
+        {
+            final boolean fast = parser.isIntegralNumber() && parser.text().length() < LONG_DIGITS;
+            final long value = fast ? parser.getLong() : 0L;
+
+            if (!fast || value < node.lower || value > node.upper)
+            {
+                checkBounds(parser, node, parser.getBigDecimal());
+            }
+        }
+
+        checkEnum(parser, node, Event.VALUE_NUMBER);
+    }
+
+    private void checkBounds(
+        JsonStreamParser parser,
+        Node node,
+        BigDecimal value)
+    {
+        if (node.minimum != null && value.compareTo(node.minimum) < 0)
+        {
+            throw failure(parser, String.format("The numeric value must be greater than or equal to %s.",
+                node.minimum.toPlainString()));
+        }
+        if (node.maximum != null && value.compareTo(node.maximum) > 0)
+        {
+            throw failure(parser, String.format("The numeric value must be less than or equal to %s.",
+                node.maximum.toPlainString()));
+        }
+        if (node.exclusiveMinimum != null && value.compareTo(node.exclusiveMinimum) <= 0)
+        {
+            throw failure(parser, String.format("The numeric value must be greater than %s.",
+                node.exclusiveMinimum.toPlainString()));
+        }
+        if (node.exclusiveMaximum != null && value.compareTo(node.exclusiveMaximum) >= 0)
+        {
+            throw failure(parser, String.format("The numeric value must be less than %s.",
+                node.exclusiveMaximum.toPlainString()));
+        }
+    }
+
+    private void checkType(
+        JsonStreamParser parser,
+        Node node,
+        int type)
+    {
+        if (node.types != 0 &&
+            (node.types & type) == 0 &&
+            (type != TYPE_INTEGER || (node.types & TYPE_NUMBER) == 0))
+        {
+            throw failure(parser, String.format("The value must be of %s type, but actual type is %s.",
+                typeNames(node.types), typeNames(type)));
+        }
+    }
+
+    private void checkEnum(
+        JsonStreamParser parser,
+        Node node,
+        Event event)
+    {
+        final JsonValue[] values = node.values;
+
+        if (values != null)
+        {
+            boolean matched = false;
+            for (int index = 0; !matched && index < values.length; index++)
+            {
+                matched = matches(parser, values[index], event);
+            }
+
+            if (!matched)
+            {
+                throw failure(parser, String.format("The value must be one of %s.", Arrays.toString(values)));
+            }
+        }
+    }
+
+    private static boolean matches(
+        JsonStreamParser parser,
+        JsonValue value,
+        Event event)
+    {
+        boolean matched;
+
+        switch (event)
+        {
+        case VALUE_STRING:
+            matched = value instanceof JsonString &&
+                ((JsonString) value).getString().contentEquals(parser.text());
+            break;
+        case VALUE_NUMBER:
+            matched = value instanceof JsonNumber &&
+                ((JsonNumber) value).bigDecimalValue().compareTo(parser.getBigDecimal()) == 0;
+            break;
+        case VALUE_TRUE:
+            matched = value == JsonValue.TRUE;
+            break;
+        case VALUE_FALSE:
+            matched = value == JsonValue.FALSE;
+            break;
+        case VALUE_NULL:
+            matched = value == JsonValue.NULL;
+            break;
+        default:
+            matched = false;
+            break;
+        }
+
+        return matched;
+    }
+
+    private static JsonParsingException failure(
+        JsonStreamParser parser,
+        String message)
+    {
+        return new JsonParsingException(message, parser.getLocation());
+    }
+
+    private static String typeNames(
+        int types)
+    {
+        final List<String> names = new ArrayList<>();
+        for (int index = 0; index < TYPE_NAMES.length; index++)
+        {
+            if ((types & 1 << index) != 0)
+            {
+                names.add(TYPE_NAMES[index]);
+            }
+        }
+        return names.size() == 1 ? names.get(0) : names.toString();
+    }
+
+    private static Node compileNode(
+        JsonValue schema)
+    {
+        Node node = null;
+
+        if (schema == JsonValue.TRUE)
+        {
+            node = ANY;
+        }
+        else if (schema instanceof JsonObject)
+        {
+            node = compileObject((JsonObject) schema);
+        }
+
+        return node;
+    }
+
+    private static Node compileObject(
+        JsonObject schema)
+    {
+        final Node node = new Node();
+        final List<String> keys = new ArrayList<>();
+        final List<Node> properties = new ArrayList<>();
+        final List<String> required = new ArrayList<>();
+
+        boolean compiled = true;
+        for (Map.Entry<String, JsonValue> entry : schema.entrySet())
+        {
+            final JsonValue value = entry.getValue();
+
+            switch (entry.getKey())
+            {
+            case "$schema":
+            case "$id":
+            case "id":
+            case "$comment":
+            case "title":
+            case "description":
+            case "default":
+            case "examples":
+                break;
+            case "type":
+                node.types = compileTypes(value);
+                compiled &= node.types != 0;
+                break;
+            case "properties":
+                compiled &= value instanceof JsonObject;
+                if (compiled)
+                {
+                    for (Map.Entry<String, JsonValue> property : ((JsonObject) value).entrySet())
+                    {
+                        final Node child = compileNode(property.getValue());
+                        compiled &= child != null;
+                        keys.add(property.getKey());
+                        properties.add(child);
+                    }
+                }
+                break;
+            case "required":
+                compiled &= value instanceof JsonArray;
+                if (compiled)
+                {
+                    for (JsonValue name : (JsonArray) value)
+                    {
+                        compiled &= name instanceof JsonString;
+                        if (compiled)
+                        {
+                            required.add(((JsonString) name).getString());
+                        }
+                    }
+                }
+                break;
+            case "items":
+                node.items = compileNode(value);
+                compiled &= node.items != null;
+                break;
+            case "enum":
+                compiled &= value instanceof JsonArray;
+                if (compiled)
+                {
+                    node.values = ((JsonArray) value).toArray(JsonValue[]::new);
+                    for (JsonValue constant : node.values)
+                    {
+                        compiled &= !(constant instanceof JsonObject) && !(constant instanceof JsonArray);
+                    }
+                }
+                break;
+            case "minimum":
+                node.minimum = compileDecimal(value);
+                compiled &= node.minimum != null;
+                break;
+            case "maximum":
+                node.maximum = compileDecimal(value);
+                compiled &= node.maximum != null;
+                break;
+            case "exclusiveMinimum":
+                node.exclusiveMinimum = compileDecimal(value);
+                compiled &= node.exclusiveMinimum != null;
+                break;
+            case "exclusiveMaximum":
+                node.exclusiveMaximum = compileDecimal(value);
+                compiled &= node.exclusiveMaximum != null;
+                break;
+            case "minLength":
+                node.minLength = compileLength(value);
+                compiled &= node.minLength != -1;
+                break;
+            case "maxLength":
+                node.maxLength = compileLength(value);
+                compiled &= node.maxLength != -1;
+                break;
+            case "pattern":
+                node.pattern = compilePattern(value);
+                compiled &= node.pattern != null;
+                break;
+            default:
+                compiled = false;
+                break;
+            }
+
+            if (!compiled)
+            {
+                break;
+            }
+        }
+
+        for (String name : required)
+        {
+            int index = keys.indexOf(name);
+            if (index == -1)
+            {
+                index = keys.size();
+                keys.add(name);
+                properties.add(ANY);
+            }
+
+            if (index < Long.SIZE)
+            {
+                node.required |= 1L << index;
+            }
+        }
+
+        if (compiled && keys.size() <= Long.SIZE)
+        {
+            node.keys = keys.toArray(String[]::new);
+            node.properties = properties.toArray(Node[]::new);
+            compileBounds(node);
+        }
+
+        return compiled && keys.size() <= Long.SIZE ? node : null;
+    }
+
+    private static int compileTypes(
+        JsonValue value)
+    {
+        int types = 0;
+
+        if (value instanceof JsonString)
+        {
+            types = compileType(((JsonString) value).getString());
+        }
+        else if (value instanceof JsonArray)
+        {
+            for (JsonValue type : (JsonArray) value)
+            {
+                final int mask = type instanceof JsonString ? compileType(((JsonString) type).getString()) : 0;
+                if (mask == 0)
+                {
+                    types = 0;
+                    break;
+                }
+                types |= mask;
+            }
+        }
+
+        return types;
+    }
+
+    private static int compileType(
+        String name)
+    {
+        final int index = Arrays.asList(TYPE_NAMES).indexOf(name);
+        return index != -1 ? 1 << index : 0;
+    }
+
+    private static BigDecimal compileDecimal(
+        JsonValue value)
+    {
+        return value instanceof JsonNumber ? ((JsonNumber) value).bigDecimalValue() : null;
+    }
+
+    private static int compileLength(
+        JsonValue value)
+    {
+        return value instanceof JsonNumber && ((JsonNumber) value).isIntegral() && ((JsonNumber) value).intValue() >= 0
+            ? ((JsonNumber) value).intValue()
+            : -1;
+    }
+
+    private static Matcher compilePattern(
+        JsonValue value)
+    {
+        Matcher matcher = null;
+
+        if (value instanceof JsonString)
+        {
+            try
+            {
+                matcher = Pattern.compile(((JsonString) value).getString()).matcher("");
+            }
+            catch (PatternSyntaxException ex)
+            {
+                matcher = null;
+            }
+        }
+
+        return matcher;
+    }
+
+    private static void compileBounds(
+        Node node)
+    {
+        BigDecimal lower = null;
+        BigDecimal upper = null;
+
+        if (node.minimum != null)
+        {
+            lower = node.minimum.setScale(0, RoundingMode.CEILING);
+        }
+        if (node.exclusiveMinimum != null)
+        {
+            final BigDecimal exclusive = node.exclusiveMinimum.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+            lower = lower != null ? lower.max(exclusive) : exclusive;
+        }
+        if (node.maximum != null)
+        {
+            upper = node.maximum.setScale(0, RoundingMode.FLOOR);
+        }
+        if (node.exclusiveMaximum != null)
+        {
+            final BigDecimal exclusive = node.exclusiveMaximum.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE);
+            upper = upper != null ? upper.min(exclusive) : exclusive;
+        }
+
+        node.bounded = lower != null || upper != null;
+        node.lower = lower == null || lower.compareTo(LONG_LOWER) < 0 ? Long.MIN_VALUE
+            : lower.compareTo(LONG_UPPER) > 0 ? Long.MAX_VALUE
+            : lower.longValue();
+        node.upper = upper == null || upper.compareTo(LONG_UPPER) > 0 ? Long.MAX_VALUE
+            : upper.compareTo(LONG_LOWER) < 0 ? Long.MIN_VALUE
+            : upper.longValue();
+    }
+
+    private static final class Node
+    {
+        private int types;
+        private String[] keys = new String[0];
+        private Node[] properties = new Node[0];
+        private long required;
+        private Node items = ANY;
+        private JsonValue[] values;
+        private BigDecimal minimum;
+        private BigDecimal maximum;
+        private BigDecimal exclusiveMinimum;
+        private BigDecimal exclusiveMaximum;
+        private boolean bounded;
+        private long lower;
+        private long upper;
+        private int minLength = -1;
+        private int maxLength = -1;
+        private Matcher pattern;
+    }
+}
@@ -0,0 +1,719 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.agrona.DirectBuffer;
+
+public final class JsonStreamParser implements JsonParser
+{
+    private static final int STATE_VALUE = 0;
+    private static final int STATE_VALUE_OR_END = 1;
+    private static final int STATE_KEY = 2;
+    private static final int STATE_KEY_OR_END = 3;
+    private static final int STATE_COLON = 4;
+    private static final int STATE_COMMA_OR_END = 5;
+    private static final int STATE_DONE = 6;
+
+    private static final int TOKEN_NONE = 0;
+    private static final int TOKEN_STRING = 1;
+    private static final int TOKEN_ESCAPE = 2;
+    private static final int TOKEN_UNICODE = 3;
+    private static final int TOKEN_NUMBER = 4;
+    private static final int TOKEN_LITERAL = 5;
+
+    private static final int NUMBER_MINUS = 0;
+    private static final int NUMBER_ZERO = 1;
+    private static final int NUMBER_INT = 2;
+    private static final int NUMBER_DOT = 3;
+    private static final int NUMBER_FRACTION = 4;
+    private static final int NUMBER_E = 5;
+    private static final int NUMBER_EXPONENT_SIGN = 6;
+    private static final int NUMBER_EXPONENT = 7;
+
+    private static final byte CONTAINER_OBJECT = 1;
+    private static final byte CONTAINER_ARRAY = 2;
+
+    private static final byte[] LITERAL_TRUE = "true".getBytes();
+    private static final byte[] LITERAL_FALSE = "false".getBytes();
+    private static final byte[] LITERAL_NULL = "null".getBytes();
+
+    private final JsonProvider provider;
+    private final StringBuilder text;
+
+    private DirectBuffer buffer;
+    private int offset;
+    private int limit;
+    private boolean finished;
+
+    private long streamOffset;
+    private long lineNumber;
+    private long columnNumber;
+
+    private byte[] containers;
+    private int depth;
+    private int state;
+    private int token;
+
+    private boolean key;
+    private int codePoint;
+    private int continuation;
+    private int unicode;
+    private int unicodeDigits;
+    private int number;
+    private boolean integral;
+    private BigDecimal decimal;
+    private byte[] literal;
+    private int literalIndex;
+    private Event literalEvent;
+
+    private Event pending;
+    private Event current;
+
+    public JsonStreamParser(
+        JsonProvider provider)
+    {
+        this.provider = provider;
+        this.text = new StringBuilder();
+        this.containers = new byte[16];
+        reset();
+    }
+
+    public void reset()
+    {
+        buffer = null;
+        offset = 0;
+        limit = 0;
+        finished = false;
+        streamOffset = 0L;
+        lineNumber = 1L;
+        columnNumber = 1L;
+        depth = 0;
+        state = STATE_VALUE;
+        token = TOKEN_NONE;
+        continuation = 0;
+        pending = null;
+        current = null;
+    }
+
+    public void wrap(
+        DirectBuffer buffer,
+        int index,
+        int length)
+    {
+        this.buffer = buffer;
+        this.offset = index;
+        this.limit = index + length;
+    }
+
+    public void finish()
+    {
+        finished = true;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while (pending == null && offset < limit)
+        {
+            final byte b = buffer.getByte(offset);
+
+            if (token == TOKEN_NUMBER && !decodeNumber(b))
+            {
+                completeNumber();
+            }
+            else
+            {
+                advance(b);
+
+                if (token != TOKEN_NUMBER)
+                {
+                    decode(b);
+                }
+            }
+        }
+
+        if (pending == null && finished && offset == limit)
+        {
+            if (token == TOKEN_NUMBER)
+            {
+                completeNumber();
+            }
+            else if (token != TOKEN_NONE || state != STATE_DONE)
+            {
+                throw failure("Unexpected end of input");
+            }
+        }
+
+        return pending != null;
+    }
+
+    @Override
+    public Event next()
+    {
+        if (!hasNext())
+        {
+            throw new NoSuchElementException();
+        }
+
+        current = pending;
+        pending = null;
+        return current;
+    }
+
+    @Override
+    public String getString()
+    {
+        if (current != Event.KEY_NAME &&
+            current != Event.VALUE_STRING &&
+            current != Event.VALUE_NUMBER)
+        {
+            throw new IllegalStateException(String.valueOf(current));
+        }
+
+        return text.toString();
+    }
+
+    @Override
+    public boolean isIntegralNumber()
+    {
+        checkNumber();
+        return integral;
+    }
+
+    @Override
+    public int getInt()
+    {
+        checkNumber();
+        return integral && text.length() < 10
+            ? Integer.parseInt(text, 0, text.length(), 10)
+            : getBigDecimal().intValue();
+    }
+
+    @Override
+    public long getLong()
+    {
+        checkNumber();
+        return integral && text.length() < 19
+            ? Long.parseLong(text, 0, text.length(), 10)
+            : getBigDecimal().longValue();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal()
+    {
+        checkNumber();
+        if (decimal == null)
+        {
+            decimal = new BigDecimal(text.toString());
+        }
+        return decimal;
+    }
+
+    @Override
+    public JsonValue getValue()
+    {
+        JsonValue value;
+
+        switch (current)
+        {
+        case VALUE_STRING:
+            value = provider.createValue(text.toString());
+            break;
+        case VALUE_NUMBER:
+            value = provider.createValue(getBigDecimal());
+            break;
+        case VALUE_TRUE:
+            value = JsonValue.TRUE;
+            break;
+        case VALUE_FALSE:
+            value = JsonValue.FALSE;
+            break;
+        case VALUE_NULL:
+            value = JsonValue.NULL;
+            break;
+        default:
+            throw new IllegalStateException(String.valueOf(current));
+        }
+
+        return value;
+    }
+
+    @Override
+    public JsonLocation getLocation()
+    {
+        return new StreamLocation(lineNumber, columnNumber, streamOffset);
+    }
+
+    @Override
+    public void close()
+    {
+    }
+
+    CharSequence text()
+    {
+        return text;
+    }
+
+    private void advance(
+        byte b)
+    {
+        offset++;
+        streamOffset++;
+
+        if (b == '\n')
+        {
+            lineNumber++;
+            columnNumber = 1L;
+        }
+        else
+        {
+            columnNumber++;
+        }
+    }
+
+    private void decode(
+        byte b)
+    {
+        switch (token)
+        {
+        case TOKEN_STRING:
+            decodeString(b);
+            break;
+        case TOKEN_ESCAPE:
+            decodeEscape(b);
+            break;
+        case TOKEN_UNICODE:
+            decodeUnicode(b);
+            break;
+        case TOKEN_LITERAL:
+            decodeLiteral(b);
+            break;
+        default:
+            decodeStructure(b);
+            break;
+        }
+    }
+
+    private void decodeStructure(
+        byte b)
+    {
+        if (b == ' ' || b == '\n' || b == '\r' || b == '\t')
+        {
+            return;
+        }
+
+        switch (state)
+        {
+        case STATE_VALUE_OR_END:
+            if (b == ']')
+            {
+                endContainer(Event.END_ARRAY);
+            }
+            else
+            {
+                decodeValue(b);
+            }
+            break;
+        case STATE_VALUE:
+            decodeValue(b);
+            break;
+        case STATE_KEY_OR_END:
+            if (b == '}')
+            {
+                endContainer(Event.END_OBJECT);
+            }
+            else if (b == '"')
+            {
+                startString(true);
+            }
+            else
+            {
+                throw unexpected(b);
+            }
+            break;
+        case STATE_KEY:
+            if (b != '"')
+            {
+                throw unexpected(b);
+            }
+            startString(true);
+            break;
+        case STATE_COLON:
+            if (b != ':')
+            {
+                throw unexpected(b);
+            }
+            state = STATE_VALUE;
+            break;
+        case STATE_COMMA_OR_END:
+            final byte container = containers[depth - 1];
+            if (b == ',')
+            {
+                state = container == CONTAINER_OBJECT ? STATE_KEY : STATE_VALUE;
+            }
+            else if (b == '}' && container == CONTAINER_OBJECT)
+            {
+                endContainer(Event.END_OBJECT);
+            }
+            else if (b == ']' && container == CONTAINER_ARRAY)
+            {
+                endContainer(Event.END_ARRAY);
+            }
+            else
+            {
+                throw unexpected(b);
+            }
+            break;
+        default:
+            throw unexpected(b);
+        }
+    }
+
+    private void decodeValue(
+        byte b)
+    {
+        switch (b)
+        {
+        case '{':
+            startContainer(CONTAINER_OBJECT, Event.START_OBJECT);
+            state = STATE_KEY_OR_END;
+            break;
+        case '[':
+            startContainer(CONTAINER_ARRAY, Event.START_ARRAY);
+            state = STATE_VALUE_OR_END;
+            break;
+        case '"':
+            startString(false);
+            break;
+        case 't':
+            startLiteral(LITERAL_TRUE, Event.VALUE_TRUE);
+            break;
+        case 'f':
+            startLiteral(LITERAL_FALSE, Event.VALUE_FALSE);
+            break;
+        case 'n':
+            startLiteral(LITERAL_NULL, Event.VALUE_NULL);
+            break;
+        default:
+            if (b == '-' || b >= '0' && b <= '9')
+            {
+                text.setLength(0);
+                text.append((char) b);
+                number = b == '-' ? NUMBER_MINUS : b == '0' ? NUMBER_ZERO : NUMBER_INT;
+                integral = true;
+                decimal = null;
+                token = TOKEN_NUMBER;
+            }
+            else
+            {
+                throw unexpected(b);
+            }
+            break;
+        }
+    }
+
+    private void startContainer(
+        byte container,
+        Event event)
+    {
+        if (depth == containers.length)
+        {
+            containers = Arrays.copyOf(containers, depth << 1);
+        }
+        containers[depth++] = container;
+        pending = event;
+    }
+
+    private void endContainer(
+        Event event)
+    {
+        depth--;
+        pending = event;
+        completeValue();
+    }
+
+    private void startString(
+        boolean key)
+    {
+        this.key = key;
+        text.setLength(0);
+        continuation = 0;
+        token = TOKEN_STRING;
+    }
+
+    private void decodeString(
+        byte b)
+    {
+        if (continuation != 0)
+        {
+            if ((b & 0xc0) != 0x80)
+            {
+                throw unexpected(b);
+            }
+            codePoint = codePoint << 6 | b & 0x3f;
+            if (--continuation == 0)
+            {
+                text.appendCodePoint(codePoint);
+            }
+        }
+        else if (b == '"')
+        {
+            token = TOKEN_NONE;
+            if (key)
+            {
+                pending = Event.KEY_NAME;
+                state = STATE_COLON;
+            }
+            else
+            {
+                pending = Event.VALUE_STRING;
+                completeValue();
+            }
+        }
+        else if (b == '\\')
+        {
+            token = TOKEN_ESCAPE;
+        }
+        else if (b >= 0x20)
+        {
+            text.append((char) b);
+        }
+        else if ((b & 0xe0) == 0xc0)
+        {
+            codePoint = b & 0x1f;
+            continuation = 1;
+        }
+        else if ((b & 0xf0) == 0xe0)
+        {
+            codePoint = b & 0x0f;
+            continuation = 2;
+        }
+        else if ((b & 0xf8) == 0xf0)
+        {
+            codePoint = b & 0x07;
+            continuation = 3;
+        }
+        else
+        {
+            throw unexpected(b);
+        }
+    }
+
+    private void decodeEscape(
+        byte b)
+    {
+        token = TOKEN_STRING;
+
+        switch (b)
+        {
+        case '"':
+        case '\\':
+        case '/':
+            text.append((char) b);
+            break;
+        case 'b':
+            text.append('\b');
+            break;
+        case 'f':
+            text.append('\f');
+            break;
+        case 'n':
+            text.append('\n');
+            break;
+        case 'r':
+            text.append('\r');
+            break;
+        case 't':
+            text.append('\t');
+            break;
+        case 'u':
+            unicode = 0;
+            unicodeDigits = 0;
+            token = TOKEN_UNICODE;
+            break;
+        default:
+            throw unexpected(b);
+        }
+    }
+
+    private void decodeUnicode(
+        byte b)
+    {
+        final int digit = Character.digit(b, 16);
+        if (digit == -1)
+        {
+            throw unexpected(b);
+        }
+
+        unicode = unicode << 4 | digit;
+        if (++unicodeDigits == 4)
+        {
+            text.append((char) unicode);
+            token = TOKEN_STRING;
+        }
+    }
+
+    private boolean decodeNumber(
+        byte b)
+    {
+        final boolean digit = b >= '0' && b <= '9';
+        final boolean exponent = b == 'e' || b == 'E';
+
+        int next = -1;
+        switch (number)
+        {
+        case NUMBER_MINUS:
+            next = b == '0' ? NUMBER_ZERO : digit ? NUMBER_INT : -1;
+            break;
+        case NUMBER_ZERO:
+            next = b == '.' ? NUMBER_DOT : exponent ? NUMBER_E : -1;
+            break;
+        case NUMBER_INT:
+            next = digit ? NUMBER_INT : b == '.' ? NUMBER_DOT : exponent ? NUMBER_E : -1;
+            break;
+        case NUMBER_DOT:
+        case NUMBER_FRACTION:
+            next = digit ? NUMBER_FRACTION : exponent && number == NUMBER_FRACTION ? NUMBER_E : -1;
+            break;
+        case NUMBER_E:
+            next = digit ? NUMBER_EXPONENT : b == '+' || b == '-' ? NUMBER_EXPONENT_SIGN : -1;
+            break;
+        default:
+            next = digit ? NUMBER_EXPONENT : -1;
+            break;
+        }
+
+        if (next != -1)
+        {
+            integral &= next != NUMBER_DOT && next != NUMBER_E;
+            number = next;
+            text.append((char) b);
+        }
+
+        return next != -1;
+    }
+
+    private void completeNumber()
+    {
+        if (number != NUMBER_ZERO &&
+            number != NUMBER_INT &&
+            number != NUMBER_FRACTION &&
+            number != NUMBER_EXPONENT)
+        {
+            throw failure("Invalid number " + text);
+        }
+
+        token = TOKEN_NONE;
+        pending = Event.VALUE_NUMBER;
+        completeValue();
+    }
+
+    private void startLiteral(
+        byte[] literal,
+        Event event)
+    {
+        this.literal = literal;
+        this.literalIndex = 1;
+        this.literalEvent = event;
+        token = TOKEN_LITERAL;
+    }
+
+    private void decodeLiteral(
+        byte b)
+    {
+        if (b != literal[literalIndex])
+        {
+            throw unexpected(b);
+        }
+
+        if (++literalIndex == literal.length)
+        {
+            token = TOKEN_NONE;
+            pending = literalEvent;
+            completeValue();
+        }
+    }
+
+    private void completeValue()
+    {
+        state = depth == 0 ? STATE_DONE : STATE_COMMA_OR_END;
+    }
+
+    private void checkNumber()
+    {
+        if (current != Event.VALUE_NUMBER)
+        {
+            throw new IllegalStateException(String.valueOf(current));
+        }
+    }
+
+    private JsonParsingException unexpected(
+        byte b)
+    {
+        return failure(String.format("Unexpected char %d at (line no=%d, column no=%d, offset=%d)",
+            b & 0xff, lineNumber, columnNumber, streamOffset - 1));
+    }
+
+    private JsonParsingException failure(
+        String message)
+    {
+        return new JsonParsingException(message, getLocation());
+    }
+
+    private static final class StreamLocation implements JsonLocation
+    {
+        private final long lineNumber;
+        private final long columnNumber;
+        private final long streamOffset;
+
+        private StreamLocation(
+            long lineNumber,
+            long columnNumber,
+            long streamOffset)
+        {
+            this.lineNumber = lineNumber;
+            this.columnNumber = columnNumber;
+            this.streamOffset = streamOffset;
+        }
+
+        @Override
+        public long getLineNumber()
+        {
+            return lineNumber;
+        }
+
+        @Override
+        public long getColumnNumber()
+        {
+            return columnNumber;
+        }
+
+        @Override
+        public long getStreamOffset()
+        {
+            return streamOffset;
+        }
+    }
+}
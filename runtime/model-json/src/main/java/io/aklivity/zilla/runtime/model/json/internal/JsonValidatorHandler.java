@@ -19,8 +19,6 @@ import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParsingException;
 
 import org.agrona.DirectBuffer;
-import org.agrona.ExpandableDirectByteBuffer;
-import org.agrona.io.DirectBufferInputStream;
 
 import io.aklivity.zilla.runtime.engine.EngineContext;
 import io.aklivity.zilla.runtime.engine.model.ValidatorHandler;
@@ -29,19 +27,17 @@ import io.aklivity.zilla.runtime.model.json.config.JsonModelConfig;
 
 public class JsonValidatorHandler extends JsonModelHandler implements ValidatorHandler
 {
-    private final DirectBufferInputStream in;
-    private final ExpandableDirectByteBuffer buffer;
+    private final JsonStreamParser stream;
 
+    private JsonSchemaValidator validator;
     private JsonParser parser;
-    private int progress;
 
     public JsonValidatorHandler(
         JsonModelConfig config,
         EngineContext context)
     {
         super(config, context);
-        this.buffer = new ExpandableDirectByteBuffer();
-        this.in = new DirectBufferInputStream(buffer);
+        this.stream = new JsonStreamParser(JsonProvider.provider());
     }
 
     @Override
@@ -60,28 +56,38 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
         {
             if ((flags & FLAGS_INIT) != 0x00)
             {
-                this.progress = 0;
-            }
-
-            buffer.putBytes(progress, data, index, length);
-            progress += length;
-
-            if ((flags & FLAGS_FIN) != 0x00)
-            {
-                in.wrap(buffer, 0, progress);
-
                 int schemaId = catalog != null && catalog.id > 0
                     ? catalog.id
                     : handler.resolve(subject, catalog.version);
 
-                JsonProvider provider = supplyProvider(schemaId);
+                stream.reset();
+                validator = supplyValidator(schemaId);
+                parser = validator == null ? supplyParser(schemaId, stream) : null;
+
+                if (validator != null)
+                {
+                    validator.reset();
+                }
+            }
+
+            status &= validator != null || parser != null;
+
+            if (status)
+            {
+                stream.wrap(data, index, length);
 
-                status &= provider != null;
+                if ((flags & FLAGS_FIN) != 0x00)
+                {
+                    stream.finish();
+                }
 
-                if (status)
+                if (validator != null)
+                {
+                    validator.validate(stream);
+                }
+                else
                 {
-                    parser = provider.createParser(in);
-                    while (parser.hasNext())
+                    while (stream.hasNext())
                     {
                         parser.next();
                     }
@@ -91,6 +97,8 @@ public class JsonValidatorHandler extends JsonModelHandler implements ValidatorH
         catch (JsonParsingException ex)
         {
             status = false;
+            validator = null;
+            parser = null;
             event.validationFailure(traceId, bindingId, ex.getMessage());
         }
 
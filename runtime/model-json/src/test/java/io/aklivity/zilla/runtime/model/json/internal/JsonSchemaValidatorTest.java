@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParsingException;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonSchemaValidatorTest
+{
+    private static final String SCHEMA = "{" +
+            "\"$schema\": \"http://json-schema.org/draft-07/schema#\"," +
+            "\"title\": \"order\"," +
+            "\"type\": \"object\"," +
+            "\"properties\": {" +
+                "\"id\": { \"type\": \"string\", \"minLength\": 2, \"maxLength\": 4, \"pattern\": \"^[0-9]+$\" }," +
+                "\"status\": { \"enum\": [\"OK\", \"FAILED\", null, true, 1.0] }," +
+                "\"amount\": { \"type\": \"integer\", \"minimum\": 0.5, \"maximum\": 100 }," +
+                "\"ratio\": { \"type\": [\"number\", \"null\"], \"exclusiveMinimum\": 0, \"exclusiveMaximum\": 1 }," +
+                "\"tags\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } }," +
+                "\"nested\": { \"type\": \"object\", \"properties\": { \"flag\": { \"type\": \"boolean\" } } }," +
+                "\"any\": true" +
+            "}," +
+            "\"required\": [\"id\", \"status\", \"extra\"]" +
+            "}";
+
+    private JsonProvider provider;
+    private JsonStreamParser parser;
+    private JsonSchemaValidator validator;
+
+    @Before
+    public void init()
+    {
+        provider = JsonProvider.provider();
+        parser = new JsonStreamParser(provider);
+        validator = JsonSchemaValidator.compile(provider.createReader(new StringReader(SCHEMA)).readValue());
+    }
+
+    @Test
+    public void shouldCompileSupportedKeywords()
+    {
+        assertNotNull(validator);
+    }
+
+    @Test
+    public void shouldNotCompileUnsupportedKeywords()
+    {
+        assertNull(compile("{\"type\": \"object\", \"additionalProperties\": false}"));
+        assertNull(compile("{\"type\": \"unknown\"}"));
+        assertNull(compile("{\"type\": [\"string\", 1]}"));
+        assertNull(compile("{\"properties\": {\"id\": false}}"));
+        assertNull(compile("{\"properties\": []}"));
+        assertNull(compile("{\"required\": [1]}"));
+        assertNull(compile("{\"required\": {}}"));
+        assertNull(compile("{\"items\": [{}]}"));
+        assertNull(compile("{\"enum\": [{}]}"));
+        assertNull(compile("{\"enum\": {}}"));
+        assertNull(compile("{\"minimum\": \"0\"}"));
+        assertNull(compile("{\"maximum\": \"0\"}"));
+        assertNull(compile("{\"exclusiveMinimum\": true}"));
+        assertNull(compile("{\"exclusiveMaximum\": true}"));
+        assertNull(compile("{\"minLength\": -1}"));
+        assertNull(compile("{\"maxLength\": 1.5}"));
+        assertNull(compile("{\"pattern\": \"[\"}"));
+        assertNull(compile("{\"pattern\": 1}"));
+        assertNull(compile("[]"));
+    }
+
+    @Test
+    public void shouldValidate()
+    {
+        validate("{\"id\": \"12\", \"status\": \"OK\", \"extra\": {}, \"amount\": 100, \"ratio\": 0.5, " +
+            "\"tags\": [\"a\", \"b\"], \"nested\": {\"flag\": false, \"other\": [1, {}]}, \"any\": [null]}");
+        validate("{\"id\": \"1234\", \"status\": null, \"extra\": 1, \"amount\": 1.0, \"ratio\": null}");
+        validate("{\"id\": \"12\", \"status\": true, \"extra\": 1, \"amount\": 1E1}");
+        validate("{\"id\": \"12\", \"status\": 1, \"extra\": 1, \"amount\": 100000000000000000000e-18}");
+    }
+
+    @Test
+    public void shouldRejectInvalid()
+    {
+        reject("[]", "The value must be of object type, but actual type is array.");
+        reject("{\"status\": \"OK\", \"extra\": 1}", "The object must have a property whose name is \"id\".");
+        reject("{\"id\": \"12\", \"status\": \"OK\"}", "The object must have a property whose name is \"extra\".");
+        reject("{\"id\": 12}", "The value must be of string type, but actual type is integer.");
+        reject("{\"id\": \"1\"}", "The value must be at least 2 characters long, but actual length is 1.");
+        reject("{\"id\": \"12345\"}", "The value must be at most 4 characters long, but actual length is 5.");
+        reject("{\"id\": \"ab\"}", "The value must match the pattern \"^[0-9]+$\".");
+        reject("{\"status\": \"BAD\"}", "The value must be one of [\"OK\", \"FAILED\", null, true, 1.0].");
+        reject("{\"status\": false}", "The value must be one of [\"OK\", \"FAILED\", null, true, 1.0].");
+        reject("{\"status\": 2}", "The value must be one of [\"OK\", \"FAILED\", null, true, 1.0].");
+        reject("{\"status\": {}}", "The value must be one of [\"OK\", \"FAILED\", null, true, 1.0].");
+        reject("{\"amount\": 1.5}", "The value must be of integer type, but actual type is number.");
+        reject("{\"amount\": 0}", "The numeric value must be greater than or equal to 0.5.");
+        reject("{\"amount\": 101}", "The numeric value must be less than or equal to 100.");
+        reject("{\"amount\": 1000000000000000000000}", "The numeric value must be less than or equal to 100.");
+        reject("{\"ratio\": 0}", "The numeric value must be greater than 0.");
+        reject("{\"ratio\": 1.0}", "The numeric value must be less than 1.");
+        reject("{\"ratio\": \"0.5\"}", "The value must be of [null, number] type, but actual type is string.");
+        reject("{\"tags\": [\"a\", 1]}", "The value must be of string type, but actual type is integer.");
+        reject("{\"nested\": {\"flag\": null}}", "The value must be of boolean type, but actual type is null.");
+    }
+
+    @Test
+    public void shouldValidateWideBounds()
+    {
+        JsonSchemaValidator wide = compile("{\"items\": {\"minimum\": -1e30, \"maximum\": 1e30}}");
+        assertNotNull(wide);
+
+        validator = wide;
+        validate("[0, -1e29, 1e29, 1]");
+
+        JsonSchemaValidator narrow = compile("{\"items\": {\"minimum\": 1e30}}");
+        validator = narrow;
+        reject("[1]", "The numeric value must be greater than or equal to 1000000000000000000000000000000.");
+
+        JsonSchemaValidator negative = compile("{\"items\": {\"maximum\": -1e30}}");
+        validator = negative;
+        reject("[1]", "The numeric value must be less than or equal to -1000000000000000000000000000000.");
+    }
+
+    private JsonSchemaValidator compile(
+        String schema)
+    {
+        return JsonSchemaValidator.compile(provider.createReader(new StringReader(schema)).readValue());
+    }
+
+    private void validate(
+        String payload)
+    {
+        DirectBuffer data = new UnsafeBuffer(payload.getBytes(UTF_8));
+
+        parser.reset();
+        validator.reset();
+        for (int index = 0; index < data.capacity(); index++)
+        {
+            parser.wrap(data, index, 1);
+            validator.validate(parser);
+        }
+        parser.finish();
+        validator.validate(parser);
+    }
+
+    private void reject(
+        String payload,
+        String message)
+    {
+        try
+        {
+            validate(payload);
+            fail(payload);
+        }
+        catch (JsonParsingException ex)
+        {
+            assertEquals(message, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParsingException;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonStreamParserTest
+{
+    private JsonProvider provider;
+    private JsonStreamParser parser;
+
+    @Before
+    public void init()
+    {
+        provider = JsonProvider.provider();
+        parser = new JsonStreamParser(provider);
+    }
+
+    @Test
+    public void shouldParseFragmentedValues()
+    {
+        String payload = "{\"a\\n\\u0041\": [12, -0.5, 1E+2, 123456789012345678901, true, false, null]}";
+        DirectBuffer data = new UnsafeBuffer(payload.getBytes(UTF_8));
+
+        parser.wrap(data, 0, 12);
+        assertEquals(Event.START_OBJECT, parser.next());
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("a\nA", parser.getString());
+        assertFalse(parser.hasNext());
+
+        parser.wrap(data, 12, 3);
+        assertEquals(Event.START_ARRAY, parser.next());
+        assertFalse(parser.hasNext());
+
+        parser.wrap(data, 15, data.capacity() - 15);
+        parser.finish();
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertTrue(parser.isIntegralNumber());
+        assertEquals(12, parser.getInt());
+        assertEquals(12L, parser.getLong());
+        assertEquals(provider.createValue(new BigDecimal(12)), parser.getValue());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertFalse(parser.isIntegralNumber());
+        assertEquals(new BigDecimal("-0.5"), parser.getBigDecimal());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertFalse(parser.isIntegralNumber());
+        assertEquals(100, parser.getInt());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals("123456789012345678901", parser.getString());
+        assertEquals(new BigDecimal("123456789012345678901").longValue(), parser.getLong());
+        assertEquals(Event.VALUE_TRUE, parser.next());
+        assertEquals(JsonValue.TRUE, parser.getValue());
+        assertEquals(Event.VALUE_FALSE, parser.next());
+        assertEquals(JsonValue.FALSE, parser.getValue());
+        assertEquals(Event.VALUE_NULL, parser.next());
+        assertEquals(JsonValue.NULL, parser.getValue());
+        assertEquals(Event.END_ARRAY, parser.next());
+        assertEquals(Event.END_OBJECT, parser.next());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void shouldParseMultiByteStringAcrossFragments()
+    {
+        DirectBuffer data = new UnsafeBuffer("\"é€😀\"".getBytes(UTF_8));
+
+        parser.wrap(data, 0, 2);
+        assertFalse(parser.hasNext());
+        parser.wrap(data, 2, 3);
+        assertFalse(parser.hasNext());
+        parser.wrap(data, 5, data.capacity() - 5);
+        parser.finish();
+
+        assertEquals(Event.VALUE_STRING, parser.next());
+        assertEquals("é€😀", parser.getString());
+        assertEquals(provider.createValue("é€😀"), parser.getValue());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void shouldParseRootNumberAtFinish()
+    {
+        DirectBuffer data = new UnsafeBuffer("42".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        assertFalse(parser.hasNext());
+
+        parser.finish();
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(42L, parser.getLong());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void shouldResetBetweenMessages()
+    {
+        DirectBuffer data = new UnsafeBuffer("[1".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        assertEquals(Event.START_ARRAY, parser.next());
+        assertFalse(parser.hasNext());
+
+        parser.reset();
+        parser.wrap(data, 1, 1);
+        parser.finish();
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void shouldRejectUnexpectedCharacter()
+    {
+        DirectBuffer data = new UnsafeBuffer("{\"a\" 1}".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        while (parser.hasNext())
+        {
+            parser.next();
+        }
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void shouldRejectInvalidNumber()
+    {
+        DirectBuffer data = new UnsafeBuffer("[1.]".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        while (parser.hasNext())
+        {
+            parser.next();
+        }
+    }
+
+    @Test(expected = JsonParsingException.class)
+    public void shouldRejectTrailingContent()
+    {
+        DirectBuffer data = new UnsafeBuffer("{} {}".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        while (parser.hasNext())
+        {
+            parser.next();
+        }
+    }
+
+    @Test
+    public void shouldRejectIncompleteInput()
+    {
+        DirectBuffer data = new UnsafeBuffer("{\"a\": tru".getBytes(UTF_8));
+
+        parser.wrap(data, 0, data.capacity());
+        parser.finish();
+        assertEquals(Event.START_OBJECT, parser.next());
+        assertEquals(Event.KEY_NAME, parser.next());
+
+        try
+        {
+            parser.hasNext();
+        }
+        catch (JsonParsingException ex)
+        {
+            assertEquals(9L, ex.getLocation().getStreamOffset());
+            assertEquals(1L, ex.getLocation().getLineNumber());
+            assertEquals(10L, ex.getLocation().getColumnNumber());
+            return;
+        }
+        throw new AssertionError();
+    }
+}
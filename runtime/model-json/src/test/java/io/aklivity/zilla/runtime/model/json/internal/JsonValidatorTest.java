@@ -16,6 +16,7 @@ package io.aklivity.zilla.runtime.model.json.internal;
 
 import static io.aklivity.zilla.runtime.engine.model.ValidatorHandler.FLAGS_FIN;
 import static io.aklivity.zilla.runtime.engine.model.ValidatorHandler.FLAGS_INIT;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -61,6 +62,17 @@ public class JsonValidatorTest
             OBJECT_SCHEMA +
             "}";
 
+    private static final String STRICT_SCHEMA = "{" +
+            "\"type\": \"object\"," +
+            "\"properties\": " +
+            "{" +
+                "\"id\": {" +
+                    "\"type\": \"string\"" +
+                "}" +
+            "}," +
+            "\"additionalProperties\": false" +
+            "}";
+
     private final JsonModelConfig config = JsonModelConfig.builder()
             .catalog()
             .name("test0")
@@ -178,10 +190,93 @@ public class JsonValidatorTest
         byte[] bytes = payload.getBytes();
         data.wrap(bytes, 0, bytes.length);
 
+        assertFalse(validator.validate(0L, 0L, FLAGS_INIT, data, 0, 12, ValueConsumer.NOP));
+    }
+
+    @Test
+    public void shouldVerifyValidJsonObjectFragmentedPerByte()
+    {
+        TestCatalogOptionsConfig testCatalogOptionsConfig = TestCatalogOptionsConfig.builder()
+            .id(1)
+            .schema(OBJECT_SCHEMA)
+            .build();
+        CatalogConfig catalogConfig = new CatalogConfig("test", "test0", "test", testCatalogOptionsConfig);
+        when(context.supplyCatalog(catalogConfig.id)).thenReturn(new TestCatalogHandler(testCatalogOptionsConfig));
+        JsonValidatorHandler validator = new JsonValidatorHandler(config, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        String payload =
+                "{" +
+                    "\"id\": \"12\\u00e93\u00e9\"," +
+                    "\"status\": \"OK\"," +
+                    "\"extra\": [-1.5e+3, 0, true, false, null, {}]" +
+                "}";
+        byte[] bytes = payload.getBytes(UTF_8);
+        data.wrap(bytes, 0, bytes.length);
+
+        for (int index = 0; index < bytes.length - 1; index++)
+        {
+            int flags = index == 0 ? FLAGS_INIT : 0x00;
+            assertTrue(validator.validate(0L, 0L, flags, data, index, 1, ValueConsumer.NOP));
+        }
+        assertTrue(validator.validate(0L, 0L, FLAGS_FIN, data, bytes.length - 1, 1, ValueConsumer.NOP));
+    }
+
+    @Test
+    public void shouldVerifyIncompleteFragmentedJsonObject()
+    {
+        TestCatalogOptionsConfig testCatalogOptionsConfig = TestCatalogOptionsConfig.builder()
+            .id(1)
+            .schema(OBJECT_SCHEMA)
+            .build();
+        CatalogConfig catalogConfig = new CatalogConfig("test", "test0", "test", testCatalogOptionsConfig);
+        when(context.supplyCatalog(catalogConfig.id)).thenReturn(new TestCatalogHandler(testCatalogOptionsConfig));
+        when(context.clock()).thenReturn(Clock.systemUTC());
+        when(context.supplyEventWriter()).thenReturn(mock(MessageConsumer.class));
+        JsonValidatorHandler validator = new JsonValidatorHandler(config, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        String payload =
+                "{" +
+                    "\"id\": \"123\"," +
+                    "\"status\": \"OK\"";
+        byte[] bytes = payload.getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
         assertTrue(validator.validate(0L, 0L, FLAGS_INIT, data, 0, 12, ValueConsumer.NOP));
         assertFalse(validator.validate(0L, 0L, FLAGS_FIN, data, 12, data.capacity() - 12, ValueConsumer.NOP));
     }
 
+    @Test
+    public void shouldVerifyMalformedFragmentedJsonObject()
+    {
+        TestCatalogOptionsConfig testCatalogOptionsConfig = TestCatalogOptionsConfig.builder()
+            .id(1)
+            .schema(OBJECT_SCHEMA)
+            .build();
+        CatalogConfig catalogConfig = new CatalogConfig("test", "test0", "test", testCatalogOptionsConfig);
+        when(context.supplyCatalog(catalogConfig.id)).thenReturn(new TestCatalogHandler(testCatalogOptionsConfig));
+        when(context.clock()).thenReturn(Clock.systemUTC());
+        when(context.supplyEventWriter()).thenReturn(mock(MessageConsumer.class));
+        JsonValidatorHandler validator = new JsonValidatorHandler(config, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        String payload =
+                "{" +
+                    "\"id\": \"123\"," +
+                    "\"status\" \"OK\"" +
+                "}";
+        byte[] bytes = payload.getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        assertTrue(validator.validate(0L, 0L, FLAGS_INIT, data, 0, 12, ValueConsumer.NOP));
+        assertFalse(validator.validate(0L, 0L, 0x00, data, 12, 12, ValueConsumer.NOP));
+        assertFalse(validator.validate(0L, 0L, FLAGS_FIN, data, 24, data.capacity() - 24, ValueConsumer.NOP));
+    }
+
     @Test
     public void shouldVerifyValidJsonArray()
     {
@@ -207,4 +302,34 @@ public class JsonValidatorTest
 
         assertTrue(validator.validate(0L, 0L, data, 0, data.capacity(), ValueConsumer.NOP));
     }
+
+    @Test
+    public void shouldVerifyFragmentedJsonObjectWithUncompiledSchema()
+    {
+        TestCatalogOptionsConfig testCatalogOptionsConfig = TestCatalogOptionsConfig.builder()
+            .id(1)
+            .schema(STRICT_SCHEMA)
+            .build();
+        CatalogConfig catalogConfig = new CatalogConfig("test", "test0", "test", testCatalogOptionsConfig);
+        when(context.supplyCatalog(catalogConfig.id)).thenReturn(new TestCatalogHandler(testCatalogOptionsConfig));
+        when(context.clock()).thenReturn(Clock.systemUTC());
+        when(context.supplyEventWriter()).thenReturn(mock(MessageConsumer.class));
+        JsonValidatorHandler validator = new JsonValidatorHandler(config, context);
+
+        DirectBuffer data = new UnsafeBuffer();
+
+        String valid = "{\"id\": \"123\"}";
+        byte[] bytes = valid.getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        assertTrue(validator.validate(0L, 0L, FLAGS_INIT, data, 0, 6, ValueConsumer.NOP));
+        assertTrue(validator.validate(0L, 0L, FLAGS_FIN, data, 6, data.capacity() - 6, ValueConsumer.NOP));
+
+        String invalid = "{\"id\": \"123\", \"status\": \"OK\"}";
+        bytes = invalid.getBytes();
+        data.wrap(bytes, 0, bytes.length);
+
+        assertTrue(validator.validate(0L, 0L, FLAGS_INIT, data, 0, data.capacity() - 2, ValueConsumer.NOP));
+        assertFalse(validator.validate(0L, 0L, FLAGS_FIN, data, data.capacity() - 2, 2, ValueConsumer.NOP));
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.json.internal.bench;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.StringReader;
+
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.aklivity.zilla.runtime.model.json.internal.JsonSchemaValidator;
+import io.aklivity.zilla.runtime.model.json.internal.JsonStreamParser;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@OutputTimeUnit(MICROSECONDS)
+public class JsonValidatorBM
+{
+    private static final String SCHEMA = "{" +
+            "\"type\": \"array\"," +
+            "\"items\": {" +
+                "\"type\": \"object\"," +
+                "\"properties\": {" +
+                    "\"id\": { \"type\": \"string\", \"pattern\": \"^[0-9a-f]+$\" }," +
+                    "\"status\": { \"enum\": [\"OK\", \"FAILED\"] }," +
+                    "\"amount\": { \"type\": \"integer\", \"minimum\": 0, \"maximum\": 1000000 }," +
+                    "\"note\": { \"type\": \"string\", \"maxLength\": 64 }" +
+                "}," +
+                "\"required\": [\"id\", \"status\", \"amount\"]" +
+            "}" +
+            "}";
+
+    @Param({ "1", "100" })
+    public int items;
+
+    private DirectBuffer data;
+    private DirectBufferInputStream in;
+    private JsonStreamParser stream;
+    private JsonSchemaValidator compiled;
+    private JsonValidationService service;
+    private JsonSchema schema;
+    private JsonProvider provider;
+
+    @Setup
+    public void init()
+    {
+        StringBuilder payload = new StringBuilder("[");
+        for (int index = 0; index < items; index++)
+        {
+            payload.append(index == 0 ? "" : ",")
+                .append("{\"id\": \"").append(Integer.toHexString(index + 0xabc0))
+                .append("\", \"status\": \"OK\", \"amount\": ").append(index * 7)
+                .append(", \"note\": \"order note for item ").append(index).append("\"}");
+        }
+        payload.append("]");
+
+        JsonProvider jsonProvider = JsonProvider.provider();
+        JsonValue schemaValue = jsonProvider.createReader(new StringReader(SCHEMA)).readValue();
+
+        this.data = new UnsafeBuffer(payload.toString().getBytes(UTF_8));
+        this.in = new DirectBufferInputStream();
+        this.stream = new JsonStreamParser(jsonProvider);
+        this.compiled = JsonSchemaValidator.compile(schemaValue);
+        this.service = JsonValidationService.newInstance();
+        this.schema = service.readSchema(new StringReader(SCHEMA));
+        this.provider = service.createJsonProvider(schema, parser -> ProblemHandler.throwing());
+    }
+
+    @Benchmark
+    public JsonSchemaValidator compiled()
+    {
+        stream.reset();
+        stream.wrap(data, 0, data.capacity());
+        stream.finish();
+        compiled.reset();
+        compiled.validate(stream);
+        return compiled;
+    }
+
+    @Benchmark
+    public JsonParser justify()
+    {
+        stream.reset();
+        stream.wrap(data, 0, data.capacity());
+        stream.finish();
+        JsonParser parser = service.createParser(stream, schema, ProblemHandler.throwing());
+        while (stream.hasNext())
+        {
+            parser.next();
+        }
+        return parser;
+    }
+
+    @Benchmark
+    public JsonValue justifyReader()
+    {
+        in.wrap(data, 0, data.capacity());
+        return provider.createReader(in).readValue();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(JsonValidatorBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
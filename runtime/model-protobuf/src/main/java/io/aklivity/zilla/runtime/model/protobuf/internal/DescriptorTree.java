@@ -14,6 +14,7 @@
  */
 package io.aklivity.zilla.runtime.model.protobuf.internal;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,6 +29,8 @@ public class DescriptorTree
     protected final Map<String, DescriptorTree> children;
     protected final List<Integer> indexes;
 
+    private final Map<Descriptor, ProtobufJsonTranscoder> transcoders;
+
     protected Descriptors.Descriptor descriptor;
     protected String name;
 
@@ -35,6 +38,7 @@ public class DescriptorTree
     {
         this.children = new LinkedHashMap<>();
         this.indexes = new LinkedList<>();
+        this.transcoders = new IdentityHashMap<>();
     }
 
     protected DescriptorTree(
@@ -92,6 +96,12 @@ public class DescriptorTree
         return current != null ? current.descriptor : null;
     }
 
+    protected ProtobufJsonTranscoder supplyTranscoder(
+        Descriptor descriptor)
+    {
+        return transcoders.computeIfAbsent(descriptor, ProtobufJsonTranscoder::compile);
+    }
+
     private DescriptorTree findParent(
         String path)
     {
@@ -0,0 +1,1676 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.protobuf.internal;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2IntHashMap;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+
+public final class ProtobufJsonTranscoder
+{
+    private static final int MAX_DEPTH = 100;
+    private static final double MAX_FLOAT = Float.MAX_VALUE * (1.0 + 1e-6);
+
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_FIXED64 = 1;
+    private static final int WIRE_TYPE_LENGTH = 2;
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    private static final byte[] NULL = "null".getBytes(UTF_8);
+    private static final byte[] TRUE = "true".getBytes(UTF_8);
+    private static final byte[] FALSE = "false".getBytes(UTF_8);
+    private static final byte[] NAN = "\"NaN\"".getBytes(UTF_8);
+    private static final byte[] INFINITY = "\"Infinity\"".getBytes(UTF_8);
+    private static final byte[] NEGATIVE_INFINITY = "\"-Infinity\"".getBytes(UTF_8);
+    private static final byte[] ZERO_FLOATING = "0.0".getBytes(UTF_8);
+    private static final byte[] ZERO_INTEGER = "0".getBytes(UTF_8);
+    private static final byte[] ZERO_LONG = "\"0\"".getBytes(UTF_8);
+    private static final byte[] EMPTY_STRING = "\"\"".getBytes(UTF_8);
+    private static final byte[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(UTF_8);
+    private static final byte[] BASE64_VALUES = new byte[256];
+    private static final byte[][] ESCAPES = new byte[128][];
+    private static final byte[] ESCAPE_U2028 = "\\u2028".getBytes(UTF_8);
+    private static final byte[] ESCAPE_U2029 = "\\u2029".getBytes(UTF_8);
+
+    private static final TranscodeException UNSUPPORTED = new TranscodeException();
+
+    static
+    {
+        Arrays.fill(BASE64_VALUES, (byte) -1);
+        for (int index = 0; index < BASE64.length; index++)
+        {
+            BASE64_VALUES[BASE64[index]] = (byte) index;
+        }
+
+        for (int c = 0; c < 0x20; c++)
+        {
+            ESCAPES[c] = String.format("\\u%04x", c).getBytes(UTF_8);
+        }
+        for (char c : "<>&='".toCharArray())
+        {
+            ESCAPES[c] = String.format("\\u%04x", (int) c).getBytes(UTF_8);
+        }
+        ESCAPES['"'] = "\\\"".getBytes(UTF_8);
+        ESCAPES['\\'] = "\\\\".getBytes(UTF_8);
+        ESCAPES['\b'] = "\\b".getBytes(UTF_8);
+        ESCAPES['\t'] = "\\t".getBytes(UTF_8);
+        ESCAPES['\n'] = "\\n".getBytes(UTF_8);
+        ESCAPES['\f'] = "\\f".getBytes(UTF_8);
+        ESCAPES['\r'] = "\\r".getBytes(UTF_8);
+    }
+
+    private final Node root;
+
+    private DirectBuffer in;
+    private int position;
+    private int limit;
+    private MutableDirectBuffer out;
+    private int progress;
+    private int[][] slots;
+
+    private ProtobufJsonTranscoder(
+        Node root)
+    {
+        this.root = root;
+        this.slots = new int[8][];
+    }
+
+    public int readJson(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer output,
+        int offset)
+    {
+        this.in = buffer;
+        this.position = index;
+        this.limit = index + length;
+        this.out = output;
+        this.progress = offset;
+
+        int jsonLength;
+        try
+        {
+            readMessage(root, limit, 0);
+            jsonLength = progress - offset;
+        }
+        catch (TranscodeException ex)
+        {
+            jsonLength = -1;
+        }
+        return jsonLength;
+    }
+
+    public int writeProtobuf(
+        DirectBuffer buffer,
+        int index,
+        int length,
+        MutableDirectBuffer output,
+        int offset)
+    {
+        this.in = buffer;
+        this.position = index;
+        this.limit = index + length;
+        this.out = output;
+        this.progress = offset;
+
+        int protobufLength;
+        try
+        {
+            skipWhitespace();
+            if (peek() != '{')
+            {
+                throw UNSUPPORTED;
+            }
+            writeMessage(root, 0);
+            skipWhitespace();
+            if (position != limit)
+            {
+                throw UNSUPPORTED;
+            }
+            protobufLength = progress - offset;
+        }
+        catch (TranscodeException ex)
+        {
+            protobufLength = -1;
+        }
+        return protobufLength;
+    }
+
+    public static ProtobufJsonTranscoder compile(
+        Descriptor descriptor)
+    {
+        return new ProtobufJsonTranscoder(compile(descriptor, new IdentityHashMap<>()));
+    }
+
+    private void readMessage(
+        Node node,
+        int end,
+        int depth)
+    {
+        if (!node.supported || depth > MAX_DEPTH)
+        {
+            throw UNSUPPORTED;
+        }
+
+        final int[] fields = supplySlots(depth, node.fields);
+        while (position < end)
+        {
+            final int at = position;
+            final long tag = readVarint(end);
+            final int field = tag >>> 32 == 0 ? node.indexes.get((int) tag >>> 3) : -1;
+            final int wireType = (int) tag & 0x07;
+            if (field == -1 ||
+                wireType != node.wireTypes[field] &&
+                (wireType != WIRE_TYPE_LENGTH || !node.repeated[field] || !node.packable[field]))
+            {
+                throw UNSUPPORTED;
+            }
+            skipWire(wireType, end);
+
+            if (!node.repeated[field])
+            {
+                if (fields[field] != -1 && node.nodes[field] != null)
+                {
+                    throw UNSUPPORTED;
+                }
+                fields[field] = at;
+            }
+            else if (fields[field] == -1)
+            {
+                fields[field] = at;
+            }
+        }
+
+        putByte('{');
+        final int opened = progress;
+        for (int field = 0; field < node.fields; field++)
+        {
+            final int at = fields[field];
+            if (at != -1 || node.repeated[field] || node.defaults[field] != null)
+            {
+                if (progress != opened)
+                {
+                    putByte(',');
+                }
+                put(node.keys[field]);
+
+                if (node.repeated[field])
+                {
+                    putByte('[');
+                    if (at != -1)
+                    {
+                        readRepeated(node, field, at, end, depth);
+                    }
+                    putByte(']');
+                }
+                else if (at == -1)
+                {
+                    put(node.defaults[field]);
+                }
+                else
+                {
+                    position = at;
+                    readVarint(end);
+                    readValue(node, field, end, depth);
+                }
+            }
+        }
+        putByte('}');
+
+        position = end;
+    }
+
+    private void readRepeated(
+        Node node,
+        int field,
+        int at,
+        int end,
+        int depth)
+    {
+        final int number = node.numbers[field];
+        final int opened = progress;
+
+        position = at;
+        while (position < end)
+        {
+            final long tag = readVarint(end);
+            final int wireType = (int) tag & 0x07;
+            if ((int) tag >>> 3 != number)
+            {
+                skipWire(wireType, end);
+            }
+            else if (wireType != node.wireTypes[field])
+            {
+                final int packed = readLength(end);
+                final int packedEnd = position + packed;
+                while (position < packedEnd)
+                {
+                    if (progress != opened)
+                    {
+                        putByte(',');
+                    }
+                    readValue(node, field, packedEnd, depth);
+                }
+            }
+            else
+            {
+                if (progress != opened)
+                {
+                    putByte(',');
+                }
+                readValue(node, field, end, depth);
+            }
+        }
+    }
+
+    private void readValue(
+        Node node,
+        int field,
+        int end,
+        int depth)
+    {
+        switch (node.types[field])
+        {
+        case DOUBLE:
+            putDouble(Double.longBitsToDouble(in.getLong(require(Long.BYTES, end), LITTLE_ENDIAN)));
+            break;
+        case FLOAT:
+            putFloat(Float.intBitsToFloat(in.getInt(require(Integer.BYTES, end), LITTLE_ENDIAN)));
+            break;
+        case INT32:
+            progress += out.putIntAscii(progress, (int) readVarint(end));
+            break;
+        case SINT32:
+            final int sint32 = (int) readVarint(end);
+            progress += out.putIntAscii(progress, (sint32 >>> 1) ^ -(sint32 & 1));
+            break;
+        case UINT32:
+            progress += out.putLongAscii(progress, readVarint(end) & 0xffff_ffffL);
+            break;
+        case FIXED32:
+            progress += out.putLongAscii(progress, in.getInt(require(Integer.BYTES, end), LITTLE_ENDIAN) & 0xffff_ffffL);
+            break;
+        case SFIXED32:
+            progress += out.putIntAscii(progress, in.getInt(require(Integer.BYTES, end), LITTLE_ENDIAN));
+            break;
+        case INT64:
+            putQuotedLong(readVarint(end));
+            break;
+        case SINT64:
+            final long sint64 = readVarint(end);
+            putQuotedLong((sint64 >>> 1) ^ -(sint64 & 1));
+            break;
+        case UINT64:
+            putQuotedUnsignedLong(readVarint(end));
+            break;
+        case FIXED64:
+            putQuotedUnsignedLong(in.getLong(require(Long.BYTES, end), LITTLE_ENDIAN));
+            break;
+        case SFIXED64:
+            putQuotedLong(in.getLong(require(Long.BYTES, end), LITTLE_ENDIAN));
+            break;
+        case BOOL:
+            put(readVarint(end) != 0L ? TRUE : FALSE);
+            break;
+        case STRING:
+            readString(readLength(end));
+            break;
+        case BYTES:
+            readBytes(readLength(end));
+            break;
+        case MESSAGE:
+            final int length = readLength(end);
+            readMessage(node.nodes[field], position + length, depth + 1);
+            break;
+        default:
+            throw UNSUPPORTED;
+        }
+    }
+
+    private void readString(
+        int length)
+    {
+        final int end = position + length;
+
+        putByte('"');
+        int run = position;
+        int index = position;
+        while (index < end)
+        {
+            final int c = in.getByte(index) & 0xff;
+            if (c < 0x80)
+            {
+                if (ESCAPES[c] != null)
+                {
+                    putRun(run, index);
+                    put(ESCAPES[c]);
+                    run = index + 1;
+                }
+                index++;
+            }
+            else
+            {
+                final int size = utf8Length(c, index, end);
+                if (size == 3 && c == 0xe2 && (in.getByte(index + 1) & 0xff) == 0x80)
+                {
+                    final int c2 = in.getByte(index + 2) & 0xff;
+                    if (c2 == 0xa8 || c2 == 0xa9)
+                    {
+                        putRun(run, index);
+                        put(c2 == 0xa8 ? ESCAPE_U2028 : ESCAPE_U2029);
+                        run = index + size;
+                    }
+                }
+                index += size;
+            }
+        }
+        putRun(run, end);
+        putByte('"');
+
+        position = end;
+    }
+
+    private void readBytes(
+        int length)
+    {
+        final int end = position + length;
+
+        putByte('"');
+        int index = position;
+        for (; end - index >= 3; index += 3)
+        {
+            final int bits = (in.getByte(index) & 0xff) << 16 |
+                (in.getByte(index + 1) & 0xff) << 8 |
+                in.getByte(index + 2) & 0xff;
+            putByte(BASE64[bits >>> 18]);
+            putByte(BASE64[bits >>> 12 & 0x3f]);
+            putByte(BASE64[bits >>> 6 & 0x3f]);
+            putByte(BASE64[bits & 0x3f]);
+        }
+        if (end - index == 1)
+        {
+            final int bits = (in.getByte(index) & 0xff) << 16;
+            putByte(BASE64[bits >>> 18]);
+            putByte(BASE64[bits >>> 12 & 0x3f]);
+            putByte('=');
+            putByte('=');
+        }
+        else if (end - index == 2)
+        {
+            final int bits = (in.getByte(index) & 0xff) << 16 |
+                (in.getByte(index + 1) & 0xff) << 8;
+            putByte(BASE64[bits >>> 18]);
+            putByte(BASE64[bits >>> 12 & 0x3f]);
+            putByte(BASE64[bits >>> 6 & 0x3f]);
+            putByte('=');
+        }
+        putByte('"');
+
+        position = end;
+    }
+
+    private int utf8Length(
+        int c,
+        int index,
+        int end)
+    {
+        final int size;
+        final int min;
+        final int max;
+        if (c >= 0xc2 && c <= 0xdf)
+        {
+            size = 2;
+            min = 0x80;
+            max = 0xbf;
+        }
+        else if (c >= 0xe0 && c <= 0xef)
+        {
+            size = 3;
+            min = c == 0xe0 ? 0xa0 : 0x80;
+            max = c == 0xed ? 0x9f : 0xbf;
+        }
+        else if (c >= 0xf0 && c <= 0xf4)
+        {
+            size = 4;
+            min = c == 0xf0 ? 0x90 : 0x80;
+            max = c == 0xf4 ? 0x8f : 0xbf;
+        }
+        else
+        {
+            throw UNSUPPORTED;
+        }
+
+        if (end - index < size)
+        {
+            throw UNSUPPORTED;
+        }
+
+        final int c1 = in.getByte(index + 1) & 0xff;
+        boolean valid = c1 >= min && c1 <= max;
+        for (int next = 2; next < size && valid; next++)
+        {
+            final int cn = in.getByte(index + next) & 0xff;
+            valid = cn >= 0x80 && cn <= 0xbf;
+        }
+
+        if (!valid)
+        {
+            throw UNSUPPORTED;
+        }
+        return size;
+    }
+
+    private void skipWire(
+        int wireType,
+        int end)
+    {
+        switch (wireType)
+        {
+        case WIRE_TYPE_VARINT:
+            readVarint(end);
+            break;
+        case WIRE_TYPE_FIXED64:
+            require(Long.BYTES, end);
+            break;
+        case WIRE_TYPE_LENGTH:
+            final int length = readLength(end);
+            position += length;
+            break;
+        case WIRE_TYPE_FIXED32:
+            require(Integer.BYTES, end);
+            break;
+        default:
+            throw UNSUPPORTED;
+        }
+    }
+
+    private long readVarint(
+        int end)
+    {
+        long value = 0L;
+        int shift = 0;
+        int b;
+        do
+        {
+            if (shift >= Long.SIZE || position >= end)
+            {
+                throw UNSUPPORTED;
+            }
+            b = in.getByte(position++);
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        while ((b & 0x80) != 0);
+
+        return value;
+    }
+
+    private int readLength(
+        int end)
+    {
+        final long length = readVarint(end);
+        if (length < 0 || length > end - position)
+        {
+            throw UNSUPPORTED;
+        }
+        return (int) length;
+    }
+
+    private int require(
+        int length,
+        int end)
+    {
+        if (length > end - position)
+        {
+            throw UNSUPPORTED;
+        }
+        final int index = position;
+        position += length;
+        return index;
+    }
+
+    private void writeMessage(
+        Node node,
+        int depth)
+    {
+        if (!node.supported || depth > MAX_DEPTH)
+        {
+            throw UNSUPPORTED;
+        }
+
+        final int[] fields = supplySlots(depth, node.fields);
+
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}')
+        {
+            position++;
+        }
+        else
+        {
+            int c;
+            do
+            {
+                skipWhitespace();
+                expect('"');
+                final int nameAt = position;
+                while (peek() != '"')
+                {
+                    if (peek() == '\\' || peek() < 0x20)
+                    {
+                        throw UNSUPPORTED;
+                    }
+                    position++;
+                }
+                final int field = node.index(in, nameAt, position - nameAt);
+                if (field == -1 || fields[field] != -1)
+                {
+                    throw UNSUPPORTED;
+                }
+                position++;
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                fields[field] = position;
+                skipValue(depth + 1);
+                skipWhitespace();
+                c = next();
+            }
+            while (c == ',');
+
+            if (c != '}')
+            {
+                throw UNSUPPORTED;
+            }
+        }
+
+        final int end = position;
+        for (int field = 0; field < node.fields; field++)
+        {
+            final int at = fields[field];
+            if (at != -1)
+            {
+                position = at;
+                if (!matches(NULL))
+                {
+                    if (node.repeated[field])
+                    {
+                        writeRepeated(node, field, depth);
+                    }
+                    else
+                    {
+                        writeField(node, field, depth);
+                    }
+                }
+            }
+        }
+        position = end;
+    }
+
+    private void writeRepeated(
+        Node node,
+        int field,
+        int depth)
+    {
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']')
+        {
+            position++;
+        }
+        else if (node.packed[field])
+        {
+            putVarint((long) node.numbers[field] << 3 | WIRE_TYPE_LENGTH);
+            final int lengthAt = progress;
+            progress += 5;
+
+            int c;
+            do
+            {
+                skipWhitespace();
+                writeValue(node.types[field]);
+                skipWhitespace();
+                c = next();
+            }
+            while (c == ',');
+
+            if (c != ']')
+            {
+                throw UNSUPPORTED;
+            }
+            putLengthAt(lengthAt);
+        }
+        else
+        {
+            int c;
+            do
+            {
+                skipWhitespace();
+                putVarint((long) node.numbers[field] << 3 | node.wireTypes[field]);
+                if (node.nodes[field] != null)
+                {
+                    writeNested(node.nodes[field], depth);
+                }
+                else
+                {
+                    writeValue(node.types[field]);
+                }
+                skipWhitespace();
+                c = next();
+            }
+            while (c == ',');
+
+            if (c != ']')
+            {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private void writeField(
+        Node node,
+        int field,
+        int depth)
+    {
+        final int tagAt = progress;
+        putVarint((long) node.numbers[field] << 3 | node.wireTypes[field]);
+        if (node.nodes[field] != null)
+        {
+            writeNested(node.nodes[field], depth);
+        }
+        else if (!writeValue(node.types[field]) && !node.presence[field])
+        {
+            progress = tagAt;
+        }
+    }
+
+    private void writeNested(
+        Node node,
+        int depth)
+    {
+        final int lengthAt = progress;
+        progress += 5;
+        writeMessage(node, depth + 1);
+        putLengthAt(lengthAt);
+    }
+
+    private boolean writeValue(
+        FieldDescriptor.Type type)
+    {
+        final boolean written;
+        switch (type)
+        {
+        case DOUBLE:
+            final double value = parseDouble();
+            final long bits = value == 0.0 ? 0L : Double.doubleToRawLongBits(value);
+            out.putLong(progress, bits, LITTLE_ENDIAN);
+            progress += Long.BYTES;
+            written = bits != 0L;
+            break;
+        case FLOAT:
+            final double decimal = parseDouble();
+            if (Math.abs(decimal) > MAX_FLOAT && !Double.isInfinite(decimal))
+            {
+                throw UNSUPPORTED;
+            }
+            final int floatBits = Float.floatToRawIntBits((float) decimal);
+            out.putInt(progress, floatBits, LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+            written = floatBits != 0;
+            break;
+        case INT32:
+            final long int32 = parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            putVarint(int32);
+            written = int32 != 0L;
+            break;
+        case SINT32:
+            final int sint32 = (int) parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            putVarint((sint32 << 1 ^ sint32 >> 31) & 0xffff_ffffL);
+            written = sint32 != 0;
+            break;
+        case UINT32:
+            final long uint32 = parseInteger(0L, 0xffff_ffffL);
+            putVarint(uint32);
+            written = uint32 != 0L;
+            break;
+        case FIXED32:
+            final long fixed32 = parseInteger(0L, 0xffff_ffffL);
+            out.putInt(progress, (int) fixed32, LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+            written = fixed32 != 0L;
+            break;
+        case SFIXED32:
+            final long sfixed32 = parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            out.putInt(progress, (int) sfixed32, LITTLE_ENDIAN);
+            progress += Integer.BYTES;
+            written = sfixed32 != 0L;
+            break;
+        case INT64:
+            final long int64 = parseInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+            putVarint(int64);
+            written = int64 != 0L;
+            break;
+        case SINT64:
+            final long sint64 = parseInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+            putVarint(sint64 << 1 ^ sint64 >> 63);
+            written = sint64 != 0L;
+            break;
+        case UINT64:
+            final long uint64 = parseUnsignedLong();
+            putVarint(uint64);
+            written = uint64 != 0L;
+            break;
+        case FIXED64:
+            final long fixed64 = parseUnsignedLong();
+            out.putLong(progress, fixed64, LITTLE_ENDIAN);
+            progress += Long.BYTES;
+            written = fixed64 != 0L;
+            break;
+        case SFIXED64:
+            final long sfixed64 = parseInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+            out.putLong(progress, sfixed64, LITTLE_ENDIAN);
+            progress += Long.BYTES;
+            written = sfixed64 != 0L;
+            break;
+        case BOOL:
+            written = peek() == 't';
+            expectLiteral(written ? TRUE : FALSE);
+            putByte(written ? 1 : 0);
+            break;
+        case STRING:
+            written = writeString();
+            break;
+        case BYTES:
+            written = writeBytes();
+            break;
+        default:
+            throw UNSUPPORTED;
+        }
+        return written;
+    }
+
+    private boolean writeString()
+    {
+        expect('"');
+        final int start = position;
+
+        int length = 0;
+        for (int c = peek(); c != '"'; c = peek())
+        {
+            if (c == '\\')
+            {
+                position++;
+                final int codePoint = parseEscape();
+                length += codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            }
+            else if (c < 0x20)
+            {
+                throw UNSUPPORTED;
+            }
+            else if (c < 0x80)
+            {
+                position++;
+                length++;
+            }
+            else
+            {
+                final int size = utf8Length(c, position, limit);
+                position += size;
+                length += size;
+            }
+        }
+        final int end = position;
+
+        putVarint(length);
+        int run = start;
+        position = start;
+        while (position < end)
+        {
+            if (in.getByte(position) == '\\')
+            {
+                putRun(run, position);
+                position++;
+                putCodePoint(parseEscape());
+                run = position;
+            }
+            else
+            {
+                position++;
+            }
+        }
+        putRun(run, end);
+        position = end + 1;
+
+        return length != 0;
+    }
+
+    private int parseEscape()
+    {
+        final int c = next();
+        final int codePoint;
+        switch (c)
+        {
+        case '"':
+        case '\\':
+        case '/':
+            codePoint = c;
+            break;
+        case 'b':
+            codePoint = '\b';
+            break;
+        case 'f':
+            codePoint = '\f';
+            break;
+        case 'n':
+            codePoint = '\n';
+            break;
+        case 'r':
+            codePoint = '\r';
+            break;
+        case 't':
+            codePoint = '\t';
+            break;
+        case 'u':
+            final char high = parseHex();
+            if (Character.isHighSurrogate(high))
+            {
+                expect('\\');
+                expect('u');
+                final char low = parseHex();
+                if (!Character.isLowSurrogate(low))
+                {
+                    throw UNSUPPORTED;
+                }
+                codePoint = Character.toCodePoint(high, low);
+            }
+            else if (Character.isLowSurrogate(high))
+            {
+                throw UNSUPPORTED;
+            }
+            else
+            {
+                codePoint = high;
+            }
+            break;
+        default:
+            throw UNSUPPORTED;
+        }
+        return codePoint;
+    }
+
+    private char parseHex()
+    {
+        int value = 0;
+        for (int index = 0; index < 4; index++)
+        {
+            final int digit = Character.digit(next(), 16);
+            if (digit == -1)
+            {
+                throw UNSUPPORTED;
+            }
+            value = value << 4 | digit;
+        }
+        return (char) value;
+    }
+
+    private boolean writeBytes()
+    {
+        expect('"');
+        final int start = position;
+        while (peek() != '"')
+        {
+            position++;
+        }
+        final int end = position;
+        final int encoded = end - start;
+        if (encoded % 4 != 0)
+        {
+            throw UNSUPPORTED;
+        }
+
+        final int padding = encoded == 0 ? 0 : in.getByte(end - 1) != '=' ? 0 : in.getByte(end - 2) != '=' ? 1 : 2;
+        final int length = encoded / 4 * 3 - padding;
+        putVarint(length);
+
+        for (int index = start; index < end; index += 4)
+        {
+            final int quantum = index + 4 == end ? 4 - padding : 4;
+            int bits = 0;
+            for (int offset = 0; offset < 4; offset++)
+            {
+                final int value = offset < quantum ? BASE64_VALUES[in.getByte(index + offset) & 0xff] : 0;
+                if (value == -1)
+                {
+                    throw UNSUPPORTED;
+                }
+                bits = bits << 6 | value;
+            }
+
+            if (quantum == 2 && (bits & 0xffff) != 0 || quantum == 3 && (bits & 0xff) != 0)
+            {
+                throw UNSUPPORTED;
+            }
+
+            putByte(bits >>> 16);
+            if (quantum > 2)
+            {
+                putByte(bits >>> 8);
+            }
+            if (quantum > 3)
+            {
+                putByte(bits);
+            }
+        }
+        position = end + 1;
+
+        return length != 0;
+    }
+
+    private double parseDouble()
+    {
+        final boolean quoted = peek() == '"';
+        if (quoted)
+        {
+            position++;
+        }
+
+        final double value;
+        if (quoted && matches(NAN, 1))
+        {
+            position += NAN.length - 2;
+            value = Double.NaN;
+        }
+        else if (quoted && matches(INFINITY, 1))
+        {
+            position += INFINITY.length - 2;
+            value = Double.POSITIVE_INFINITY;
+        }
+        else if (quoted && matches(NEGATIVE_INFINITY, 1))
+        {
+            position += NEGATIVE_INFINITY.length - 2;
+            value = Double.NEGATIVE_INFINITY;
+        }
+        else
+        {
+            final int start = position;
+            skipNumber();
+            value = Double.parseDouble(in.getStringWithoutLengthAscii(start, position - start));
+            if (Double.isInfinite(value))
+            {
+                throw UNSUPPORTED;
+            }
+        }
+
+        if (quoted)
+        {
+            expect('"');
+        }
+        return value;
+    }
+
+    private long parseInteger(
+        long min,
+        long max)
+    {
+        final boolean quoted = peek() == '"';
+        if (quoted)
+        {
+            position++;
+        }
+
+        final boolean negative = peek() == '-';
+        if (negative)
+        {
+            position++;
+        }
+
+        long value = 0L;
+        final int start = position;
+        while (position < limit && Character.isDigit(in.getByte(position)))
+        {
+            final int digit = in.getByte(position++) - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10)
+            {
+                throw UNSUPPORTED;
+            }
+            value = value * 10 - digit;
+        }
+        endInteger(start, quoted);
+
+        if (!negative)
+        {
+            if (value == Long.MIN_VALUE)
+            {
+                throw UNSUPPORTED;
+            }
+            value = -value;
+        }
+
+        if (value < min || value > max)
+        {
+            throw UNSUPPORTED;
+        }
+        return value;
+    }
+
+    private long parseUnsignedLong()
+    {
+        final boolean quoted = peek() == '"';
+        if (quoted)
+        {
+            position++;
+        }
+
+        long value = 0L;
+        final int start = position;
+        while (position < limit && Character.isDigit(in.getByte(position)))
+        {
+            final int digit = in.getByte(position++) - '0';
+            final long next = value * 10 + digit;
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1L, 10)) > 0 ||
+                Long.compareUnsigned(next, value) < 0)
+            {
+                throw UNSUPPORTED;
+            }
+            value = next;
+        }
+        endInteger(start, quoted);
+
+        return value;
+    }
+
+    private void endInteger(
+        int start,
+        boolean quoted)
+    {
+        final int digits = position - start;
+        if (digits == 0 || digits > 1 && in.getByte(start) == '0')
+        {
+            throw UNSUPPORTED;
+        }
+
+        if (quoted)
+        {
+            expect('"');
+        }
+        else if (position < limit)
+        {
+            final int c = peek();
+            if (c == '.' || c == 'e' || c == 'E')
+            {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private void skipValue(
+        int depth)
+    {
+        if (depth > MAX_DEPTH)
+        {
+            throw UNSUPPORTED;
+        }
+
+        switch (peek())
+        {
+        case '{':
+            skipItems('}', true, depth);
+            break;
+        case '[':
+            skipItems(']', false, depth);
+            break;
+        case '"':
+            skipString();
+            break;
+        case 't':
+            expectLiteral(TRUE);
+            break;
+        case 'f':
+            expectLiteral(FALSE);
+            break;
+        case 'n':
+            expectLiteral(NULL);
+            break;
+        default:
+            skipNumber();
+            break;
+        }
+    }
+
+    private void skipItems(
+        int close,
+        boolean keyed,
+        int depth)
+    {
+        position++;
+        skipWhitespace();
+        if (peek() == close)
+        {
+            position++;
+        }
+        else
+        {
+            int c;
+            do
+            {
+                skipWhitespace();
+                if (keyed)
+                {
+                    skipString();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                }
+                skipValue(depth + 1);
+                skipWhitespace();
+                c = next();
+            }
+            while (c == ',');
+
+            if (c != close)
+            {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private void skipString()
+    {
+        expect('"');
+        for (int c = next(); c != '"'; c = next())
+        {
+            if (c == '\\')
+            {
+                parseEscape();
+            }
+            else if (c < 0x20)
+            {
+                throw UNSUPPORTED;
+            }
+        }
+    }
+
+    private void skipNumber()
+    {
+        if (peek() == '-')
+        {
+            position++;
+        }
+
+        final int start = position;
+        skipDigits();
+        if (position - start > 1 && in.getByte(start) == '0')
+        {
+            throw UNSUPPORTED;
+        }
+
+        if (position < limit && peek() == '.')
+        {
+            position++;
+            skipDigits();
+        }
+
+        if (position < limit && (peek() == 'e' || peek() == 'E'))
+        {
+            position++;
+            if (peek() == '+' || peek() == '-')
+            {
+                position++;
+            }
+            skipDigits();
+        }
+    }
+
+    private void skipDigits()
+    {
+        final int start = position;
+        while (position < limit && Character.isDigit(in.getByte(position)))
+        {
+            position++;
+        }
+        if (position == start)
+        {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private void skipWhitespace()
+    {
+        while (position < limit)
+        {
+            final int c = in.getByte(position);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r')
+            {
+                break;
+            }
+            position++;
+        }
+    }
+
+    private int peek()
+    {
+        if (position >= limit)
+        {
+            throw UNSUPPORTED;
+        }
+        return in.getByte(position) & 0xff;
+    }
+
+    private int next()
+    {
+        final int c = peek();
+        position++;
+        return c;
+    }
+
+    private void expect(
+        int c)
+    {
+        if (next() != c)
+        {
+            throw UNSUPPORTED;
+        }
+    }
+
+    private void expectLiteral(
+        byte[] literal)
+    {
+        if (!matches(literal))
+        {
+            throw UNSUPPORTED;
+        }
+        position += literal.length;
+    }
+
+    private boolean matches(
+        byte[] literal)
+    {
+        return matches(literal, 0);
+    }
+
+    private boolean matches(
+        byte[] literal,
+        int from)
+    {
+        final int length = literal.length - from;
+        boolean matches = limit - position >= length;
+        for (int index = 0; index < length && matches; index++)
+        {
+            matches = in.getByte(position + index) == literal[from + index];
+        }
+        return matches;
+    }
+
+    private void putLengthAt(
+        int lengthAt)
+    {
+        final int bodyAt = lengthAt + 5;
+        final int length = progress - bodyAt;
+
+        progress = lengthAt;
+        putVarint(length);
+
+        if (length != 0)
+        {
+            // shifts towards lower index, copyMemory tolerates the overlap
+            out.putBytes(progress, out, bodyAt, length);
+            progress += length;
+        }
+    }
+
+    private void putVarint(
+        long value)
+    {
+        while ((value & ~0x7fL) != 0L)
+        {
+            putByte((int) value & 0x7f | 0x80);
+            value >>>= 7;
+        }
+        putByte((int) value);
+    }
+
+    private void putCodePoint(
+        int codePoint)
+    {
+        if (codePoint < 0x80)
+        {
+            putByte(codePoint);
+        }
+        else if (codePoint < 0x800)
+        {
+            putByte(0xc0 | codePoint >> 6);
+            putByte(0x80 | codePoint & 0x3f);
+        }
+        else if (codePoint < 0x10000)
+        {
+            putByte(0xe0 | codePoint >> 12);
+            putByte(0x80 | codePoint >> 6 & 0x3f);
+            putByte(0x80 | codePoint & 0x3f);
+        }
+        else
+        {
+            putByte(0xf0 | codePoint >> 18);
+            putByte(0x80 | codePoint >> 12 & 0x3f);
+            putByte(0x80 | codePoint >> 6 & 0x3f);
+            putByte(0x80 | codePoint & 0x3f);
+        }
+    }
+
+    private void putDouble(
+        double value)
+    {
+        if (Double.isNaN(value))
+        {
+            put(NAN);
+        }
+        else if (Double.isInfinite(value))
+        {
+            put(value > 0 ? INFINITY : NEGATIVE_INFINITY);
+        }
+        else
+        {
+            progress += out.putStringWithoutLengthAscii(progress, Double.toString(value));
+        }
+    }
+
+    private void putFloat(
+        float value)
+    {
+        if (Float.isNaN(value))
+        {
+            put(NAN);
+        }
+        else if (Float.isInfinite(value))
+        {
+            put(value > 0 ? INFINITY : NEGATIVE_INFINITY);
+        }
+        else
+        {
+            progress += out.putStringWithoutLengthAscii(progress, Float.toString(value));
+        }
+    }
+
+    private void putQuotedLong(
+        long value)
+    {
+        putByte('"');
+        progress += out.putLongAscii(progress, value);
+        putByte('"');
+    }
+
+    private void putQuotedUnsignedLong(
+        long value)
+    {
+        putByte('"');
+        if (value >= 0L)
+        {
+            progress += out.putLongAscii(progress, value);
+        }
+        else
+        {
+            final long quotient = (value >>> 1) / 5;
+            progress += out.putLongAscii(progress, quotient);
+            putByte('0' + (int) (value - quotient * 10));
+        }
+        putByte('"');
+    }
+
+    private void putRun(
+        int start,
+        int end)
+    {
+        out.putBytes(progress, in, start, end - start);
+        progress += end - start;
+    }
+
+    private void put(
+        byte[] bytes)
+    {
+        out.putBytes(progress, bytes);
+        progress += bytes.length;
+    }
+
+    private void putByte(
+        int value)
+    {
+        out.putByte(progress++, (byte) value);
+    }
+
+    private int[] supplySlots(
+        int depth,
+        int fields)
+    {
+        if (depth >= slots.length)
+        {
+            slots = Arrays.copyOf(slots, Math.max(depth + 1, slots.length << 1));
+        }
+
+        int[] fieldSlots = slots[depth];
+        if (fieldSlots == null || fieldSlots.length < fields)
+        {
+            fieldSlots = new int[Math.max(fields, 8)];
+            slots[depth] = fieldSlots;
+        }
+        Arrays.fill(fieldSlots, 0, fields, -1);
+        return fieldSlots;
+    }
+
+    private static Node compile(
+        Descriptor descriptor,
+        Map<Descriptor, Node> nodes)
+    {
+        Node node = nodes.get(descriptor);
+        if (node == null)
+        {
+            List<FieldDescriptor> fields = descriptor.getFields().stream()
+                .sorted(Comparator.comparingInt(FieldDescriptor::getNumber))
+                .toList();
+
+            node = new Node(fields.size());
+            nodes.put(descriptor, node);
+
+            boolean supported = true;
+            for (int index = 0; index < node.fields; index++)
+            {
+                FieldDescriptor field = fields.get(index);
+                FieldDescriptor.Type type = field.getType();
+
+                node.numbers[index] = field.getNumber();
+                node.types[index] = type;
+                node.wireTypes[index] = wireType(type);
+                node.repeated[index] = field.isRepeated();
+                node.packable[index] = field.isPackable();
+                node.packed[index] = field.isPacked();
+                node.presence[index] = field.hasPresence();
+                node.keys[index] = String.format("\"%s\":", field.getName()).getBytes(UTF_8);
+                node.names[index] = field.getName().getBytes(UTF_8);
+                node.jsonNames[index] = field.getJsonName().getBytes(UTF_8);
+                node.defaults[index] = type != FieldDescriptor.Type.MESSAGE && field.getContainingOneof() == null
+                    ? defaultValue(type)
+                    : null;
+                node.indexes.put(field.getNumber(), index);
+
+                supported &= type != FieldDescriptor.Type.ENUM &&
+                    type != FieldDescriptor.Type.GROUP &&
+                    !field.isMapField() &&
+                    !field.isRequired() &&
+                    field.getRealContainingOneof() == null;
+            }
+            node.supported = supported;
+
+            for (int index = 0; index < node.fields; index++)
+            {
+                if (node.types[index] == FieldDescriptor.Type.MESSAGE)
+                {
+                    node.nodes[index] = compile(fields.get(index).getMessageType(), nodes);
+                }
+            }
+        }
+        return node;
+    }
+
+    private static int wireType(
+        FieldDescriptor.Type type)
+    {
+        final int wireType;
+        switch (type)
+        {
+        case DOUBLE:
+        case FIXED64:
+        case SFIXED64:
+            wireType = WIRE_TYPE_FIXED64;
+            break;
+        case FLOAT:
+        case FIXED32:
+        case SFIXED32:
+            wireType = WIRE_TYPE_FIXED32;
+            break;
+        case STRING:
+        case BYTES:
+        case MESSAGE:
+        case GROUP:
+            wireType = WIRE_TYPE_LENGTH;
+            break;
+        default:
+            wireType = WIRE_TYPE_VARINT;
+            break;
+        }
+        return wireType;
+    }
+
+    private static byte[] defaultValue(
+        FieldDescriptor.Type type)
+    {
+        final byte[] value;
+        switch (type)
+        {
+        case DOUBLE:
+        case FLOAT:
+            value = ZERO_FLOATING;
+            break;
+        case INT64:
+        case UINT64:
+        case FIXED64:
+        case SFIXED64:
+        case SINT64:
+            value = ZERO_LONG;
+            break;
+        case BOOL:
+            value = FALSE;
+            break;
+        case STRING:
+        case BYTES:
+            value = EMPTY_STRING;
+            break;
+        default:
+            value = ZERO_INTEGER;
+            break;
+        }
+        return value;
+    }
+
+    private static final class Node
+    {
+        private final int fields;
+        private final int[] numbers;
+        private final FieldDescriptor.Type[] types;
+        private final int[] wireTypes;
+        private final boolean[] repeated;
+        private final boolean[] packable;
+        private final boolean[] packed;
+        private final boolean[] presence;
+        private final byte[][] keys;
+        private final byte[][] names;
+        private final byte[][] jsonNames;
+        private final byte[][] defaults;
+        private final Node[] nodes;
+        private final Int2IntHashMap indexes;
+
+        private boolean supported;
+
+        private Node(
+            int fields)
+        {
+            this.fields = fields;
+            this.numbers = new int[fields];
+            this.types = new FieldDescriptor.Type[fields];
+            this.wireTypes = new int[fields];
+            this.repeated = new boolean[fields];
+            this.packable = new boolean[fields];
+            this.packed = new boolean[fields];
+            this.presence = new boolean[fields];
+            this.keys = new byte[fields][];
+            this.names = new byte[fields][];
+            this.jsonNames = new byte[fields][];
+            this.defaults = new byte[fields][];
+            this.nodes = new Node[fields];
+            this.indexes = new Int2IntHashMap(-1);
+        }
+
+        private int index(
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            int found = -1;
+            for (int index = 0; index < fields && found == -1; index++)
+            {
+                if (matches(names[index], buffer, offset, length) ||
+                    matches(jsonNames[index], buffer, offset, length))
+                {
+                    found = index;
+                }
+            }
+            return found;
+        }
+
+        private static boolean matches(
+            byte[] name,
+            DirectBuffer buffer,
+            int offset,
+            int length)
+        {
+            boolean matches = name.length == length;
+            for (int index = 0; index < length && matches; index++)
+            {
+                matches = name[index] == buffer.getByte(offset + index);
+            }
+            return matches;
+        }
+    }
+
+    private static final class TranscodeException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+
+        private TranscodeException()
+        {
+            super(null, null, false, false);
+        }
+    }
+}
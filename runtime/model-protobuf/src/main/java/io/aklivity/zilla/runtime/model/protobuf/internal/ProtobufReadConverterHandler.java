@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
@@ -121,7 +122,12 @@ public class ProtobufReadConverterHandler extends ProtobufModelHandler implement
         if (tree != null)
         {
             Descriptors.Descriptor descriptor = tree.findByIndexes(indexes);
-            if (descriptor != null)
+            if (descriptor != null && VIEW_JSON.equals(view))
+            {
+                valLength = transcode(tree.supplyTranscoder(descriptor), data, index, length, next);
+            }
+
+            if (descriptor != null && valLength == -1)
             {
                 in.wrap(data, index, length);
                 DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
@@ -157,4 +163,20 @@ public class ProtobufReadConverterHandler extends ProtobufModelHandler implement
         }
         return valLength;
     }
+
+    private int transcode(
+        ProtobufJsonTranscoder transcoder,
+        DirectBuffer data,
+        int index,
+        int length,
+        ValueConsumer next)
+    {
+        MutableDirectBuffer buffer = out.buffer();
+        int valLength = transcoder.readJson(data, index, length, buffer, 0);
+        if (valLength != -1)
+        {
+            next.accept(buffer, 0, valLength);
+        }
+        return valLength;
+    }
 }
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
@@ -159,33 +160,43 @@ public class ProtobufWriteConverterHandler extends ProtobufModelHandler implemen
         ValueConsumer next)
     {
         int valLength = -1;
-        DescriptorTree tree = supplyDescriptorTree(schemaId);
-        if (tree != null && catalog.record != null)
+        DescriptorTree trees = supplyDescriptorTree(schemaId);
+        if (trees != null && catalog.record != null)
         {
-            tree = tree.findByName(catalog.record);
+            DescriptorTree tree = trees.findByName(catalog.record);
             if (tree != null)
             {
                 Descriptors.Descriptor descriptor = tree.descriptor;
                 indexes.clear();
                 indexes.add(tree.indexes.size());
                 indexes.addAll(tree.indexes);
-                DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
-                in.wrap(buffer, index, length);
-                try
+
+                MutableDirectBuffer encoded = out.buffer();
+                valLength = trees.supplyTranscoder(descriptor).writeProtobuf(buffer, index, length, encoded, 0);
+                if (valLength != -1)
                 {
-                    parser.merge(input, builder);
-                    DynamicMessage message = builder.build();
-                    builder.clear();
-                    if (message.isInitialized() && message.getUnknownFields().asMap().isEmpty())
-                    {
-                        out.wrap(out.buffer());
-                        message.writeTo(out);
-                        valLength = encode(traceId, bindingId, schemaId, out.buffer(), 0, out.position(), next);
-                    }
+                    valLength = encode(traceId, bindingId, schemaId, encoded, 0, valLength, next);
                 }
-                catch (IOException ex)
+                else
                 {
-                    event.validationFailure(traceId, bindingId, ex.getMessage());
+                    DynamicMessage.Builder builder = supplyDynamicMessageBuilder(descriptor);
+                    in.wrap(buffer, index, length);
+                    try
+                    {
+                        parser.merge(input, builder);
+                        DynamicMessage message = builder.build();
+                        builder.clear();
+                        if (message.isInitialized() && message.getUnknownFields().asMap().isEmpty())
+                        {
+                            out.wrap(out.buffer());
+                            message.writeTo(out);
+                            valLength = encode(traceId, bindingId, schemaId, out.buffer(), 0, out.position(), next);
+                        }
+                    }
+                    catch (IOException ex)
+                    {
+                        event.validationFailure(traceId, bindingId, ex.getMessage());
+                    }
                 }
             }
         }
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2021-2023 Aklivity Inc
+ *
+ * Licensed under the Aklivity Community License (the "License"); you may not use
+ * this file except in compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *   https://www.aklivity.io/aklivity-community-license/
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package io.aklivity.zilla.runtime.model.protobuf.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.util.JsonFormat;
+
+import io.aklivity.zilla.runtime.model.protobuf.internal.parser.Protobuf3Lexer;
+import io.aklivity.zilla.runtime.model.protobuf.internal.parser.Protobuf3Parser;
+
+public class ProtobufJsonTranscoderTest
+{
+    private static final String SCHEMA = "syntax = \"proto3\";" +
+        "package io.aklivity.example;" +
+        "message Event " +
+        "{" +
+            "string id = 1;" +
+            "bool flag = 2;" +
+            "int32 count = 3;" +
+            "int64 total = 4;" +
+            "uint32 small = 5;" +
+            "uint64 large = 6;" +
+            "sint32 delta = 7;" +
+            "sint64 offset = 8;" +
+            "fixed32 hash = 9;" +
+            "fixed64 digest = 10;" +
+            "sfixed32 shift = 11;" +
+            "sfixed64 drift = 12;" +
+            "float ratio = 13;" +
+            "double score = 14;" +
+            "bytes payload = 15;" +
+            "repeated string tags = 16;" +
+            "repeated int64 samples = 17;" +
+            "repeated double weights = 18;" +
+            "Event next = 19;" +
+            "repeated Event children = 20;" +
+            "optional string source_name = 21;" +
+        "}";
+
+    private Descriptor descriptor;
+    private ProtobufJsonTranscoder transcoder;
+    private ExpandableDirectByteBuffer output;
+    private JsonFormat.Printer printer;
+
+    @Before
+    public void init() throws Exception
+    {
+        Protobuf3Parser parser = new Protobuf3Parser(new CommonTokenStream(new Protobuf3Lexer(CharStreams.fromString(SCHEMA))));
+        ProtoListener listener = new ProtoListener();
+        new ParseTreeWalker().walk(listener, parser.proto());
+
+        descriptor = FileDescriptor.buildFrom(listener.build(), new FileDescriptor[0]).findMessageTypeByName("Event");
+        transcoder = ProtobufJsonTranscoder.compile(descriptor);
+        output = new ExpandableDirectByteBuffer();
+        printer = JsonFormat.printer()
+            .omittingInsignificantWhitespace()
+            .preservingProtoFieldNames()
+            .includingDefaultValueFields();
+    }
+
+    @Test
+    public void shouldTranscodeLikeJsonFormat() throws IOException
+    {
+        DynamicMessage nested = newMessage("n\u00e9st\u00e9d \ud83d\ude00")
+            .build();
+        DynamicMessage message = newMessage("id\"0\\\n\u0001</script>&'=\u2028\u007f")
+            .setField(field("next"), nested)
+            .addRepeatedField(field("children"), nested)
+            .addRepeatedField(field("children"), newMessage("child").build())
+            .build();
+
+        byte[] protobuf = message.toByteArray();
+        byte[] json = printer.print(message).getBytes(UTF_8);
+
+        assertArrayEquals(json, readJson(protobuf));
+        assertArrayEquals(protobuf, writeProtobuf(json));
+    }
+
+    @Test
+    public void shouldTranscodeNonFiniteDecimals() throws IOException
+    {
+        DynamicMessage message = newMessage("id")
+            .setField(field("ratio"), Float.NaN)
+            .setField(field("score"), Double.NEGATIVE_INFINITY)
+            .addRepeatedField(field("weights"), Double.POSITIVE_INFINITY)
+            .addRepeatedField(field("weights"), -0.0)
+            .build();
+
+        byte[] json = printer.print(message).getBytes(UTF_8);
+
+        assertArrayEquals(json, readJson(message.toByteArray()));
+        assertArrayEquals(parseJson(json), writeProtobuf(json));
+    }
+
+    @Test
+    public void shouldTranscodeDefaultValues() throws IOException
+    {
+        DynamicMessage message = DynamicMessage.newBuilder(descriptor)
+            .setField(field("next"), DynamicMessage.newBuilder(descriptor).build())
+            .build();
+
+        byte[] json = printer.print(message).getBytes(UTF_8);
+
+        assertArrayEquals(json, readJson(message.toByteArray()));
+        assertArrayEquals(parseJson(json), writeProtobuf(json));
+        assertArrayEquals(new byte[0], writeProtobuf("{}".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void shouldReadJsonFromUnorderedAndUnpackedFields() throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+        output.writeString(16, "b");
+        output.writeInt64(17, 3L);
+        output.writeUInt64(6, -1L);
+        output.writeString(1, "first");
+        output.writeString(16, "a");
+        output.writeInt64(17, -4L);
+        output.writeString(1, "last");
+        output.writeInt32(3, -1);
+        output.flush();
+
+        byte[] protobuf = bytes.toByteArray();
+
+        DynamicMessage message = DynamicMessage.parseFrom(descriptor, protobuf);
+        assertArrayEquals(printer.print(message).getBytes(UTF_8), readJson(protobuf));
+    }
+
+    @Test
+    public void shouldWriteProtobufWithUnorderedFields() throws IOException
+    {
+        String json = "{ \"children\": [ { \"id\": \"child\" }, {} ], \"total\": \"-9223372036854775808\", " +
+            "\"large\": 18446744073709551615, \"sourceName\": \"\", \"id\": \"\\u00e9\\ud83d\\ude00\\/\\t\", " +
+            "\"ratio\": \"1.5\", \"score\": 1e-10, \"payload\": \"AQID\", \"hash\": 4294967295, " +
+            "\"samples\": [ 1, \"-2\", 0 ], \"tags\": [ \"a\", \"\" ], \"next\": null, \"flag\": false, " +
+            "\"delta\": -2147483648, \"offset\": 9223372036854775807, \"shift\": -1, \"drift\": 0 }";
+        byte[] bytes = json.getBytes(UTF_8);
+
+        assertArrayEquals(parseJson(bytes), writeProtobuf(bytes));
+    }
+
+    @Test
+    public void shouldRejectInvalidProtobuf()
+    {
+        assertEquals(-1, readJsonLength(new byte[] {0x0a, 0x05, 0x61}));
+        assertEquals(-1, readJsonLength(new byte[] {0x0a, 0x02, (byte) 0xc3, 0x28}));
+        assertEquals(-1, readJsonLength(new byte[] {(byte) 0xb0, 0x06, 0x01}));
+        assertEquals(-1, readJsonLength(new byte[] {0x08, 0x01}));
+        assertEquals(-1, readJsonLength(new byte[] {(byte) 0x9a, 0x01, 0x00, (byte) 0x9a, 0x01, 0x00}));
+        assertEquals(-1, readJsonLength(new byte[] {0x18, (byte) 0xff}));
+    }
+
+    @Test
+    public void shouldRejectUnsupportedJson()
+    {
+        assertEquals(-1, writeProtobufLength("{\"unknown\":1}"));
+        assertEquals(-1, writeProtobufLength("{\"id\":\"a\",\"id\":\"b\"}"));
+        assertEquals(-1, writeProtobufLength("{\"source_name\":\"a\",\"sourceName\":\"b\"}"));
+        assertEquals(-1, writeProtobufLength("{\"count\":1e2}"));
+        assertEquals(-1, writeProtobufLength("{\"count\":2147483648}"));
+        assertEquals(-1, writeProtobufLength("{\"small\":-1}"));
+        assertEquals(-1, writeProtobufLength("{\"large\":18446744073709551616}"));
+        assertEquals(-1, writeProtobufLength("{\"ratio\":1e39}"));
+        assertEquals(-1, writeProtobufLength("{\"payload\":\"AQI\"}"));
+        assertEquals(-1, writeProtobufLength("{\"id\":\"\\ud83d\"}"));
+        assertEquals(-1, writeProtobufLength("{\"samples\":[1,null]}"));
+        assertEquals(-1, writeProtobufLength("{\"id\":'a'}"));
+        assertEquals(-1, writeProtobufLength("{\"id\":\"a\"} {}"));
+        assertEquals(-1, writeProtobufLength("[]"));
+    }
+
+    private DynamicMessage.Builder newMessage(
+        String id)
+    {
+        return DynamicMessage.newBuilder(descriptor)
+            .setField(field("id"), id)
+            .setField(field("flag"), true)
+            .setField(field("count"), Integer.MIN_VALUE)
+            .setField(field("total"), Long.MIN_VALUE)
+            .setField(field("small"), -1)
+            .setField(field("large"), -1L)
+            .setField(field("delta"), -7)
+            .setField(field("offset"), Long.MIN_VALUE)
+            .setField(field("hash"), -2)
+            .setField(field("digest"), Long.MIN_VALUE)
+            .setField(field("shift"), -3)
+            .setField(field("drift"), -4L)
+            .setField(field("ratio"), 0.1f)
+            .setField(field("score"), 1.0e20)
+            .setField(field("payload"), ByteString.copyFrom(new byte[] {0, 1, 2, (byte) 0xff, (byte) 0xfe}))
+            .addRepeatedField(field("tags"), "a")
+            .addRepeatedField(field("tags"), "")
+            .addRepeatedField(field("samples"), 0L)
+            .addRepeatedField(field("samples"), -1L)
+            .addRepeatedField(field("weights"), 2.5)
+            .setField(field("source_name"), "src");
+    }
+
+    private com.google.protobuf.Descriptors.FieldDescriptor field(
+        String name)
+    {
+        return descriptor.findFieldByName(name);
+    }
+
+    private byte[] parseJson(
+        byte[] json) throws IOException
+    {
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
+        JsonFormat.parser().merge(new String(json, UTF_8), builder);
+        return builder.build().toByteArray();
+    }
+
+    private byte[] readJson(
+        byte[] protobuf)
+    {
+        int length = readJsonLength(protobuf);
+        byte[] json = new byte[length];
+        output.getBytes(0, json);
+        return json;
+    }
+
+    private int readJsonLength(
+        byte[] protobuf)
+    {
+        return transcoder.readJson(new UnsafeBuffer(protobuf), 0, protobuf.length, output, 0);
+    }
+
+    private byte[] writeProtobuf(
+        byte[] json)
+    {
+        int length = transcoder.writeProtobuf(new UnsafeBuffer(json), 0, json.length, output, 0);
+        byte[] protobuf = new byte[length];
+        output.getBytes(0, protobuf);
+        return protobuf;
+    }
+
+    private int writeProtobufLength(
+        String json)
+    {
+        byte[] bytes = json.getBytes(UTF_8);
+        return transcoder.writeProtobuf(new UnsafeBuffer(bytes), 0, bytes.length, output, 0);
+    }
+}
@@ -104,6 +104,34 @@ public final class FileSystemFunctions
             return this;
         }
 
+        public FileSystemBeginExBuilder modifiedSince(
+            long modifiedSince)
+        {
+            beginExRW.modifiedSince(modifiedSince);
+            return this;
+        }
+
+        public FileSystemBeginExBuilder rangeOffset(
+            long rangeOffset)
+        {
+            beginExRW.rangeOffset(rangeOffset);
+            return this;
+        }
+
+        public FileSystemBeginExBuilder rangeLength(
+            long rangeLength)
+        {
+            beginExRW.rangeLength(rangeLength);
+            return this;
+        }
+
+        public FileSystemBeginExBuilder rangeTag(
+            String rangeTag)
+        {
+            beginExRW.rangeTag(rangeTag);
+            return this;
+        }
+
         public byte[] build()
         {
             final FileSystemBeginExFW beginEx = beginExRW.build();
@@ -127,6 +155,10 @@ public final class FileSystemFunctions
         private Long modifiedTime;
         private String tag;
         private Integer timeout;
+        private Long modifiedSince;
+        private Long rangeOffset;
+        private Long rangeLength;
+        private String rangeTag;
 
         public FileSystemBeginExMatcherBuilder typeId(
             int typeId)
@@ -181,6 +213,34 @@ public final class FileSystemFunctions
             return this;
         }
 
+        public FileSystemBeginExMatcherBuilder modifiedSince(
+            long modifiedSince)
+        {
+            this.modifiedSince = modifiedSince;
+            return this;
+        }
+
+        public FileSystemBeginExMatcherBuilder rangeOffset(
+            long rangeOffset)
+        {
+            this.rangeOffset = rangeOffset;
+            return this;
+        }
+
+        public FileSystemBeginExMatcherBuilder rangeLength(
+            long rangeLength)
+        {
+            this.rangeLength = rangeLength;
+            return this;
+        }
+
+        public FileSystemBeginExMatcherBuilder rangeTag(
+            String rangeTag)
+        {
+            this.rangeTag = rangeTag;
+            return this;
+        }
+
         public BytesMatcher build()
         {
             return typeId != null ? this::match : buf -> null;
@@ -204,7 +264,11 @@ public final class FileSystemFunctions
                 matchType(beginEx) &&
                 matchPayloadSize(beginEx) &&
                 matchTag(beginEx) &&
-                matchTimeout(beginEx))
+                matchTimeout(beginEx) &&
+                matchModifiedSince(beginEx) &&
+                matchRangeOffset(beginEx) &&
+                matchRangeLength(beginEx) &&
+                matchRangeTag(beginEx))
             {
                 byteBuf.position(byteBuf.position() + beginEx.sizeof());
                 return beginEx;
@@ -254,6 +318,30 @@ public final class FileSystemFunctions
         {
             return timeout == null || timeout == beginEx.timeout();
         }
+
+        private boolean matchModifiedSince(
+            FileSystemBeginExFW beginEx)
+        {
+            return modifiedSince == null || modifiedSince == beginEx.modifiedSince();
+        }
+
+        private boolean matchRangeOffset(
+            FileSystemBeginExFW beginEx)
+        {
+            return rangeOffset == null || rangeOffset == beginEx.rangeOffset();
+        }
+
+        private boolean matchRangeLength(
+            FileSystemBeginExFW beginEx)
+        {
+            return rangeLength == null || rangeLength == beginEx.rangeLength();
+        }
+
+        private boolean matchRangeTag(
+            FileSystemBeginExFW beginEx)
+        {
+            return rangeTag == null || rangeTag.equals(beginEx.rangeTag().asString());
+        }
     }
 
     public static class Mapper extends FunctionMapperSpi.Reflective
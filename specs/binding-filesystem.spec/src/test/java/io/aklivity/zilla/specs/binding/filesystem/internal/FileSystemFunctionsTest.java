@@ -98,6 +98,54 @@ public class FileSystemFunctionsTest
         assertNotNull(matcher.match(byteBuf));
     }
 
+    @Test
+    public void shouldGenerateBeginExtensionWithRange()
+    {
+        byte[] build = FileSystemFunctions.beginEx()
+            .typeId(0x01)
+            .capabilities("READ_PAYLOAD")
+            .path("index.html")
+            .modifiedSince(1700000000000L)
+            .rangeOffset(7L)
+            .rangeLength(36L)
+            .rangeTag("AAAAAAAAAAAAAAAA")
+            .build();
+
+        DirectBuffer buffer = new UnsafeBuffer(build);
+        FileSystemBeginExFW beginEx = new FileSystemBeginExFW().wrap(buffer, 0, buffer.capacity());
+
+        assertEquals(1700000000000L, beginEx.modifiedSince());
+        assertEquals(7L, beginEx.rangeOffset());
+        assertEquals(36L, beginEx.rangeLength());
+        assertEquals("AAAAAAAAAAAAAAAA", beginEx.rangeTag().asString());
+    }
+
+    @Test
+    public void shouldMatchBeginExtensionWithRange() throws Exception
+    {
+        BytesMatcher matcher = FileSystemFunctions.matchBeginEx()
+            .typeId(0x01)
+            .modifiedSince(1700000000000L)
+            .rangeOffset(7L)
+            .rangeLength(36L)
+            .rangeTag("AAAAAAAAAAAAAAAA")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new FileSystemBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0x01)
+            .capabilities(1 << READ_PAYLOAD.ordinal())
+            .path("index.html")
+            .modifiedSince(1700000000000L)
+            .rangeOffset(7L)
+            .rangeLength(36L)
+            .rangeTag("AAAAAAAAAAAAAAAA")
+            .build();
+
+        assertNotNull(matcher.match(byteBuf));
+    }
+
     @Test
     public void shouldMatchBeginExtensionWhenUnconstrained() throws Exception
     {
@@ -337,6 +385,94 @@ public class FileSystemFunctionsTest
         matcher.match(byteBuf);
     }
 
+    @Test(expected = Exception.class)
+    public void shouldNotMatchBeginExtensionWhenModifiedSinceDiffers() throws Exception
+    {
+        BytesMatcher matcher = FileSystemFunctions.matchBeginEx()
+            .typeId(0x01)
+            .capabilities("READ_PAYLOAD")
+            .path("index.html")
+            .modifiedSince(1700000000000L)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new FileSystemBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0x01)
+            .capabilities(1 << READ_PAYLOAD.ordinal())
+            .path("index.html")
+            .modifiedSince(1600000000000L)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchBeginExtensionWhenRangeOffsetDiffers() throws Exception
+    {
+        BytesMatcher matcher = FileSystemFunctions.matchBeginEx()
+            .typeId(0x01)
+            .capabilities("READ_PAYLOAD")
+            .path("index.html")
+            .rangeOffset(7L)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new FileSystemBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0x01)
+            .capabilities(1 << READ_PAYLOAD.ordinal())
+            .path("index.html")
+            .rangeOffset(8L)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchBeginExtensionWhenRangeLengthDiffers() throws Exception
+    {
+        BytesMatcher matcher = FileSystemFunctions.matchBeginEx()
+            .typeId(0x01)
+            .capabilities("READ_PAYLOAD")
+            .path("index.html")
+            .rangeLength(36L)
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new FileSystemBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0x01)
+            .capabilities(1 << READ_PAYLOAD.ordinal())
+            .path("index.html")
+            .rangeLength(35L)
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldNotMatchBeginExtensionWhenRangeTagDiffers() throws Exception
+    {
+        BytesMatcher matcher = FileSystemFunctions.matchBeginEx()
+            .typeId(0x01)
+            .capabilities("READ_PAYLOAD")
+            .path("index.html")
+            .rangeTag("AAAAA")
+            .build();
+
+        ByteBuffer byteBuf = ByteBuffer.allocate(1024);
+
+        new FileSystemBeginExFW.Builder().wrap(new UnsafeBuffer(byteBuf), 0, byteBuf.capacity())
+            .typeId(0x01)
+            .capabilities(1 << READ_PAYLOAD.ordinal())
+            .path("index.html")
+            .rangeTag("BBBBBB")
+            .build();
+
+        matcher.match(byteBuf);
+    }
+
     @Test
     public void shouldNotMatchBeginExtensionWhenBufferOverflow() throws Exception
     {
@@ -75,6 +75,26 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/read.file.payload.range/client",
+        "${app}/read.file.payload.range/server",
+    })
+    public void shouldReadFilePayloadRange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${app}/read.file.payload.range.unsatisfiable/client",
+        "${app}/read.file.payload.range.unsatisfiable/server",
+    })
+    public void shouldReadFilePayloadRangeUnsatisfiable() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/read.file.payload.modified/client",
@@ -125,6 +145,16 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/read.file.payload.not.modified.since/client",
+        "${app}/read.file.payload.not.modified.since/server"
+    })
+    public void shouldReadFilePayloadNotModifiedSince() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/client.read.file.not.found/client",
@@ -21,6 +21,8 @@ import java.nio.ByteOrder;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -426,9 +428,12 @@ public final class GrpcFunctions
     {
         private final Varuint32FW.Builder keyRW;
         private final Varuint32FW.Builder lenRW;
+        private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
         private final MutableDirectBuffer messageBuffer = new UnsafeBuffer(new byte[1024 * 200]);
 
         private int messageBufferLimit = 5;
+        private String encoding;
 
 
         private GrpcMessageBuilder()
@@ -458,14 +463,61 @@ public final class GrpcFunctions
             return this;
         }
 
+        public GrpcMessageBuilder compressed(
+            String encoding)
+        {
+            this.encoding = encoding;
+            return this;
+        }
+
         public byte[] build()
         {
+            if (encoding != null)
+            {
+                final byte[] payload = new byte[messageBufferLimit - 5];
+                messageBuffer.getBytes(5, payload);
+                final byte[] compressed = compress(payload);
+                messageBuffer.putBytes(5, compressed);
+                messageBufferLimit = 5 + compressed.length;
+            }
+
             final byte[] array = new byte[messageBufferLimit];
-            messageBuffer.putByte(0, (byte) 0);
+            messageBuffer.putByte(0, (byte) (encoding != null ? 1 : 0));
             messageBuffer.putInt(1, messageBufferLimit - 5, ByteOrder.BIG_ENDIAN);
             messageBuffer.getBytes(0, array);
             return array;
         }
+
+        private byte[] compress(
+            byte[] payload)
+        {
+            final boolean gzip = "gzip".equals(encoding);
+            final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, gzip);
+            final byte[] deflated = new byte[payload.length + payload.length / 1000 + 64];
+            deflater.setInput(payload);
+            deflater.finish();
+            final int deflatedLength = deflater.deflate(deflated);
+            deflater.end();
+
+            final ByteBuffer compressed = ByteBuffer.allocate(deflatedLength + 18).order(ByteOrder.LITTLE_ENDIAN);
+            if (gzip)
+            {
+                final CRC32 checksum = new CRC32();
+                checksum.update(payload);
+                compressed.put(GZIP_HEADER);
+                compressed.put(deflated, 0, deflatedLength);
+                compressed.putInt((int) checksum.getValue());
+                compressed.putInt(payload.length);
+            }
+            else
+            {
+                compressed.put(deflated, 0, deflatedLength);
+            }
+
+            final byte[] array = new byte[compressed.position()];
+            compressed.flip().get(array);
+            return array;
+        }
     }
 
     public static final class ProtobufBuilder
@@ -22,8 +22,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
 
 import javax.el.ELContext;
 import javax.el.FunctionMapper;
@@ -172,6 +176,45 @@ public class GrpcFunctionsTest
         assertArrayEquals(expected, message);
     }
 
+    @Test
+    public void shouldGenerateGzipCompressedGrpcMessage() throws Exception
+    {
+        byte[] message = GrpcFunctions.message()
+            .string(1, "value")
+            .compressed("gzip")
+            .build();
+
+        assertEquals(1, message[0]);
+        assertEquals(message.length - 5, ByteBuffer.wrap(message, 1, 4).getInt());
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(message, 5, message.length - 5)))
+        {
+            byte[] expected = {10, 5, 118, 97, 108, 117, 101};
+            assertArrayEquals(expected, input.readAllBytes());
+        }
+    }
+
+    @Test
+    public void shouldGenerateDeflateCompressedGrpcMessage() throws Exception
+    {
+        byte[] message = GrpcFunctions.message()
+            .string(1, "value")
+            .compressed("deflate")
+            .build();
+
+        assertEquals(1, message[0]);
+        assertEquals(message.length - 5, ByteBuffer.wrap(message, 1, 4).getInt());
+
+        Inflater inflater = new Inflater();
+        inflater.setInput(message, 5, message.length - 5);
+        byte[] inflated = new byte[64];
+        int inflatedLength = inflater.inflate(inflated);
+        inflater.end();
+
+        byte[] expected = {10, 5, 118, 97, 108, 117, 101};
+        assertArrayEquals(expected, Arrays.copyOf(inflated, inflatedLength));
+    }
+
     @Test
     public void shouldGenerateProtobuf()
     {
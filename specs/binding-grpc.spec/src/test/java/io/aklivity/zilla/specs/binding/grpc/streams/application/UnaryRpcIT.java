@@ -45,6 +45,16 @@ public class UnaryRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${app}/compressed.message.exchange/client",
+        "${app}/compressed.message.exchange/server",
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${app}/empty.message.exchange/client",
@@ -46,6 +46,16 @@ public class UnaryRpcIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/compressed.message.exchange/client",
+        "${net}/compressed.message.exchange/server",
+    })
+    public void shouldExchangeCompressedMessage() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/empty.message.exchange/client",
@@ -44,6 +44,24 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.range/client",
+        "${filesystem}/client.read.file.range/server"})
+    public void shouldReceiveClientReadFileRange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.range.unsatisfiable/client",
+        "${filesystem}/client.read.file.range.unsatisfiable/server"})
+    public void shouldReceiveClientReadFileRangeUnsatisfiable() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${filesystem}/client.read.file.map.modified/client",
@@ -62,6 +80,15 @@ public class FileSystemIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${filesystem}/client.read.file.not.modified.since/client",
+        "${filesystem}/client.read.file.not.modified.since/server"})
+    public void shouldReceiveClientReadFileNotModifiedSince() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${filesystem}/client.read.file.info/client",
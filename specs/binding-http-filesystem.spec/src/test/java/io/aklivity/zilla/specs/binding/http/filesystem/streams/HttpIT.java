@@ -44,6 +44,24 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/client.read.file.range/client",
+        "${http}/client.read.file.range/server"})
+    public void shouldReceiveClientReadFileRange() throws Exception
+    {
+        k3po.finish();
+    }
+
+    @Test
+    @Specification({
+        "${http}/client.read.file.range.unsatisfiable/client",
+        "${http}/client.read.file.range.unsatisfiable/server"})
+    public void shouldReceiveClientReadFileRangeUnsatisfiable() throws Exception
+    {
+        k3po.finish();
+    }
+
 
     @Test
     @Specification({
@@ -63,6 +81,15 @@ public class HttpIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${http}/client.read.file.not.modified.since/client",
+        "${http}/client.read.file.not.modified.since/server"})
+    public void shouldReceiveClientReadFileNotModifiedSince() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${http}/client.read.file.with.query/client",
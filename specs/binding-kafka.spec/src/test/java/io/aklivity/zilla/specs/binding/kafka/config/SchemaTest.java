@@ -99,6 +99,46 @@ public class SchemaTest
         assertThat(config, not(nullValue()));
     }
 
+    @Test
+    public void shouldValidateClientOptionsCompression()
+    {
+        JsonObject config = schema.validate("client.options.compression.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateClientWhenTopicCompressionGzip()
+    {
+        JsonObject config = schema.validate("client.when.topic.compression.gzip.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateClientWhenTopicCompressionSnappy()
+    {
+        JsonObject config = schema.validate("client.when.topic.compression.snappy.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateClientWhenTopicCompressionLz4()
+    {
+        JsonObject config = schema.validate("client.when.topic.compression.lz4.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
+    @Test
+    public void shouldValidateClientWhenTopicCompressionZstd()
+    {
+        JsonObject config = schema.validate("client.when.topic.compression.zstd.yaml");
+
+        assertThat(config, not(nullValue()));
+    }
+
     @Test
     public void shouldValidateClientOptionsSaslScram()
     {
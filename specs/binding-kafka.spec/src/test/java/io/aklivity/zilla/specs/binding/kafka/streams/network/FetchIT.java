@@ -190,7 +190,6 @@ public class FetchIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.gzip/client",
@@ -18,7 +18,6 @@ package io.aklivity.zilla.specs.binding.kafka.streams.network;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.rules.RuleChain.outerRule;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
@@ -181,7 +180,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.gzip/client",
@@ -191,7 +189,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.snappy/client",
@@ -201,7 +198,6 @@ public class ProduceIT
         k3po.finish();
     }
 
-    @Ignore("TODO")
     @Test
     @Specification({
         "${net}/message.value.lz4/client",
@@ -211,6 +207,15 @@ public class ProduceIT
         k3po.finish();
     }
 
+    @Test
+    @Specification({
+        "${net}/message.value.zstd/client",
+        "${net}/message.value.zstd/server"})
+    public void shouldSendMessageValueZstd() throws Exception
+    {
+        k3po.finish();
+    }
+
     @Test
     @Specification({
         "${net}/message.value.distinct/client",